@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.annotation;
+
+import de.sayayi.lib.message.annotation.processor.MessageAccessorProcessor;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+
+/**
+ * Requests a typed message accessor class for all {@link MessageDef} annotations on the annotated type and its
+ * methods.
+ * <p>
+ * For example:
+ * <blockquote><pre>
+ * &#x40;MessageAccessorDef
+ * &#x40;MessageDef(code = "ORDER_SHIPPED", text = "Order %{name} with %{count} items has been shipped")
+ * public class OrderMessages {}
+ * </pre></blockquote>
+ * generates class {@code OrderMessagesAccessor} in the same package, with a method
+ * {@code orderShipped(Object count, Object name)}. The message is looked up once, when the accessor is created, and
+ * the parameters are passed positionally. See {@link MessageAccessorProcessor} for details.
+ *
+ * @see MessageAccessorProcessor
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@Target(TYPE)
+@Retention(SOURCE)
+public @interface MessageAccessorDef
+{
+  /**
+   * Simple name of the generated accessor class. The class is generated in the package of the annotated type.
+   * <p>
+   * The default value is the simple name of the annotated type, followed by {@code Accessor}.
+   *
+   * @return  accessor class name
+   */
+  String className() default "";
+}
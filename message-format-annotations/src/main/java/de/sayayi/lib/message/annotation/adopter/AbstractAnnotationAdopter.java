@@ -29,22 +29,24 @@ import de.sayayi.lib.message.exception.MessageParserException;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.*;
+import java.lang.annotation.Annotation;
 import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.Locale;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.jar.JarFile;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.newInputStream;
 import static java.util.Locale.forLanguageTag;
 import static java.util.Objects.requireNonNull;
@@ -59,6 +61,12 @@ import static java.util.Objects.requireNonNull;
  *   <li>
  *     <b>Classpath scanning</b> – {@link #adopt(ClassLoader, Set)} scans one or more packages for class files and
  *     parses every class found on the classpath (including jar, war and zip archives).
+ *     {@link #adopt(ClassLoader, Set, Executor)} performs the same scan, but analyzes the class files in parallel.
+ *   </li>
+ *   <li>
+ *     <b>Annotation index</b> – {@link #adoptIndexed(ClassLoader)} analyzes only the classes listed in the
+ *     {@linkplain #ANNOTATION_INDEX annotation index} resources written at compile time by the
+ *     {@link de.sayayi.lib.message.annotation.processor.AnnotationIndexProcessor AnnotationIndexProcessor}.
  *   </li>
  *   <li>
  *     <b>Single class file</b> – {@link #adopt(Path)} and {@link #adopt(File)} accept individual class files.
@@ -80,7 +88,8 @@ import static java.util.Objects.requireNonNull;
  * {@link de.sayayi.lib.message.MessageSupport.TemplateFilter TemplateFilter}.
  * <p>
  * Concrete subclasses must implement the {@link #parseClass(InputStream)} method to provide the actual bytecode
- * analysis strategy (e.g. using the ASM library).
+ * analysis strategy (e.g. using the ASM library). Subclasses supporting parallel analysis additionally provide a
+ * {@link DefinitionParser} by overriding {@link #getDefinitionParser()}.
  *
  * @author Jeroen Gremmen
  * @since 0.8.0  (refactored in 0.24.0)
@@ -91,8 +100,23 @@ import static java.util.Objects.requireNonNull;
 @SuppressWarnings("UnusedReturnValue")
 public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
 {
+  /**
+   * Name of the annotation index resource. The index lists the class file resource names of all classes in the
+   * same directory or archive containing message or template definitions, one per line. Empty lines and lines
+   * starting with {@code #} are ignored.
+   *
+   * @since 0.24.0
+   */
+  public static final String ANNOTATION_INDEX = "META-INF/message-format/annotated-classes.idx";
+
   private static final Set<String> ZIP_PROTOCOLS = Set.of("zip", "jar", "war");
 
+  /** Number of class files analyzed by a single task during a parallel scan. */
+  private static final int CLASS_FILE_BATCH_SIZE = 64;
+
+  /** Maximum number of pending tasks during a parallel scan, bounding the memory used for pending class files. */
+  private static final int MAX_PENDING_BATCHES = 64;
+
   private final Set<String> indexedClasses = new HashSet<>();
 
 
@@ -123,6 +147,9 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
    * Scan the classpath for class files in the given packages and adopt all message and template annotations found.
    * The scan includes directories as well as jar, war and zip archives on the classpath. Each package is resolved
    * using the given {@code classLoader}. Classes that have already been visited are silently skipped.
+   * <p>
+   * {@linkplain #ANNOTATION_INDEX Annotation indexes} are ignored, so every class file in the given packages is
+   * analyzed. Use {@link #adoptIndexed(ClassLoader)} to analyze indexed classes only.
    *
    * @param classLoader   classloader for locating package resources on the classpath, not {@code null}
    * @param packageNames  package names to scan (e.g. {@code "com.example.messages"}), not {@code null}
@@ -137,7 +164,7 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
   {
     try {
       for(var packageName: packageNames)
-        adopt_scan(classLoader, packageName);
+        adopt_scan(classLoader, packageName, this::parseClass);
     } catch(Exception ex) {
       throw new MessageAdopterException("failed to scan class path for messages and templates", ex);
     }
@@ -146,11 +173,164 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
   }
 
 
+  /**
+   * Scan the classpath for class files in the given packages and adopt all message and template annotations found,
+   * analyzing the class files in parallel using the common fork/join pool.
+   * <p>
+   * This is a convenience method equivalent to calling
+   * {@link #adopt(ClassLoader, Set, Executor) adopt(classLoader, packageNames, ForkJoinPool.commonPool())}. If the
+   * common pool does not provide any parallelism (e.g. on a single processor system), the classpath is scanned
+   * sequentially, as parallel analysis would only add overhead.
+   *
+   * @param classLoader   classloader for locating package resources on the classpath, not {@code null}
+   * @param packageNames  package names to scan (e.g. {@code "com.example.messages"}), not {@code null}
+   *
+   * @return  this annotation adopter instance, never {@code null}
+   *
+   * @throws MessageAdopterException  if the classpath scan fails
+   * @throws MessageParserException   if a message or template text cannot be parsed
+   *
+   * @since 0.24.0
+   */
+  @Contract(value = "_, _ -> this")
+  public @NotNull AbstractAnnotationAdopter adoptParallel(@NotNull ClassLoader classLoader,
+                                                          @NotNull Set<String> packageNames)
+  {
+    return ForkJoinPool.getCommonPoolParallelism() > 1
+        ? adopt(classLoader, packageNames, ForkJoinPool.commonPool())
+        : adopt(classLoader, packageNames);
+  }
+
+
+  /**
+   * Scan the classpath for class files in the given packages and adopt all message and template annotations found,
+   * analyzing the class files in parallel.
+   * <p>
+   * Directories and archives are enumerated and read on the calling thread, in the same order as
+   * {@link #adopt(ClassLoader, Set)} does. The bytecode analysis of each class file is handed to the given
+   * {@code executor}. The definitions found are published on the calling thread in enumeration order, as soon as
+   * the analysis of all preceding class files has completed. Parsing messages and templates, as well as duplicate
+   * detection, therefore behaves exactly as for a sequential scan.
+   * <p>
+   * If this adopter does not provide a {@linkplain #getDefinitionParser() definition parser}, the classpath is
+   * scanned sequentially using {@link #adopt(ClassLoader, Set)}.
+   *
+   * @param classLoader   classloader for locating package resources on the classpath, not {@code null}
+   * @param packageNames  package names to scan (e.g. {@code "com.example.messages"}), not {@code null}
+   * @param executor      executor used for analyzing class files, e.g. a fork/join pool or a virtual thread
+   *                      executor, not {@code null}
+   *
+   * @return  this annotation adopter instance, never {@code null}
+   *
+   * @throws MessageAdopterException  if the classpath scan fails
+   * @throws MessageParserException   if a message or template text cannot be parsed
+   *
+   * @since 0.24.0
+   */
+  @Contract(value = "_, _, _ -> this")
+  public @NotNull AbstractAnnotationAdopter adopt(@NotNull ClassLoader classLoader, @NotNull Set<String> packageNames,
+                                                  @NotNull Executor executor)
+  {
+    requireNonNull(executor, "executor must not be null");
+
+    final var definitionParser = getDefinitionParser();
+    if (definitionParser == null)
+      return adopt(classLoader, packageNames);
+
+    final var classDefinitions = new ArrayDeque<CompletableFuture<List<Annotation>>>();
+    final var classFiles = new ArrayList<byte[]>(CLASS_FILE_BATCH_SIZE);
+
+    try {
+      for(var packageName: packageNames)
+      {
+        adopt_scan(classLoader, packageName, classInputStream -> {
+          classFiles.add(classInputStream.readAllBytes());
+
+          if (classFiles.size() == CLASS_FILE_BATCH_SIZE)
+          {
+            scan_submitBatch(definitionParser, classFiles, classDefinitions, executor);
+
+            // publish completed batches in enumeration order; wait if too many batches are pending
+            for(CompletableFuture<List<Annotation>> definitions;
+                (definitions = classDefinitions.peek()) != null &&
+                (definitions.isDone() || classDefinitions.size() > MAX_PENDING_BATCHES);)
+              classDefinitions.remove().join().forEach(this::adopt_definition);
+          }
+        });
+      }
+
+      if (!classFiles.isEmpty())
+        scan_submitBatch(definitionParser, classFiles, classDefinitions, executor);
+
+      while(!classDefinitions.isEmpty())
+        classDefinitions.remove().join().forEach(this::adopt_definition);
+    } catch(Exception ex) {
+      classDefinitions.forEach(definitions -> definitions.cancel(false));
+
+      throw new MessageAdopterException("failed to scan class path for messages and templates",
+          ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+    }
+
+    return this;
+  }
+
+
+  /**
+   * Adopt all message and template annotations from the classes listed in the
+   * {@linkplain #ANNOTATION_INDEX annotation index} resources found by the given {@code classLoader}. Only the
+   * indexed classes are analyzed, so the time required does not depend on the total number of classes on the
+   * classpath. Classes that have already been visited are silently skipped, as are indexed classes which cannot
+   * be found.
+   * <p>
+   * Classes without an annotation index (e.g. classes compiled without the annotation processor) are not
+   * adopted by this method. The same applies to annotated classes missing from an outdated index, e.g. after an
+   * incremental compilation which did not run the annotation processor. In these cases a classpath scan using
+   * {@link #adopt(ClassLoader, Set)} must be used instead.
+   *
+   * @param classLoader  classloader for locating annotation index resources and class files, not {@code null}
+   *
+   * @return  this annotation adopter instance, never {@code null}
+   *
+   * @throws MessageAdopterException  if an annotation index or an indexed class file cannot be read
+   * @throws MessageParserException   if a message or template text cannot be parsed
+   *
+   * @since 0.24.0
+   */
+  @Contract(value = "_ -> this")
+  public @NotNull AbstractAnnotationAdopter adoptIndexed(@NotNull ClassLoader classLoader)
+  {
+    try {
+      for(var indexUrls = classLoader.getResources(ANNOTATION_INDEX); indexUrls.hasMoreElements();)
+      {
+        final List<String> classPathNames;
+
+        try(var indexInputStream = indexUrls.nextElement().openStream()) {
+          classPathNames = scan_readIndex(indexInputStream);
+        }
+
+        for(var classPathName: classPathNames)
+          if (scan_checkVisited(classPathName))
+          {
+            try(var classInputStream = classLoader.getResourceAsStream(classPathName)) {
+              if (classInputStream != null)
+                parseClass(classInputStream);
+            }
+          }
+      }
+    } catch(Exception ex) {
+      throw new MessageAdopterException("failed to adopt messages and templates from annotation index", ex);
+    }
+
+    return this;
+  }
+
+
   /**
    * Scan all classpath resources matching the given package name and adopt class files found in
    * directories and zip-based archives (jar, war, zip).
    */
-  private void adopt_scan(@NotNull ClassLoader classLoader, @NotNull String packageName) throws Exception
+  private void adopt_scan(@NotNull ClassLoader classLoader, @NotNull String packageName,
+                          @NotNull ClassFileHandler classFileHandler) throws Exception
   {
     var classPathPrefix = packageName.replace('.', '/');
     if (!classPathPrefix.endsWith("/"))
@@ -161,7 +341,7 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
       final var url = urls.nextElement();
 
       if (ZIP_PROTOCOLS.contains(url.getProtocol()))
-        adopt_scan_zipEntries(url, classPathPrefix);
+        adopt_scan_zipEntries(url, classPathPrefix, classFileHandler);
       else
       {
         final var directory = url.getFile();
@@ -169,7 +349,7 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
             ? directory.substring(0, directory.length() - classPathPrefix.length()) : directory);
 
         if (baseDirectory.isDirectory())
-          adopt_scan_directory(baseDirectory, new File(directory));
+          adopt_scan_directory(baseDirectory, new File(directory), classFileHandler);
       }
     }
   }
@@ -178,7 +358,8 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
   /**
    * Recursively scan a filesystem directory for class files and parse each one that has not been visited yet.
    */
-  private void adopt_scan_directory(@NotNull File baseDirectory, @NotNull File directory) throws IOException
+  private void adopt_scan_directory(@NotNull File baseDirectory, @NotNull File directory,
+                                    @NotNull ClassFileHandler classFileHandler) throws IOException
   {
     var files = directory.listFiles();
     if (files != null)
@@ -187,7 +368,7 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
 
       for(var file: files)
         if (file.isDirectory())
-          adopt_scan_directory(baseDirectory, file);
+          adopt_scan_directory(baseDirectory, file, classFileHandler);
         else
         {
           var classNamePath = baseDirectoryPath
@@ -196,7 +377,7 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
           if (classNamePath.endsWith(".class") && scan_checkVisited(classNamePath))
           {
             try(var classInputStream = newInputStream(file.toPath())) {
-              parseClass(classInputStream);
+              classFileHandler.handle(classInputStream);
             }
           }
         }
@@ -208,7 +389,8 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
    * Scan the entries of a zip-based archive (jar, war, zip) for class files matching the given classpath prefix
    * and parse each one that has not been visited yet.
    */
-  private void adopt_scan_zipEntries(@NotNull URL zipUrl, @NotNull String classPathPrefix) throws IOException
+  private void adopt_scan_zipEntries(@NotNull URL zipUrl, @NotNull String classPathPrefix,
+                                     @NotNull ClassFileHandler classFileHandler) throws IOException
   {
     final var con = zipUrl.openConnection();
     final ZipFile zipFile;
@@ -241,7 +423,7 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
             scan_checkVisited(classPathName))
         {
           try(var classInputStream = zipFile.getInputStream(zipEntry)) {
-            parseClass(classInputStream);
+            classFileHandler.handle(classInputStream);
           }
         }
       }
@@ -269,6 +451,22 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
   }
 
 
+  /**
+   * Read the class file resource names from an annotation index.
+   */
+  private static @NotNull List<String> scan_readIndex(@NotNull InputStream indexInputStream) throws IOException
+  {
+    final var classPathNames = new ArrayList<String>();
+    final var reader = new BufferedReader(new InputStreamReader(indexInputStream, UTF_8));
+
+    for(String line; (line = reader.readLine()) != null;)
+      if (!(line = line.trim()).isEmpty() && line.charAt(0) != '#')
+        classPathNames.add(line);
+
+    return classPathNames;
+  }
+
+
   /**
    * Record a classpath name as visited, returning {@code true} if it was not already known.
    */
@@ -277,6 +475,41 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
   }
 
 
+  /**
+   * Submit the analysis of the given batch of class files to the executor and clear the batch.
+   */
+  private static void scan_submitBatch(@NotNull DefinitionParser definitionParser, @NotNull List<byte[]> classFiles,
+                                       @NotNull Queue<CompletableFuture<List<Annotation>>> classDefinitions,
+                                       @NotNull Executor executor)
+  {
+    final var batch = classFiles.toArray(byte[][]::new);
+
+    classDefinitions.add(CompletableFuture.supplyAsync(() -> scan_parseDefinitions(definitionParser, batch),
+        executor));
+    classFiles.clear();
+  }
+
+
+  /**
+   * Analyze the given class files and return the message and template definitions found, in class file order,
+   * without publishing them. This method is invoked by worker threads during a parallel classpath scan.
+   */
+  private static @NotNull List<Annotation> scan_parseDefinitions(@NotNull DefinitionParser definitionParser,
+                                                                 byte @NotNull [][] classFiles)
+  {
+    final var definitions = new ArrayList<Annotation>();
+
+    try {
+      for(var classFile: classFiles)
+        definitionParser.parse(new ByteArrayInputStream(classFile), definitions::add);
+    } catch(IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+
+    return definitions;
+  }
+
+
   /**
    * Adopt messages and templates from the given class file identified by {@code classFile}. If the class file has
    * already been visited, this method returns immediately without re-parsing.
@@ -457,6 +690,18 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
   }
 
 
+  /**
+   * Publish the given {@link MessageDef} or {@link TemplateDef} definition.
+   */
+  void adopt_definition(@NotNull Annotation definition)
+  {
+    if (definition instanceof MessageDef messageDef)
+      adopt(messageDef);
+    else if (definition instanceof TemplateDef templateDef)
+      adopt(templateDef);
+  }
+
+
   /**
    * Parse the contents of a class file provided by {@code classInputStream} and adopt any {@link MessageDef} and
    * {@link TemplateDef} annotations found. Concrete subclasses implement this method to provide the actual bytecode
@@ -467,4 +712,60 @@ public abstract class AbstractAnnotationAdopter extends AbstractMessageAdopter
    * @throws IOException  if an I/O error occurs while reading the class file
    */
   protected abstract void parseClass(@NotNull InputStream classInputStream) throws IOException;
+
+
+  /**
+   * Returns the parser used for analyzing class files in parallel by {@link #adopt(ClassLoader, Set, Executor)}.
+   * <p>
+   * The default implementation returns {@code null}, in which case class files are analyzed sequentially using
+   * {@link #parseClass(InputStream)}.
+   *
+   * @return  definition parser or {@code null} if this adopter does not support parallel analysis
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  protected DefinitionParser getDefinitionParser() {
+    return null;
+  }
+
+
+
+
+  /**
+   * Parser analyzing class files for message and template definitions without publishing them.
+   *
+   * @since 0.24.0
+   */
+  @FunctionalInterface
+  protected interface DefinitionParser
+  {
+    /**
+     * Parse the contents of a class file provided by {@code classInputStream} and pass any {@link MessageDef} and
+     * {@link TemplateDef} annotations found to {@code definitionConsumer}, in the order they appear in the class
+     * file.
+     * <p>
+     * Implementations must not publish the definitions themselves and must be thread-safe, as this method is
+     * invoked concurrently for different class files.
+     *
+     * @param classInputStream    input stream of a class file, not {@code null}
+     * @param definitionConsumer  consumer for message and template definitions, not {@code null}
+     *
+     * @throws IOException  if an I/O error occurs while reading the class file
+     */
+    void parse(@NotNull InputStream classInputStream, @NotNull Consumer<Annotation> definitionConsumer)
+        throws IOException;
+  }
+
+
+
+
+  /**
+   * Handler for class files found during a classpath scan.
+   */
+  @FunctionalInterface
+  private interface ClassFileHandler
+  {
+    void handle(@NotNull InputStream classInputStream) throws IOException;
+  }
 }
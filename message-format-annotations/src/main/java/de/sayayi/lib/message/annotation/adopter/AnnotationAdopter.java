@@ -22,6 +22,7 @@ import de.sayayi.lib.message.annotation.*;
 import de.sayayi.lib.message.annotation.adopter.util.SyntheticMessageDef;
 import de.sayayi.lib.message.annotation.adopter.util.SyntheticTemplateDef;
 import de.sayayi.lib.message.annotation.adopter.util.SyntheticText;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.ClassReader;
@@ -30,8 +31,10 @@ import org.objectweb.asm.MethodVisitor;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.objectweb.asm.ClassReader.*;
 import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
@@ -98,8 +101,8 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
 
 
   /**
-   * Parses the given class file input stream using the ASM {@link ClassReader}, visiting class-level and method-level
-   * annotations to detect message and template definitions. Only non-synthetic methods are visited.
+   * Parses the given class file input stream using the ASM {@link ClassReader} and adopts the message and template
+   * definitions found.
    *
    * @param classInputStream  input stream of a class file to scan, not {@code null}
    *
@@ -107,33 +110,71 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
    */
   @Override
   protected void parseClass(@NotNull InputStream classInputStream) throws IOException {
-    new ClassReader(classInputStream).accept(new MainClassVisitor(), SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+    parseDefinitions(classInputStream, this::adopt_definition);
   }
 
 
+  /**
+   * {@inheritDoc}
+   *
+   * @return  stateless ASM based definition parser, never {@code null}
+   */
+  @Override
+  @Contract(pure = true)
+  protected @NotNull DefinitionParser getDefinitionParser() {
+    return AnnotationAdopter::parseDefinitions;
+  }
 
 
   /**
-   * ASM class visitor that delegates class-level and method-level annotation visits to the enclosing adopter.
+   * Parses the given class file input stream using the ASM {@link ClassReader}, visiting class-level and method-level
+   * annotations to detect message and template definitions. Only non-synthetic methods are visited.
+   *
+   * @param classInputStream    input stream of a class file to scan, not {@code null}
+   * @param definitionConsumer  consumer for message and template definitions, not {@code null}
+   *
+   * @throws IOException  if an I/O error occurs while reading the class file
+   */
+  private static void parseDefinitions(@NotNull InputStream classInputStream,
+                                       @NotNull Consumer<Annotation> definitionConsumer)
+      throws IOException
+  {
+    new ClassReader(classInputStream)
+        .accept(new MainClassVisitor(definitionConsumer), SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+  }
+
+
+
+
+  /**
+   * ASM class visitor that delegates class-level and method-level annotation visits to the annotation visitors.
    * Synthetic methods are skipped.
    */
-  private final class MainClassVisitor extends ClassVisitor
+  private static final class MainClassVisitor extends ClassVisitor
   {
-    private MainClassVisitor() {
+    private final Consumer<Annotation> definitionConsumer;
+
+
+    private MainClassVisitor(Consumer<Annotation> definitionConsumer)
+    {
       super(ASM9);
+      this.definitionConsumer = definitionConsumer;
     }
 
 
     @Override
     public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
-                                     String[] exceptions) {
-      return (access & ACC_SYNTHETIC) == ACC_SYNTHETIC ? null : new MessageMethodVisitor();
+                                     String[] exceptions)
+    {
+      return (access & ACC_SYNTHETIC) == ACC_SYNTHETIC
+          ? null
+          : new MessageMethodVisitor(definitionConsumer);
     }
 
 
     @Override
     public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-      return AnnotationAdopter.this.visitAnnotation(descriptor);
+      return AnnotationAdopter.visitAnnotation(descriptor, definitionConsumer);
     }
   }
 
@@ -145,16 +186,16 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
    * descriptor does not match a recognized message or template annotation.
    */
   @SuppressWarnings("DuplicatedCode")
-  private AnnotationVisitor visitAnnotation(String descriptor)
+  private static AnnotationVisitor visitAnnotation(String descriptor, Consumer<Annotation> definitionConsumer)
   {
     if (MESSAGE_DEF_DESCRIPTOR.equals(descriptor))
-      return new MessageDefAnnotationVisitor();
+      return new MessageDefAnnotationVisitor(definitionConsumer);
     if (MESSAGE_DEFS_DESCRIPTOR.equals(descriptor))
-      return new MessageDefsAnnotationVisitor();
+      return new MessageDefsAnnotationVisitor(definitionConsumer);
     if (TEMPLATE_DEF_DESCRIPTOR.equals(descriptor))
-      return new TemplateDefAnnotationVisitor();
+      return new TemplateDefAnnotationVisitor(definitionConsumer);
     if (TEMPLATE_DEFS_DESCRIPTOR.equals(descriptor))
-      return new TemplateDefsAnnotationVisitor();
+      return new TemplateDefsAnnotationVisitor(definitionConsumer);
 
     return null;
   }
@@ -163,18 +204,23 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
 
 
   /**
-   * ASM method visitor that delegates method-level annotation visits to the enclosing adopter.
+   * ASM method visitor that delegates method-level annotation visits to the annotation visitors.
    */
-  private final class MessageMethodVisitor extends MethodVisitor
+  private static final class MessageMethodVisitor extends MethodVisitor
   {
-    private MessageMethodVisitor() {
+    private final Consumer<Annotation> definitionConsumer;
+
+
+    private MessageMethodVisitor(Consumer<Annotation> definitionConsumer)
+    {
       super(ASM9);
+      this.definitionConsumer = definitionConsumer;
     }
 
 
     @Override
     public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-      return AnnotationAdopter.this.visitAnnotation(descriptor);
+      return AnnotationAdopter.visitAnnotation(descriptor, definitionConsumer);
     }
   }
 
@@ -185,10 +231,15 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
    * Visitor for the {@link MessageDefs} repeatable container annotation. Delegates each contained
    * {@link MessageDef} to a {@link MessageDefAnnotationVisitor}.
    */
-  private final class MessageDefsAnnotationVisitor extends AnnotationVisitor
+  private static final class MessageDefsAnnotationVisitor extends AnnotationVisitor
   {
-    private MessageDefsAnnotationVisitor() {
+    private final Consumer<Annotation> definitionConsumer;
+
+
+    private MessageDefsAnnotationVisitor(Consumer<Annotation> definitionConsumer)
+    {
       super(ASM9);
+      this.definitionConsumer = definitionConsumer;
     }
 
 
@@ -198,7 +249,9 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
       return new AnnotationVisitor(ASM9) {
         @Override
         public AnnotationVisitor visitAnnotation(String name, String descriptor) {
-          return MESSAGE_DEF_DESCRIPTOR.equals(descriptor) ? new MessageDefAnnotationVisitor() : null;
+          return MESSAGE_DEF_DESCRIPTOR.equals(descriptor)
+              ? new MessageDefAnnotationVisitor(definitionConsumer)
+              : null;
         }
       };
     }
@@ -209,17 +262,20 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
 
   /**
    * Visitor for a single {@link MessageDef} annotation. Collects the message code, text and localized
-   * {@link Text} entries, then adopts the resulting message definition.
+   * {@link Text} entries, then passes the resulting message definition to the definition consumer.
    */
-  private final class MessageDefAnnotationVisitor extends AnnotationVisitor
+  private static final class MessageDefAnnotationVisitor extends AnnotationVisitor
   {
+    private final Consumer<Annotation> definitionConsumer;
     private String code;
     private String text;
     private final List<Text> texts = new ArrayList<>();
 
 
-    private MessageDefAnnotationVisitor() {
+    private MessageDefAnnotationVisitor(Consumer<Annotation> definitionConsumer)
+    {
       super(ASM9);
+      this.definitionConsumer = definitionConsumer;
     }
 
 
@@ -247,7 +303,7 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
 
     @Override
     public void visitEnd() {
-      adopt(new SyntheticMessageDef(code, text, texts.toArray(Text[]::new)));
+      definitionConsumer.accept(new SyntheticMessageDef(code, text, texts.toArray(Text[]::new)));
     }
   }
 
@@ -258,10 +314,15 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
    * Visitor for the {@link TemplateDefs} repeatable container annotation. Delegates each contained
    * {@link TemplateDef} to a {@link TemplateDefAnnotationVisitor}.
    */
-  private final class TemplateDefsAnnotationVisitor extends AnnotationVisitor
+  private static final class TemplateDefsAnnotationVisitor extends AnnotationVisitor
   {
-    private TemplateDefsAnnotationVisitor() {
+    private final Consumer<Annotation> definitionConsumer;
+
+
+    private TemplateDefsAnnotationVisitor(Consumer<Annotation> definitionConsumer)
+    {
       super(ASM9);
+      this.definitionConsumer = definitionConsumer;
     }
 
 
@@ -271,7 +332,9 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
       return new AnnotationVisitor(ASM9) {
         @Override
         public AnnotationVisitor visitAnnotation(String name, String descriptor) {
-          return TEMPLATE_DEF_DESCRIPTOR.equals(descriptor) ? new TemplateDefAnnotationVisitor() : null;
+          return TEMPLATE_DEF_DESCRIPTOR.equals(descriptor)
+              ? new TemplateDefAnnotationVisitor(definitionConsumer)
+              : null;
         }
       };
     }
@@ -282,17 +345,20 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
 
   /**
    * Visitor for a single {@link TemplateDef} annotation. Collects the template name, text and localized
-   * {@link Text} entries, then adopts the resulting template definition.
+   * {@link Text} entries, then passes the resulting template definition to the definition consumer.
    */
-  private final class TemplateDefAnnotationVisitor extends AnnotationVisitor
+  private static final class TemplateDefAnnotationVisitor extends AnnotationVisitor
   {
+    private final Consumer<Annotation> definitionConsumer;
     private String name;
     private String text;
     private final List<Text> texts = new ArrayList<>();
 
 
-    private TemplateDefAnnotationVisitor() {
+    private TemplateDefAnnotationVisitor(Consumer<Annotation> definitionConsumer)
+    {
       super(ASM9);
+      this.definitionConsumer = definitionConsumer;
     }
 
 
@@ -320,7 +386,7 @@ public final class AnnotationAdopter extends AbstractAnnotationAdopter
 
     @Override
     public void visitEnd() {
-      adopt(new SyntheticTemplateDef(name, text, texts.toArray(Text[]::new)));
+      definitionConsumer.accept(new SyntheticTemplateDef(name, text, texts.toArray(Text[]::new)));
     }
   }
 
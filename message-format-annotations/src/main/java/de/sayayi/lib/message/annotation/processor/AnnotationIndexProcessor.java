@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.annotation.processor;
+
+import de.sayayi.lib.message.annotation.MessageDef;
+import de.sayayi.lib.message.annotation.MessageDefs;
+import de.sayayi.lib.message.annotation.TemplateDef;
+import de.sayayi.lib.message.annotation.TemplateDefs;
+import de.sayayi.lib.message.annotation.adopter.AbstractAnnotationAdopter;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+
+/**
+ * Annotation processor which records all classes containing {@link MessageDef} or {@link TemplateDef} annotations
+ * (including their repeatable container forms) in an index resource
+ * ({@value AbstractAnnotationAdopter#ANNOTATION_INDEX}).
+ * <p>
+ * The index is a UTF-8 encoded text file containing the class file resource names of the annotated classes, one
+ * per line and sorted. Annotation adopters use the index to analyze only the annotated classes instead of every
+ * class file in the scanned packages.
+ * <p>
+ * The processor is registered as a service and is picked up automatically if this library is on the annotation
+ * processor path, or on the class path if no processor path is configured. It only writes an index if it is enabled
+ * with the processor option {@code -A}{@value #INDEX_OPTION}{@code =true}; otherwise it does not claim any
+ * annotation types and never runs. For Gradle, the processor is declared as an aggregating incremental processor.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see AbstractAnnotationAdopter#adoptIndexed(ClassLoader)
+ */
+public final class AnnotationIndexProcessor extends AbstractProcessor
+{
+  /** Processor option enabling the annotation index. */
+  public static final String INDEX_OPTION = "messageFormat.index";
+
+  private final SortedSet<String> classResourceNames = new TreeSet<>();
+
+
+  @Override
+  public @NotNull Set<String> getSupportedOptions() {
+    return Set.of(INDEX_OPTION);
+  }
+
+
+  @Override
+  public @NotNull Set<String> getSupportedAnnotationTypes()
+  {
+    if (!isIndexEnabled())
+      return Set.of();
+
+    return Set.of(
+        MessageDef.class.getName(),
+        MessageDefs.class.getName(),
+        TemplateDef.class.getName(),
+        TemplateDefs.class.getName());
+  }
+
+
+  /**
+   * Tells whether the index has been enabled using the {@value #INDEX_OPTION} processor option.
+   */
+  private boolean isIndexEnabled() {
+    return isInitialized() && Boolean.parseBoolean(processingEnv.getOptions().get(INDEX_OPTION));
+  }
+
+
+  @Override
+  public @NotNull SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+
+  @Override
+  public boolean process(@NotNull Set<? extends TypeElement> annotations, @NotNull RoundEnvironment roundEnv)
+  {
+    for(var annotation: annotations)
+      for(var element: roundEnv.getElementsAnnotatedWith(annotation))
+      {
+        final var type = getDeclaringType(element);
+        if (type != null)
+        {
+          classResourceNames.add(processingEnv.getElementUtils().getBinaryName(type).toString()
+              .replace('.', '/') + ".class");
+        }
+      }
+
+    if (roundEnv.processingOver() && !classResourceNames.isEmpty())
+      writeIndex();
+
+    return false;
+  }
+
+
+  /**
+   * Returns the type declaring the given annotated element. For types this is the element itself, for methods
+   * this is the enclosing type.
+   */
+  private static TypeElement getDeclaringType(Element element)
+  {
+    for(; element != null; element = element.getEnclosingElement())
+      if (element instanceof TypeElement type)
+        return type;
+
+    return null;
+  }
+
+
+  private void writeIndex()
+  {
+    try {
+      final var resource = processingEnv.getFiler()
+          .createResource(CLASS_OUTPUT, "", AbstractAnnotationAdopter.ANNOTATION_INDEX);
+
+      try(var writer = new OutputStreamWriter(resource.openOutputStream(), UTF_8)) {
+        writer.write("# classes with message and template definitions\n");
+
+        for(var classResourceName: classResourceNames)
+          writer.append(classResourceName).append('\n');
+      }
+    } catch(IOException ex) {
+      processingEnv.getMessager().printMessage(ERROR,
+          "failed to write message annotation index " + AbstractAnnotationAdopter.ANNOTATION_INDEX + ": " +
+          ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.annotation.processor;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.ParameterSlots;
+import de.sayayi.lib.message.annotation.*;
+import de.sayayi.lib.message.annotation.adopter.AnnotationAdopter;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import java.io.IOException;
+import java.util.*;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static de.sayayi.lib.message.util.MessageUtil.getParameterNames;
+import static java.util.Locale.ROOT;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.Diagnostic.Kind.WARNING;
+
+
+/**
+ * Annotation processor which generates a typed message accessor class for each type annotated with
+ * {@link MessageAccessorDef}.
+ * <p>
+ * The accessor contains a method for each {@link MessageDef} on the annotated type and its methods. The method
+ * name is derived from the message code (e.g. {@code ORDER_SHIPPED} becomes {@code orderShipped}) and the method
+ * has a parameter for each message parameter, in alphabetical order. Parameters referenced by templates are
+ * included if the template is defined by a {@link TemplateDef} in the same compilation.
+ * <p>
+ * The accessor looks up all messages once, when it is created. Formatting a message passes the parameter values
+ * positionally using {@link ParameterSlots}, so there is no code lookup, parameter name validation or parameter
+ * sorting involved:
+ * <pre>
+ *   var accessor = new OrderMessagesAccessor(messageSupport);
+ *
+ *   accessor.orderShipped(3, "Order");
+ *   accessor.withLocale(Locale.GERMAN).orderShipped(3, "Bestellung");
+ * </pre>
+ * The messages bound by the accessor are not affected by a later reload of the message support.
+ * <p>
+ * The processor is registered as a service and is picked up automatically if this library is on the annotation
+ * processor path. For Gradle, the processor is declared as an aggregating incremental processor.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see MessageAccessorDef
+ */
+public final class MessageAccessorProcessor extends AbstractProcessor
+{
+  private static final Set<String> RESERVED_METHOD_NAMES = Set.of("getLocale", "withLocale", "requireMessage");
+
+  private final MessageFactory messageFactory = new MessageFactory(PASS_THROUGH);
+  private final GenericFormatterService formatterService = new GenericFormatterService();
+  private final ConfigurableMessageSupport templateSupport =
+      MessageSupportFactory.create(formatterService, messageFactory);
+
+
+  @Override
+  public @NotNull Set<String> getSupportedAnnotationTypes()
+  {
+    return Set.of(
+        MessageAccessorDef.class.getName(),
+        TemplateDef.class.getName(),
+        TemplateDefs.class.getName());
+  }
+
+
+  @Override
+  public @NotNull SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+
+  @Override
+  public boolean process(@NotNull Set<? extends TypeElement> annotations, @NotNull RoundEnvironment roundEnv)
+  {
+    final var templateAdopter = new AnnotationAdopter(templateSupport);
+
+    for(var element: roundEnv.getElementsAnnotatedWithAny(Set.of(TemplateDef.class, TemplateDefs.class)))
+      for(var templateDef: element.getAnnotationsByType(TemplateDef.class))
+      {
+        try {
+          templateAdopter.adopt(templateDef);
+        } catch(RuntimeException ex) {
+          processingEnv.getMessager().printMessage(WARNING,
+              "failed to process template '" + templateDef.name() + "': " + ex.getMessage(), element);
+        }
+      }
+
+    for(var element: roundEnv.getElementsAnnotatedWith(MessageAccessorDef.class))
+      if (element instanceof TypeElement type)
+        generateAccessor(type);
+
+    return false;
+  }
+
+
+  private void generateAccessor(@NotNull TypeElement type)
+  {
+    final var messager = processingEnv.getMessager();
+    final var messages = collectMessages(type);
+
+    if (messages == null)
+      return;
+
+    final var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    var className = type.getAnnotation(MessageAccessorDef.class).className();
+    if (className.isEmpty())
+      className = type.getSimpleName() + "Accessor";
+    else if (!SourceVersion.isName(className) || className.indexOf('.') >= 0)
+    {
+      messager.printMessage(ERROR, "invalid accessor class name '" + className + '\'', type);
+      return;
+    }
+
+    final var templateAccessor = templateSupport.getMessageAccessor();
+    final var methodNames = new HashSet<>(RESERVED_METHOD_NAMES);
+    final var accessorMethods = new ArrayList<AccessorMethod>();
+
+    for(var message: messages.values())
+    {
+      final var code = message.getCode();
+      final var methodName = toMethodName(code);
+
+      if (!methodNames.add(methodName))
+      {
+        messager.printMessage(ERROR, "message code '" + code + "' results in duplicate accessor method '" +
+            methodName + '\'', type);
+        return;
+      }
+
+      for(var templateName: message.getTemplateNames())
+        if (!templateAccessor.hasTemplateWithName(templateName))
+        {
+          messager.printMessage(WARNING, "template '" + templateName + "' referenced by message '" + code +
+              "' is not available; its parameters are not part of accessor method '" + methodName + '\'', type);
+        }
+
+      accessorMethods.add(new AccessorMethod(code, methodName,
+          List.copyOf(getParameterNames(templateAccessor, message))));
+    }
+
+    final var qualifiedClassName = packageName.isEmpty() ? className : packageName + '.' + className;
+
+    try(var writer = processingEnv.getFiler().createSourceFile(qualifiedClassName, type).openWriter()) {
+      writer.write(new AccessorSource(packageName, className, type.getQualifiedName().toString(), accessorMethods)
+          .generate());
+    } catch(IOException ex) {
+      messager.printMessage(ERROR, "failed to write message accessor " + qualifiedClassName + ": " +
+          ex.getMessage(), type);
+    }
+  }
+
+
+  /**
+   * Collects the messages defined on the given type and its methods, in declaration order.
+   *
+   * @param type  annotated type, not {@code null}
+   *
+   * @return  messages keyed by message code, or {@code null} if a message could not be processed
+   */
+  private Map<String,Message.WithCode> collectMessages(@NotNull TypeElement type)
+  {
+    final var messages = new LinkedHashMap<String,Message.WithCode>();
+    final var messageSupport = MessageSupportFactory.create(formatterService, messageFactory);
+    final var messageAdopter = new AnnotationAdopter(messageSupport);
+    final var elements = new ArrayList<Element>();
+
+    elements.add(type);
+    for(var enclosedElement: type.getEnclosedElements())
+      if (enclosedElement.getKind() == ElementKind.METHOD)
+        elements.add(enclosedElement);
+
+    messageSupport.setMessageFilter(message -> {
+      final var previous = messages.putIfAbsent(message.getCode(), message);
+      if (previous != null && !previous.isSame(message))
+        throw new IllegalStateException("different message definition for code '" + message.getCode() + '\'');
+
+      return false;
+    });
+
+    for(var element: elements)
+      for(var messageDef: element.getAnnotationsByType(MessageDef.class))
+      {
+        try {
+          messageAdopter.adopt(messageDef);
+        } catch(RuntimeException ex) {
+          processingEnv.getMessager().printMessage(ERROR,
+              "failed to process message '" + messageDef.code() + "': " + ex.getMessage(), element);
+          return null;
+        }
+      }
+
+    return messages;
+  }
+
+
+  /**
+   * Converts a message code into a lower camel case method name. Code segments are separated by any character
+   * which is not a letter or digit. Segments consisting of uppercase letters and digits only are converted to
+   * lowercase.
+   *
+   * @param code  message code, not {@code null}
+   *
+   * @return  method name, never {@code null}
+   */
+  static @NotNull String toMethodName(@NotNull String code) {
+    return toJavaName(code, "message");
+  }
+
+
+  /**
+   * Converts a parameter name (camel or kebab case) into a Java parameter name.
+   *
+   * @param parameterName  parameter name, not {@code null}
+   *
+   * @return  Java parameter name, never {@code null}
+   */
+  static @NotNull String toParameterName(@NotNull String parameterName) {
+    return toJavaName(parameterName, "p");
+  }
+
+
+  private static @NotNull String toJavaName(@NotNull String name, @NotNull String prefix)
+  {
+    final var javaName = new StringBuilder();
+
+    for(var segment: name.split("[^\\p{Alnum}]+"))
+      if (!segment.isEmpty())
+      {
+        if (segment.equals(segment.toUpperCase(ROOT)))
+          segment = segment.toLowerCase(ROOT);
+
+        final var first = segment.charAt(0);
+
+        javaName
+            .append(javaName.isEmpty() ? Character.toLowerCase(first) : Character.toUpperCase(first))
+            .append(segment, 1, segment.length());
+      }
+
+    if (javaName.isEmpty() || !Character.isJavaIdentifierStart(javaName.charAt(0)))
+      javaName.insert(0, prefix);
+
+    if (SourceVersion.isKeyword(javaName))
+      javaName.append('_');
+
+    return javaName.toString();
+  }
+
+
+
+
+  private record AccessorMethod(@NotNull String code, @NotNull String methodName,
+                                @NotNull List<String> parameterNames) {
+  }
+
+
+
+
+  private static final class AccessorSource
+  {
+    private final String packageName;
+    private final String className;
+    private final String annotatedTypeName;
+    private final List<AccessorMethod> accessorMethods;
+    private final StringBuilder source = new StringBuilder();
+
+
+    private AccessorSource(@NotNull String packageName, @NotNull String className, @NotNull String annotatedTypeName,
+                           @NotNull List<AccessorMethod> accessorMethods)
+    {
+      this.packageName = packageName;
+      this.className = className;
+      this.annotatedTypeName = annotatedTypeName;
+      this.accessorMethods = accessorMethods;
+    }
+
+
+    private @NotNull String generate()
+    {
+      if (!packageName.isEmpty())
+        source.append("package ").append(packageName).append(";\n\n");
+
+      source
+          .append("import de.sayayi.lib.message.Message;\n")
+          .append("import de.sayayi.lib.message.MessageSupport;\n")
+          .append("import de.sayayi.lib.message.MessageSupport.MessageAccessor;\n")
+          .append("import de.sayayi.lib.message.ParameterSlots;\n\n")
+          .append("import java.util.Locale;\n")
+          .append("import java.util.Objects;\n\n\n")
+          .append("/**\n")
+          .append(" * Typed message accessor for {@link ").append(annotatedTypeName).append("}.\n")
+          .append(" * <p>\n")
+          .append(" * This class has been generated by message-format; do not edit.\n")
+          .append(" */\n")
+          .append("@SuppressWarnings(\"all\")\n")
+          .append("public final class ").append(className).append("\n{\n");
+
+      generateSlots();
+      generateConstructors();
+
+      for(int n = 0, size = accessorMethods.size(); n < size; n++)
+        generateAccessorMethod(n, accessorMethods.get(n));
+
+      source
+          .append("\n\n  private static Message.WithCode requireMessage(MessageAccessor messageAccessor,\n")
+          .append("                                                 String code)\n")
+          .append("  {\n")
+          .append("    final Message.WithCode message = messageAccessor.getMessageByCode(code);\n")
+          .append("    if (message == null)\n")
+          .append("      throw new IllegalArgumentException(\"unknown message code '\" + code + '\\'');\n\n")
+          .append("    return message;\n")
+          .append("  }\n")
+          .append("}\n");
+
+      return source.toString();
+    }
+
+
+    private void generateSlots()
+    {
+      for(int n = 0, size = accessorMethods.size(); n < size; n++)
+      {
+        final var parameterNames = accessorMethods.get(n).parameterNames();
+
+        if (!parameterNames.isEmpty())
+        {
+          source.append("  private static final ParameterSlots SLOTS_").append(n).append(" = ParameterSlots.of(");
+
+          for(int p = 0; p < parameterNames.size(); p++)
+          {
+            if (p > 0)
+              source.append(", ");
+
+            appendString(parameterNames.get(p));
+          }
+
+          source.append(");\n");
+        }
+      }
+
+      source
+          .append("\n  private final MessageSupport messageSupport;\n")
+          .append("  private final Locale locale;\n")
+          .append("  private final Message.WithCode[] messages;\n");
+    }
+
+
+    private void generateConstructors()
+    {
+      source
+          .append("\n\n  /**\n")
+          .append("   * Creates an accessor for the messages in {@code messageSupport}. Messages are formatted\n")
+          .append("   * by the message support using its default locale.\n")
+          .append("   *\n")
+          .append("   * @param messageSupport  message support, not {@code null}\n")
+          .append("   *\n")
+          .append("   * @throws IllegalArgumentException  if a message is not available in the message support\n")
+          .append("   */\n")
+          .append("  public ").append(className).append("(MessageSupport messageSupport)\n")
+          .append("  {\n")
+          .append("    final MessageAccessor messageAccessor = messageSupport.getMessageAccessor();\n\n")
+          .append("    this.messageSupport = messageSupport;\n")
+          .append("    locale = messageAccessor.getLocale();\n")
+          .append("    messages = new Message.WithCode[] {\n");
+
+      for(var accessorMethod: accessorMethods)
+      {
+        source.append("      requireMessage(messageAccessor, ");
+        appendString(accessorMethod.code());
+        source.append("),\n");
+      }
+
+      source
+          .append("    };\n")
+          .append("  }\n\n\n")
+          .append("  private ").append(className).append('(').append(className)
+          .append(" accessor, Locale locale)\n")
+          .append("  {\n")
+          .append("    messageSupport = accessor.messageSupport;\n")
+          .append("    this.locale = locale;\n")
+          .append("    messages = accessor.messages;\n")
+          .append("  }\n\n\n")
+          .append("  /**\n")
+          .append("   * Returns the locale used for formatting messages.\n")
+          .append("   *\n")
+          .append("   * @return  locale, never {@code null}\n")
+          .append("   */\n")
+          .append("  public Locale getLocale() {\n")
+          .append("    return locale;\n")
+          .append("  }\n\n\n")
+          .append("  /**\n")
+          .append("   * Returns an accessor which formats messages using the given {@code locale}.\n")
+          .append("   *\n")
+          .append("   * @param locale  locale, not {@code null}\n")
+          .append("   *\n")
+          .append("   * @return  accessor for the given locale, never {@code null}\n")
+          .append("   */\n")
+          .append("  public ").append(className).append(" withLocale(Locale locale) {\n")
+          .append("    return new ").append(className)
+          .append("(this, Objects.requireNonNull(locale, \"locale must not be null\"));\n")
+          .append("  }\n");
+    }
+
+
+    private void generateAccessorMethod(int index, @NotNull AccessorMethod accessorMethod)
+    {
+      final var parameterNames = accessorMethod.parameterNames();
+      final var javaParameterNames = new ArrayList<String>();
+      final var usedNames = new HashSet<String>();
+
+      for(var parameterName: parameterNames)
+      {
+        final var javaParameterName = toParameterName(parameterName);
+        var uniqueName = javaParameterName;
+
+        for(int n = 2; !usedNames.add(uniqueName); n++)
+          uniqueName = javaParameterName + n;
+
+        javaParameterNames.add(uniqueName);
+      }
+
+      source
+          .append("\n\n  /**\n   * Formats message {@code ")
+          .append(javadocText(accessorMethod.code()))
+          .append("}.\n");
+
+      if (!parameterNames.isEmpty())
+      {
+        source.append("   *\n");
+
+        for(int n = 0; n < parameterNames.size(); n++)
+        {
+          source.append("   * @param ").append(javaParameterNames.get(n)).append("  value for parameter {@code ")
+              .append(javadocText(parameterNames.get(n))).append("}\n");
+        }
+      }
+
+      source
+          .append("   *\n")
+          .append("   * @return  formatted message, never {@code null}\n")
+          .append("   */\n")
+          .append("  public String ").append(accessorMethod.methodName()).append('(');
+
+      for(int n = 0; n < javaParameterNames.size(); n++)
+      {
+        if (n > 0)
+          source.append(", ");
+
+        source.append("Object ").append(javaParameterNames.get(n));
+      }
+
+      source.append(") {\n    return this.messageSupport.format(this.messages[").append(index).append("], ");
+
+      if (parameterNames.isEmpty())
+        source.append("Message.Parameters.empty(this.locale)");
+      else
+      {
+        source.append("SLOTS_").append(index).append(".bind(this.locale");
+
+        for(var javaParameterName: javaParameterNames)
+          source.append(", ").append(javaParameterName);
+
+        source.append(')');
+      }
+
+      source.append(");\n  }\n");
+    }
+
+
+    private void appendString(@NotNull String s)
+    {
+      source.append('"');
+
+      for(var ch: s.toCharArray())
+      {
+        if (ch == '"' || ch == '\\')
+          source.append('\\').append(ch);
+        else if (ch < ' ' || ch > '~')
+          source.append(String.format("\\u%04x", (int)ch));
+        else
+          source.append(ch);
+      }
+
+      source.append('"');
+    }
+
+
+    private static @NotNull String javadocText(@NotNull String s)
+    {
+      return s
+          .replace("&", "&amp;")
+          .replace("<", "&lt;")
+          .replace(">", "&gt;")
+          .replace("@", "&#64;")
+          .replace("*/", "*&#47;")
+          .replace("}", "&#125;")
+          .replace("\\u", "&#92;u");
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Annotation processors for {@link de.sayayi.lib.message.annotation.MessageDef MessageDef} and
+ * {@link de.sayayi.lib.message.annotation.TemplateDef TemplateDef} annotations.
+ * <p>
+ * The {@link de.sayayi.lib.message.annotation.processor.AnnotationIndexProcessor AnnotationIndexProcessor} writes
+ * an index of annotated classes at compile time, allowing annotation adopters to skip unrelated class files. The
+ * index is only written if the processor option {@code messageFormat.index=true} is set.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+package de.sayayi.lib.message.annotation.processor;
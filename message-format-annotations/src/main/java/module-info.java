@@ -25,6 +25,8 @@
  *       unique name</li>
  *   <li>{@link de.sayayi.lib.message.annotation.Text Text} – provides localized text variants for messages and
  *       templates</li>
+ *   <li>{@link de.sayayi.lib.message.annotation.MessageAccessorDef MessageAccessorDef} – requests a generated,
+ *       typed message accessor class</li>
  * </ul>
  * <p>
  * <b>Adopter</b> ({@code de.sayayi.lib.message.annotation.adopter}):
@@ -37,6 +39,15 @@
  * into the JVM, and publishes them to a
  * {@link de.sayayi.lib.message.MessageSupport.MessagePublisher MessagePublisher}.
  * <p>
+ * <b>Annotation processor</b> ({@code de.sayayi.lib.message.annotation.processor}):
+ * <br>
+ * The {@link de.sayayi.lib.message.annotation.processor.AnnotationIndexProcessor AnnotationIndexProcessor} records
+ * annotated classes in an index resource at compile time, so adopters only need to analyze the indexed classes. It
+ * is enabled with the processor option {@code messageFormat.index=true}.
+ * The {@link de.sayayi.lib.message.annotation.processor.MessageAccessorProcessor MessageAccessorProcessor}
+ * generates typed message accessor classes for types annotated with
+ * {@link de.sayayi.lib.message.annotation.MessageAccessorDef MessageAccessorDef}.
+ * <p>
  * <b>Synthetic annotations</b> ({@code de.sayayi.lib.message.annotation.adopter.util}):
  * <br>
  * Synthetic implementations of the annotation interfaces allow messages and templates to be constructed and
@@ -50,8 +61,14 @@ module de.sayayi.lib.message.annotations
   requires static org.jetbrains.annotations;
 
   requires static org.objectweb.asm;
+  requires static java.compiler;
 
   exports de.sayayi.lib.message.annotation;
   exports de.sayayi.lib.message.annotation.adopter;
   exports de.sayayi.lib.message.annotation.adopter.util;
+  exports de.sayayi.lib.message.annotation.processor;
+
+  provides javax.annotation.processing.Processor
+      with de.sayayi.lib.message.annotation.processor.AnnotationIndexProcessor,
+           de.sayayi.lib.message.annotation.processor.MessageAccessorProcessor;
 }
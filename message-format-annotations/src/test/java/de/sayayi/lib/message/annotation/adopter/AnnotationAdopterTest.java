@@ -25,6 +25,8 @@ import de.sayayi.lib.message.annotation.adopter.fixture.AnnotationsFixture;
 import de.sayayi.lib.message.annotation.adopter.util.SyntheticMessageDef;
 import de.sayayi.lib.message.annotation.adopter.util.SyntheticTemplateDef;
 import de.sayayi.lib.message.annotation.adopter.util.SyntheticText;
+import de.sayayi.lib.message.exception.DuplicateMessageException;
+import de.sayayi.lib.message.exception.MessageAdopterException;
 import de.sayayi.lib.message.formatter.DefaultFormatterService;
 import lombok.val;
 import org.jetbrains.annotations.Contract;
@@ -33,15 +35,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.createTempFile;
@@ -138,6 +149,99 @@ class AnnotationAdopterTest
   }
 
 
+  @Test
+  @DisplayName("adopt(ClassLoader, Set<String>, Executor)")
+  void testAdoptClassLoaderParallel()
+  {
+    val cms = newMessageSupport();
+    val classLoader = AnnotationsFixture.class.getClassLoader();
+    val packageNames = Set.of(AnnotationsFixture.class.getPackageName());
+
+    try(var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      new AnnotationAdopter(cms).adopt(classLoader, packageNames, executor);
+    }
+
+    verifyFixture(cms.getMessageAccessor());
+    verifyInnerRecordFixture(cms.getMessageAccessor());
+  }
+
+
+  @Test
+  @DisplayName("parallel scan publishes in sequential scan order")
+  void testAdoptParallelOrder(@TempDir Path directory) throws IOException
+  {
+    val codes = new ArrayList<String>();
+    for(int n = 0; n < 200; n++)
+      codes.add(String.format("MSG-%03d", (n * 37) % 200));
+
+    try(var classLoader = new URLClassLoader(new URL[] { syntheticJar(directory, codes).toUri().toURL() }, null)) {
+      val sequential = newMessageSupport();
+      val sequentialCodes = new ArrayList<String>();
+      sequential.setMessageFilter(message -> sequentialCodes.add(message.getCode()));
+      new AnnotationAdopter(sequential).adopt(classLoader, Set.of("generated"));
+
+      val parallel = newMessageSupport();
+      val parallelCodes = new ArrayList<String>();
+      parallel.setMessageFilter(message -> parallelCodes.add(message.getCode()));
+
+      try(var executor = Executors.newFixedThreadPool(4)) {
+        new AnnotationAdopter(parallel).adopt(classLoader, Set.of("generated"), executor);
+      }
+
+      assertEquals(200, sequentialCodes.size());
+      assertEquals(sequentialCodes, parallelCodes);
+    }
+  }
+
+
+  @Test
+  @DisplayName("parallel scan falls back to sequential scan for sequential adopters")
+  void testAdoptParallelSequentialAdopter(@TempDir Path directory) throws IOException
+  {
+    try(var classLoader = new URLClassLoader(
+        new URL[] { syntheticJar(directory, List.of("MSG-1", "MSG-2")).toUri().toURL() }, null)) {
+      val cms = newMessageSupport();
+      val delegate = new AnnotationAdopter(cms);
+      val threads = new ArrayList<Thread>();
+
+      // subclass implementing the sequential extension point only
+      val adopter = new AbstractAnnotationAdopter(cms) {
+        @Override
+        protected void parseClass(@NotNull InputStream classInputStream) throws IOException
+        {
+          threads.add(Thread.currentThread());
+          delegate.parseClass(classInputStream);
+        }
+      };
+
+      try(var executor = Executors.newFixedThreadPool(4)) {
+        adopter.adopt(classLoader, Set.of("generated"), executor);
+      }
+
+      assertEquals(Set.of("MSG-1", "MSG-2"), cms.getMessageAccessor().getMessageCodes());
+      assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+    }
+  }
+
+
+  @Test
+  @DisplayName("parallel scan detects duplicate messages")
+  void testAdoptParallelDuplicate(@TempDir Path directory) throws IOException
+  {
+    try(var classLoader = new URLClassLoader(
+        new URL[] { syntheticJar(directory, List.of("MSG-1", "MSG-2", "MSG-1")).toUri().toURL() }, null)) {
+      val adopter = new AnnotationAdopter(newMessageSupport());
+
+      try(var executor = Executors.newFixedThreadPool(4)) {
+        val ex = assertThrowsExactly(MessageAdopterException.class,
+            () -> adopter.adopt(classLoader, Set.of("generated"), executor));
+
+        assertInstanceOf(DuplicateMessageException.class, ex.getCause());
+      }
+    }
+  }
+
+
   @Test
   @DisplayName("adopt(MessageDef)")
   @SuppressWarnings("ExtractMethodRecommender")
@@ -292,6 +396,42 @@ class AnnotationAdopterTest
   }
 
 
+  /**
+   * Creates a jar containing one class in package {@code generated} for each code. Each class is annotated with
+   * a message definition, where the message text contains the class index.
+   */
+  private static @NotNull Path syntheticJar(@NotNull Path directory, @NotNull List<String> codes) throws IOException
+  {
+    val jarFile = directory.resolve("synthetic.jar");
+
+    try(var jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+      jar.putNextEntry(new JarEntry("generated/"));
+      jar.closeEntry();
+
+      for(int n = 0; n < codes.size(); n++)
+      {
+        val className = String.format("generated/Class%04d", n);
+        val writer = new ClassWriter(0);
+
+        writer.visit(V21, ACC_PUBLIC | ACC_FINAL, className, null, "java/lang/Object", null);
+
+        val annotation = writer.visitAnnotation(Type.getDescriptor(MessageDef.class), false);
+        annotation.visit("code", codes.get(n));
+        annotation.visit("text", "Message " + n);
+        annotation.visitEnd();
+
+        writer.visitEnd();
+
+        jar.putNextEntry(new JarEntry(className + ".class"));
+        jar.write(writer.toByteArray());
+        jar.closeEntry();
+      }
+    }
+
+    return jarFile;
+  }
+
+
   private static void verifyFixture(@NotNull MessageAccessor accessor)
   {
     // --- Messages: type-level ---
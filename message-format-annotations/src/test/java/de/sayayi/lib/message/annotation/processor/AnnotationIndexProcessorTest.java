@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.annotation.processor;
+
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.annotation.MessageDef;
+import de.sayayi.lib.message.annotation.adopter.AnnotationAdopter;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static de.sayayi.lib.message.annotation.adopter.AbstractAnnotationAdopter.ANNOTATION_INDEX;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Annotation index processor")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class AnnotationIndexProcessorTest
+{
+  @Test
+  @DisplayName("Write index for annotated classes")
+  void testIndex(@TempDir Path directory) throws Exception
+  {
+    val classes = compile(directory, true);
+
+    assertEquals(List.of(
+        "# classes with message and template definitions",
+        "idx/Annotated$Inner.class",
+        "idx/Annotated.class",
+        "idx/MethodAnnotated.class"), Files.readAllLines(classes.resolve(ANNOTATION_INDEX), UTF_8));
+  }
+
+
+  @Test
+  @DisplayName("No index without processor option")
+  void testIndexDisabled(@TempDir Path directory) throws Exception
+  {
+    val classes = compile(directory, false);
+
+    assertTrue(Files.isRegularFile(classes.resolve("idx/Annotated.class")));
+    assertFalse(Files.exists(classes.resolve(ANNOTATION_INDEX)));
+  }
+
+
+  @Test
+  @DisplayName("Adopt indexed classes only")
+  void testAdoptIndexed(@TempDir Path directory) throws Exception
+  {
+    val classes = compile(directory, true);
+
+    // unrelated class files are never read
+    Files.writeString(classes.resolve("idx/Plain.class"), "not a class file");
+
+    try(var classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, null)) {
+      val indexed = newMessageSupport();
+      new AnnotationAdopter(indexed).adoptIndexed(classLoader);
+      verify(indexed);
+    }
+  }
+
+
+  @Test
+  @DisplayName("Classpath scan ignores outdated index")
+  void testScanIgnoresIndex(@TempDir Path directory) throws Exception
+  {
+    val classes = compile(directory, true);
+
+    // index missing a class, e.g. after an incremental compilation
+    Files.writeString(classes.resolve(ANNOTATION_INDEX), "idx/Annotated.class\nidx/Annotated$Inner.class\n");
+
+    try(var classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, null)) {
+      val scanned = newMessageSupport();
+      new AnnotationAdopter(scanned).adopt(classLoader, Set.of("idx"));
+      verify(scanned);
+    }
+  }
+
+
+  private static @NotNull Path compile(@NotNull Path directory, boolean indexEnabled)
+      throws IOException, URISyntaxException
+  {
+    val sources = directory.resolve("src/idx");
+    val classes = Files.createDirectories(directory.resolve("classes"));
+
+    Files.createDirectories(sources);
+    Files.writeString(sources.resolve("Annotated.java"), """
+        package idx;
+        import de.sayayi.lib.message.annotation.*;
+        @MessageDef(code = "MSG-1", text = "message 1")
+        @MessageDef(code = "MSG-2", text = "message 2")
+        public class Annotated {
+          @TemplateDef(name = "tpl", text = "template")
+          public static class Inner {}
+        }
+        """);
+    Files.writeString(sources.resolve("MethodAnnotated.java"), """
+        package idx;
+        import de.sayayi.lib.message.annotation.*;
+        public class MethodAnnotated {
+          @MessageDef(code = "MSG-3", text = "message 3 %[tpl]")
+          void method() {}
+        }
+        """);
+    Files.writeString(sources.resolve("Plain.java"), """
+        package idx;
+        public class Plain {}
+        """);
+
+    val compiler = ToolProvider.getSystemJavaCompiler();
+
+    try(var fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+      val annotationsPath = Path.of(MessageDef.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+      val task = compiler.getTask(null, fileManager, null,
+          List.of("-d", classes.toString(), "-classpath", annotationsPath.toString(),
+              "-A" + AnnotationIndexProcessor.INDEX_OPTION + '=' + indexEnabled),
+          null, fileManager.getJavaFileObjectsFromPaths(List.of(
+              sources.resolve("Annotated.java"),
+              sources.resolve("MethodAnnotated.java"),
+              sources.resolve("Plain.java"))));
+
+      task.setProcessors(List.of(new AnnotationIndexProcessor()));
+      assertTrue(task.call());
+    }
+
+    return classes;
+  }
+
+
+  private static void verify(@NotNull ConfigurableMessageSupport messageSupport)
+  {
+    val accessor = messageSupport.getMessageAccessor();
+
+    assertEquals(Set.of("MSG-1", "MSG-2", "MSG-3"), accessor.getMessageCodes());
+    assertEquals(Set.of("tpl"), accessor.getTemplateNames());
+    assertEquals("message 3 template", messageSupport.code("MSG-3").format());
+  }
+
+
+  private static @NotNull ConfigurableMessageSupport newMessageSupport() {
+    return MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.annotation.processor;
+
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.annotation.MessageDef;
+import de.sayayi.lib.message.annotation.adopter.AnnotationAdopter;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.GERMAN;
+import static java.util.Locale.UK;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.Diagnostic.Kind.WARNING;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Message accessor processor")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class MessageAccessorProcessorTest
+{
+  @Test
+  @DisplayName("Method and parameter names")
+  void testNames()
+  {
+    assertEquals("orderShipped", MessageAccessorProcessor.toMethodName("ORDER_SHIPPED"));
+    assertEquals("orderShipped", MessageAccessorProcessor.toMethodName("order-shipped"));
+    assertEquals("orderShipped", MessageAccessorProcessor.toMethodName("order.shipped"));
+    assertEquals("myMessage", MessageAccessorProcessor.toMethodName("myMessage"));
+    assertEquals("message42", MessageAccessorProcessor.toMethodName("42"));
+    assertEquals("msg1", MessageAccessorProcessor.toMethodName("MSG-1"));
+    assertEquals("default_", MessageAccessorProcessor.toMethodName("DEFAULT"));
+
+    assertEquals("itemType", MessageAccessorProcessor.toParameterName("item-type"));
+    assertEquals("count", MessageAccessorProcessor.toParameterName("count"));
+    assertEquals("class_", MessageAccessorProcessor.toParameterName("class"));
+  }
+
+
+  @Test
+  @DisplayName("Generate and use accessor")
+  void testAccessor(@TempDir Path directory) throws Exception
+  {
+    val sources = Files.createDirectories(directory.resolve("src/acc"));
+
+    Files.writeString(sources.resolve("OrderMessages.java"), """
+        package acc;
+        import de.sayayi.lib.message.annotation.*;
+        @MessageAccessorDef
+        @MessageDef(code = "ORDER_SHIPPED", texts = {
+          @Text(locale = "en", text = "Order %{name} with %{count} items has been shipped"),
+          @Text(locale = "de", text = "Bestellung %{name} mit %{count} Artikeln wurde versandt")
+        })
+        @MessageDef(code = "NO-PARAMETERS", text = "no parameters")
+        @TemplateDef(name = "tpl", text = "%{item-type,null:'none'}")
+        public class OrderMessages {
+          @MessageDef(code = "order.item", text = "%{class} %[tpl,item-type->type]")
+          void method() {}
+        }
+        """);
+    Files.writeString(sources.resolve("Other.java"), """
+        package acc;
+        import de.sayayi.lib.message.annotation.*;
+        @MessageAccessorDef(className = "OtherMessages")
+        @MessageDef(code = "OTHER", text = "%{a}%[missing]")
+        public class Other {}
+        """);
+
+    val diagnostics = compile(directory, sources.resolve("OrderMessages.java"), sources.resolve("Other.java"));
+    assertTrue(diagnostics.getDiagnostics().stream()
+        .anyMatch(d -> d.getKind() == WARNING && d.getMessage(null).contains("template 'missing'")));
+
+    val classes = directory.resolve("classes");
+
+    try(var classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+        MessageAccessorProcessorTest.class.getClassLoader())) {
+      val messageSupport = MessageSupportFactory.create(new GenericFormatterService(),
+          new de.sayayi.lib.message.MessageFactory(PASS_THROUGH));
+      val adopter = new AnnotationAdopter(messageSupport);
+
+      adopter.adopt(classes.resolve("acc/OrderMessages.class"));
+      adopter.adopt(classes.resolve("acc/Other.class"));
+      messageSupport.setLocale(UK);
+
+      val accessorClass = classLoader.loadClass("acc.OrderMessagesAccessor");
+      val accessor = accessorClass.getConstructor(MessageSupport.class).newInstance(messageSupport);
+
+      assertEquals(UK, accessorClass.getMethod("getLocale").invoke(accessor));
+
+      val orderShipped = accessorClass.getMethod("orderShipped", Object.class, Object.class);
+      assertEquals("Order A1 with 3 items has been shipped", orderShipped.invoke(accessor, 3, "A1"));
+      assertEquals(messageSupport.code("ORDER_SHIPPED").with("count", 3).with("name", "A1").format(),
+          orderShipped.invoke(accessor, 3, "A1"));
+
+      val german = accessorClass.getMethod("withLocale", Locale.class).invoke(accessor, GERMAN);
+      assertEquals("Bestellung A1 mit 3 Artikeln wurde versandt", orderShipped.invoke(german, 3, "A1"));
+
+      assertEquals("no parameters", accessorClass.getMethod("noParameters").invoke(accessor));
+
+      val orderItem = accessorClass.getMethod("orderItem", Object.class, Object.class);
+      assertEquals(List.of("class_", "type"), List.of(orderItem.getParameters()[0].getName(),
+          orderItem.getParameters()[1].getName()));
+      assertEquals("Box none", orderItem.invoke(accessor, "Box", null));
+      assertEquals("Box small", orderItem.invoke(accessor, "Box", "small"));
+
+      val otherClass = classLoader.loadClass("acc.OtherMessages");
+      val other = otherClass.getConstructor(MessageSupport.class).newInstance(messageSupport);
+      assertEquals("x", otherClass.getMethod("other", Object.class).invoke(other, "x"));
+    }
+  }
+
+
+  @Test
+  @DisplayName("Unknown message code at runtime")
+  void testUnknownCode(@TempDir Path directory) throws Exception
+  {
+    val sources = Files.createDirectories(directory.resolve("src/acc"));
+
+    Files.writeString(sources.resolve("Messages.java"), """
+        package acc;
+        import de.sayayi.lib.message.annotation.*;
+        @MessageAccessorDef
+        @MessageDef(code = "MSG", text = "message")
+        public class Messages {}
+        """);
+
+    compile(directory, sources.resolve("Messages.java"));
+
+    try(var classLoader = new URLClassLoader(new URL[] { directory.resolve("classes").toUri().toURL() },
+        MessageAccessorProcessorTest.class.getClassLoader())) {
+      val constructor = classLoader.loadClass("acc.MessagesAccessor").getConstructor(MessageSupport.class);
+      val messageSupport = MessageSupportFactory.create(new GenericFormatterService());
+
+      val ex = assertThrows(Exception.class, () -> constructor.newInstance(messageSupport));
+      assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+      assertEquals("unknown message code 'MSG'", ex.getCause().getMessage());
+    }
+  }
+
+
+  @Test
+  @DisplayName("Report conflicting definitions")
+  void testErrors(@TempDir Path directory) throws Exception
+  {
+    val sources = Files.createDirectories(directory.resolve("src/acc"));
+
+    Files.writeString(sources.resolve("Duplicate.java"), """
+        package acc;
+        import de.sayayi.lib.message.annotation.*;
+        @MessageAccessorDef
+        @MessageDef(code = "MSG", text = "message 1")
+        public class Duplicate {
+          @MessageDef(code = "MSG", text = "message 2")
+          void method() {}
+        }
+        """);
+    Files.writeString(sources.resolve("MethodName.java"), """
+        package acc;
+        import de.sayayi.lib.message.annotation.*;
+        @MessageAccessorDef
+        @MessageDef(code = "ORDER_SHIPPED", text = "message 1")
+        @MessageDef(code = "order-shipped", text = "message 2")
+        public class MethodName {}
+        """);
+
+    val diagnostics = compile(directory, sources.resolve("Duplicate.java"), sources.resolve("MethodName.java"));
+    val errors = diagnostics.getDiagnostics().stream()
+        .filter(d -> d.getKind() == ERROR)
+        .map(d -> d.getMessage(null))
+        .toList();
+
+    assertEquals(2, errors.size());
+    assertTrue(errors.stream().anyMatch(m -> m.contains("different message definition for code 'MSG'")));
+    assertTrue(errors.stream().anyMatch(m -> m.contains("duplicate accessor method 'orderShipped'")));
+  }
+
+
+  private static @NotNull DiagnosticCollector<JavaFileObject> compile(@NotNull Path directory,
+                                                                      @NotNull Path... sources)
+      throws Exception
+  {
+    val classes = Files.createDirectories(directory.resolve("classes"));
+    val compiler = ToolProvider.getSystemJavaCompiler();
+    val diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+    try(var fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+      val classpath = String.join(java.io.File.pathSeparator, Set.of(
+          Path.of(MessageDef.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString(),
+          Path.of(MessageSupport.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString()));
+      val task = compiler.getTask(null, fileManager, diagnostics,
+          List.of("-d", classes.toString(), "-parameters", "-classpath", classpath),
+          null, fileManager.getJavaFileObjectsFromPaths(List.of(sources)));
+
+      task.setProcessors(List.of(new MessageAccessorProcessor()));
+
+      val success = task.call();
+      val hasErrors = diagnostics.getDiagnostics().stream().map(Diagnostic::getKind).anyMatch(ERROR::equals);
+      assertEquals(!hasErrors, success);
+    }
+
+    return diagnostics;
+  }
+}
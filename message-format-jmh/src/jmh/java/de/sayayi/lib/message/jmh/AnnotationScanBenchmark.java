@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.annotation.MessageDef;
+import de.sayayi.lib.message.annotation.adopter.AnnotationAdopter;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.objectweb.asm.Opcodes.*;
+
+
+/**
+ * Benchmark comparing sequential and parallel annotation scans of a large synthetic jar.
+ * <p>
+ * The jar contains {@code classCount} classes with a message definition on every {@code annotatedEvery}th class.
+ * The parallel scan uses the common fork/join pool.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnnotationScanBenchmark
+{
+  private static final String PACKAGE = "generated";
+
+  @Param({ "40000" })
+  public int classCount;
+
+  @Param({ "100" })
+  public int annotatedEvery;
+
+  private Path jarFile;
+  private URLClassLoader classLoader;
+  private GenericFormatterService formatterService;
+
+
+  @Setup
+  public void setup() throws IOException
+  {
+    jarFile = Files.createTempFile("annotation-scan-benchmark-", ".jar");
+
+    try(var jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+      jar.putNextEntry(new JarEntry(PACKAGE + '/'));
+      jar.closeEntry();
+
+      for(int n = 0; n < classCount; n++)
+      {
+        final var className = String.format("%s/Class%06d", PACKAGE, n);
+
+        jar.putNextEntry(new JarEntry(className + ".class"));
+        jar.write(createClass(className, n % annotatedEvery == 0 ? "MSG-" + n : null));
+        jar.closeEntry();
+      }
+    }
+
+    classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null);
+    formatterService = new GenericFormatterService();
+  }
+
+
+  @TearDown
+  public void tearDown() throws IOException
+  {
+    classLoader.close();
+    Files.deleteIfExists(jarFile);
+  }
+
+
+  private static byte[] createClass(String className, String messageCode)
+  {
+    final var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+    writer.visit(V21, ACC_PUBLIC | ACC_FINAL, className, null, "java/lang/Object", null);
+
+    if (messageCode != null)
+    {
+      final var annotation = writer.visitAnnotation(Type.getDescriptor(MessageDef.class), false);
+      annotation.visit("code", messageCode);
+      annotation.visit("text", "Message %{n} for " + messageCode);
+      annotation.visitEnd();
+    }
+
+    // some methods with code, so class files have a realistic size
+    for(int m = 0; m < 10; m++)
+    {
+      final var method = writer.visitMethod(ACC_PUBLIC | ACC_STATIC, "method" + m, "(I)I", null, null);
+
+      method.visitCode();
+      for(int i = 0; i < 20; i++)
+      {
+        method.visitVarInsn(ILOAD, 0);
+        method.visitLdcInsn(className + m + i);
+        method.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "length", "()I", false);
+        method.visitInsn(IADD);
+        method.visitVarInsn(ISTORE, 0);
+      }
+      method.visitVarInsn(ILOAD, 0);
+      method.visitInsn(IRETURN);
+      method.visitMaxs(0, 0);
+      method.visitEnd();
+    }
+
+    writer.visitEnd();
+
+    return writer.toByteArray();
+  }
+
+
+  @Benchmark
+  public ConfigurableMessageSupport sequentialScan()
+  {
+    final var messageSupport = MessageSupportFactory.create(formatterService);
+
+    new AnnotationAdopter(messageSupport).adopt(classLoader, Set.of(PACKAGE));
+
+    return messageSupport;
+  }
+
+
+  @Benchmark
+  public ConfigurableMessageSupport parallelScan()
+  {
+    final var messageSupport = MessageSupportFactory.create(formatterService);
+
+    new AnnotationAdopter(messageSupport).adopt(classLoader, Set.of(PACKAGE), ForkJoinPool.commonPool());
+
+    return messageSupport;
+  }
+}
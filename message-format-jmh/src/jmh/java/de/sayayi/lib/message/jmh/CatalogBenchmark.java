@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import de.sayayi.lib.message.util.MessageUtil;
+import org.openjdk.jmh.annotations.*;
+
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import static de.sayayi.lib.message.jmh.PackBenchmark.createMessages;
+import static de.sayayi.lib.message.jmh.PackBenchmark.createTemplates;
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Benchmark comparing the startup of a message support configured by a generated catalog class with the startup of
+ * a message support importing a message pack of the same catalog.
+ * <p>
+ * Each invocation loads the generated catalog class using a new class loader, so class loading, verification and
+ * interpreted execution of the generated code are part of the measurement. The heap usage of both approaches is
+ * reported by the {@code gc} profiler as {@code gc.alloc.rate.norm} (bytes allocated per startup).
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogBenchmark
+{
+  private static final String CATALOG_CLASS = "de.sayayi.lib.message.jmh.generated.Catalog";
+
+  @Param({ "100", "1000" })
+  public int catalogSize;
+
+  private Path catalogDir;
+  private URL[] catalogClassPath;
+  private byte[] pack;
+
+
+  @Setup
+  public void setup() throws IOException
+  {
+    final var messageFactory = new MessageFactory(PASS_THROUGH);
+    final var messages = createMessages(messageFactory, catalogSize);
+    final var templates = createTemplates(messageFactory);
+
+    // message pack
+    final var packStream = new ByteArrayOutputStream(catalogSize * 64);
+    MessageUtil.exportMessages(packStream, false, messages, templates);
+    pack = packStream.toByteArray();
+
+    // generated catalog class
+    catalogDir = Files.createTempDirectory("catalog-benchmark");
+
+    final var sourceFile = catalogDir.resolve("Catalog.java");
+    final var classesDir = Files.createDirectories(catalogDir.resolve("classes"));
+
+    try(var writer = Files.newBufferedWriter(sourceFile, UTF_8)) {
+      MessageUtil.exportJavaSource(writer, "de.sayayi.lib.message.jmh.generated", "Catalog", messages, templates);
+    }
+
+    if (ToolProvider.getSystemJavaCompiler().run(null, null, null, "-proc:none",
+        "-classpath", System.getProperty("java.class.path"), "-d", classesDir.toString(),
+        sourceFile.toString()) != 0)
+      throw new IllegalStateException("failed to compile generated catalog");
+
+    catalogClassPath = new URL[] { classesDir.toUri().toURL() };
+  }
+
+
+  @TearDown
+  public void tearDown() throws IOException
+  {
+    try(var paths = Files.walk(catalogDir)) {
+      for(var path: paths.sorted(Comparator.reverseOrder()).toList())
+        Files.delete(path);
+    }
+  }
+
+
+  @Benchmark
+  public ConfigurableMessageSupport generatedCatalog() throws Throwable
+  {
+    final var messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    try(var classLoader = new URLClassLoader(catalogClassPath, CatalogBenchmark.class.getClassLoader())) {
+      MethodHandles.publicLookup()
+          .findStatic(classLoader.loadClass(CATALOG_CLASS), "configure",
+              MethodType.methodType(void.class, ConfigurableMessageSupport.class))
+          .invoke(messageSupport);
+    }
+
+    return messageSupport;
+  }
+
+
+  @Benchmark
+  public ConfigurableMessageSupport packImport() throws IOException
+  {
+    return MessageSupportFactory
+        .create(DefaultFormatterService.getSharedInstance())
+        .importMessages(new ByteArrayInputStream(pack));
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+
+
+/**
+ * Benchmarks for formatting pre-parsed messages with different characteristics.
+ * <p>
+ * Messages are registered by code, so parsing is not part of the measurement.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatBenchmark
+{
+  static final LocalDate DATE = LocalDate.of(2026, 3, 14);
+  static final List<String> NAMES = List.of("Alice", "Bob", "Carol", "Dave");
+
+  private MessageSupport messageSupport;
+
+
+  @Setup
+  public void setup() {
+    messageSupport = createMessageSupport();
+  }
+
+
+  static ConfigurableMessageSupport createMessageSupport()
+  {
+    return MessageSupportFactory
+        .create(DefaultFormatterService.getSharedInstance(), new MessageFactory(PASS_THROUGH, 256))
+        .setLocale(Locale.UK)
+        .addTemplate("user", MessageFactory.getSharedInstance().parseTemplate(
+            "%{name,empty:'anonymous',:'%{name}'} (%{role,null:'guest',:'%{role}'})"))
+        .addTemplate("date", MessageFactory.getSharedInstance().parseTemplate(
+            "on %{date,date:medium}"))
+        .addMessage("SIMPLE", "Hello %{name}, you have %{count} new messages.")
+        .addMessage("MAP", "%{count,0:'no files',1:'one file',2:'two files',<10:'a few files'," +
+            "<100:'%{count} files',:'many files'} in %{dir,empty:'the root directory',:'%{dir}'} " +
+            "%{hidden,true:'(including hidden files)',false:''}")
+        .addMessage("TEMPLATE", "%[user,name->owner,role->ownerRole] shared %{file} with " +
+            "%[user,name->guest,role->guestRole] %[date]")
+        .addMessage("POST", "%(case,'%{name} logged in',case:upper) and said " +
+            "%(clip,'%{text}',clip:24)")
+        .addMessage("LIST", "Participants: %{names}");
+  }
+
+
+  @Benchmark
+  public String formatSimple()
+  {
+    return messageSupport
+        .code("SIMPLE")
+        .with("name", "Alice")
+        .with("count", 42)
+        .format();
+  }
+
+
+  @Benchmark
+  public String formatMapHeavy()
+  {
+    return messageSupport
+        .code("MAP")
+        .with("count", 57)
+        .with("dir", "/var/log")
+        .with("hidden", true)
+        .format();
+  }
+
+
+  @Benchmark
+  public String formatTemplateHeavy()
+  {
+    return messageSupport
+        .code("TEMPLATE")
+        .with("owner", "Alice")
+        .with("ownerRole", "admin")
+        .with("guest", "Bob")
+        .with("file", "report.pdf")
+        .with("date", DATE)
+        .format();
+  }
+
+
+  @Benchmark
+  public String formatPostFormatter()
+  {
+    return messageSupport
+        .code("POST")
+        .with("name", "Carol")
+        .with("text", "a rather lengthy statement which will be clipped")
+        .format();
+  }
+
+
+  @Benchmark
+  public String formatCollection()
+  {
+    return messageSupport
+        .code("LIST")
+        .with("names", NAMES)
+        .format();
+  }
+}
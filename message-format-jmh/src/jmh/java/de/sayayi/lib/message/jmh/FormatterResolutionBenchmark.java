@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
+import de.sayayi.lib.message.part.MessagePart;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+
+
+/**
+ * Benchmarks for {@link GenericFormatterService#getFormatters(String, Class, MessagePart.Config)}.
+ * <p>
+ * The churn benchmark resolves more distinct types than the formatter cache can hold, so most lookups walk the type
+ * hierarchy.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatterResolutionBenchmark
+{
+  private static final Class<?>[] TYPES = {
+      String.class, Integer.class, Long.class, BigDecimal.class, Boolean.class, Character.class, LocalDate.class,
+      LocalDateTime.class, Instant.class, ZonedDateTime.class, Duration.class, UUID.class, URI.class, File.class,
+      Path.class, Locale.class, TimeZone.class, BitSet.class, ArrayList.class, HashMap.class, Optional.class,
+      AtomicInteger.class, AtomicLong.class, int[].class, byte[].class, Object[].class, Thread.State.class,
+      IllegalStateException.class, StringBuilder.class, Class.class, Currency.class, Object.class
+  };
+
+  private GenericFormatterService formatterService;
+  private GenericFormatterService smallCacheFormatterService;
+  private MessagePart.Config config;
+  private int index;
+
+
+  @Setup
+  public void setup()
+  {
+    formatterService = new DefaultFormatterService();
+    smallCacheFormatterService = new DefaultFormatterService(8);
+
+    final var parameter = (MessagePart.Parameter)new MessageFactory(PASS_THROUGH)
+        .parseMessage("%{n,number:'#,##0',scale:2}")
+        .getMessageParts()[0];
+
+    config = parameter.getConfig();
+  }
+
+
+  @Benchmark
+  public ParameterFormatter[] resolveType() {
+    return formatterService.getFormatters(null, Integer.class, null);
+  }
+
+
+  @Benchmark
+  public ParameterFormatter[] resolveNamedFormat() {
+    return formatterService.getFormatters("bool", Integer.class, null);
+  }
+
+
+  @Benchmark
+  public ParameterFormatter[] resolveConfigKey() {
+    return formatterService.getFormatters(null, Long.class, config);
+  }
+
+
+  @Benchmark
+  public ParameterFormatter[] resolveTypeChurn()
+  {
+    index = (index + 1) % TYPES.length;
+    return smallCacheFormatterService.getFormatters(null, TYPES[index], null);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.log4j.Log4jMessageFactory;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks measuring the overhead of the Log4j message factory compared to formatting the same message through
+ * {@link MessageSupport} directly. Log4j's own {@link ParameterizedMessage} is included as a reference.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Log4jBenchmark
+{
+  private static final String MESSAGE = "User %{p1} logged in from %{p2} (%{p3,0:'first login',>0:'%{p3} logins'})";
+
+  private MessageSupport messageSupport;
+  private Log4jMessageFactory log4jMessageFactory;
+
+
+  @Setup
+  public void setup()
+  {
+    messageSupport = FormatBenchmark.createMessageSupport();
+    log4jMessageFactory = new Log4jMessageFactory(messageSupport, true);
+  }
+
+
+  @Benchmark
+  public String messageSupport()
+  {
+    return messageSupport
+        .message(MESSAGE)
+        .with("p1", "alice")
+        .with("p2", "10.0.0.1")
+        .with("p3", 12)
+        .format();
+  }
+
+
+  @Benchmark
+  public String log4jMessageFactory() {
+    return log4jMessageFactory.newMessage(MESSAGE, "alice", "10.0.0.1", 12).getFormattedMessage();
+  }
+
+
+  @Benchmark
+  public String log4jParameterizedFallback() {
+    return log4jMessageFactory.newMessage("User {} logged in from {} ({} logins)", "alice", "10.0.0.1", 12)
+        .getFormattedMessage();
+  }
+
+
+  @Benchmark
+  public String log4jParameterizedMessage() {
+    return new ParameterizedMessage("User {} logged in from {} ({} logins)", "alice", "10.0.0.1", 12)
+        .getFormattedMessage();
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.normalizer.ConcurrentMessagePartNormalizer;
+import de.sayayi.lib.message.part.normalizer.InterningMessagePartNormalizer;
+import de.sayayi.lib.message.part.normalizer.LRUMessagePartNormalizer;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Thread scaling benchmarks for message part normalizers. All threads share a single message factory without
+ * message cache, so each invocation parses a message and normalizes all of its parts.
+ * <p>
+ * The {@code lru-locked} normalizer is an LRU normalizer guarded by a single lock, which is what message factories
+ * shared between threads had to use before concurrent normalizers were available. The {@code concurrent} normalizer
+ * is a {@link ConcurrentMessagePartNormalizer} and the {@code interning} normalizer is an
+ * {@link InterningMessagePartNormalizer}. The LRU and concurrent normalizers are large enough to hold all parts.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NormalizerBenchmark
+{
+  private static final int MESSAGE_COUNT = 256;
+  private static final int NORMALIZER_SIZE = 4096;
+
+  @Param({ "lru-locked", "concurrent", "interning" })
+  public String normalizer;
+
+  private final String[] messages = new String[MESSAGE_COUNT];
+
+  private MessageFactory messageFactory;
+
+
+  @Setup
+  public void setup()
+  {
+    // messages share most of their parts, differing in text and parameter names only
+    for(int n = 0; n < MESSAGE_COUNT; n++)
+    {
+      messages[n] = "Message " + (n & 15) + ": %{count" + (n >> 4) + ",0:'no files',1:'one file'," +
+          ":'%{count" + (n >> 4) + "} files'} in %{dir,empty:'<root>',:'%{dir}'} (%{level,number:'000'})";
+    }
+
+    messageFactory = new MessageFactory(switch(normalizer) {
+      case "lru-locked" -> new LockedNormalizer(LRUMessagePartNormalizer.create(NORMALIZER_SIZE));
+      case "concurrent" -> new ConcurrentMessagePartNormalizer(NORMALIZER_SIZE);
+      case "interning" -> new InterningMessagePartNormalizer();
+      default -> throw new IllegalArgumentException("unknown normalizer " + normalizer);
+    });
+
+    // pre-fill the normalizer, so the benchmark measures lookups of existing parts
+    for(var message: messages)
+      messageFactory.parseMessage(message);
+  }
+
+
+  private Message.WithSpaces parse(Counter counter) {
+    return messageFactory.parseMessage(messages[counter.next() & (MESSAGE_COUNT - 1)]);
+  }
+
+
+  @Benchmark
+  @Threads(1)
+  public Message.WithSpaces threads1(Counter counter) {
+    return parse(counter);
+  }
+
+
+  @Benchmark
+  @Threads(2)
+  public Message.WithSpaces threads2(Counter counter) {
+    return parse(counter);
+  }
+
+
+  @Benchmark
+  @Threads(4)
+  public Message.WithSpaces threads4(Counter counter) {
+    return parse(counter);
+  }
+
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Message.WithSpaces threadsMax(Counter counter) {
+    return parse(counter);
+  }
+
+
+
+
+  @State(Scope.Thread)
+  public static class Counter
+  {
+    private int value;
+
+
+    int next() {
+      return value++;
+    }
+  }
+
+
+
+
+  private static final class LockedNormalizer implements MessagePartNormalizer
+  {
+    private final MessagePartNormalizer delegate;
+
+
+    private LockedNormalizer(MessagePartNormalizer delegate) {
+      this.delegate = delegate;
+    }
+
+
+    @Override
+    public <T extends MessagePart> T normalize(T part)
+    {
+      synchronized(this) {
+        return delegate.normalize(part);
+      }
+    }
+  }
+}
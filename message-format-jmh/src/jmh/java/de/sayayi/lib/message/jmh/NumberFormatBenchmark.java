@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+
+
+/**
+ * Benchmarks for formatting {@code double} and {@link BigDecimal} values with a decimal format pattern.
+ * <p>
+ * The {@code newDecimalFormat} benchmarks create a decimal format for every value, which is what the number
+ * formatter did before number formats were cached. They serve as a baseline for the {@code format} benchmarks.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumberFormatBenchmark
+{
+  private static final double DOUBLE_VALUE = 31415.9265;
+  private static final BigDecimal BIG_DECIMAL_VALUE = new BigDecimal("27182.8182");
+
+  private MessageSupport messageSupport;
+
+
+  @Setup
+  public void setup()
+  {
+    messageSupport = MessageSupportFactory
+        .create(DefaultFormatterService.getSharedInstance(), new MessageFactory(PASS_THROUGH))
+        .setLocale(Locale.GERMANY)
+        .addMessage("NUMBER", "%{n,number:'0.00'}");
+  }
+
+
+  @Benchmark
+  public String formatDouble() {
+    return messageSupport.code("NUMBER").with("n", DOUBLE_VALUE).format();
+  }
+
+
+  @Benchmark
+  public String formatBigDecimal() {
+    return messageSupport.code("NUMBER").with("n", BIG_DECIMAL_VALUE).format();
+  }
+
+
+  @Benchmark
+  public String newDecimalFormatDouble() {
+    return new DecimalFormat("0.00", DecimalFormatSymbols.getInstance(Locale.GERMANY)).format(DOUBLE_VALUE);
+  }
+
+
+  @Benchmark
+  public String newDecimalFormatBigDecimal() {
+    return new DecimalFormat("0.00", DecimalFormatSymbols.getInstance(Locale.GERMANY)).format(BIG_DECIMAL_VALUE);
+  }
+}
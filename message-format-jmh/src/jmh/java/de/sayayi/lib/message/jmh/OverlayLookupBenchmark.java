@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmark comparing message lookups in overlay message supports with lookups in flat and frozen message
+ * supports.
+ * <p>
+ * The base message support contains {@code baseMessageCount} messages; the overlay overrides {@code overrides} of
+ * them, evenly distributed. The flat message support contains the same messages as the overlay, without
+ * delegation. Each invocation looks up a single message code.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OverlayLookupBenchmark
+{
+  private static final int CODE_COUNT = 4096;
+
+  @Param({ "50000" })
+  public int baseMessageCount;
+
+  @Param({ "50" })
+  public int overrides;
+
+  private MessageSupport.MessageAccessor flat;
+  private MessageSupport.MessageAccessor frozen;
+  private MessageSupport.MessageAccessor overlay;
+  private MessageSupport.MessageAccessor overlayOnFrozen;
+  private String[] codes;
+
+
+  @Setup
+  public void setup()
+  {
+    final var base = createMessageSupport();
+    addMessages(base, baseMessageCount, 1, "base");
+
+    final var frozenBase = base.freeze();
+    final var overrideStep = Math.max(baseMessageCount / Math.max(overrides, 1), 1);
+
+    final var overlaySupport = MessageSupportFactory.createOverlay(base.seal());
+    addMessages(overlaySupport, overrides, overrideStep, "tenant");
+
+    final var overlayOnFrozenSupport = MessageSupportFactory.createOverlay(frozenBase);
+    addMessages(overlayOnFrozenSupport, overrides, overrideStep, "tenant");
+
+    final var flatSupport = createMessageSupport().setMessageFilter(message -> true);
+    addMessages(flatSupport, baseMessageCount, 1, "base");
+    addMessages(flatSupport, overrides, overrideStep, "tenant");
+
+    flat = flatSupport.getMessageAccessor();
+    frozen = frozenBase.getMessageAccessor();
+    overlay = overlaySupport.getMessageAccessor();
+    overlayOnFrozen = overlayOnFrozenSupport.getMessageAccessor();
+
+    codes = new String[CODE_COUNT];
+    for(int n = 0; n < CODE_COUNT; n++)
+      codes[n] = code((int)((n * 2654435761L) % baseMessageCount));
+  }
+
+
+  private static ConfigurableMessageSupport createMessageSupport() {
+    return MessageSupportFactory.create(new GenericFormatterService());
+  }
+
+
+  private static void addMessages(ConfigurableMessageSupport messageSupport, int count, int step, String text)
+  {
+    final var messageFactory = messageSupport.getMessageAccessor().getMessageFactory();
+    final var message = messageFactory.parseMessage(text + " %{n}");
+
+    for(int n = 0; n < count; n++)
+      messageSupport.addMessage(messageFactory.withCode(code(n * step), message));
+  }
+
+
+  private static String code(int n) {
+    return String.format("MSG-%07d", n);
+  }
+
+
+  @Benchmark
+  public Message.WithCode flat(Cursor cursor) {
+    return flat.getMessageByCode(codes[cursor.next()]);
+  }
+
+
+  @Benchmark
+  public Message.WithCode frozen(Cursor cursor) {
+    return frozen.getMessageByCode(codes[cursor.next()]);
+  }
+
+
+  @Benchmark
+  public Message.WithCode overlay(Cursor cursor) {
+    return overlay.getMessageByCode(codes[cursor.next()]);
+  }
+
+
+  @Benchmark
+  public Message.WithCode overlayOnFrozen(Cursor cursor) {
+    return overlayOnFrozen.getMessageByCode(codes[cursor.next()]);
+  }
+
+
+
+
+  @State(Scope.Thread)
+  public static class Cursor
+  {
+    private int index;
+
+
+    int next() {
+      return index = (index + 1) & (CODE_COUNT - 1);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.util.MessageUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+
+
+/**
+ * Benchmarks for exporting and importing message packs of different catalog sizes.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PackBenchmark
+{
+  @Param({ "100", "1000", "10000" })
+  public int catalogSize;
+
+  @Param({ "false", "true" })
+  public boolean compress;
+
+  private List<Message.WithCode> messages;
+  private Map<String,Message.WithSpaces> templates;
+  private ByteArrayOutputStream exportStream;
+  private byte[] pack;
+
+
+  @Setup
+  public void setup() throws IOException
+  {
+    final var messageFactory = new MessageFactory(PASS_THROUGH);
+
+    messages = createMessages(messageFactory, catalogSize);
+    templates = createTemplates(messageFactory);
+
+    exportStream = new ByteArrayOutputStream(catalogSize * 64);
+    MessageUtil.exportMessages(exportStream, compress, messages, templates);
+    pack = exportStream.toByteArray();
+  }
+
+
+  static List<Message.WithCode> createMessages(MessageFactory messageFactory, int catalogSize)
+  {
+    final var messages = new ArrayList<Message.WithCode>(catalogSize);
+
+    for(int n = 0; n < catalogSize; n++)
+    {
+      messages.add(messageFactory.parseMessage("MSG-" + n, switch(n % 4) {
+        case 0 -> "Message " + n + " for %{user}";
+        case 1 -> "Found %{count,0:'no entries',1:'one entry',:'%{count} entries'} in table " + n;
+        case 2 -> "Record " + n + " was %[action] %{date,date:short}";
+        default -> "%(clip,'Message " + n + ": %{text}',clip:40) (%{level,number:'000'})";
+      }));
+    }
+
+    return messages;
+  }
+
+
+  static Map<String,Message.WithSpaces> createTemplates(MessageFactory messageFactory) {
+    return Map.of("action", messageFactory.parseTemplate("%{action,null:'modified',:'%{action}'}"));
+  }
+
+
+  @Benchmark
+  public int exportPack() throws IOException
+  {
+    exportStream.reset();
+    MessageUtil.exportMessages(exportStream, compress, messages, templates);
+
+    return exportStream.size();
+  }
+
+
+  @Benchmark
+  public void importPack(Blackhole blackhole) throws IOException
+  {
+    MessageUtil.importMessages(new ByteArrayInputStream(pack), blackhole::consume,
+        (name, template) -> blackhole.consume(template));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmark for exporting large message catalogs, where many messages share the same message parts.
+ * <p>
+ * The pack is written to a counting output stream, so the score reflects the export itself. The heap used for
+ * writing the pack is reported by the {@code gc} profiler.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PackExportBenchmark
+{
+  @Param({ "100000", "1000000" })
+  public int messageCount;
+
+  @Param({ "false", "true" })
+  public boolean compress;
+
+  private ConfigurableMessageSupport messageSupport;
+
+
+  @Setup
+  public void setup()
+  {
+    messageSupport = MessageSupportFactory.create(new GenericFormatterService());
+
+    final var messageFactory = messageSupport.getMessageAccessor().getMessageFactory();
+    final var messages = new Message[] {
+        messageFactory.parseMessage("Message %{n} using template %[tpl-a]"),
+        messageFactory.parseMessage("%{n,>0:'positive %[tpl-b]',<0:'negative',:'zero'}"),
+        messageFactory.parseMessage("%{s,empty:'nothing',null:'-',:'%{s,clip-size:20}'} done"),
+        messageFactory.parseMessage("Plain text message")
+    };
+
+    messageSupport.addTemplate("tpl-a", messageFactory.parseTemplate("template a"));
+    messageSupport.addTemplate("tpl-b", messageFactory.parseTemplate("template %{n}"));
+
+    for(int n = 0; n < messageCount; n++)
+      messageSupport.addMessage(messageFactory.withCode(String.format("MSG-%07d", n), messages[n % messages.length]));
+  }
+
+
+  @Benchmark
+  public long exportPack() throws IOException
+  {
+    final var stream = new CountingOutputStream();
+
+    messageSupport.exportMessages(stream, compress, null);
+
+    return stream.size;
+  }
+
+
+
+
+  private static final class CountingOutputStream extends OutputStream
+  {
+    private long size;
+
+
+    @Override
+    public void write(int b) {
+      size++;
+    }
+
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      size += len;
+    }
+  }
+}
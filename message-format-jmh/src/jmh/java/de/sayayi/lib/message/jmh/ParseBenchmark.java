@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+
+
+/**
+ * Benchmarks for {@link MessageFactory#parseMessage(String)}.
+ * <p>
+ * All benchmarks cycle through the same set of {@value #MESSAGE_COUNT} distinct message format strings. The cache
+ * hit benchmark uses a message cache large enough to hold all messages, whereas the cache miss benchmark uses a cache
+ * which is smaller than the set of messages, so every lookup misses and evicts the least recently used message.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParseBenchmark
+{
+  static final int MESSAGE_COUNT = 64;
+
+  private final String[] messages = new String[MESSAGE_COUNT];
+
+  private MessageFactory uncachedFactory;
+  private MessageFactory cacheHitFactory;
+  private MessageFactory cacheMissFactory;
+  private int index;
+
+
+  @Setup
+  public void setup()
+  {
+    for(int n = 0; n < MESSAGE_COUNT; n++)
+    {
+      messages[n] = "Message " + n + ": %{count,0:'no files',1:'one file',:'%{count} files'} in directory " +
+          "%{dir,empty:'<root>',:'%{dir}'} modified %{date,date:short}";
+    }
+
+    uncachedFactory = new MessageFactory(PASS_THROUGH, 0);
+    cacheHitFactory = new MessageFactory(PASS_THROUGH, MESSAGE_COUNT * 2);
+    cacheMissFactory = new MessageFactory(PASS_THROUGH, MESSAGE_COUNT / 4);
+
+    // pre-fill the cache so the hit benchmark never parses
+    for(var message: messages)
+      cacheHitFactory.parseMessage(message);
+  }
+
+
+  private String nextMessage() {
+    return messages[index++ & (MESSAGE_COUNT - 1)];
+  }
+
+
+  @Benchmark
+  public Message.WithSpaces parseUncached() {
+    return uncachedFactory.parseMessage(nextMessage());
+  }
+
+
+  @Benchmark
+  public Message.WithSpaces parseCacheHit() {
+    return cacheHitFactory.parseMessage(nextMessage());
+  }
+
+
+  @Benchmark
+  public Message.WithSpaces parseCacheMiss() {
+    return cacheMissFactory.parseMessage(nextMessage());
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import de.sayayi.lib.message.workload.Workload;
+import de.sayayi.lib.message.workload.WorkloadRecorder;
+import de.sayayi.lib.message.workload.WorkloadReplay;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static de.sayayi.lib.message.jmh.FormatBenchmark.DATE;
+import static de.sayayi.lib.message.jmh.FormatBenchmark.NAMES;
+
+
+/**
+ * Benchmark replaying a captured workload, one format call per invocation.
+ * <p>
+ * The workload log and message pack are selected with {@code -p workloadFile=...} and {@code -p packFile=...};
+ * multiple pack files are separated by {@code ,}. Without a workload log, a synthetic workload based on the
+ * messages of {@link FormatBenchmark} is replayed. Use {@code -t} to replay the workload with multiple threads.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReplayBenchmark
+{
+  @Param({ "" })
+  public String workloadFile;
+
+  @Param({ "" })
+  public String packFile;
+
+  private WorkloadReplay replay;
+
+
+  @Setup
+  public void setup() throws IOException
+  {
+    if (workloadFile.isEmpty())
+    {
+      final var messageSupport = FormatBenchmark.createMessageSupport();
+      replay = new WorkloadReplay(messageSupport, recordSyntheticWorkload());
+    }
+    else
+    {
+      final var messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+      if (!packFile.isEmpty())
+        for(var pack: packFile.split(","))
+          messageSupport.importMessages(new BufferedInputStream(Files.newInputStream(Path.of(pack.trim()))));
+
+      replay = new WorkloadReplay(messageSupport, Workload.read(Path.of(workloadFile)));
+    }
+  }
+
+
+  private static Workload recordSyntheticWorkload() throws IOException
+  {
+    final var messageSupport = FormatBenchmark.createMessageSupport();
+    final var log = new ByteArrayOutputStream();
+
+    try(var recorder = new WorkloadRecorder(log)) {
+      messageSupport.setWorkloadRecorder(recorder);
+
+      for(int n = 0; n < 100; n++)
+      {
+        final var name = NAMES.get(n % NAMES.size());
+
+        switch(n % 5) {
+          case 0, 1 -> messageSupport.code("SIMPLE").with("name", name).with("count", n).format();
+          case 2 -> messageSupport.code("MAP").with("count", n).with("dir", n % 3 == 0 ? "" : "/var/log")
+              .with("hidden", n % 2 == 0).format();
+          case 3 -> messageSupport.code("TEMPLATE").with("owner", name).with("ownerRole", "admin")
+              .with("guest", "Bob").with("file", "report.pdf").with("date", DATE).format();
+          default -> messageSupport.code("LIST").with("names", NAMES.subList(0, 1 + n % NAMES.size())).format();
+        }
+      }
+    }
+
+    return Workload.read(new ByteArrayInputStream(log.toByteArray()));
+  }
+
+
+  @Benchmark
+  public String replay(Cursor cursor) {
+    return replay.format(cursor.next(replay.size()));
+  }
+
+
+
+
+  @State(Scope.Thread)
+  public static class Cursor
+  {
+    private int index;
+
+
+    int next(int size)
+    {
+      final var next = index;
+      index = next + 1 == size ? 0 : next + 1;
+
+      return next;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageSupport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Thread scaling benchmarks. All threads share a single {@link MessageSupport} instance, including its message cache
+ * and formatter cache, and format a mix of registered messages and messages parsed through the message cache.
+ * <p>
+ * The benchmarks only differ in the number of threads, so the throughput reported for each thread count shows how
+ * well the shared caches scale.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScalingBenchmark
+{
+  private MessageSupport messageSupport;
+
+
+  @Setup
+  public void setup() {
+    messageSupport = FormatBenchmark.createMessageSupport();
+  }
+
+
+  private String format(Counter counter)
+  {
+    final var n = counter.next();
+
+    return (n & 1) == 0
+        ? messageSupport
+            .code("MAP")
+            .with("count", n & 127)
+            .with("dir", "/tmp")
+            .format()
+        : messageSupport
+            .message("Processed %{count,0:'nothing',1:'one item',>1:'%{count} items'} for %{name}")
+            .with("count", n & 3)
+            .with("name", "worker")
+            .format();
+  }
+
+
+  @Benchmark
+  @Threads(1)
+  public String threads1(Counter counter) {
+    return format(counter);
+  }
+
+
+  @Benchmark
+  @Threads(2)
+  public String threads2(Counter counter) {
+    return format(counter);
+  }
+
+
+  @Benchmark
+  @Threads(4)
+  public String threads4(Counter counter) {
+    return format(counter);
+  }
+
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String threadsMax(Counter counter) {
+    return format(counter);
+  }
+
+
+
+
+  @State(Scope.Thread)
+  public static class Counter
+  {
+    private int value;
+
+
+    int next() {
+      return value++;
+    }
+  }
+}
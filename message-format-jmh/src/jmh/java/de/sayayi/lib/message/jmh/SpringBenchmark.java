@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.spring.MessageSupportMessageSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks measuring the overhead of the Spring message source adapter compared to formatting the same message
+ * through {@link MessageSupport} directly.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpringBenchmark
+{
+  private static final Object[] ARGS = { "Alice", 42 };
+
+  private MessageSupport messageSupport;
+  private MessageSource messageSource;
+  private DefaultMessageSourceResolvable resolvable;
+
+
+  @Setup
+  public void setup()
+  {
+    messageSupport = FormatBenchmark.createMessageSupport()
+        .addMessage("SPRING", "Hello %{p1}, you have %{p2} new messages.");
+    messageSource = new MessageSupportMessageSource(messageSupport);
+    resolvable = new DefaultMessageSourceResolvable(new String[] { "UNKNOWN", "SPRING" }, ARGS);
+  }
+
+
+  @Benchmark
+  public String messageSupport()
+  {
+    return messageSupport
+        .code("SPRING")
+        .with("p1", "Alice")
+        .with("p2", 42)
+        .locale(Locale.UK)
+        .format();
+  }
+
+
+  @Benchmark
+  public String messageSource() {
+    return messageSource.getMessage("SPRING", ARGS, Locale.UK);
+  }
+
+
+  @Benchmark
+  public String messageSourceResolvable() {
+    return messageSource.getMessage(resolvable, Locale.UK);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.jmh;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.time.format.DateTimeFormatter.ofLocalizedDateTime;
+import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.time.format.FormatStyle.MEDIUM;
+
+
+/**
+ * Benchmarks for formatting {@link Instant} and {@link LocalDateTime} values in the default medium style and with a
+ * custom pattern.
+ * <p>
+ * The {@code resolve} benchmarks derive a date/time formatter for every value, which is what the temporal formatter
+ * did before date/time formatters were cached. They serve as a baseline for the {@code format} benchmarks.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemporalFormatBenchmark
+{
+  private static final Instant INSTANT = Instant.parse("2026-03-14T09:26:53Z");
+  private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of(2026, 3, 14, 9, 26, 53);
+
+  private MessageSupport messageSupport;
+
+
+  @Setup
+  public void setup()
+  {
+    messageSupport = MessageSupportFactory
+        .create(DefaultFormatterService.getSharedInstance(), new MessageFactory(PASS_THROUGH))
+        .setLocale(Locale.UK)
+        .addMessage("MEDIUM", "%{t}")
+        .addMessage("PATTERN", "%{t,date:'yyyy-MM-dd HH:mm'}");
+  }
+
+
+  @Benchmark
+  public String formatInstantMedium() {
+    return messageSupport.code("MEDIUM").with("t", INSTANT).format();
+  }
+
+
+  @Benchmark
+  public String formatLocalDateTimeMedium() {
+    return messageSupport.code("MEDIUM").with("t", LOCAL_DATE_TIME).format();
+  }
+
+
+  @Benchmark
+  public String formatLocalDateTimePattern() {
+    return messageSupport.code("PATTERN").with("t", LOCAL_DATE_TIME).format();
+  }
+
+
+  @Benchmark
+  public String resolveLocalDateTimeMedium()
+  {
+    return ofLocalizedDateTime(MEDIUM, MEDIUM)
+        .withZone(ZoneId.systemDefault())
+        .withLocale(Locale.UK)
+        .format(LOCAL_DATE_TIME);
+  }
+
+
+  @Benchmark
+  public String resolveLocalDateTimePattern()
+  {
+    return ofPattern("yyyy-MM-dd HH:mm")
+        .withZone(ZoneId.systemDefault())
+        .withLocale(Locale.UK)
+        .format(LOCAL_DATE_TIME);
+  }
+}
@@ -16,11 +16,15 @@
 package de.sayayi.lib.message;
 
 import de.sayayi.lib.message.exception.MessageParserException;
+import de.sayayi.lib.message.internal.CompoundMessage;
 import de.sayayi.lib.message.internal.EmptyMessage;
 import de.sayayi.lib.message.internal.EmptyMessageWithCode;
+import de.sayayi.lib.message.internal.FingerprintAware;
 import de.sayayi.lib.message.internal.LocalizedMessageBundleWithCode;
 import de.sayayi.lib.message.internal.MessageDelegateWithCode;
 import de.sayayi.lib.message.internal.parser.MessageCompiler;
+import de.sayayi.lib.message.metrics.MessageMetrics;
+import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
 import org.intellij.lang.annotations.Language;
 import org.jetbrains.annotations.Contract;
@@ -33,6 +37,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static de.sayayi.lib.message.metrics.MessageMetrics.Cache.MESSAGE;
+import static de.sayayi.lib.message.metrics.MessageMetrics.DISABLED;
 import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
 import static java.util.Locale.ROOT;
 import static java.util.Objects.requireNonNull;
@@ -73,12 +79,25 @@ public class MessageFactory
   private static final SecureRandom RANDOM = new SecureRandom();
   private static final AtomicInteger CODE_ID = new AtomicInteger();
 
+  /**
+   * Names of the configuration values which are interpreted as messages by the built-in parameter formatters.
+   *
+   * @see #setMessageConfigNames(Set)
+   *
+   * @since 0.24.0
+   */
+  public static final Set<String> DEFAULT_MESSAGE_CONFIG_NAMES = Set.of("list-value", "map-kv");
+
   private final @NotNull MessagePartNormalizer messagePartNormalizer;
   final MessageCompiler messageCompiler;
 
   private final @Nullable Map<String,Message.WithSpaces> messageCache;
   private final @Nullable Lock messageCacheLock;
 
+  private @NotNull MessageMetrics metrics = DISABLED;
+  private boolean preParseStringValues;
+  private @NotNull Set<String> messageConfigNames = DEFAULT_MESSAGE_CONFIG_NAMES;
+
 
   /**
    * Returns the shared {@code MessageFactory} singleton instance, creating it on first access.
@@ -139,8 +158,15 @@ public class MessageFactory
     {
       messageCache = new LinkedHashMap<>(32, 0.75f, true) {
         @Override
-        protected boolean removeEldestEntry(Map.Entry<String,Message.WithSpaces> eldest) {
-          return size() > messageCacheSize;
+        protected boolean removeEldestEntry(Map.Entry<String,Message.WithSpaces> eldest)
+        {
+          if (size() <= messageCacheSize)
+            return false;
+
+          if (metrics != DISABLED)
+            metrics.cacheEviction(MESSAGE);
+
+          return true;
         }
       };
       messageCacheLock = new ReentrantLock();
@@ -153,6 +179,40 @@ public class MessageFactory
   }
 
 
+  private MessageFactory(@NotNull MessageFactory messageFactory, @NotNull MessagePartNormalizer messagePartNormalizer)
+  {
+    this.messagePartNormalizer = messagePartNormalizer;
+    messageCompiler = new MessageCompiler(this);
+
+    messageCache = messageFactory.messageCache;
+    messageCacheLock = messageFactory.messageCacheLock;
+    metrics = messageFactory.metrics;
+    preParseStringValues = messageFactory.preParseStringValues;
+    messageConfigNames = messageFactory.messageConfigNames;
+  }
+
+
+  /**
+   * Returns a new message factory which uses the given {@code messagePartNormalizer} and carries all other settings
+   * of this factory: the message cache, metrics, {@linkplain #isPreParseStringValues() pre-parsing} and the
+   * {@linkplain #getMessageConfigNames() message configuration names}.
+   * <p>
+   * The message cache is shared by both factories, so {@code messagePartNormalizer} is expected to normalize message
+   * parts the same way the normalizer of this factory does, e.g. by wrapping it. Settings changed afterwards are not
+   * propagated between the factories.
+   *
+   * @param messagePartNormalizer  message part normalizer instance, never {@code null}
+   *
+   * @return  new message factory, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public @NotNull MessageFactory withMessagePartNormalizer(@NotNull MessagePartNormalizer messagePartNormalizer) {
+    return new MessageFactory(this, requireNonNull(messagePartNormalizer, "messagePartNormalizer must not be null"));
+  }
+
+
   /**
    * Returns the message part normalizer instance.
    *
@@ -164,6 +224,104 @@ public class MessageFactory
   }
 
 
+  /**
+   * Returns the metrics instance this factory reports to.
+   *
+   * @return  metrics instance, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull MessageMetrics getMetrics() {
+    return metrics;
+  }
+
+
+  /**
+   * Sets the metrics instance this factory reports parse times, message cache statistics and normalizer statistics
+   * to. The metrics instance should be set before the factory is used by multiple threads.
+   *
+   * @param metrics  metrics instance, or {@link MessageMetrics#DISABLED} to disable instrumentation,
+   *                 not {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "this")
+  public void setMetrics(@NotNull MessageMetrics metrics) {
+    this.metrics = requireNonNull(metrics, "metrics must not be null");
+  }
+
+
+  /**
+   * Tells whether string values which are used as messages are parsed when a message is created.
+   *
+   * @return  {@code true} if string values are pre-parsed, {@code false} if they are parsed on first use
+   *
+   * @see #setPreParseStringValues(boolean)
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public boolean isPreParseStringValues() {
+    return preParseStringValues;
+  }
+
+
+  /**
+   * Sets whether string values which are used as messages are parsed when a message is created.
+   * <p>
+   * Unquoted map values (e.g. {@code 1:one}) and string values of the {@linkplain #getMessageConfigNames()
+   * message configuration names} are parsed into a message the first time they are formatted. If pre-parsing is
+   * enabled, these strings are parsed when the message is parsed, built or imported from a message pack instead, so
+   * formatting never has to parse them. Messages exported to a message pack contain the parsed messages.
+   * <p>
+   * This option should be set before the factory is used by multiple threads.
+   *
+   * @param preParseStringValues  {@code true} to parse string values when a message is created,
+   *                              {@code false} to parse them on first use
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "this")
+  public void setPreParseStringValues(boolean preParseStringValues) {
+    this.preParseStringValues = preParseStringValues;
+  }
+
+
+  /**
+   * Returns the names of the configuration values which are pre-parsed into messages.
+   *
+   * @return  unmodifiable set of configuration names, never {@code null}
+   *
+   * @see #setPreParseStringValues(boolean)
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull Set<String> getMessageConfigNames() {
+    return messageConfigNames;
+  }
+
+
+  /**
+   * Sets the names of the configuration values which are pre-parsed into messages, if
+   * {@linkplain #setPreParseStringValues(boolean) pre-parsing} is enabled. Only configuration values which are
+   * accessed as a message by the parameter formatters must be listed here.
+   * <p>
+   * This option should be set before the factory is used by multiple threads.
+   *
+   * @param messageConfigNames  configuration names, not {@code null}
+   *
+   * @see #DEFAULT_MESSAGE_CONFIG_NAMES
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "this")
+  public void setMessageConfigNames(@NotNull Set<String> messageConfigNames) {
+    this.messageConfigNames = Set.copyOf(requireNonNull(messageConfigNames, "messageConfigNames must not be null"));
+  }
+
+
   /**
    * Creates a new {@link MessageBuilder} bound to this factory instance.
    * <p>
@@ -201,6 +359,19 @@ public class MessageFactory
 
     messageCacheLock.lock();
     try {
+      if (metrics != DISABLED)
+      {
+        //noinspection DataFlowIssue
+        final var message = messageCache.get(text);
+        if (message != null)
+        {
+          metrics.cacheHit(MESSAGE);
+          return message;
+        }
+
+        metrics.cacheMiss(MESSAGE);
+      }
+
       //noinspection DataFlowIssue
       return messageCache.computeIfAbsent(text, messageCompiler::compileMessage);
     }
@@ -382,6 +553,29 @@ public class MessageFactory
   }
 
 
+  /**
+   * Returns a {@link Message.WithCode} with the specified {@code code}, combining the given localized messages. The
+   * resulting message selects the best matching localized message at format time.
+   * <p>
+   * This method does not parse any message format; it is intended for messages which have been constructed
+   * programmatically, e.g. using a {@link #messageBuilder() message builder}.
+   *
+   * @param code               message code, not {@code null} and not empty
+   * @param localizedMessages  a map containing messages, keyed by locale, not {@code null}
+   *
+   * @return  message with code, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(value = "_, _ -> new", pure = true)
+  public @NotNull Message.WithCode withCode(@NotNull String code, @NotNull Map<Locale,Message> localizedMessages)
+  {
+    return requireNonNull(localizedMessages, "localizedMessages must not be null").isEmpty()
+        ? new EmptyMessageWithCode(code)
+        : new LocalizedMessageBundleWithCode(code, localizedMessages);
+  }
+
+
   /**
    * Generates a unique message or template code with the given {@code prefix}. The resulting code has the form
    * <code>PREFIX[...]</code> (e.g. {@code MSG[1A2B3C4D5E-XXXXX]}) and can be recognized by {@link #isGeneratedCode(String)}.
@@ -461,9 +655,24 @@ public class MessageFactory
     final var la1 = m1 instanceof Message.LocaleAware;
     final var la2 = m2 instanceof Message.LocaleAware;
 
-    return la1 && la2
-        ? isSame((Message.LocaleAware)m1, (Message.LocaleAware)m2)
-        : !la1 && !la2 && Arrays.equals(m1.getMessageParts(), m2.getMessageParts());
+    if (la1 || la2)
+      return la1 && la2 && isSame((Message.LocaleAware)m1, (Message.LocaleAware)m2);
+
+    // messages with different fingerprints never have identical message parts
+    if (m1 instanceof FingerprintAware f1 && m2 instanceof FingerprintAware f2 &&
+        f1.getFingerprint() != f2.getFingerprint())
+      return false;
+
+    return Arrays.equals(getMessageParts(m1), getMessageParts(m2));
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull MessagePart[] getMessageParts(@NotNull Message message)
+  {
+    return message instanceof CompoundMessage compoundMessage
+        ? compoundMessage.getMessagePartsNoCopy()
+        : message.getMessageParts();
   }
 
 
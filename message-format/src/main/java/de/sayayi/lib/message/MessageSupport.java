@@ -17,12 +17,20 @@ package de.sayayi.lib.message;
 
 import de.sayayi.lib.message.exception.DuplicateMessageException;
 import de.sayayi.lib.message.exception.DuplicateTemplateException;
+import de.sayayi.lib.message.exception.MessageException;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
 import de.sayayi.lib.message.formatter.post.PostFormatter;
 import de.sayayi.lib.message.internal.MessageSupportImpl;
+import de.sayayi.lib.message.internal.MessageWarmUp;
+import de.sayayi.lib.message.metrics.MessageMetrics;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
+import de.sayayi.lib.message.trace.FormatTrace;
 import de.sayayi.lib.message.util.MessageUtil;
+import de.sayayi.lib.message.warmup.WarmUpProfile;
+import de.sayayi.lib.message.warmup.WarmUpProfileRecorder;
+import de.sayayi.lib.message.workload.WorkloadRecorder;
 import org.intellij.lang.annotations.Language;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -39,6 +47,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static java.util.Locale.forLanguageTag;
+import static java.util.Objects.requireNonNull;
 
 
 /**
@@ -62,7 +71,8 @@ import static java.util.Locale.forLanguageTag;
  * or obtained via {@link MessageSupportFactory#shared() MessageSupportFactory.shared()}. The
  * factory returns a {@link ConfigurableMessageSupport} which can be
  * {@linkplain ConfigurableMessageSupport#seal() sealed} to produce an immutable
- * {@code MessageSupport}.
+ * {@code MessageSupport} or {@linkplain ConfigurableMessageSupport#freeze() frozen} to produce
+ * an immutable, read-optimized snapshot.
  * <p>
  * This interface also defines several nested types:
  * <ul>
@@ -86,6 +96,9 @@ public interface MessageSupport
 {
   /**
    * Returns the message accessor instance.
+   * <p>
+   * The accessor reflects the messages and templates which are current at the time of invocation. After a
+   * {@linkplain ConfigurableMessageSupport#reload(CatalogLoader) reload} a new accessor is returned.
    *
    * @return  message accessor, never {@code null}
    */
@@ -129,6 +142,69 @@ public interface MessageSupport
   <M extends Message> @NotNull MessageConfigurer<M> message(@NotNull M message);
 
 
+  /**
+   * Formats the given {@code message} using the given {@code parameters}.
+   * <p>
+   * The message is formatted in the same way as by {@link MessageConfigurer#format()}, so metrics, flight recorder
+   * events and recorders configured for this message support apply. This method is intended for code passing
+   * prepared parameters, e.g. parameters bound by {@link ParameterSlots}.
+   * <p>
+   * The default implementation formats the message using the {@linkplain #getMessageAccessor() message accessor}
+   * of this message support.
+   *
+   * @param message     message, not {@code null}
+   * @param parameters  message parameters, not {@code null}
+   *
+   * @return  formatted message, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  default @NotNull String format(@NotNull Message message, @NotNull Message.Parameters parameters) {
+    return message.format(getMessageAccessor(), parameters);
+  }
+
+
+  /**
+   * Performs the lazy initialization for all messages listed in the given warm-up {@code profile}, so that the
+   * first format calls after an application start do not pay for it.
+   * <p>
+   * For each profile entry, string values used as messages are parsed, parameter formatters are resolved for the
+   * profiled parameter types and the message is formatted once with representative parameter values. Messages
+   * formatted during warm-up are not reported to metrics or recorders.
+   *
+   * @param profile  warm-up profile, not {@code null}
+   *
+   * @return  number of profile entries for which a message was found
+   *
+   * @since 0.24.0
+   *
+   * @see WarmUpProfileRecorder
+   */
+  default int warmUp(@NotNull WarmUpProfile profile) {
+    return MessageWarmUp.warmUp(getMessageAccessor(), requireNonNull(profile, "profile must not be null"));
+  }
+
+
+  /**
+   * Performs the lazy initialization for the messages identified by {@code codes}, formatted with the default
+   * locale and parameter values of the given types.
+   *
+   * @param codes           message codes, not {@code null}
+   * @param parameterTypes  representative parameter types by parameter name, not {@code null}. Parameters not
+   *                        used by a message are ignored
+   *
+   * @return  number of codes for which a message was found
+   *
+   * @since 0.24.0
+   *
+   * @see #warmUp(WarmUpProfile)
+   */
+  default int warmUp(@NotNull Collection<String> codes, @NotNull Map<String,Class<?>> parameterTypes) {
+    return warmUp(WarmUpProfile.of(codes, parameterTypes));
+  }
+
+
   /**
    * Export all messages and templates from this message support to a compact binary representation.
    * This way a message support can be prepared once and loaded very quickly by importing the packed
@@ -153,6 +229,11 @@ public interface MessageSupport
    * Parameter {@code compress} switches GZip on/off, potentially reducing the packed size even
    * more. For message support instances with a small amount of messages the compression may not be
    * substantial as the binary representation does some extensive bit-packing already.
+   * <p>
+   * Messages are streamed in message code order. The number of exported messages is not limited.
+   * Packs with no more than 65535 messages and templates are written in the pack format understood
+   * by earlier library versions; larger packs use a newer format which can only be imported by
+   * library version 0.24.0 or later.
    *
    * @param stream             pack output stream, not {@code null}
    * @param compress           {@code true} compress pack, {@code false} do not compress pack
@@ -424,6 +505,22 @@ public interface MessageSupport
     @NotNull String format();
 
 
+    /**
+     * Formats the message and records how the message has been evaluated.
+     * <p>
+     * The returned trace contains the formatted message along with a tree of all evaluated parameters, the
+     * parameter formatters invoked for each parameter value, map key matching decisions, templates and post
+     * formatters, each with the time spent. Tracing only affects the current invocation; formatting messages
+     * without tracing is not slowed down.
+     *
+     * @return  format trace, never {@code null}
+     *
+     * @since 0.24.0
+     */
+    @Contract(pure = true)
+    @NotNull FormatTrace formatWithTrace();
+
+
     /**
      * Returns a supplier capable of formatting the message.
      * <p>
@@ -570,6 +667,18 @@ public interface MessageSupport
     @NotNull ConfigurableMessageSupport addMessage(@NotNull Message.WithCode message);
 
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return  configurable message support instance, never {@code null}
+     *
+     * @since 0.24.0
+     */
+    @Override
+    @Contract(value = "_ -> this", mutates = "this")
+    @NotNull ConfigurableMessageSupport addMessages(@NotNull Collection<Message.WithCode> messages);
+
+
     /**
      * {@inheritDoc}
      *
@@ -602,6 +711,10 @@ public interface MessageSupport
      * support instance. The {@code packStream} is validated and all entries are iterated. Each
      * message and template found is added to this instance.
      * <p>
+     * The unpacked message parts are normalized using the
+     * {@linkplain MessageFactory#getMessagePartNormalizer() message part normalizer} of this instance's message
+     * factory.
+     * <p>
      * The {@code packStream} is closed when this method returns, regardless of whether the
      * import was successful or not.
      *
@@ -611,12 +724,13 @@ public interface MessageSupport
      *
      * @throws IOException  if an I/O error occurs or the pack stream is invalid
      *
-     * @see MessageUtil#importMessages(InputStream, Consumer, BiConsumer)
+     * @see MessageUtil#importMessages(InputStream, MessagePartNormalizer, Consumer, BiConsumer)
      */
     @Contract(value = "_ -> this", mutates = "this,param1,io")
     default @NotNull ConfigurableMessageSupport importMessages(@NotNull InputStream packStream) throws IOException
     {
-      MessageUtil.importMessages(packStream, this::addMessage, this::addTemplate);
+      MessageUtil.importMessages(packStream, getMessageAccessor().getMessageFactory().getMessagePartNormalizer(),
+          this::addMessage, this::addTemplate);
       return this;
     }
 
@@ -705,6 +819,59 @@ public interface MessageSupport
     }
 
 
+    /**
+     * Sets the metrics instance receiving format and pack import events for this message support.
+     * <p>
+     * Overlay instances and instances created by {@link #freeze()} start with the metrics instance of the message
+     * support they were created from.
+     *
+     * @param metrics  metrics instance, not {@code null}. {@link MessageMetrics#DISABLED} disables instrumentation
+     *
+     * @return  configurable message support instance, never {@code null}
+     *
+     * @since 0.24.0
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    @NotNull ConfigurableMessageSupport setMetrics(@NotNull MessageMetrics metrics);
+
+
+    /**
+     * Sets the workload recorder capturing all format calls for this message support.
+     * <p>
+     * Overlay instances and instances created by {@link #freeze()} start with the workload recorder of the message
+     * support they were created from.
+     *
+     * @param workloadRecorder  workload recorder, or {@code null} to stop capturing format calls
+     *
+     * @return  configurable message support instance, never {@code null}
+     *
+     * @since 0.24.0
+     *
+     * @see WorkloadRecorder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    @NotNull ConfigurableMessageSupport setWorkloadRecorder(WorkloadRecorder workloadRecorder);
+
+
+    /**
+     * Sets the profile recorder noting the codes, locales and parameter value types of all format calls for this
+     * message support.
+     * <p>
+     * Overlay instances and instances created by {@link #freeze()} start with the profile recorder of the message
+     * support they were created from.
+     *
+     * @param profileRecorder  warm-up profile recorder, or {@code null} to stop recording
+     *
+     * @return  configurable message support instance, never {@code null}
+     *
+     * @since 0.24.0
+     *
+     * @see MessageSupport#warmUp(WarmUpProfile)
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    @NotNull ConfigurableMessageSupport setWarmUpProfileRecorder(WarmUpProfileRecorder profileRecorder);
+
+
     /**
      * Set a {@code messageHandler} for this message support.
      * <p>
@@ -746,6 +913,40 @@ public interface MessageSupport
     @NotNull ConfigurableMessageSupport setTemplateFilter(@NotNull TemplateFilter templateFilter);
 
 
+    /**
+     * Atomically replaces all messages and templates of this message support instance.
+     * <p>
+     * A new, empty message support instance is staged, sharing the formatter service, message factory, locale,
+     * default configuration and message and template filters with this instance. Custom filters are invoked for
+     * the messages and templates added to the staged instance, so filters looking up existing messages or
+     * templates must not query this instance; the loader may set different filters on the staged instance
+     * instead. The {@code catalogLoader} populates the staged instance, e.g. by importing message packs or by
+     * using message adopters. Parsing and duplicate checking is performed entirely on the staged instance. Only if
+     * the loader returns successfully and all templates referenced by the staged messages are available, the
+     * staged messages and templates are published, replacing the current ones in a single step.
+     * <p>
+     * Message configurers obtained before publishing keep formatting with the messages and templates which
+     * were current when they were created. The same applies to previously obtained
+     * {@link #getMessageAccessor() message accessors}. Previous snapshots are released as soon as they are no
+     * longer referenced.
+     * <p>
+     * If the loader throws an exception, the current messages and templates remain unchanged and the
+     * exception is relayed to the caller. Concurrent invocations of this method are serialized; messages or
+     * templates added to this instance while a reload is in progress are discarded by the reload.
+     *
+     * @param catalogLoader  loader populating the staged message support, not {@code null}
+     *
+     * @return  configurable message support instance, never {@code null}
+     *
+     * @throws IOException       if the loader reports an I/O error
+     * @throws MessageException  if a template referenced by a staged message is missing
+     *
+     * @since 0.24.0
+     */
+    @Contract(value = "_ -> this", mutates = "this,io")
+    @NotNull ConfigurableMessageSupport reload(@NotNull CatalogLoader catalogLoader) throws IOException;
+
+
     /**
      * Seals off this message support instance by returning a wrapper that does not implement
      * {@link ConfigurableMessageSupport} and thus is not modifiable. The returned {@link MessageSupport} wrapper
@@ -786,6 +987,26 @@ public interface MessageSupport
         }
       };
     }
+
+
+    /**
+     * Freezes the current messages and templates into an immutable, read-optimized message support instance.
+     * <p>
+     * Unlike {@link #seal()}, the returned instance is not backed by this configurable message support: it
+     * contains a snapshot of the messages and templates at the time of invocation. Subsequent changes to this
+     * instance, including {@linkplain #reload(CatalogLoader) reloads}, are not reflected in the frozen instance.
+     * <p>
+     * Message codes and template names are compiled into hash tables with cached hash codes, so lookups take
+     * constant time and do not require any locking. Iterating message codes and template names is ordered, as
+     * it is for the configurable instance. Freezing is intended for applications that load their messages once
+     * during startup and share the message support between many threads afterwards.
+     *
+     * @return  frozen message support, never {@code null}
+     *
+     * @since 0.24.0
+     */
+    @Contract(value = "-> new", pure = true)
+    @NotNull MessageSupport freeze();
   }
 
 
@@ -998,6 +1219,24 @@ public interface MessageSupport
     @NotNull MessagePublisher addMessage(@NotNull Message.WithCode message);
 
 
+    /**
+     * Adds all {@code messages} with code to this publisher in a single step.
+     * <p>
+     * All messages are checked before any of them is added. If a message is rejected with an exception, this
+     * publisher is left unchanged. Messages with identical codes within {@code messages} must be the same.
+     *
+     * @param messages  messages with code, not {@code null}
+     *
+     * @return  this message publisher instance, never {@code null}
+     *
+     * @throws DuplicateMessageException  in case a message with the same code already exists
+     *
+     * @since 0.24.0
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    @NotNull MessagePublisher addMessages(@NotNull Collection<Message.WithCode> messages);
+
+
     /**
      * Adds a template identified by {@code name} to this publisher.
      *
@@ -1062,6 +1301,31 @@ public interface MessageSupport
 
 
 
+  /**
+   * Interface used for loading a complete set of messages and templates into a staged message support instance.
+   *
+   * @author Jeroen Gremmen
+   * @since 0.24.0
+   *
+   * @see ConfigurableMessageSupport#reload(CatalogLoader)
+   */
+  @FunctionalInterface
+  interface CatalogLoader
+  {
+    /**
+     * Load all messages and templates into the given staged {@code messageSupport}. The staged instance
+     * is not visible to any other thread until the loader has returned successfully.
+     *
+     * @param messageSupport  staged message support, not {@code null}
+     *
+     * @throws IOException  if an I/O error occurs while loading messages or templates
+     */
+    void load(@NotNull ConfigurableMessageSupport messageSupport) throws IOException;
+  }
+
+
+
+
   /**
    * Interface with a single method mimicking the standard exception constructor for a message.
    *
@@ -39,6 +39,9 @@ import java.util.concurrent.locks.ReentrantLock;
  *       {@link ConfigurableMessageSupport} that can be freely configured with custom formatters,
  *       messages and templates before being {@linkplain ConfigurableMessageSupport#seal() sealed}
  *       for use.</li>
+ *   <li>{@link #createOverlay(MessageSupport) createOverlay} &ndash; creates a new
+ *       {@link ConfigurableMessageSupport} layered on top of an existing message support, sharing its
+ *       messages, templates and default configuration without copying them.</li>
  * </ul>
  *
  * @author Jeroen Gremmen
@@ -116,4 +119,32 @@ public final class MessageSupportFactory
   public static @NotNull ConfigurableMessageSupport create(@NotNull FormatterService formatterService) {
     return create(formatterService, MessageFactory.getSharedInstance());
   }
+
+
+  /**
+   * Create a new overlay {@link MessageSupport} instance on top of the given {@code base} message support.
+   * <p>
+   * The overlay uses the formatter service and message factory of the base message support and starts with its
+   * locale. Messages, templates and default configuration values added to the overlay take precedence over
+   * the ones of the base message support; all other lookups are delegated to the base message support, which is
+   * never copied. Template references are resolved using the overlay, so a template added to the overlay also
+   * replaces the template in messages provided by the base message support.
+   * <p>
+   * This allows many small, independently configurable layers (e.g. one for each tenant) to share a single
+   * large message catalog. Changes to the base message support, including
+   * {@linkplain ConfigurableMessageSupport#reload(MessageSupport.CatalogLoader) reloads}, are reflected in the
+   * overlay.
+   *
+   * @param base  base message support, not {@code null}
+   *
+   * @return  new configurable overlay message support instance, never {@code null}
+   *
+   * @throws IllegalArgumentException  if {@code base} has not been created by this factory
+   *
+   * @since 0.24.0
+   */
+  @Contract(value = "_ -> new")
+  public static @NotNull ConfigurableMessageSupport createOverlay(@NotNull MessageSupport base) {
+    return new MessageSupportImpl(base);
+  }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message;
+
+import de.sayayi.lib.message.Message.Parameters;
+import de.sayayi.lib.message.internal.MessageParameters;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Locale;
+
+import static de.sayayi.lib.message.util.MessageUtil.isKebabOrLowerCamelCaseName;
+import static de.sayayi.lib.message.util.MessageUtil.validateName;
+import static java.util.Arrays.sort;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Fixed set of parameter names, which allows parameter values to be passed positionally.
+ * <p>
+ * The parameter names are validated and sorted once, when the slots are created. Binding values to the slots
+ * therefore requires neither name validation nor sorting, which makes it suitable for frequently formatted
+ * messages:
+ * <pre>
+ *   static final ParameterSlots SLOTS = ParameterSlots.of("count", "name");
+ *
+ *   messageSupport.format(message, SLOTS.bind(locale, 3, "Order"));
+ * </pre>
+ * Instances of this class are immutable and thread safe.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class ParameterSlots
+{
+  /** Parameter names in slot order. */
+  private final @NotNull String[] parameterNames;
+
+  /** Parameter names in sorted order. */
+  private final @NotNull String[] sortedParameterNames;
+
+  /** Slot index for each name in {@link #sortedParameterNames}. */
+  private final int @NotNull [] sortedSlots;
+
+
+  private ParameterSlots(@NotNull String[] parameterNames)
+  {
+    final var size = parameterNames.length;
+    final var slots = new Integer[size];
+
+    for(int n = 0; n < size; n++)
+      slots[n] = n;
+
+    sort(slots, (s1, s2) -> parameterNames[s1].compareTo(parameterNames[s2]));
+
+    this.parameterNames = parameterNames;
+    sortedParameterNames = new String[size];
+    sortedSlots = new int[size];
+
+    for(int n = 0; n < size; n++)
+    {
+      sortedParameterNames[n] = parameterNames[sortedSlots[n] = slots[n]];
+
+      if (n > 0 && sortedParameterNames[n].equals(sortedParameterNames[n - 1]))
+        throw new IllegalArgumentException("duplicate parameter name '" + sortedParameterNames[n] + '\'');
+    }
+  }
+
+
+  /**
+   * Creates parameter slots for the given parameter names. The position of each name determines the position of the
+   * corresponding value in {@link #bind(Locale, Object...)}.
+   *
+   * @param parameterNames  parameter names, not {@code null}
+   *
+   * @return  parameter slots, never {@code null}
+   *
+   * @throws IllegalArgumentException  if a parameter name is empty, does not match the camel- or kebab-case naming
+   *                                   convention or occurs more than once
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static @NotNull ParameterSlots of(@NotNull String... parameterNames)
+  {
+    final var names = requireNonNull(parameterNames, "parameterNames must not be null").clone();
+
+    for(var name: names)
+      if (!isKebabOrLowerCamelCaseName(validateName(name, "parameter name")))
+      {
+        throw new IllegalArgumentException("parameter name '" + name +
+            "' must match the camel- or kebab-case naming convention");
+      }
+
+    return new ParameterSlots(names);
+  }
+
+
+  /**
+   * Returns the number of parameter slots.
+   *
+   * @return  number of parameter slots
+   */
+  @Contract(pure = true)
+  public int size() {
+    return parameterNames.length;
+  }
+
+
+  /**
+   * Returns the parameter names in slot order.
+   *
+   * @return  unmodifiable list of parameter names, never {@code null}
+   */
+  @Contract(pure = true)
+  @Unmodifiable
+  public @NotNull List<String> getParameterNames() {
+    return List.of(parameterNames);
+  }
+
+
+  /**
+   * Binds the given parameter {@code values} to the slots. The value at index {@code n} is bound to the parameter
+   * name at index {@code n}.
+   *
+   * @param locale  locale, not {@code null}
+   * @param values  parameter values in slot order, not {@code null}
+   *
+   * @return  parameters instance, never {@code null}
+   *
+   * @throws IllegalArgumentException  if the number of values does not match the number of slots
+   */
+  @Contract(value = "_, _ -> new", pure = true)
+  public @NotNull Parameters bind(@NotNull Locale locale, @NotNull Object... values)
+  {
+    final var size = sortedSlots.length;
+
+    if (values.length != size)
+    {
+      throw new IllegalArgumentException("expected " + size + " parameter values, but got " +
+          values.length);
+    }
+
+    final var parameters = new Object[size * 2];
+
+    for(int n = 0; n < size; n++)
+    {
+      parameters[n * 2] = sortedParameterNames[n];
+      parameters[n * 2 + 1] = values[sortedSlots[n]];
+    }
+
+    return new MessageParameters(locale, parameters);
+  }
+
+
+  @Override
+  public String toString() {
+    return "ParameterSlots" + getParameterNames();
+  }
+}
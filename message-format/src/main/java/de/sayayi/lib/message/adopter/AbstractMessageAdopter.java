@@ -15,11 +15,25 @@
  */
 package de.sayayi.lib.message.adopter;
 
+import de.sayayi.lib.message.Message;
 import de.sayayi.lib.message.MessageFactory;
 import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
 import de.sayayi.lib.message.MessageSupport.MessagePublisher;
+import de.sayayi.lib.message.exception.MessageParserException;
+import de.sayayi.lib.message.part.MapKey;
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.normalizer.ConcurrentMessagePartNormalizer;
+import de.sayayi.lib.message.part.normalizer.InterningMessagePartNormalizer;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
 import static java.util.Objects.requireNonNull;
 
 
@@ -41,6 +55,9 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractMessageAdopter
 {
+  /** Number of unique message texts parsed by a single task during parallel adoption. */
+  private static final int PARSE_BATCH_SIZE = 64;
+
   /** Message factory instance, not {@code null}. */
   protected final @NotNull MessageFactory messageFactory;
 
@@ -79,4 +96,185 @@ public abstract class AbstractMessageAdopter
     this.messageFactory = requireNonNull(messageFactory, "messageFactory must not be null");
     this.messagePublisher = requireNonNull(publisher, "publisher must not be null");
   }
+
+
+  /**
+   * Parse the localized message texts and publish the resulting messages to the
+   * {@linkplain MessagePublisher message publisher}.
+   * <p>
+   * Identical texts are parsed only once, regardless of the number of codes and locales they appear in. If an
+   * {@code executor} is provided, the unique texts are parsed in parallel batches; a small number of texts is
+   * parsed on the calling thread, as parallel parsing would only add overhead. The messages are assembled on the
+   * calling thread once all texts have been parsed successfully and are published in a single
+   * {@linkplain MessagePublisher#addMessages(Collection) batch}, in ascending message code order. A parser error or a
+   * duplicate message therefore leaves the message publisher untouched, and duplicate message detection does not
+   * depend on thread scheduling.
+   * <p>
+   * The message part normalizer of the message factory is not required to be thread-safe. During parallel
+   * parsing, all normalizer invocations are serialized, unless the normalizer is a
+   * {@link ConcurrentMessagePartNormalizer} or an {@link InterningMessagePartNormalizer}. All other settings of the
+   * message factory, including its message cache, are used for parallel parsing as well
+   * (see {@link MessageFactory#withMessagePartNormalizer(MessagePartNormalizer)}).
+   *
+   * @param localizedTextsByCode  map with localized message texts keyed by message code, not {@code null}
+   * @param executor              executor used for parsing message texts in parallel, or {@code null} to parse
+   *                              all texts on the calling thread
+   *
+   * @throws MessageParserException  if a message text cannot be parsed
+   *
+   * @since 0.24.0
+   */
+  protected void publishMessages(@NotNull Map<String,Map<Locale,String>> localizedTextsByCode, Executor executor)
+  {
+    final var codes = new ArrayList<>(localizedTextsByCode.keySet());
+    codes.sort(null);
+
+    final var texts = new LinkedHashSet<String>();
+    for(var code: codes)
+      texts.addAll(localizedTextsByCode.get(code).values());
+
+    final var parsedMessages = executor == null || texts.size() <= PARSE_BATCH_SIZE
+        ? parseTexts(localizedTextsByCode, codes, texts)
+        : parseTexts(localizedTextsByCode, codes, texts, executor);
+    final var messages = new ArrayList<Message.WithCode>(codes.size());
+
+    for(var code: codes)
+    {
+      final var localizedTexts = localizedTextsByCode.get(code);
+
+      if (localizedTexts.size() == 1)
+        messages.add(messageFactory.withCode(code, parsedMessages.get(localizedTexts.values().iterator().next())));
+      else
+      {
+        final var localizedMessages = new HashMap<Locale,Message>();
+        localizedTexts.forEach((locale,text) -> localizedMessages.put(locale, parsedMessages.get(text)));
+
+        messages.add(messageFactory.withCode(code, localizedMessages));
+      }
+    }
+
+    messagePublisher.addMessages(messages);
+  }
+
+
+  private @NotNull Map<String,Message> parseTexts(@NotNull Map<String,Map<Locale,String>> localizedTextsByCode,
+                                                  @NotNull List<String> codes, @NotNull Collection<String> texts)
+  {
+    final var parsedMessages = new HashMap<String,Message>();
+
+    for(var text: texts)
+      parsedMessages.put(text, parseText(messageFactory, localizedTextsByCode, codes, text));
+
+    return parsedMessages;
+  }
+
+
+  private @NotNull Map<String,Message> parseTexts(@NotNull Map<String,Map<Locale,String>> localizedTextsByCode,
+                                                  @NotNull List<String> codes, @NotNull Collection<String> texts,
+                                                  @NotNull Executor executor)
+  {
+    final var normalizer = messageFactory.getMessagePartNormalizer();
+    final var parallelMessageFactory =
+        normalizer == PASS_THROUGH ||
+        normalizer instanceof ConcurrentMessagePartNormalizer ||
+        normalizer instanceof InterningMessagePartNormalizer
+            ? messageFactory
+            : messageFactory.withMessagePartNormalizer(new SynchronizedMessagePartNormalizer(normalizer));
+
+    final var uniqueTexts = List.copyOf(texts);
+    final var batches = new ArrayList<CompletableFuture<List<Message>>>();
+
+    for(int n = 0, size = uniqueTexts.size(); n < size; n += PARSE_BATCH_SIZE)
+    {
+      final var batch = uniqueTexts.subList(n, Math.min(n + PARSE_BATCH_SIZE, size));
+
+      batches.add(CompletableFuture.supplyAsync(() -> {
+        final var batchMessages = new ArrayList<Message>(batch.size());
+
+        for(var text: batch)
+          batchMessages.add(parseText(parallelMessageFactory, localizedTextsByCode, codes, text));
+
+        return batchMessages;
+      }, executor));
+    }
+
+    final var parsedMessages = new HashMap<String,Message>();
+    final var textIterator = uniqueTexts.iterator();
+
+    try {
+      for(var batch: batches)
+        for(var message: batch.join())
+          parsedMessages.put(textIterator.next(), message);
+    } catch(CompletionException ex) {
+      batches.forEach(batch -> batch.cancel(false));
+
+      throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+    }
+
+    return parsedMessages;
+  }
+
+
+  private static @NotNull Message parseText(@NotNull MessageFactory messageFactory,
+                                            @NotNull Map<String,Map<Locale,String>> localizedTextsByCode,
+                                            @NotNull List<String> codes, @NotNull String text)
+  {
+    try {
+      return messageFactory.parseMessage(text);
+    } catch(MessageParserException ex) {
+      // report the first code (and locale) using the erroneous text
+      for(var code: codes)
+        for(var localizedText: localizedTextsByCode.get(code).entrySet())
+          if (text.equals(localizedText.getValue()))
+            throw ex.withCode(code).withLocale(localizedText.getKey());
+
+      throw ex;
+    }
+  }
+
+
+
+
+  /**
+   * Message part normalizer which serializes all invocations of the delegate normalizer.
+   */
+  private static final class SynchronizedMessagePartNormalizer implements MessagePartNormalizer
+  {
+    private final MessagePartNormalizer delegate;
+
+
+    private SynchronizedMessagePartNormalizer(@NotNull MessagePartNormalizer delegate) {
+      this.delegate = delegate;
+    }
+
+
+    @Override
+    public synchronized <T extends MessagePart> @NotNull T normalize(@NotNull T part) {
+      return delegate.normalize(part);
+    }
+
+
+    @Override
+    public synchronized <K extends MapKey> @NotNull K normalizeMapKey(@NotNull K mapKey) {
+      return delegate.normalizeMapKey(mapKey);
+    }
+
+
+    @Override
+    public synchronized <V extends TypedValue<?>> @NotNull V normalizeValue(@NotNull V value) {
+      return delegate.normalizeValue(value);
+    }
+
+
+    @Override
+    public synchronized <C extends MessagePart.Config> @NotNull C normalizeConfig(@NotNull C config) {
+      return delegate.normalizeConfig(config);
+    }
+
+
+    @Override
+    public synchronized <M extends MessagePart.Map> @NotNull M normalizeMap(@NotNull M map) {
+      return delegate.normalizeMap(map);
+    }
+  }
 }
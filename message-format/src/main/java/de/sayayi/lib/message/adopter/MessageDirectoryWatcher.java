@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.adopter;
+
+import de.sayayi.lib.message.MessageSupport.CatalogLoader;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+
+/**
+ * Watches a directory containing message format packs and/or properties files and
+ * {@linkplain ConfigurableMessageSupport#reload(CatalogLoader) reloads} a configurable message support
+ * whenever the directory content changes.
+ * <p>
+ * The directory is loaded using the {@link #directoryLoader(Path) directory loader}: all regular files are
+ * processed in file name order. Files ending with {@code .mfp} are imported as message format packs. Files
+ * ending with {@code .properties} are adopted as templates if the file name starts with {@code template} and
+ * as messages otherwise.
+ * <p>
+ * Changes are collected until the directory has been quiet for a configurable period, so that copying multiple
+ * files results in a single reload. A failed reload leaves the current messages and templates untouched; the
+ * exception is passed to the error handler.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class MessageDirectoryWatcher implements Closeable
+{
+  /** Default quiet period before reloading. */
+  public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(250);
+
+  private final @NotNull ConfigurableMessageSupport messageSupport;
+  private final @NotNull Path directory;
+  private final @NotNull CatalogLoader catalogLoader;
+  private final long quietPeriodMillis;
+  private final Consumer<Exception> errorHandler;
+
+  private WatchService watchService;
+  private Thread watchThread;
+
+
+  /**
+   * Create a directory watcher with the default quiet period. Reload errors are reported to the uncaught
+   * exception handler of the watcher thread.
+   *
+   * @param messageSupport  message support to reload, not {@code null}
+   * @param directory       directory to watch, not {@code null}
+   */
+  public MessageDirectoryWatcher(@NotNull ConfigurableMessageSupport messageSupport, @NotNull Path directory) {
+    this(messageSupport, directory, DEFAULT_QUIET_PERIOD, null);
+  }
+
+
+  /**
+   * Create a directory watcher.
+   *
+   * @param messageSupport  message support to reload, not {@code null}
+   * @param directory       directory to watch, not {@code null}
+   * @param quietPeriod     period without changes before the directory is reloaded, not {@code null}
+   * @param errorHandler    handler for reload errors occurring in the watcher thread. If {@code null}, errors
+   *                        are reported to the uncaught exception handler of the watcher thread
+   */
+  public MessageDirectoryWatcher(@NotNull ConfigurableMessageSupport messageSupport, @NotNull Path directory,
+                                 @NotNull Duration quietPeriod, Consumer<Exception> errorHandler)
+  {
+    this.messageSupport = requireNonNull(messageSupport, "messageSupport must not be null");
+    this.directory = requireNonNull(directory, "directory must not be null");
+    this.errorHandler = errorHandler;
+
+    if (!Files.isDirectory(directory))
+      throw new IllegalArgumentException("directory '" + directory + "' does not exist");
+
+    quietPeriodMillis = Math.max(requireNonNull(quietPeriod, "quietPeriod must not be null").toMillis(), 1);
+    catalogLoader = directoryLoader(directory);
+  }
+
+
+  /**
+   * Load the directory and start watching it for changes.
+   *
+   * @throws IOException  if an I/O error occurs while loading the directory or registering the watch service
+   */
+  @Contract(mutates = "this,io")
+  public synchronized void start() throws IOException
+  {
+    if (watchThread != null)
+      throw new IllegalStateException("watcher already started");
+
+    reload();
+
+    watchService = directory.getFileSystem().newWatchService();
+    directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+
+    watchThread = new Thread(this::watch, "message-directory-watcher");
+    watchThread.setDaemon(true);
+    watchThread.start();
+  }
+
+
+  /**
+   * Reload the directory content into the message support.
+   *
+   * @throws IOException  if an I/O error occurs while loading the directory
+   */
+  @Contract(mutates = "io")
+  public void reload() throws IOException {
+    messageSupport.reload(catalogLoader);
+  }
+
+
+  /**
+   * Stop watching the directory. The messages and templates loaded last remain available.
+   *
+   * @throws IOException  if an I/O error occurs while closing the watch service
+   */
+  @Override
+  @Contract(mutates = "this,io")
+  public synchronized void close() throws IOException
+  {
+    if (watchService != null)
+    {
+      watchService.close();
+      watchThread.interrupt();
+
+      watchService = null;
+      watchThread = null;
+    }
+  }
+
+
+  private void watch()
+  {
+    final var watchService = this.watchService;
+
+    try {
+      while(!Thread.currentThread().isInterrupted())
+      {
+        // wait for the first change, then until the directory is quiet
+        for(var key = watchService.take(); key != null; key = watchService.poll(quietPeriodMillis, MILLISECONDS))
+        {
+          key.pollEvents();
+          key.reset();
+        }
+
+        try {
+          reload();
+        } catch(Exception ex) {
+          reportError(ex);
+        }
+      }
+    } catch(InterruptedException | ClosedWatchServiceException ignored) {
+    }
+  }
+
+
+  private void reportError(@NotNull Exception ex)
+  {
+    if (errorHandler != null)
+      errorHandler.accept(ex);
+    else
+    {
+      final var thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+    }
+  }
+
+
+  /**
+   * Returns a catalog loader for the given {@code directory}. All regular files are processed in file name order.
+   * Files ending with {@code .mfp} are imported as message format packs. Files ending with {@code .properties}
+   * are adopted as templates if the file name starts with {@code template} and as messages otherwise.
+   *
+   * @param directory  directory to load, not {@code null}
+   *
+   * @return  catalog loader for the directory, never {@code null}
+   */
+  @Contract(pure = true)
+  public static @NotNull CatalogLoader directoryLoader(@NotNull Path directory)
+  {
+    requireNonNull(directory, "directory must not be null");
+
+    return messageSupport -> {
+      final var adopter = new PropertiesAdopter(messageSupport);
+      final Path[] files;
+
+      try(var fileStream = Files.list(directory)) {
+        files = fileStream.filter(Files::isRegularFile).sorted().toArray(Path[]::new);
+      }
+
+      for(var file: files)
+      {
+        final var fileName = file.getFileName().toString();
+
+        if (fileName.endsWith(".mfp"))
+          messageSupport.importMessages(newInputStream(file));
+        else if (fileName.endsWith(".properties"))
+        {
+          final var properties = new Properties();
+
+          try(var inputStream = newInputStream(file)) {
+            properties.load(inputStream);
+          }
+
+          if (fileName.startsWith("template"))
+            adopter.adoptTemplates(properties);
+          else
+            adopter.adopt(properties);
+        }
+      }
+    };
+  }
+}
@@ -25,6 +25,9 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
 
 
 /**
@@ -101,15 +104,40 @@ public class PropertiesAdopter extends AbstractMessageAdopter
    * Adopt messages from localized properties. Each property key is used as the message code and
    * its corresponding value is parsed as a message format string. If the same message code
    * appears in multiple locale entries, the localized values are combined into a single
-   * locale-aware message. The resulting messages are published to the
-   * {@linkplain MessagePublisher message publisher}.
+   * locale-aware message. Identical message format strings are parsed only once. The resulting messages are
+   * published to the {@linkplain MessagePublisher message publisher} in ascending message code order.
    *
    * @param properties  map with property messages keyed by locale, not {@code null}
    *
    * @see #adopt(Properties)
+   * @see #adopt(Map, Executor)
    */
   @Contract(pure = true)
-  public void adopt(@NotNull Map<Locale,Properties> properties)
+  public void adopt(@NotNull Map<Locale,Properties> properties) {
+    publishMessages(collectLocalizedTexts(properties), null);
+  }
+
+
+  /**
+   * Adopt messages from localized properties, parsing the message format strings in parallel. Identical message
+   * format strings are parsed only once. The messages are published in a single batch on the calling thread, after
+   * all message format strings have been parsed successfully.
+   *
+   * @param properties  map with property messages keyed by locale, not {@code null}
+   * @param executor    executor used for parsing message format strings, e.g. a fork/join pool or a virtual thread
+   *                    executor, not {@code null}
+   *
+   * @see #adopt(Map)
+   *
+   * @since 0.24.0
+   */
+  public void adopt(@NotNull Map<Locale,Properties> properties, @NotNull Executor executor) {
+    publishMessages(collectLocalizedTexts(properties), requireNonNull(executor, "executor must not be null"));
+  }
+
+
+  private static @NotNull Map<String,Map<Locale,String>> collectLocalizedTexts(
+      @NotNull Map<Locale,Properties> properties)
   {
     final var localizedMessagesByCode = new HashMap<String,Map<Locale,String>>();
 
@@ -125,7 +153,6 @@ public class PropertiesAdopter extends AbstractMessageAdopter
       }
     }
 
-    localizedMessagesByCode.forEach((code,localizedTexts) ->
-        messagePublisher.addMessage(messageFactory.parseMessage(code, localizedTexts)));
+    return localizedMessagesByCode;
   }
 }
@@ -23,8 +23,10 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import static java.util.Locale.getAvailableLocales;
+import static java.util.Objects.requireNonNull;
 import static java.util.ResourceBundle.getBundle;
 
 
@@ -94,15 +96,41 @@ public class ResourceBundleAdopter extends AbstractMessageAdopter
 
   /**
    * Adopt messages from a collection of resource bundles. If the same message code appears in multiple bundles, the
-   * localized values are combined into a single locale-aware message. The resulting messages are published to the
-   * {@linkplain MessagePublisher message publisher}.
+   * localized values are combined into a single locale-aware message. Identical message format strings are parsed
+   * only once. The resulting messages are published to the {@linkplain MessagePublisher message publisher} in
+   * ascending message code order.
    *
    * @param resourceBundles  resource bundles to adopt, not {@code null}
    *
    * @see #adopt(ResourceBundle)
+   * @see #adopt(Collection, Executor)
    */
   @Contract(pure = true)
-  public void adopt(@NotNull Collection<ResourceBundle> resourceBundles)
+  public void adopt(@NotNull Collection<ResourceBundle> resourceBundles) {
+    publishMessages(collectLocalizedTexts(resourceBundles), null);
+  }
+
+
+  /**
+   * Adopt messages from a collection of resource bundles, parsing the message format strings in parallel. Identical
+   * message format strings are parsed only once. The messages are published in a single batch on the calling
+   * thread, after all message format strings have been parsed successfully.
+   *
+   * @param resourceBundles  resource bundles to adopt, not {@code null}
+   * @param executor         executor used for parsing message format strings, e.g. a fork/join pool or a virtual
+   *                         thread executor, not {@code null}
+   *
+   * @see #adopt(Collection)
+   *
+   * @since 0.24.0
+   */
+  public void adopt(@NotNull Collection<ResourceBundle> resourceBundles, @NotNull Executor executor) {
+    publishMessages(collectLocalizedTexts(resourceBundles), requireNonNull(executor, "executor must not be null"));
+  }
+
+
+  private static @NotNull Map<String,Map<Locale,String>> collectLocalizedTexts(
+      @NotNull Collection<ResourceBundle> resourceBundles)
   {
     final var localizedMessagesByCode = new HashMap<String,Map<Locale,String>>();
 
@@ -118,8 +146,7 @@ public class ResourceBundleAdopter extends AbstractMessageAdopter
       }
     }
 
-    localizedMessagesByCode.forEach((code,localizedTexts) ->
-        messagePublisher.addMessage(messageFactory.parseMessage(code, localizedTexts)));
+    return localizedMessagesByCode;
   }
 
 
@@ -244,7 +271,6 @@ public class ResourceBundleAdopter extends AbstractMessageAdopter
       }
     }
 
-    localizedMessagesByCode.forEach((code,localizedTexts) ->
-        messagePublisher.addMessage(messageFactory.parseMessage(code, localizedTexts)));
+    publishMessages(localizedMessagesByCode, null);
   }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.formatter;
+
+import de.sayayi.lib.message.util.CacheStatistics;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Bounded, thread-safe cache for format instances which are expensive to create, like number formats or date/time
+ * formatters. Parameter formatters use it to cache format instances by locale and format style or pattern.
+ * <p>
+ * Lookups of cached instances do not lock. If the cache exceeds its maximum size, arbitrary entries other than the
+ * one just added are evicted. As the number of distinct locales and patterns used by an application is usually
+ * small, the cache is expected to rarely evict entries.
+ * <p>
+ * The cache keeps track of hit, miss and eviction counts, which can be obtained using {@link #getStatistics()}.
+ *
+ * @param <K>  cache key type
+ * @param <V>  cached format instance type
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class FormatInstanceCache<K,V>
+{
+  private final int maxSize;
+  private final Map<K,V> cache;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+
+  /**
+   * Create a format instance cache with the given maximum size.
+   *
+   * @param maxSize  maximum number of cached format instances, must be positive
+   *
+   * @throws IllegalArgumentException  if {@code maxSize} is not positive
+   */
+  public FormatInstanceCache(int maxSize)
+  {
+    if (maxSize <= 0)
+      throw new IllegalArgumentException("maxSize must be a positive number");
+
+    this.maxSize = maxSize;
+
+    cache = new ConcurrentHashMap<>();
+  }
+
+
+  /**
+   * Returns the format instance for the given {@code key}. If no instance is cached for the key, it is created
+   * using {@code createInstance} and added to the cache.
+   * <p>
+   * If {@code createInstance} throws an exception, the exception is propagated and nothing is cached.
+   *
+   * @param key             cache key, not {@code null}
+   * @param createInstance  function creating the format instance for a key, not {@code null}
+   *
+   * @return  cached or newly created format instance, never {@code null}
+   */
+  public @NotNull V get(@NotNull K key, @NotNull Function<? super K,? extends V> createInstance)
+  {
+    var instance = cache.get(requireNonNull(key, "key must not be null"));
+    if (instance != null)
+    {
+      hitCount.increment();
+      return instance;
+    }
+
+    missCount.increment();
+    instance = cache.computeIfAbsent(key, createInstance);
+
+    if (cache.size() > maxSize)
+      evict(key);
+
+    return instance;
+  }
+
+
+  private void evict(@NotNull K addedKey)
+  {
+    for(var iterator = cache.keySet().iterator(); cache.size() > maxSize && iterator.hasNext();)
+      if (!addedKey.equals(iterator.next()))
+      {
+        iterator.remove();
+        evictionCount.increment();
+      }
+  }
+
+
+  /**
+   * Returns the maximum number of cached format instances.
+   *
+   * @return  maximum cache size
+   */
+  @Contract(pure = true)
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+
+  /**
+   * Returns the current number of cached format instances.
+   *
+   * @return  number of cached format instances
+   */
+  @Contract(pure = true)
+  public int size() {
+    return cache.size();
+  }
+
+
+  /**
+   * Returns a snapshot of the cache statistics. As the counters are updated concurrently, the values may not be
+   * consistent with each other while formatting is in progress.
+   *
+   * @return  cache statistics, never {@code null}
+   */
+  @Contract(value = "-> new", pure = true)
+  public @NotNull CacheStatistics getStatistics() {
+    return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), cache.size());
+  }
+
+
+  /**
+   * Removes all cached format instances and resets the statistics.
+   */
+  @Contract(mutates = "this")
+  public void clear()
+  {
+    cache.clear();
+
+    hitCount.reset();
+    missCount.reset();
+    evictionCount.reset();
+  }
+
+
+  @Override
+  public String toString() {
+    return "FormatInstanceCache(maxSize=" + maxSize + ',' + getStatistics() + ')';
+  }
+}
@@ -16,10 +16,13 @@
 package de.sayayi.lib.message.formatter;
 
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
+import de.sayayi.lib.message.metrics.MessageMetrics;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Function;
 
+import static de.sayayi.lib.message.metrics.MessageMetrics.Cache.FORMATTER;
+import static de.sayayi.lib.message.metrics.MessageMetrics.DISABLED;
 import static java.lang.System.arraycopy;
 
 
@@ -41,6 +44,9 @@ final class FormatterCache
   private Node head;
   private Node tail;
 
+  /** Metrics instance receiving hit, miss and eviction events. */
+  volatile @NotNull MessageMetrics metrics = DISABLED;
+
 
   /**
    * Creates a new formatter cache with the given capacity. The effective capacity is at least 8.
@@ -80,6 +86,7 @@ final class FormatterCache
                                                     @NotNull Function<Class<?>,ParameterFormatter[]> buildFormatters)
   {
     final var idx = findTypeIndex(type);
+    final var metrics = this.metrics;
     final ParameterFormatter[] formatters;
 
     if (idx >= 0)
@@ -92,9 +99,17 @@ final class FormatterCache
         moveNodeToHead(node);
 
       formatters = node.formatters;
+
+      if (metrics != DISABLED)
+        metrics.cacheHit(FORMATTER);
     }
     else
-      addNew(type, formatters = buildFormatters.apply(type));
+    {
+      if (metrics != DISABLED)
+        metrics.cacheMiss(FORMATTER);
+
+      addNew(type, formatters = buildFormatters.apply(type), metrics);
+    }
 
     return formatters;
   }
@@ -124,11 +139,15 @@ final class FormatterCache
   }
 
 
-  private void addNew(@NotNull Class<?> type, @NotNull ParameterFormatter[] formatters)
+  private void addNew(@NotNull Class<?> type, @NotNull ParameterFormatter[] formatters,
+                      @NotNull MessageMetrics metrics)
   {
     // if capacity has been reached -> remove tail
     if (typeCount == capacity)
     {
+      if (metrics != DISABLED)
+        metrics.cacheEviction(FORMATTER);
+
       final var typeOffset = findTypeIndex(tail.type) * 2;
 
       arraycopy(typeFormatters, typeOffset + 2, typeFormatters, typeOffset,
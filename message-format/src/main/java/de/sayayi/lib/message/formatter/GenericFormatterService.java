@@ -21,6 +21,7 @@ import de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter.DefaultFormatter;
 import de.sayayi.lib.message.formatter.parameter.named.StringFormatter;
 import de.sayayi.lib.message.formatter.post.PostFormatter;
+import de.sayayi.lib.message.metrics.MessageMetrics;
 import de.sayayi.lib.message.part.MessagePart.Config;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
@@ -126,6 +127,32 @@ public non-sealed class GenericFormatterService implements FormatterService.With
   }
 
 
+  /**
+   * Returns the metrics instance receiving formatter cache events.
+   *
+   * @return  metrics instance, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull MessageMetrics getMetrics() {
+    return formatterCache.metrics;
+  }
+
+
+  /**
+   * Sets the metrics instance receiving formatter cache hit, miss and eviction events.
+   *
+   * @param metrics  metrics instance, not {@code null}. {@link MessageMetrics#DISABLED} disables instrumentation
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "this")
+  public void setMetrics(@NotNull MessageMetrics metrics) {
+    formatterCache.metrics = requireNonNull(metrics, "metrics must not be null");
+  }
+
+
   /**
    * {@inheritDoc}
    * <p>
@@ -40,6 +40,7 @@ import static de.sayayi.lib.message.part.MapKey.Type.NUMBER;
 import static de.sayayi.lib.message.part.MapKey.Type.STRING;
 import static de.sayayi.lib.message.part.TextPartFactory.emptyText;
 import static de.sayayi.lib.message.part.TextPartFactory.nullText;
+import static de.sayayi.lib.message.util.MessageUtil.parseNumber;
 import static java.util.Optional.empty;
 
 
@@ -413,6 +414,26 @@ public interface ParameterFormatter
     @NotNull String getStringKeyValue();
 
 
+    /**
+     * Returns the numeric interpretation of a string configuration key. Integral key values are returned as
+     * {@link Long} if they fit in a {@code long} or as {@link java.math.BigInteger BigInteger} otherwise. Other
+     * numeric key values are returned as {@link java.math.BigDecimal BigDecimal}.
+     * <p>
+     * The default implementation parses the {@linkplain #getStringKeyValue() string key value} on each invocation.
+     * Implementations should return a value which has been determined when the map key was created.
+     *
+     * @return  numeric key value or {@code null} if the string key value is not a number
+     *
+     * @throws ClassCastException  if the configuration key is not a string type
+     *
+     * @since 0.24.0
+     */
+    @Contract(pure = true)
+    default Number getStringKeyNumber() {
+      return parseNumber(getStringKeyValue());
+    }
+
+
     /**
      * Returns the locale in effect during message formatting.
      *
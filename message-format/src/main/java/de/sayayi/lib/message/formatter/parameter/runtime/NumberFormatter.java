@@ -15,7 +15,7 @@
  */
 package de.sayayi.lib.message.formatter.parameter.runtime;
 
-import de.sayayi.lib.message.Message.Parameters;
+import de.sayayi.lib.message.formatter.FormatInstanceCache;
 import de.sayayi.lib.message.formatter.FormattableType;
 import de.sayayi.lib.message.formatter.parameter.AbstractParameterFormatter;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter.MapKeyComparator;
@@ -32,11 +32,10 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -67,6 +66,9 @@ import static java.lang.Math.signum;
  * <p>
  * Map key comparison supports {@code bool} keys (zero/non-zero), {@code number} keys (numeric comparison) and
  * {@code string} keys (parsed numeric comparison).
+ * <p>
+ * Number formats are cached by locale and format, so they are created only once. The cache is bounded and can be
+ * inspected using {@link #getFormatCache()}.
  *
  * @author Jeroen Gremmen
  */
@@ -74,7 +76,32 @@ public final class NumberFormatter
     extends AbstractParameterFormatter<Number>
     implements MapKeyComparator<Number>
 {
-  private static final Map<Locale,DecimalFormatSymbols> FORMAT_SYMBOLS_CACHE = new ConcurrentHashMap<>();
+  /** Default maximum number of cached number formats. */
+  public static final int DEFAULT_FORMAT_CACHE_SIZE = 256;
+
+  private final @NotNull FormatInstanceCache<FormatKey,NumberFormatPool> formatCache;
+
+
+  /**
+   * Create a number formatter with a number format cache of {@link #DEFAULT_FORMAT_CACHE_SIZE} entries.
+   */
+  public NumberFormatter() {
+    this(DEFAULT_FORMAT_CACHE_SIZE);
+  }
+
+
+  /**
+   * Create a number formatter with a number format cache of the given size.
+   *
+   * @param formatCacheSize  maximum number of cached number formats, must be positive
+   *
+   * @throws IllegalArgumentException  if {@code formatCacheSize} is not positive
+   *
+   * @since 0.24.0
+   */
+  public NumberFormatter(int formatCacheSize) {
+    formatCache = new FormatInstanceCache<>(formatCacheSize);
+  }
 
 
   /**
@@ -124,27 +151,45 @@ public final class NumberFormatter
          number instanceof LongAccumulator))
       return noSpaceText(number.toString());
 
-    return noSpaceText(getFormatter(format, context).format(number));
+    final var numberFormatPool = formatCache.get(
+        new FormatKey(isEmpty(format) ? "" : format, context.getLocale()), NumberFormatter::createNumberFormatPool);
+    final var numberFormat = numberFormatPool.acquire();
+
+    try {
+      return noSpaceText(numberFormat.format(number));
+    } finally {
+      numberFormatPool.release(numberFormat);
+    }
   }
 
 
-  private @NotNull NumberFormat getFormatter(String format, Parameters parameters)
+  @Contract(value = "_ -> new", pure = true)
+  private static @NotNull NumberFormatPool createNumberFormatPool(@NotNull FormatKey key)
   {
-    final var locale = parameters.getLocale();
-
-    if ("integer".equals(format))
-      return NumberFormat.getIntegerInstance(locale);
-
-    if ("percent".equals(format))
-      return NumberFormat.getPercentInstance(locale);
-
-    if ("currency".equals(format))
-      return NumberFormat.getCurrencyInstance(locale);
+    final var format = key.format();
+    final var locale = key.locale();
+
+    return new NumberFormatPool(switch(format) {
+      case "integer" -> NumberFormat.getIntegerInstance(locale);
+      case "percent" -> NumberFormat.getPercentInstance(locale);
+      case "currency" -> NumberFormat.getCurrencyInstance(locale);
+      case "" -> NumberFormat.getNumberInstance(locale);
+      default -> new DecimalFormat(format, DecimalFormatSymbols.getInstance(locale));
+    });
+  }
 
-    if (!isEmpty(format))
-      return new DecimalFormat(format, FORMAT_SYMBOLS_CACHE.computeIfAbsent(locale, DecimalFormatSymbols::new));
 
-    return NumberFormat.getNumberInstance(locale);
+  /**
+   * Returns the number format cache used by this formatter. The cache statistics show how often number formats
+   * are reused.
+   *
+   * @return  number format cache, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull FormatInstanceCache<?,?> getFormatCache() {
+    return formatCache;
   }
 
 
@@ -220,36 +265,108 @@ public final class NumberFormatter
   }
 
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The value is compared to the {@linkplain ComparatorContext#getStringKeyNumber() numeric interpretation} of the
+   * string key. Values of integral primitive wrapper types are compared to {@code long} keys without creating big
+   * numbers. String keys which are not a number never match.
+   */
   @Override
   public @NotNull MatchResult compareToStringKey(@NotNull Number value, @NotNull ComparatorContext context)
   {
+    final var keyNumber = context.getStringKeyNumber();
+    if (keyNumber == null)
+      return MISMATCH;
+
+    final int comparison;
+
     if (value instanceof Byte || value instanceof Short ||
         value instanceof Integer || value instanceof Long)
-      value = BigInteger.valueOf(value.longValue());
+    {
+      final var longValue = value.longValue();
+
+      comparison = switch(keyNumber) {
+        case Long keyLong -> Long.compare(longValue, keyLong);
+        case BigInteger keyBigInteger -> -keyBigInteger.signum();  // key exceeds the long range
+        default -> BigDecimal.valueOf(longValue).compareTo((BigDecimal)keyNumber);
+      };
+    }
+    else if (value instanceof BigInteger bigInteger)
+    {
+      comparison = keyNumber instanceof BigDecimal keyBigDecimal
+          ? new BigDecimal(bigInteger).compareTo(keyBigDecimal)
+          : bigInteger.compareTo(toBigInteger(keyNumber));
+    }
+    else if (value instanceof BigDecimal bigDecimal)
+      comparison = bigDecimal.compareTo(toBigDecimal(keyNumber));
     else if (value instanceof Double || value instanceof Float)
-      value = BigDecimal.valueOf(value.doubleValue());
+    {
+      final var doubleValue = value.doubleValue();
+      if (!Double.isFinite(doubleValue))
+        return MISMATCH;
 
-    final var compareType = context.getCompareType();
-    final var string = context.getStringKeyValue();
+      comparison = BigDecimal.valueOf(doubleValue).compareTo(toBigDecimal(keyNumber));
+    }
+    else
+      return MISMATCH;
+
+    return context.getCompareType().match(comparison) ? EQUIVALENT : MISMATCH;
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull BigInteger toBigInteger(@NotNull Number keyNumber) {
+    return keyNumber instanceof BigInteger bigInteger ? bigInteger : BigInteger.valueOf(keyNumber.longValue());
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull BigDecimal toBigDecimal(@NotNull Number keyNumber)
+  {
+    return switch(keyNumber) {
+      case BigDecimal bigDecimal -> bigDecimal;
+      case BigInteger bigInteger -> new BigDecimal(bigInteger);
+      default -> BigDecimal.valueOf(keyNumber.longValue());
+    };
+  }
 
-    if (value instanceof BigInteger bigInteger)
+
+
+
+  private record FormatKey(@NotNull String format, @NotNull Locale locale) {
+  }
+
+
+
+
+  /**
+   * Number format instances are not thread-safe. The pool keeps an immutable prototype and a single idle instance
+   * which is handed out to one thread at a time. Concurrent threads receive a clone of the prototype.
+   */
+  private static final class NumberFormatPool
+  {
+    private final @NotNull NumberFormat prototype;
+    private final @NotNull AtomicReference<NumberFormat> idleFormat;
+
+
+    private NumberFormatPool(@NotNull NumberFormat prototype)
     {
-      try {
-        return compareType.match(bigInteger.compareTo(new BigInteger(string))) ? EQUIVALENT : MISMATCH;
-      } catch(NumberFormatException ex) {
-        value = new BigDecimal(bigInteger);
-      }
+      this.prototype = prototype;
+
+      idleFormat = new AtomicReference<>((NumberFormat)prototype.clone());
     }
 
-    if (value instanceof BigDecimal bigDecimal)
+
+    private @NotNull NumberFormat acquire()
     {
-      try {
-        return compareType.match(bigDecimal.compareTo(new BigDecimal(string))) ? EQUIVALENT : MISMATCH;
-      } catch(NumberFormatException ignored) {
-      }
+      final var numberFormat = idleFormat.getAndSet(null);
+      return numberFormat != null ? numberFormat : (NumberFormat)prototype.clone();
     }
 
-    return MISMATCH;
+
+    private void release(@NotNull NumberFormat numberFormat) {
+      idleFormat.set(numberFormat);
+    }
   }
 }
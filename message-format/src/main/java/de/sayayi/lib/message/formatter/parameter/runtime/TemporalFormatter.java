@@ -15,6 +15,7 @@
  */
 package de.sayayi.lib.message.formatter.parameter.runtime;
 
+import de.sayayi.lib.message.formatter.FormatInstanceCache;
 import de.sayayi.lib.message.formatter.FormattableType;
 import de.sayayi.lib.message.formatter.parameter.AbstractParameterFormatter;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatterContext;
@@ -23,11 +24,15 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static de.sayayi.lib.message.formatter.parameter.ParameterFormatter.ClassifierContext.CLASSIFIER_TEMPORAL;
 import static de.sayayi.lib.message.part.TextPartFactory.emptyText;
@@ -58,7 +63,11 @@ import static java.util.Objects.requireNonNull;
  * Alternatively, a custom {@link DateTimeFormatter} pattern can be provided (e.g. {@code "yyyy-MM-dd"}).
  * <p>
  * The formatter automatically detects whether the temporal value supports date fields, time fields, or both, and
- * adjusts the output accordingly. All formatting is locale-aware using the formatting context's locale.
+ * adjusts the output accordingly. All formatting is locale-aware using the formatting context's locale. Values are
+ * formatted in the zone passed to the constructor, or in the system default time zone.
+ * <p>
+ * Date/time formatters are cached by style or pattern, locale and zone. The cache is bounded and can be inspected
+ * using {@link #getFormatCache()}.
  *
  * @author Jeroen Gremmen
  */
@@ -90,6 +99,83 @@ public final class TemporalFormatter extends AbstractParameterFormatter<Temporal
       entry("F-", ofLocalizedDate(FULL)),
       entry("-F", ofLocalizedTime(FULL)));
 
+  /** Default maximum number of cached date/time formatters. */
+  public static final int DEFAULT_FORMAT_CACHE_SIZE = 256;
+
+  private final ZoneId zone;
+  private final @NotNull FormatInstanceCache<FormatKey,DateTimeFormatter> formatCache;
+  private volatile MediumFormatters mediumFormatters;
+
+
+  /**
+   * Create a temporal formatter which formats using the system default time zone and a formatter cache of
+   * {@link #DEFAULT_FORMAT_CACHE_SIZE} entries.
+   */
+  public TemporalFormatter() {
+    this(null, DEFAULT_FORMAT_CACHE_SIZE);
+  }
+
+
+  /**
+   * Create a temporal formatter which formats using the given {@code zone} and a formatter cache of
+   * {@link #DEFAULT_FORMAT_CACHE_SIZE} entries.
+   *
+   * @param zone  time zone used for formatting, or {@code null} to use the system default time zone
+   *
+   * @since 0.24.0
+   */
+  public TemporalFormatter(ZoneId zone) {
+    this(zone, DEFAULT_FORMAT_CACHE_SIZE);
+  }
+
+
+  /**
+   * Create a temporal formatter which formats using the given {@code zone} and a formatter cache of the given
+   * size.
+   * <p>
+   * If no zone is provided, the system default time zone is determined each time a value is formatted.
+   *
+   * @param zone             time zone used for formatting, or {@code null} to use the system default time zone
+   * @param formatCacheSize  maximum number of cached date/time formatters, must be positive
+   *
+   * @throws IllegalArgumentException  if {@code formatCacheSize} is not positive
+   *
+   * @since 0.24.0
+   */
+  public TemporalFormatter(ZoneId zone, int formatCacheSize)
+  {
+    this.zone = zone;
+
+    formatCache = new FormatInstanceCache<>(formatCacheSize);
+  }
+
+
+  /**
+   * Returns the time zone used for formatting.
+   *
+   * @return  time zone or {@code null} if the system default time zone is used
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public ZoneId getZone() {
+    return zone;
+  }
+
+
+  /**
+   * Returns the date/time formatter cache used by this formatter. The cache statistics show how often formatters
+   * are reused.
+   *
+   * @return  date/time formatter cache, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull FormatInstanceCache<?,?> getFormatCache() {
+    return formatCache;
+  }
+
 
   /**
    * {@inheritDoc}
@@ -116,33 +202,73 @@ public final class TemporalFormatter extends AbstractParameterFormatter<Temporal
   public @NotNull Text formatValue(@NotNull ParameterFormatterContext context, @NotNull Temporal temporal)
   {
     final var format = context.getConfigValueString("date").orElse(null);
+    final var locale = context.getLocale();
+    final var zone = this.zone != null ? this.zone : ZoneId.systemDefault();
+
+    // fast path: medium date/time style, which is the default
+    if ((format == null || "medium".equals(format)) &&
+        (temporal instanceof Instant || temporal instanceof LocalDateTime))
+      return noSpaceText(getMediumFormatter(locale, zone).format(temporal));
+
     final DateTimeFormatter formatter;
 
     if (format != null && !STYLE.containsKey(format))
-      formatter = ofPattern(requireNonNull(format));
+      formatter = formatCache.get(new FormatKey(format, true, locale, zone), TemporalFormatter::createFormatter);
     else
     {
-      final var style = (format == null ? "MM" : STYLE.get(format)).toCharArray();
+      var style = format == null ? "MM" : STYLE.get(format);
 
       if (!temporal.isSupported(YEAR) &&
           !temporal.isSupported(DAY_OF_MONTH) &&
           !temporal.isSupported(DAY_OF_WEEK) &&
           !temporal.isSupported(INSTANT_SECONDS))
-        style[0] = '-';
+        style = "-" + style.charAt(1);
 
       if (!temporal.isSupported(HOUR_OF_DAY) &&
           !temporal.isSupported(MILLI_OF_DAY) &&
           !temporal.isSupported(INSTANT_SECONDS))
-        style[1] = '-';
+        style = style.charAt(0) + "-";
 
-      if ((formatter = FORMATTER.get(new String(style))) == null)
+      if (!FORMATTER.containsKey(style))
         return emptyText();
+
+      formatter = formatCache.get(new FormatKey(style, false, locale, zone), TemporalFormatter::createFormatter);
+    }
+
+    return noSpaceText(formatter.format(temporal));
+  }
+
+
+  private @NotNull DateTimeFormatter getMediumFormatter(@NotNull Locale locale, @NotNull ZoneId zone)
+  {
+    var mediumFormatters = this.mediumFormatters;
+
+    // the zone only changes if the system default time zone changes
+    if (mediumFormatters == null || !mediumFormatters.zone.equals(zone))
+      this.mediumFormatters = mediumFormatters = new MediumFormatters(zone, new ConcurrentHashMap<>());
+
+    final var formatterByLocale = mediumFormatters.formatterByLocale;
+    var formatter = formatterByLocale.get(locale);
+
+    if (formatter == null)
+    {
+      formatter = formatCache.get(new FormatKey("MM", false, locale, zone), TemporalFormatter::createFormatter);
+
+      // limit the number of locales in the same way as the format cache
+      if (formatterByLocale.size() < formatCache.getMaxSize())
+        formatterByLocale.put(locale, formatter);
     }
 
-    return noSpaceText(formatter
-        .withZone(ZoneId.systemDefault())
-        .withLocale(context.getLocale())
-        .format(temporal));
+    return formatter;
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull DateTimeFormatter createFormatter(@NotNull FormatKey key)
+  {
+    final var formatter = key.pattern ? ofPattern(key.format) : requireNonNull(FORMATTER.get(key.format));
+
+    return formatter.withZone(key.zone).withLocale(key.locale);
   }
 
 
@@ -167,4 +293,20 @@ public final class TemporalFormatter extends AbstractParameterFormatter<Temporal
   public @Unmodifiable @NotNull Set<String> getParameterConfigNames() {
     return Set.of("date");
   }
+
+
+
+
+  private record FormatKey(@NotNull String format, boolean pattern, @NotNull Locale locale, @NotNull ZoneId zone) {
+  }
+
+
+
+
+  /**
+   * Formatters for the medium date/time style by locale for a single zone. Formatting {@link Instant} and
+   * {@link LocalDateTime} values in the default style does not need a cache key.
+   */
+  private record MediumFormatters(@NotNull ZoneId zone, @NotNull Map<Locale,DateTimeFormatter> formatterByLocale) {
+  }
 }
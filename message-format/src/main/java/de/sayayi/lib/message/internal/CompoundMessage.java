@@ -38,6 +38,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
 import static java.util.Arrays.*;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
@@ -53,11 +54,14 @@ import static java.util.Objects.requireNonNull;
  * @since 0.8.0
  */
 @SuppressWarnings("ClassCanBeRecord")
-public final class CompoundMessage implements Message.WithSpaces
+public final class CompoundMessage implements Message.WithSpaces, FingerprintAware
 {
   /** Message parts, not empty */
   private final @NotNull MessagePart[] messageParts;
 
+  /** Structural fingerprint */
+  private final long fingerprint;
+
 
   /**
    * Construct a compound message based on the given {@code messageParts}.
@@ -85,6 +89,8 @@ public final class CompoundMessage implements Message.WithSpaces
     }
 
     this.messageParts = messageParts.toArray(MessagePart[]::new);
+
+    fingerprint = fingerprint(this.messageParts);
   }
 
 
@@ -161,6 +167,20 @@ public final class CompoundMessage implements Message.WithSpaces
   }
 
 
+  /**
+   * Returns the message parts without copying them. Contrary to {@link #getMessageParts()}, the returned array is
+   * the internal array of this message and must not be modified.
+   *
+   * @return  message parts, never {@code null} or empty
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull MessagePart[] getMessagePartsNoCopy() {
+    return messageParts;
+  }
+
+
   /** {@inheritDoc} */
   @Override
   @Unmodifiable
@@ -168,32 +188,62 @@ public final class CompoundMessage implements Message.WithSpaces
   {
     final var templateNames = new TreeSet<String>();
 
+    collectTemplateNames(templateNames);
+
+    return unmodifiableSet(templateNames);
+  }
+
+
+  /**
+   * Adds all template names in use by this message to the given {@code templateNames} set. Contrary to
+   * {@link #getTemplateNames()} no intermediate sets are created, which makes this method suitable for
+   * accumulating the templates referenced by a large number of messages.
+   *
+   * @param templateNames  set to add the template names to, not {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param1")
+  public void collectTemplateNames(@NotNull Set<String> templateNames)
+  {
     for(var messagePart: messageParts)
       switch(messagePart)
       {
         case TemplatePart template -> templateNames.add(template.getName());
         case ParameterPart parameter -> {
-          templateNames.addAll(parameter.getConfig().getTemplateNames());
-          templateNames.addAll(parameter.getMap().getTemplateNames());
+          parameter.getConfig().collectTemplateNames(templateNames);
+          parameter.getMap().collectTemplateNames(templateNames);
         }
-        case PostFormatterPart postFormatter -> templateNames.addAll(postFormatter.getConfig().getTemplateNames());
+        case PostFormatterPart postFormatter -> postFormatter.getConfig().collectTemplateNames(templateNames);
         default -> {
         }
       }
-
-    return unmodifiableSet(templateNames);
   }
 
 
   @Override
-  public boolean equals(Object o) {
-    return o instanceof CompoundMessage && deepEquals(messageParts, ((CompoundMessage)o).messageParts);
+  public boolean equals(Object o)
+  {
+    return o instanceof CompoundMessage that &&
+        fingerprint == that.fingerprint &&
+        deepEquals(messageParts, that.messageParts);
   }
 
 
   @Override
   public int hashCode() {
-    return 59 + deepHashCode(messageParts);
+    return Long.hashCode(fingerprint);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
   }
 
 
@@ -24,6 +24,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.nio.charset.Charset;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
+
 
 /**
  * Message implementation, representing an empty text without leading/trailing spaces.
@@ -31,8 +33,10 @@ import java.nio.charset.Charset;
  * @author Jeroen Gremmen
  * @since 0.1.0
  */
-public final class EmptyMessage implements Message.WithSpaces
+public final class EmptyMessage implements Message.WithSpaces, FingerprintAware
 {
+  private static final long FINGERPRINT = fingerprint(new MessagePart[] { Text.EMPTY });
+
   /** Empty message instance. */
   public static final Message.WithSpaces INSTANCE = new EmptyMessage();
 
@@ -106,7 +110,18 @@ public final class EmptyMessage implements Message.WithSpaces
 
   @Override
   public int hashCode() {
-    return EmptyMessage.class.hashCode();
+    return Long.hashCode(FINGERPRINT);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return FINGERPRINT;
   }
 
 
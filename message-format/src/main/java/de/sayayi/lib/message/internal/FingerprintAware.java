@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import org.jetbrains.annotations.Contract;
+
+
+/**
+ * This interface denotes that an immutable message, message part or message part component provides a precomputed
+ * structural fingerprint.
+ * <p>
+ * Equal objects always have the same fingerprint. Objects with different fingerprints are never equal, which allows
+ * {@code equals} implementations to return early without comparing the object structure. Fingerprints are only
+ * valid within a single JVM instance and must not be persisted.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see FingerprintSupport
+ */
+public interface FingerprintAware
+{
+  /**
+   * Returns the 64-bit structural fingerprint.
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  long getFingerprint();
+}
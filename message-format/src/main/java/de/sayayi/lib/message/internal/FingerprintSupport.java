@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.MessagePart.Parameter;
+import de.sayayi.lib.message.part.MessagePart.PostFormat;
+import de.sayayi.lib.message.part.MessagePart.Text;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+
+/**
+ * Support methods for calculating 64-bit structural fingerprints.
+ * <p>
+ * Fingerprints for text, parameter and post formatter parts are calculated from the properties exposed by the
+ * corresponding {@link MessagePart} interfaces, as the equality of these parts is defined by their interfaces. Objects
+ * which are neither {@link FingerprintAware} nor a string or a message part, derive their fingerprint from their hash
+ * code.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see FingerprintAware
+ */
+public final class FingerprintSupport
+{
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+
+  private FingerprintSupport() {
+  }
+
+
+  /**
+   * Combines the given {@code fingerprint} with {@code value}. The result depends on the order in which values are
+   * combined.
+   *
+   * @param fingerprint  fingerprint calculated so far
+   * @param value        value to combine with the fingerprint
+   *
+   * @return  combined fingerprint
+   */
+  @Contract(pure = true)
+  public static long combine(long fingerprint, long value) {
+    return mix(fingerprint * GOLDEN_RATIO + value);
+  }
+
+
+  /**
+   * Combines the given {@code fingerprint} with the leading and trailing space flags.
+   *
+   * @param fingerprint  fingerprint calculated so far
+   * @param spaceBefore  leading space flag
+   * @param spaceAfter   trailing space flag
+   *
+   * @return  combined fingerprint
+   */
+  @Contract(pure = true)
+  public static long combine(long fingerprint, boolean spaceBefore, boolean spaceAfter) {
+    return combine(fingerprint, (spaceBefore ? 2 : 0) + (spaceAfter ? 1 : 0));
+  }
+
+
+  /**
+   * Returns the fingerprint for the given object.
+   *
+   * @param o  object, or {@code null}
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  public static long fingerprint(Object o)
+  {
+    return switch(o) {
+      case null -> 0;
+      case FingerprintAware fingerprintAware -> fingerprintAware.getFingerprint();
+      case String string -> fingerprint(string);
+      case Text text -> fingerprint(text.getText(), text.isSpaceBefore(), text.isSpaceAfter());
+      case Parameter parameter -> fingerprint(parameter.getName(), parameter.getFormat(),
+          parameter.isSpaceBefore(), parameter.isSpaceAfter(), parameter.getConfig(), parameter.getMap());
+      case PostFormat postFormat -> fingerprint(postFormat.getName(), postFormat.getMessage(),
+          postFormat.isSpaceBefore(), postFormat.isSpaceAfter(), postFormat.getConfig());
+      default -> mix(o.hashCode());
+    };
+  }
+
+
+  /**
+   * Returns the fingerprint for the given string. Contrary to {@link String#hashCode()}, all 64 bits of the
+   * fingerprint depend on the string characters.
+   *
+   * @param string  string, or {@code null}
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  public static long fingerprint(String string)
+  {
+    if (string == null)
+      return 0;
+
+    var fingerprint = FNV_OFFSET_BASIS;
+
+    for(int n = 0, length = string.length(); n < length; n++)
+      fingerprint = (fingerprint ^ string.charAt(n)) * FNV_PRIME;
+
+    return mix(fingerprint);
+  }
+
+
+  /**
+   * Returns the fingerprint for the given message parts. The fingerprint depends on the order of the parts.
+   *
+   * @param messageParts  message parts, not {@code null}
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  public static long fingerprint(@NotNull MessagePart[] messageParts)
+  {
+    var fingerprint = (long)messageParts.length;
+
+    for(var messagePart: messageParts)
+      fingerprint = combine(fingerprint, fingerprint(messagePart));
+
+    return fingerprint;
+  }
+
+
+  /**
+   * Returns the fingerprint for the given map. The fingerprint does not depend on the iteration order of the map,
+   * so equal maps have the same fingerprint regardless of their implementation.
+   *
+   * @param map  map, not {@code null}
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  public static long fingerprint(@NotNull Map<?,?> map)
+  {
+    var fingerprint = 0L;
+
+    for(var entry: map.entrySet())
+      fingerprint += combine(fingerprint(entry.getKey()), fingerprint(entry.getValue()));
+
+    return combine(map.size(), fingerprint);
+  }
+
+
+  /**
+   * Returns the fingerprint for a text part.
+   *
+   * @param text         text, or {@code null}
+   * @param spaceBefore  leading space flag
+   * @param spaceAfter   trailing space flag
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  public static long fingerprint(String text, boolean spaceBefore, boolean spaceAfter) {
+    return combine(fingerprint(text), spaceBefore, spaceAfter);
+  }
+
+
+  /**
+   * Returns the fingerprint for a parameter part.
+   *
+   * @param name         parameter name, not {@code null}
+   * @param format       parameter format, or {@code null}
+   * @param spaceBefore  leading space flag
+   * @param spaceAfter   trailing space flag
+   * @param config       parameter configuration, not {@code null}
+   * @param map          parameter map, not {@code null}
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  public static long fingerprint(@NotNull String name, String format, boolean spaceBefore, boolean spaceAfter,
+                                 @NotNull MessagePart.Config config, @NotNull MessagePart.Map map)
+  {
+    var fingerprint = combine(fingerprint(name), fingerprint(format));
+    fingerprint = combine(fingerprint, fingerprint(config));
+    fingerprint = combine(fingerprint, fingerprint(map));
+
+    return combine(fingerprint, spaceBefore, spaceAfter);
+  }
+
+
+  /**
+   * Returns the fingerprint for a post formatter part.
+   *
+   * @param name         post formatter name, not {@code null}
+   * @param message      post formatter message, not {@code null}
+   * @param spaceBefore  leading space flag
+   * @param spaceAfter   trailing space flag
+   * @param config       post formatter configuration, not {@code null}
+   *
+   * @return  fingerprint
+   */
+  @Contract(pure = true)
+  public static long fingerprint(@NotNull String name, @NotNull Object message, boolean spaceBefore,
+                                 boolean spaceAfter, @NotNull MessagePart.Config config)
+  {
+    var fingerprint = combine(fingerprint(name), fingerprint(message));
+    fingerprint = combine(fingerprint, fingerprint(config));
+
+    return combine(fingerprint, spaceBefore, spaceAfter);
+  }
+
+
+  /**
+   * Finalization step of the MurmurHash3 64-bit hash function, which spreads all input bits over the result.
+   *
+   * @param z  value to mix
+   *
+   * @return  mixed value
+   */
+  @Contract(pure = true)
+  private static long mix(long z)
+  {
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+    return z ^ (z >>> 33);
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.function.IntFunction;
+
+import static java.util.Collections.unmodifiableList;
+
+
+/**
+ * Immutable, read-optimized map with {@link String} keys, used for frozen message codes and template names.
+ * <p>
+ * Keys and values are stored in sorted arrays, so iteration is always ordered by key. Lookups use an open
+ * addressing hash table (linear probing, load factor of at most 0.5) which refers to the sorted arrays. The hash
+ * codes of all keys are cached, so most probes for a non-matching key are resolved without invoking
+ * {@link String#equals(Object)}.
+ * <p>
+ * Lookups are lock-free and take constant time on average. All mutating operations throw an
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <V>  value type
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+final class FrozenNameMap<V> extends AbstractMap<String,V>
+{
+  /** Keys in natural order. */
+  private final @NotNull String[] keys;
+
+  /** Values, in the same order as {@link #keys}. */
+  private final @NotNull Object[] values;
+
+  /** Cached hash codes, in the same order as {@link #keys}. */
+  private final @NotNull int[] hashes;
+
+  /** Hash table containing {@code key index + 1} for each occupied slot and {@code 0} for empty slots. */
+  private final @NotNull int[] table;
+
+  private Set<String> keySet;
+  private Collection<V> valueCollection;
+  private Set<Entry<String,V>> entrySet;
+
+
+  /**
+   * Creates a frozen copy of the given {@code map}.
+   *
+   * @param map  map to copy, not {@code null}. The map must not contain {@code null} keys
+   */
+  FrozenNameMap(@NotNull Map<String,? extends V> map)
+  {
+    keys = map.keySet().toArray(String[]::new);
+    Arrays.sort(keys);
+
+    final var size = keys.length;
+
+    values = new Object[size];
+    hashes = new int[size];
+    table = new int[size == 0 ? 1 : Integer.highestOneBit(size * 2 - 1) << 1];
+
+    final var mask = table.length - 1;
+
+    for(int n = 0; n < size; n++)
+    {
+      final var key = keys[n];
+      final var hash = key.hashCode();
+
+      values[n] = map.get(key);
+      hashes[n] = hash;
+
+      var slot = spread(hash) & mask;
+      while(table[slot] != 0)
+        slot = (slot + 1) & mask;
+
+      table[slot] = n + 1;
+    }
+  }
+
+
+  @Contract(pure = true)
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+
+  /**
+   * Returns the index of the given {@code key} in the sorted key array.
+   *
+   * @param key  key to look up
+   *
+   * @return  key index or {@code -1} if this map does not contain the key
+   */
+  @Contract(pure = true)
+  private int indexOf(Object key)
+  {
+    if (key instanceof String)
+    {
+      final var hash = key.hashCode();
+      final var mask = table.length - 1;
+
+      for(var slot = spread(hash) & mask;; slot = (slot + 1) & mask)
+      {
+        final var index = table[slot] - 1;
+
+        if (index < 0)
+          break;
+        if (hashes[index] == hash && keys[index].equals(key))
+          return index;
+      }
+    }
+
+    return -1;
+  }
+
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key)
+  {
+    final var index = indexOf(key);
+    return index < 0 ? null : (V)values[index];
+  }
+
+
+  @Override
+  public @NotNull Set<String> keySet()
+  {
+    if (keySet == null)
+      keySet = new ArrayBackedSet<>(n -> keys[n]) {
+        @Override
+        public boolean contains(Object o) {
+          return indexOf(o) >= 0;
+        }
+      };
+
+    return keySet;
+  }
+
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull Collection<V> values()
+  {
+    if (valueCollection == null)
+      valueCollection = unmodifiableList((List<V>)Arrays.asList(values));
+
+    return valueCollection;
+  }
+
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull Set<Entry<String,V>> entrySet()
+  {
+    if (entrySet == null)
+      entrySet = new ArrayBackedSet<>(n -> new SimpleImmutableEntry<>(keys[n], (V)values[n]));
+
+    return entrySet;
+  }
+
+
+
+
+  /**
+   * Unmodifiable set view, iterating the elements in key order.
+   *
+   * @param <E>  element type
+   */
+  private class ArrayBackedSet<E> extends AbstractSet<E>
+  {
+    private final @NotNull IntFunction<E> elementFunction;
+
+
+    private ArrayBackedSet(@NotNull IntFunction<E> elementFunction) {
+      this.elementFunction = elementFunction;
+    }
+
+
+    @Override
+    public int size() {
+      return keys.length;
+    }
+
+
+    @Override
+    public @NotNull Iterator<E> iterator()
+    {
+      return new Iterator<>() {
+        private int n = 0;
+
+
+        @Override
+        public boolean hasNext() {
+          return n < keys.length;
+        }
+
+
+        @Override
+        public E next()
+        {
+          if (!hasNext())
+            throw new NoSuchElementException();
+
+          return elementFunction.apply(n++);
+        }
+      };
+    }
+  }
+}
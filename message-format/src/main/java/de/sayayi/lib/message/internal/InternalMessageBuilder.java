@@ -34,6 +34,7 @@ import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.MessagePart.Text;
 import de.sayayi.lib.message.part.TextJoiner;
 import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -67,6 +68,7 @@ import static java.util.Objects.requireNonNull;
 public final class InternalMessageBuilder implements MessageBuilder
 {
   private final @NotNull MessageFactory messageFactory;
+  private final @NotNull MessagePartNormalizer normalizer;
   private final @NotNull List<MessagePart> parts;
   private Runnable activePartFlusher;
 
@@ -79,6 +81,7 @@ public final class InternalMessageBuilder implements MessageBuilder
   public InternalMessageBuilder(@NotNull MessageFactory messageFactory)
   {
     this.messageFactory = requireNonNull(messageFactory, "messageFactory must not be null");
+    this.normalizer = PreParsingMessagePartNormalizer.of(messageFactory);
     this.parts = new ArrayList<>();
   }
 
@@ -175,6 +178,21 @@ public final class InternalMessageBuilder implements MessageBuilder
   }
 
 
+  /**
+   * Normalizes all typed values in the given map using the message factory's part normalizer.
+   *
+   * @param values  map with typed values, not {@code null}
+   *
+   * @return  the same map with normalized values, never {@code null}
+   */
+  @Contract(value = "_ -> param1", mutates = "param1")
+  private <K> @NotNull Map<K,TypedValue<?>> normalizeValues(@NotNull Map<K,TypedValue<?>> values)
+  {
+    values.replaceAll((key, value) -> normalizer.normalizeValue(value));
+    return values;
+  }
+
+
   /** {@inheritDoc} */
   @Override
   public @NotNull Message.WithSpaces build()
@@ -185,6 +203,7 @@ public final class InternalMessageBuilder implements MessageBuilder
       return EmptyMessage.INSTANCE;
 
     mergeConsecutiveTextParts();
+    parts.replaceAll(normalizer::normalize);
 
     return parts.size() == 1 && parts.getFirst() instanceof Text textPart
         ? new TextMessage(textPart)
@@ -466,7 +485,8 @@ public final class InternalMessageBuilder implements MessageBuilder
       activePartFlusher = null;
 
       parts.add(new ParameterPart(name, format, spaceBefore, spaceAfter,
-          new MessagePartConfig(config), new MessagePartMap(map)));
+          normalizer.normalizeConfig(new MessagePartConfig(normalizeValues(config))),
+          normalizer.normalizeMap(new MessagePartMap(normalizeValues(map)))));
     }
 
 
@@ -538,7 +558,8 @@ public final class InternalMessageBuilder implements MessageBuilder
      */
     private @NotNull ParameterBuilder addMapEntry(@NotNull MapKey key, @NotNull Message.WithSpaces message)
     {
-      map.put(key, new TypedValueMessage(requireNonNull(message, "message must not be null")));
+      map.put(normalizer.normalizeMapKey(key),
+          new TypedValueMessage(requireNonNull(message, "message must not be null")));
       return this;
     }
 
@@ -688,7 +709,8 @@ public final class InternalMessageBuilder implements MessageBuilder
     {
       activePartFlusher = null;
 
-      parts.add(new PostFormatterPart(name, innerMessage, spaceBefore, spaceAfter, new MessagePartConfig(config)));
+      parts.add(new PostFormatterPart(name, innerMessage, spaceBefore, spaceAfter,
+          normalizer.normalizeConfig(new MessagePartConfig(normalizeValues(config)))));
     }
 
 
@@ -814,7 +836,8 @@ public final class InternalMessageBuilder implements MessageBuilder
     {
       activePartFlusher = null;
 
-      parts.add(new TemplatePart(name, spaceBefore, spaceAfter, defaultParameters, parameterDelegates));
+      parts.add(new TemplatePart(name, spaceBefore, spaceAfter, normalizeValues(defaultParameters),
+          parameterDelegates));
     }
 
 
@@ -31,7 +31,8 @@ import static java.util.Spliterators.emptySpliterator;
 
 
 /**
- * Immutable snapshot of the locale and parameter values from a {@link Configurer}, used to pass formatting context to
+ * Immutable snapshot of the locale and parameter values from a {@link Configurer} or
+ * {@link de.sayayi.lib.message.ParameterSlots ParameterSlots}, used to pass formatting context to
  * {@link de.sayayi.lib.message.Message#format Message.format(...)}.
  * <p>
  * Parameter names are kept in sorted order to allow efficient binary-search based lookup by name.
@@ -39,7 +40,7 @@ import static java.util.Spliterators.emptySpliterator;
  * @author Jeroen Gremmen
  * @since 0.8.0
  */
-final class MessageParameters implements Parameters
+public final class MessageParameters implements Parameters
 {
   private final Locale locale;
   private final Object[] parameters;
@@ -57,6 +58,22 @@ final class MessageParameters implements Parameters
   }
 
 
+  /**
+   * Creates a new parameters instance for the given {@code locale} and name/value pairs. The array contains
+   * alternating parameter names and values, sorted by parameter name. The array is copied.
+   *
+   * @param locale      locale, not {@code null}
+   * @param parameters  sorted name/value pairs, not {@code null}
+   *
+   * @since 0.24.0
+   */
+  public MessageParameters(@NotNull Locale locale, @NotNull Object[] parameters)
+  {
+    this.locale = requireNonNull(locale, "locale must not be null");
+    this.parameters = requireNonNull(parameters, "parameters must not be null").clone();
+  }
+
+
   /** {@inheritDoc} */
   @Override
   public @NotNull Locale getLocale() {
@@ -126,7 +143,7 @@ final class MessageParameters implements Parameters
     var hash = locale.hashCode();
 
     for(var parameter: parameters)
-      hash += parameter.hashCode();
+      hash += Objects.hashCode(parameter);
 
     return hash;
   }
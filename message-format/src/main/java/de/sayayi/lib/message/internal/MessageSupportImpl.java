@@ -20,36 +20,50 @@ import de.sayayi.lib.message.MessageFactory;
 import de.sayayi.lib.message.MessageSupport;
 import de.sayayi.lib.message.exception.DuplicateMessageException;
 import de.sayayi.lib.message.exception.DuplicateTemplateException;
+import de.sayayi.lib.message.exception.MessageException;
 import de.sayayi.lib.message.formatter.FormatterService;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
 import de.sayayi.lib.message.formatter.post.PostFormatter;
+import de.sayayi.lib.message.internal.jfr.FormatEvent;
 import de.sayayi.lib.message.internal.pack.PackSupport;
 import de.sayayi.lib.message.internal.part.typedvalue.TypedValueBool;
 import de.sayayi.lib.message.internal.part.typedvalue.TypedValueMessage;
 import de.sayayi.lib.message.internal.part.typedvalue.TypedValueNumber;
 import de.sayayi.lib.message.internal.part.typedvalue.TypedValueString;
+import de.sayayi.lib.message.internal.trace.Tracer;
+import de.sayayi.lib.message.metrics.MessageMetrics;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.trace.FormatTrace;
+import de.sayayi.lib.message.util.MessageUtil;
 import de.sayayi.lib.message.util.SupplierDelegate;
+import de.sayayi.lib.message.warmup.WarmUpProfileRecorder;
+import de.sayayi.lib.message.workload.WorkloadRecorder;
 import de.sayayi.lib.pack.PackOutputStream;
 import lombok.SneakyThrows;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.*;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Map.Entry;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static de.sayayi.lib.message.internal.pack.PackSupport.PACK_CONFIG;
-import static de.sayayi.lib.message.internal.pack.PackSupport.VERSION;
+import static de.sayayi.lib.message.internal.pack.PackSupport.packCount;
+import static de.sayayi.lib.message.internal.pack.PackSupport.packVersion;
+import static de.sayayi.lib.message.metrics.MessageMetrics.DISABLED;
 import static de.sayayi.lib.message.util.MessageUtil.isKebabOrLowerCamelCaseName;
 import static de.sayayi.lib.message.util.MessageUtil.validateName;
 import static java.lang.System.arraycopy;
@@ -68,6 +82,14 @@ import static java.util.stream.Collectors.toCollection;
  * Duplicate messages and templates are handled by configurable filters. By default, adding a message or template with
  * a code or name that already exists will throw a {@link DuplicateMessageException} or
  * {@link DuplicateTemplateException} respectively.
+ * <p>
+ * Messages and templates are kept in a snapshot which is replaced as a whole by {@link #reload(CatalogLoader)}.
+ * Adding messages or templates is not thread-safe; instances which are in use by formatting threads should be
+ * updated using a reload only.
+ * <p>
+ * An overlay instance, created by {@link #MessageSupportImpl(MessageSupport)}, layers its own messages, templates
+ * and default configuration on top of a base message support. Lookups which cannot be satisfied by the overlay are
+ * delegated to the current snapshot of the base message support, which is never copied.
  *
  * @author Jeroen Gremmen
  * @since 0.8.0
@@ -77,13 +99,22 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   private final @NotNull FormatterService formatterService;
   private final @NotNull MessageFactory messageFactory;
   private final @NotNull Map<String,TypedValue<?>> defaultConfig = new TreeMap<>();
-  private final @NotNull Map<String,Message.WithCode> messages = new TreeMap<>();
-  private final @NotNull Map<String,Message> templates = new TreeMap<>();
-  private final @NotNull MessageAccessor messageAccessor;
+  private final @NotNull Lock $reloadLock = new ReentrantLock();
+  private final @NotNull MessageFilter defaultMessageFilter = this::failOnDuplicateMessage;
+  private final @NotNull TemplateFilter defaultTemplateFilter = this::failOnDuplicateTemplate;
+
+  /** Base message support for overlay instances, or {@code null}. */
+  private final MessageSupport base;
+
+  /** Current messages and templates snapshot. */
+  private volatile @NotNull Accessor messageAccessor;
 
   private @NotNull Locale locale;
   private @NotNull MessageFilter messageFilter;
   private @NotNull TemplateFilter templateFilter;
+  private @NotNull MessageMetrics metrics = DISABLED;
+  private WorkloadRecorder workloadRecorder;
+  private WarmUpProfileRecorder profileRecorder;
 
 
   /**
@@ -94,13 +125,62 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
    */
   public MessageSupportImpl(@NotNull FormatterService formatterService, @NotNull MessageFactory messageFactory)
   {
-    this.formatterService = requireNonNull(formatterService, "formatterService must not be null");
-    this.messageFactory = requireNonNull(messageFactory, "messageFactory must not be null");
+    this(requireNonNull(formatterService, "formatterService must not be null"),
+        requireNonNull(messageFactory, "messageFactory must not be null"), null);
+  }
+
+
+  /**
+   * Creates a new overlay message support instance on top of the given {@code base} message support.
+   * <p>
+   * The overlay shares the formatter service and message factory with the base message support and starts with
+   * the locale of the base message support. Messages, templates and default configuration values added to the
+   * overlay take precedence over the ones provided by the base message support. Adding a message or template
+   * to the overlay never conflicts with a message or template in the base message support.
+   *
+   * @param base  base message support, not {@code null}
+   *
+   * @throws IllegalArgumentException  if {@code base} has not been created by {@code MessageSupportFactory}
+   *
+   * @since 0.24.0
+   */
+  public MessageSupportImpl(@NotNull MessageSupport base) {
+    this(baseOf(base), base);
+  }
+
+
+  private MessageSupportImpl(@NotNull MessageSupportImpl baseSupport, @NotNull MessageSupport base)
+  {
+    this(baseSupport.formatterService, baseSupport.messageFactory, base);
+
+    locale = baseSupport.locale;
+    metrics = baseSupport.metrics;
+    workloadRecorder = baseSupport.workloadRecorder;
+    profileRecorder = baseSupport.profileRecorder;
+  }
+
 
-    messageAccessor = new Accessor();
+  private MessageSupportImpl(@NotNull FormatterService formatterService, @NotNull MessageFactory messageFactory,
+                             MessageSupport base)
+  {
+    this.formatterService = formatterService;
+    this.messageFactory = messageFactory;
+    this.base = base;
+
+    messageAccessor = new Accessor(new TreeMap<>(), new TreeMap<>());
     locale = Locale.getDefault();
-    messageFilter = this::failOnDuplicateMessage;
-    templateFilter = this::failOnDuplicateTemplate;
+    messageFilter = defaultMessageFilter;
+    templateFilter = defaultTemplateFilter;
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull MessageSupportImpl baseOf(@NotNull MessageSupport base)
+  {
+    if (requireNonNull(base, "base must not be null").getMessageAccessor() instanceof Accessor accessor)
+      return accessor.getMessageSupport();
+
+    throw new IllegalArgumentException("base must have been created by MessageSupportFactory");
   }
 
 
@@ -120,6 +200,33 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   }
 
 
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull ConfigurableMessageSupport setMetrics(@NotNull MessageMetrics metrics)
+  {
+    this.metrics = requireNonNull(metrics, "metrics must not be null");
+    return this;
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull ConfigurableMessageSupport setWorkloadRecorder(WorkloadRecorder workloadRecorder)
+  {
+    this.workloadRecorder = workloadRecorder;
+    return this;
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull ConfigurableMessageSupport setWarmUpProfileRecorder(WarmUpProfileRecorder profileRecorder)
+  {
+    this.profileRecorder = profileRecorder;
+    return this;
+  }
+
+
   /** {@inheritDoc} */
   @Override
   public @NotNull ConfigurableMessageSupport setDefaultConfig(@NotNull String name, boolean value)
@@ -181,7 +288,36 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   public @NotNull ConfigurableMessageSupport addMessage(@NotNull Message.WithCode message)
   {
     if (messageFilter.filter(requireNonNull(message, "message must not be null")))
-      messages.put(message.getCode(), message);
+      messageAccessor.messages.put(message.getCode(), message);
+
+    return this;
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull ConfigurableMessageSupport addMessages(@NotNull Collection<Message.WithCode> messages)
+  {
+    final var addedMessages = new TreeMap<String,Message.WithCode>();
+
+    for(var message: requireNonNull(messages, "messages must not be null"))
+    {
+      final var code = requireNonNull(message, "message must not be null").getCode();
+      final var addedMessage = addedMessages.get(code);
+
+      if (addedMessage != null)
+      {
+        if (!addedMessage.isSame(message))
+        {
+          throw new DuplicateMessageException(code,
+              "different message with identical code '" + code + "' already exists");
+        }
+      }
+      else if (messageFilter.filter(message))
+        addedMessages.put(code, message);
+    }
+
+    messageAccessor.messages.putAll(addedMessages);
 
     return this;
   }
@@ -192,7 +328,97 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   public @NotNull ConfigurableMessageSupport addTemplate(@NotNull String name, @NotNull Message template)
   {
     if (templateFilter.filter(validateName(name, "template name"), template))
-      templates.put(name, requireNonNull(template));
+      messageAccessor.templates.put(name, requireNonNull(template));
+
+    return this;
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull ConfigurableMessageSupport reload(@NotNull CatalogLoader catalogLoader) throws IOException
+  {
+    requireNonNull(catalogLoader, "catalogLoader must not be null");
+
+    $reloadLock.lock();
+    try {
+      final var staged = new MessageSupportImpl(formatterService, messageFactory, base);
+
+      // the default duplicate filters are bound to the instance they check
+      if (messageFilter != defaultMessageFilter)
+        staged.messageFilter = messageFilter;
+      if (templateFilter != defaultTemplateFilter)
+        staged.templateFilter = templateFilter;
+
+      staged.locale = locale;
+      staged.metrics = metrics;
+      staged.workloadRecorder = workloadRecorder;
+      staged.profileRecorder = profileRecorder;
+      staged.defaultConfig.putAll(defaultConfig);
+
+      catalogLoader.load(staged);
+
+      final var stagedAccessor = staged.messageAccessor;
+      final var missingTemplateNames = stagedAccessor.findMissingTemplates(null);
+
+      if (!missingTemplateNames.isEmpty())
+        throw new MessageException("missing message templates: " + String.join(", ", missingTemplateNames));
+
+      // publish the staged messages and templates
+      messageAccessor = new Accessor(stagedAccessor.messages, stagedAccessor.templates);
+    } finally {
+      $reloadLock.unlock();
+    }
+
+    return this;
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull MessageSupport freeze()
+  {
+    final var frozen = new MessageSupportImpl(formatterService, messageFactory);
+    final var accessor = messageAccessor;
+
+    frozen.locale = locale;
+    frozen.metrics = metrics;
+    frozen.workloadRecorder = workloadRecorder;
+    frozen.profileRecorder = profileRecorder;
+    frozen.defaultConfig.putAll(accessor.getDefaultConfigs());
+    frozen.messageAccessor = frozen.new Accessor(
+        new FrozenNameMap<>(accessor.getMessages()), new FrozenNameMap<>(accessor.getTemplates()));
+
+    return frozen.seal();
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull ConfigurableMessageSupport importMessages(@NotNull InputStream packStream) throws IOException
+  {
+    final var normalizer = PreParsingMessagePartNormalizer.of(messageFactory);
+    final var metrics = this.metrics;
+
+    if (metrics == DISABLED)
+      MessageUtil.importMessages(packStream, normalizer, this::addMessage, this::addTemplate);
+    else
+    {
+      final var start = System.nanoTime();
+      final var counts = new int[2];
+
+      MessageUtil.importMessages(packStream, normalizer,
+          message -> {
+            addMessage(message);
+            counts[0]++;
+          },
+          (name, template) -> {
+            addTemplate(name, template);
+            counts[1]++;
+          });
+
+      metrics.packImported(counts[0], counts[1], System.nanoTime() - start);
+    }
 
     return this;
   }
@@ -203,27 +429,56 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   public void exportMessages(@NotNull OutputStream stream, boolean compress, Predicate<String> messageCodeFilter)
       throws IOException
   {
-    try(var dataStream = new PackOutputStream(PACK_CONFIG, VERSION, compress, stream)) {
-      final var messageCodes = new TreeSet<>(messages.keySet());
-      final var templateNames = new TreeSet<String>();
+    final var accessor = messageAccessor;
+    final var messages = accessor.getMessages();
+    final var templates = accessor.getTemplates();
 
-      // filter message codes
-      if (messageCodeFilter != null)
-        messageCodes.removeIf(messageCodeFilter.negate());
+    // select filtered messages; the message map is sorted by code so no copy is required
+    final BitSet selectedMessages;
+    final int messageCount;
 
-      // pack all filtered messages
-      dataStream.writeUnsignedShort(messageCodes.size());
-      for(var code: messageCodes)
+    if (messageCodeFilter == null)
+    {
+      selectedMessages = null;
+      messageCount = messages.size();
+    }
+    else
+    {
+      selectedMessages = new BitSet(messages.size());
+
+      var n = 0;
+      for(var code: messages.keySet())
       {
-        final var message = messages.get(code);
+        if (messageCodeFilter.test(code))
+          selectedMessages.set(n);
 
-        templateNames.addAll(message.getTemplateNames());
-        PackSupport.pack(message, dataStream);
+        n++;
       }
 
+      messageCount = selectedMessages.cardinality();
+    }
+
+    // the number of required templates is not known before all messages have been packed
+    final var version = packVersion(messageCount, templates.size());
+
+    try(var dataStream = new PackOutputStream(PACK_CONFIG, version, compress, stream)) {
+      final var templateNames = new TreeSet<String>();
+
+      // pack all filtered messages
+      packCount(version, messageCount, dataStream);
+
+      var n = 0;
+      for(var message: messages.values())
+        if (selectedMessages == null || selectedMessages.get(n++))
+        {
+          collectTemplateNames(message, templateNames);
+          PackSupport.pack(message, dataStream);
+        }
+
       // pack all required templates
       templateNames.removeIf(templateName -> !templates.containsKey(templateName));
-      dataStream.writeUnsignedShort(templateNames.size());
+      packCount(version, templateNames.size(), dataStream);
+
       for(var templateName: templateNames)
       {
         dataStream.writeString(templateName);
@@ -233,22 +488,39 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   }
 
 
+  private static void collectTemplateNames(@NotNull Message message, @NotNull Set<String> templateNames)
+  {
+    switch(message)
+    {
+      case CompoundMessage compoundMessage -> compoundMessage.collectTemplateNames(templateNames);
+      case MessageDelegateWithCode messageDelegate ->
+          collectTemplateNames(messageDelegate.getMessage(), templateNames);
+      case LocalizedMessageBundleWithCode localizedMessageBundle -> {
+        for(var localizedMessage: localizedMessageBundle.getLocalizedMessages().values())
+          collectTemplateNames(localizedMessage, templateNames);
+      }
+      default -> templateNames.addAll(message.getTemplateNames());
+    }
+  }
+
+
   /** {@inheritDoc} */
   @Override
   public @NotNull MessageConfigurer<Message.WithCode> code(@NotNull String code)
   {
-    var message = messages.get(validateName(code, "message code"));
+    final var accessor = messageAccessor;
+    final var message = accessor.getMessageByCode(validateName(code, "message code"));
     if (message == null)
       throw new IllegalArgumentException("unknown message code '" + code + '\'');
 
-    return new Configurer<>(() -> message);
+    return new Configurer<>(accessor, () -> message);
   }
 
 
   /** {@inheritDoc} */
   @Override
   public @NotNull MessageConfigurer<Message> message(@NotNull String message) {
-    return new Configurer<>(SupplierDelegate.of(() -> messageFactory.parseMessage(message)));
+    return new Configurer<>(messageAccessor, SupplierDelegate.of(() -> messageFactory.parseMessage(message)));
   }
 
 
@@ -258,7 +530,62 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   {
     requireNonNull(message, "message must not be null");
 
-    return new Configurer<>(() -> message);
+    return new Configurer<>(messageAccessor, () -> message);
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull String format(@NotNull Message message, @NotNull Message.Parameters parameters)
+  {
+    return format(messageAccessor, requireNonNull(message, "message must not be null"),
+        requireNonNull(parameters, "parameters must not be null"));
+  }
+
+
+  private @NotNull String format(@NotNull Accessor accessor, @NotNull Message message,
+                                 @NotNull Message.Parameters parameters)
+  {
+    final var metrics = this.metrics;
+    final var workloadRecorder = this.workloadRecorder;
+    final var profileRecorder = this.profileRecorder;
+    final var event = new FormatEvent();
+    final String text;
+
+    if (workloadRecorder != null)
+      workloadRecorder.record(message, parameters);
+    if (profileRecorder != null)
+      profileRecorder.record(message, parameters);
+
+    event.begin();
+
+    if (metrics == DISABLED)
+      text = message.format(accessor, parameters);
+    else
+    {
+      final var start = System.nanoTime();
+      try {
+        text = message.format(accessor, parameters);
+      } finally {
+        metrics.messageFormatted(codeOf(message), System.nanoTime() - start);
+      }
+    }
+
+    if (event.shouldCommit())
+    {
+      event.code = codeOf(message);
+      event.locale = parameters.getLocale().toLanguageTag();
+      event.textLength = text.length();
+      event.commit();
+    }
+
+    return text;
+  }
+
+
+  @Contract(pure = true)
+  private static String codeOf(@NotNull Message message) {
+    return message instanceof Message.WithCode withCode ? withCode.getCode() : null;
   }
 
 
@@ -277,7 +604,7 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   private boolean failOnDuplicateMessage(@NotNull Message.WithCode message)
   {
     final var code = message.getCode();
-    final var tm = messages.get(code);
+    final var tm = messageAccessor.messages.get(code);
 
     if (tm != null)
     {
@@ -309,7 +636,7 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
    */
   private boolean failOnDuplicateTemplate(@NotNull String name, @NotNull Message template)
   {
-    var ttm = templates.get(name);
+    var ttm = messageAccessor.templates.get(name);
     if (ttm != null)
     {
       if (!ttm.isSame(template))
@@ -335,14 +662,16 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
    */
   public final class Configurer<M extends Message> implements MessageConfigurer<M>
   {
+    private final @NotNull Accessor messageAccessor;
     private final @NotNull Supplier<M> message;
     @NotNull Locale locale;
     @NotNull Object[] parameters;
     int parameterCount;
 
 
-    Configurer(@NotNull Supplier<M> message)
+    Configurer(@NotNull Accessor messageAccessor, @NotNull Supplier<M> message)
     {
+      this.messageAccessor = messageAccessor;
       this.message = message;
 
       locale = MessageSupportImpl.this.locale;
@@ -455,7 +784,16 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
     /** {@inheritDoc} */
     @Override
     public @NotNull String format() {
-      return getMessage().format(messageAccessor, new MessageParameters(this));
+      return format(new MessageParameters(this));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull FormatTrace formatWithTrace()
+    {
+      final var parameters = new MessageParameters(this);
+      return Tracer.trace(codeOf(getMessage()), () -> format(parameters));
     }
 
 
@@ -466,7 +804,7 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
       // as formatting is deferred, make sure we're using a copy of the parameters
       var parameters = new MessageParameters(this);
 
-      return SupplierDelegate.of(() -> getMessage().format(messageAccessor, parameters));
+      return SupplierDelegate.of(() -> format(parameters));
     }
 
 
@@ -493,7 +831,7 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
       // as formatting is deferred, make sure we're using a copy of the parameters
       final var parameters = new MessageParameters(this);
 
-      return SupplierDelegate.of(() -> constructor.construct(getMessage().format(messageAccessor, parameters), cause));
+      return SupplierDelegate.of(() -> constructor.construct(format(parameters), cause));
     }
 
 
@@ -505,7 +843,12 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
       // as formatting is deferred, make sure we're using a copy of the parameters
       final var parameters = new MessageParameters(this);
 
-      return () -> constructor.construct(getMessage().format(messageAccessor, parameters));
+      return () -> constructor.construct(format(parameters));
+    }
+
+
+    private @NotNull String format(@NotNull MessageParameters parameters) {
+      return MessageSupportImpl.this.format(messageAccessor, getMessage(), parameters);
     }
   }
 
@@ -515,9 +858,105 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
   /**
    * Internal {@link MessageAccessor} implementation providing read-only access to the messages, templates,
    * formatters and default configuration managed by the enclosing {@link MessageSupportImpl}.
+   * <p>
+   * Each accessor represents a snapshot of messages and templates. A {@link #reload(CatalogLoader) reload}
+   * publishes a new accessor, whereas existing accessors keep referring to their own snapshot.
+   * <p>
+   * For overlay instances, the accessor resolves messages, templates and default configuration values from its
+   * own snapshot first and from the current accessor of the base message support otherwise.
    */
   public final class Accessor implements MessageAccessor
   {
+    private final @NotNull Map<String,Message.WithCode> messages;
+    private final @NotNull Map<String,Message> templates;
+    private volatile OverlayNameMap<Message.WithCode> messagesView;
+    private volatile OverlayNameMap<Message> templatesView;
+    private volatile OverlayNameMap<TypedValue<?>> defaultConfigsView;
+
+
+    private Accessor(@NotNull Map<String,Message.WithCode> messages, @NotNull Map<String,Message> templates)
+    {
+      this.messages = messages;
+      this.templates = templates;
+    }
+
+
+    @Contract(pure = true)
+    private @NotNull MessageSupportImpl getMessageSupport() {
+      return MessageSupportImpl.this;
+    }
+
+
+    @Contract(pure = true)
+    private @NotNull Accessor getBaseAccessor() {
+      return (Accessor)base.getMessageAccessor();
+    }
+
+
+    /**
+     * Returns all messages visible to this accessor, including messages provided by the base message support.
+     *
+     * @return  messages sorted by code, never {@code null}
+     */
+    @Contract(pure = true)
+    private @NotNull Map<String,Message.WithCode> getMessages()
+    {
+      if (base == null)
+        return messages;
+
+      final var baseMessages = getBaseAccessor().getMessages();
+      var view = messagesView;
+
+      if (view == null || !view.isLayeredOn(baseMessages))
+        messagesView = view = new OverlayNameMap<>(messages, baseMessages);
+
+      return view;
+    }
+
+
+    /**
+     * Returns all templates visible to this accessor, including templates provided by the base message support.
+     *
+     * @return  templates sorted by name, never {@code null}
+     */
+    @Contract(pure = true)
+    private @NotNull Map<String,Message> getTemplates()
+    {
+      if (base == null)
+        return templates;
+
+      final var baseTemplates = getBaseAccessor().getTemplates();
+      var view = templatesView;
+
+      if (view == null || !view.isLayeredOn(baseTemplates))
+        templatesView = view = new OverlayNameMap<>(templates, baseTemplates);
+
+      return view;
+    }
+
+
+    /**
+     * Returns all default configuration values visible to this accessor, including default configuration values
+     * provided by the base message support.
+     *
+     * @return  default configuration values sorted by name, never {@code null}
+     */
+    @Contract(pure = true)
+    private @NotNull Map<String,TypedValue<?>> getDefaultConfigs()
+    {
+      if (base == null)
+        return defaultConfig;
+
+      final var baseDefaultConfigs = getBaseAccessor().getDefaultConfigs();
+      var view = defaultConfigsView;
+
+      if (view == null || !view.isLayeredOn(baseDefaultConfigs))
+        defaultConfigsView = view = new OverlayNameMap<>(defaultConfig, baseDefaultConfigs);
+
+      return view;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public @NotNull MessageFactory getMessageFactory() {
@@ -535,49 +974,59 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
     /** {@inheritDoc} */
     @Override
     public @NotNull @UnmodifiableView Set<String> getMessageCodes() {
-      return unmodifiableSet(messages.keySet());
+      return unmodifiableSet(getMessages().keySet());
     }
 
 
     /** {@inheritDoc} */
     @Override
     public @NotNull @UnmodifiableView Set<String> getTemplateNames() {
-      return unmodifiableSet(templates.keySet());
+      return unmodifiableSet(getTemplates().keySet());
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public Message getTemplateByName(@NotNull String name) {
-      return templates.get(name);
+    public Message getTemplateByName(@NotNull String name)
+    {
+      final var template = templates.get(name);
+      return template != null || base == null ? template : getBaseAccessor().getTemplateByName(name);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public boolean hasMessageWithCode(String code) {
-      return code != null && messages.containsKey(code);
+    public boolean hasMessageWithCode(String code)
+    {
+      return code != null &&
+          (messages.containsKey(code) || base != null && getBaseAccessor().hasMessageWithCode(code));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public Message.WithCode getMessageByCode(@NotNull String code) {
-      return messages.get(code);
+    public Message.WithCode getMessageByCode(@NotNull String code)
+    {
+      final var message = messages.get(code);
+      return message != null || base == null ? message : getBaseAccessor().getMessageByCode(code);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public boolean hasTemplateWithName(String name) {
-      return name != null && templates.containsKey(name);
+    public boolean hasTemplateWithName(String name)
+    {
+      return name != null &&
+          (templates.containsKey(name) || base != null && getBaseAccessor().hasTemplateWithName(name));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public TypedValue<?> getDefaultConfig(@NotNull String name) {
-      return defaultConfig.get(name);
+    public TypedValue<?> getDefaultConfig(@NotNull String name)
+    {
+      final var value = defaultConfig.get(name);
+      return value != null || base == null ? value : getBaseAccessor().getDefaultConfig(name);
     }
 
 
@@ -600,13 +1049,13 @@ public final class MessageSupportImpl implements MessageSupport.ConfigurableMess
     @Override
     public @NotNull Set<String> findMissingTemplates(Predicate<String> messageCodeFilter)
     {
-      return messages
+      return getMessages()
           .values()
           .stream()
           .filter(message -> messageCodeFilter == null || messageCodeFilter.test(message.getCode()))
           .flatMap(message -> message.getTemplateNames().stream())
           .distinct()
-          .filter(templateName -> !templates.containsKey(templateName))
+          .filter(templateName -> !hasTemplateWithName(templateName))
           .collect(toCollection(TreeSet::new));
     }
   }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.Message.LocaleAware;
+import de.sayayi.lib.message.MessageSupport.MessageAccessor;
+import de.sayayi.lib.message.exception.MessageParserException;
+import de.sayayi.lib.message.internal.part.map.MessagePartMap;
+import de.sayayi.lib.message.internal.part.template.TemplatePart;
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.TypedValue.MessageValue;
+import de.sayayi.lib.message.part.TypedValue.StringValue;
+import de.sayayi.lib.message.warmup.WarmUpProfile;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+
+import static java.util.Collections.newSetFromMap;
+
+
+/**
+ * Performs the lazy initialization of messages listed in a {@link WarmUpProfile}.
+ * <p>
+ * For each profile entry, the message and all templates, map messages and post formatter messages it refers to
+ * are traversed: string values which are used as messages are parsed and the parameter formatters for the
+ * profiled parameter types are resolved, which populates the formatter cache. Finally the message is formatted
+ * once with representative values for the profiled parameter types, so that formatters can create and cache
+ * their locale-specific resources.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class MessageWarmUp
+{
+  private final @NotNull MessageAccessor messageAccessor;
+  private final @NotNull Set<Message> inProgress = newSetFromMap(new IdentityHashMap<>());
+
+
+  private MessageWarmUp(@NotNull MessageAccessor messageAccessor) {
+    this.messageAccessor = messageAccessor;
+  }
+
+
+  /**
+   * Warms up all messages listed in the given {@code profile}.
+   *
+   * @param messageAccessor  message accessor, not {@code null}
+   * @param profile          warm-up profile, not {@code null}
+   *
+   * @return  number of profile entries for which a message was found
+   */
+  public static int warmUp(@NotNull MessageAccessor messageAccessor, @NotNull WarmUpProfile profile)
+  {
+    final var warmUp = new MessageWarmUp(messageAccessor);
+    var warmedUp = 0;
+
+    for(var entry: profile.entries())
+    {
+      final var message = messageAccessor.getMessageByCode(entry.code());
+
+      if (message != null)
+      {
+        warmUp.traverseMessage(message, entry.parameterTypes());
+        warmUp.format(message, entry);
+        warmedUp++;
+      }
+    }
+
+    return warmedUp;
+  }
+
+
+  private void traverseMessage(@NotNull Message message, @NotNull Map<String,Set<Class<?>>> parameterTypes)
+  {
+    if (!inProgress.add(message))
+      return;  // recursive template
+
+    try {
+      if (message instanceof LocaleAware localeAware)
+      {
+        for(var localizedMessage: localeAware.getLocalizedMessages().values())
+          traverseMessage(localizedMessage, parameterTypes);
+      }
+      else
+      {
+        for(var messagePart: message.getMessageParts())
+          traversePart(messagePart, parameterTypes);
+      }
+    } finally {
+      inProgress.remove(message);
+    }
+  }
+
+
+  private void traversePart(@NotNull MessagePart messagePart, @NotNull Map<String,Set<Class<?>>> parameterTypes)
+  {
+    switch(messagePart) {
+      case MessagePart.Parameter parameter -> {
+        final var config = parameter.getConfig();
+
+        for(var type: parameterTypes.getOrDefault(parameter.getName(), Set.of()))
+          messageAccessor.getFormatters(parameter.getFormat(), type, config);
+
+        traverseConfig(config, parameterTypes);
+
+        if (parameter.getMap() instanceof MessagePartMap map)
+          for(var iterator = map.mapEntryIterator(); iterator.hasNext();)
+            traverseValue(iterator.next().getValue(), parameterTypes);
+      }
+
+      case TemplatePart template -> {
+        final var templateMessage = messageAccessor.getTemplateByName(template.getName());
+
+        if (templateMessage != null)
+          traverseMessage(templateMessage, templateParameterTypes(template, parameterTypes));
+      }
+
+      case MessagePart.PostFormat postFormat -> {
+        traverseConfig(postFormat.getConfig(), parameterTypes);
+        traverseMessage(postFormat.getMessage(), parameterTypes);
+      }
+
+      default -> {}
+    }
+  }
+
+
+  private void traverseConfig(@NotNull MessagePart.Config config, @NotNull Map<String,Set<Class<?>>> parameterTypes)
+  {
+    final var messageConfigNames = messageAccessor.getMessageFactory().getMessageConfigNames();
+
+    for(var configName: config.getConfigNames())
+    {
+      final var value = config.getConfigValue(configName);
+
+      // other string values, like format patterns, must not be parsed and cached as messages
+      if (value instanceof MessageValue || messageConfigNames.contains(configName))
+        traverseValue(value, parameterTypes);
+    }
+  }
+
+
+  private void traverseValue(TypedValue<?> value, @NotNull Map<String,Set<Class<?>>> parameterTypes)
+  {
+    if (value instanceof MessageValue messageValue)
+      traverseMessage(messageValue.messageValue(), parameterTypes);
+    else if (value instanceof StringValue stringValue)
+    {
+      try {
+        traverseMessage(stringValue.asMessage(messageAccessor.getMessageFactory()), parameterTypes);
+      } catch(MessageParserException ignored) {
+        // string value which is not used as a message
+      }
+    }
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull Map<String,Set<Class<?>>> templateParameterTypes(
+      @NotNull TemplatePart template, @NotNull Map<String,Set<Class<?>>> parameterTypes)
+  {
+    final var templateParameterTypes = new HashMap<>(parameterTypes);
+
+    for(var iterator = template.parameterDelegateIterator(); iterator.hasNext();)
+    {
+      final var delegate = iterator.next();
+      templateParameterTypes.put(delegate.getKey(), parameterTypes.getOrDefault(delegate.getValue(), Set.of()));
+    }
+
+    for(var iterator = template.defaultParameterIterator(); iterator.hasNext();)
+    {
+      final var defaultParameter = iterator.next();
+
+      templateParameterTypes.merge(defaultParameter.getKey(),
+          Set.of(defaultParameter.getValue().asObject().getClass()), (types, defaultType) -> {
+            final var mergedTypes = new HashSet<>(types);
+            mergedTypes.addAll(defaultType);
+            return mergedTypes;
+          });
+    }
+
+    return templateParameterTypes;
+  }
+
+
+  private void format(@NotNull Message message, @NotNull WarmUpProfile.Entry entry)
+  {
+    final var locale = entry.locale() == null ? messageAccessor.getLocale() : entry.locale();
+    final var parameters = new TreeMap<String,Object>();
+
+    entry.parameterTypes().forEach((name, types) -> {
+      for(var type: types)
+      {
+        final var value = representativeValue(type, locale);
+
+        if (value != null)
+        {
+          parameters.put(name, value);
+          break;
+        }
+      }
+    });
+
+    final var parameterArray = new Object[parameters.size() * 2];
+    var n = 0;
+
+    for(var parameter: parameters.entrySet())
+    {
+      parameterArray[n++] = parameter.getKey();
+      parameterArray[n++] = parameter.getValue();
+    }
+
+    try {
+      message.format(messageAccessor, new MessageParameters(locale, parameterArray));
+    } catch(RuntimeException ignored) {
+      // representative values may not be appropriate for the message
+    }
+  }
+
+
+  /**
+   * Returns a representative value for the given {@code type}. Fractional values are preferred for number types,
+   * as formatting fractional numbers requires more initialization than formatting integral numbers.
+   *
+   * @param type    parameter value type, not {@code null}
+   * @param locale  format locale, not {@code null}
+   *
+   * @return  representative value or {@code null} if no value can be created for the given type
+   */
+  @Contract(pure = true)
+  static Object representativeValue(@NotNull Class<?> type, @NotNull Locale locale)
+  {
+    if (type.isEnum())
+    {
+      final var constants = type.getEnumConstants();
+      return constants.length == 0 ? null : constants[0];
+    }
+
+    if (type == String.class) return "a";
+    if (type == Boolean.class) return Boolean.TRUE;
+    if (type == Character.class) return 'a';
+    if (type == Byte.class) return (byte)1;
+    if (type == Short.class) return (short)1;
+    if (type == Integer.class) return 1;
+    if (type == Long.class) return 1L;
+    if (type == Float.class) return 1.5f;
+    if (type == Double.class) return 1.5;
+    if (type == BigInteger.class) return BigInteger.ONE;
+    if (type == BigDecimal.class) return new BigDecimal("1.5");
+    if (type == Locale.class) return locale;
+
+    final var now = Instant.now();
+
+    if (type == Instant.class) return now;
+    if (type == LocalDate.class) return LocalDate.ofInstant(now, ZoneOffset.UTC);
+    if (type == LocalTime.class) return LocalTime.ofInstant(now, ZoneOffset.UTC);
+    if (type == LocalDateTime.class) return LocalDateTime.ofInstant(now, ZoneOffset.UTC);
+    if (type == OffsetDateTime.class) return OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+    if (type == ZonedDateTime.class) return ZonedDateTime.ofInstant(now, ZoneOffset.UTC);
+    if (type == Date.class) return Date.from(now);
+
+    return null;
+  }
+}
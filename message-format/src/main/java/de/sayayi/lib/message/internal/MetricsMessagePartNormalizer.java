@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.metrics.MessageMetrics;
+import de.sayayi.lib.message.part.MapKey;
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import static de.sayayi.lib.message.metrics.MessageMetrics.Cache.NORMALIZER;
+import static de.sayayi.lib.message.metrics.MessageMetrics.DISABLED;
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+
+
+/**
+ * Message part normalizer which reports hits and misses of the delegate normalizer to a {@link MessageMetrics}
+ * instance. A hit is reported if the delegate returns a different instance.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class MetricsMessagePartNormalizer implements MessagePartNormalizer
+{
+  private final @NotNull MessagePartNormalizer delegate;
+  private final @NotNull MessageMetrics metrics;
+
+
+  private MetricsMessagePartNormalizer(@NotNull MessagePartNormalizer delegate, @NotNull MessageMetrics metrics)
+  {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+
+  /**
+   * Returns the normalizer of the given {@code messageFactory}. If metrics are enabled for the message factory,
+   * the normalizer is wrapped so that hits and misses are reported.
+   *
+   * @param messageFactory  message factory, not {@code null}
+   *
+   * @return  message part normalizer, never {@code null}
+   */
+  @Contract(pure = true)
+  public static @NotNull MessagePartNormalizer of(@NotNull MessageFactory messageFactory)
+  {
+    final var normalizer = messageFactory.getMessagePartNormalizer();
+    final var metrics = messageFactory.getMetrics();
+
+    return metrics == DISABLED || normalizer == PASS_THROUGH
+        ? normalizer
+        : new MetricsMessagePartNormalizer(normalizer, metrics);
+  }
+
+
+  @Override
+  public <T extends MessagePart> @NotNull T normalize(@NotNull T part) {
+    return report(part, delegate.normalize(part));
+  }
+
+
+  @Override
+  public <K extends MapKey> @NotNull K normalizeMapKey(@NotNull K mapKey) {
+    return report(mapKey, delegate.normalizeMapKey(mapKey));
+  }
+
+
+  @Override
+  public <V extends TypedValue<?>> @NotNull V normalizeValue(@NotNull V value) {
+    return report(value, delegate.normalizeValue(value));
+  }
+
+
+  @Override
+  public <C extends MessagePart.Config> @NotNull C normalizeConfig(@NotNull C config) {
+    return report(config, delegate.normalizeConfig(config));
+  }
+
+
+  @Override
+  public <M extends MessagePart.Map> @NotNull M normalizeMap(@NotNull M map) {
+    return report(map, delegate.normalizeMap(map));
+  }
+
+
+  private <T> @NotNull T report(@NotNull T object, @NotNull T normalizedObject)
+  {
+    if (normalizedObject == object)
+      metrics.cacheMiss(NORMALIZER);
+    else
+      metrics.cacheHit(NORMALIZER);
+
+    return normalizedObject;
+  }
+}
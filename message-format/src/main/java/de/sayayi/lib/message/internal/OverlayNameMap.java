@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.AbstractMap.SimpleImmutableEntry;
+
+
+/**
+ * Unmodifiable view combining an overlay map with a base map. Entries in the overlay map take precedence over
+ * entries in the base map with the same key.
+ * <p>
+ * Both maps must iterate their keys in natural order; the view iterates the combined keys in natural order as
+ * well. Neither map is copied, so changes to either map are reflected in this view.
+ * <p>
+ * Entries may be added to both maps but must never be removed. This allows the view to keep its size until the
+ * size of either map changes.
+ *
+ * @param <V>  value type
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+final class OverlayNameMap<V> extends AbstractMap<String,V>
+{
+  private final @NotNull Map<String,? extends V> overlay;
+  private final @NotNull Map<String,? extends V> base;
+  private volatile SizeSnapshot sizeSnapshot;
+
+
+  /**
+   * Creates a view of {@code overlay} layered on top of {@code base}.
+   *
+   * @param overlay  overlay map with keys in natural order, not {@code null}
+   * @param base     base map with keys in natural order, not {@code null}
+   */
+  OverlayNameMap(@NotNull Map<String,? extends V> overlay, @NotNull Map<String,? extends V> base)
+  {
+    this.overlay = overlay;
+    this.base = base;
+  }
+
+
+  /**
+   * Tells whether this view is layered on top of the given {@code base} map.
+   *
+   * @param base  base map
+   *
+   * @return  {@code true} if {@code base} is the base map of this view, {@code false} otherwise
+   */
+  @Contract(pure = true)
+  boolean isLayeredOn(Map<String,?> base) {
+    return this.base == base;
+  }
+
+
+  @Override
+  public int size()
+  {
+    final var overlaySize = overlay.size();
+    final var baseSize = base.size();
+    var snapshot = sizeSnapshot;
+
+    if (snapshot == null || snapshot.overlaySize != overlaySize || snapshot.baseSize != baseSize)
+    {
+      var size = baseSize;
+
+      for(var key: overlay.keySet())
+        if (!base.containsKey(key))
+          size++;
+
+      sizeSnapshot = snapshot = new SizeSnapshot(overlaySize, baseSize, size);
+    }
+
+    return snapshot.size;
+  }
+
+
+  @Override
+  public boolean isEmpty() {
+    return overlay.isEmpty() && base.isEmpty();
+  }
+
+
+  @Override
+  public boolean containsKey(Object key) {
+    return overlay.containsKey(key) || base.containsKey(key);
+  }
+
+
+  @Override
+  public V get(Object key)
+  {
+    final var value = overlay.get(key);
+    return value != null ? value : base.get(key);
+  }
+
+
+  @Override
+  public @NotNull Set<Entry<String,V>> entrySet()
+  {
+    return new AbstractSet<>() {
+      @Override
+      public int size() {
+        return OverlayNameMap.this.size();
+      }
+
+
+      @Override
+      public @NotNull Iterator<Entry<String,V>> iterator() {
+        return new MergingIterator();
+      }
+    };
+  }
+
+
+
+
+  private record SizeSnapshot(int overlaySize, int baseSize, int size) {}
+
+
+
+
+  /**
+   * Iterator merging the sorted entries of both maps. For identical keys, the overlay entry is returned and the
+   * base entry is skipped.
+   */
+  private final class MergingIterator implements Iterator<Entry<String,V>>
+  {
+    private final @NotNull Iterator<? extends Entry<String,? extends V>> overlayIterator;
+    private final @NotNull Iterator<? extends Entry<String,? extends V>> baseIterator;
+    private Entry<String,? extends V> nextOverlay;
+    private Entry<String,? extends V> nextBase;
+
+
+    private MergingIterator()
+    {
+      overlayIterator = overlay.entrySet().iterator();
+      baseIterator = base.entrySet().iterator();
+      nextOverlay = overlayIterator.hasNext() ? overlayIterator.next() : null;
+      nextBase = baseIterator.hasNext() ? baseIterator.next() : null;
+    }
+
+
+    @Override
+    public boolean hasNext() {
+      return nextOverlay != null || nextBase != null;
+    }
+
+
+    @Override
+    public Entry<String,V> next()
+    {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      final var cmp = nextOverlay == null
+          ? 1
+          : nextBase == null ? -1 : nextOverlay.getKey().compareTo(nextBase.getKey());
+      final Entry<String,? extends V> entry;
+
+      if (cmp <= 0)
+      {
+        entry = nextOverlay;
+        nextOverlay = overlayIterator.hasNext() ? overlayIterator.next() : null;
+
+        // skip the overridden base entry
+        if (cmp == 0)
+          nextBase = baseIterator.hasNext() ? baseIterator.next() : null;
+      }
+      else
+      {
+        entry = nextBase;
+        nextBase = baseIterator.hasNext() ? baseIterator.next() : null;
+      }
+
+      return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageSupport.MessageAccessor;
+import de.sayayi.lib.message.internal.part.config.MessagePartConfig;
+import de.sayayi.lib.message.internal.part.parameter.ParameterPart;
+import de.sayayi.lib.message.internal.part.post.PostFormatterPart;
+import de.sayayi.lib.message.internal.part.template.TemplatePart;
+import de.sayayi.lib.message.part.TypedValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+
+/**
+ * Collects the names of all parameters referenced by a message, including parameters referenced in map values,
+ * configuration values, post formatter messages and templates.
+ * <p>
+ * Template parameters are reported with the name they have in the referencing message, so parameter delegates
+ * are taken into account. Templates which are not available in the message accessor are ignored.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class ParameterNameCollector
+{
+  private final MessageAccessor messageAccessor;
+  private final Set<String> activeTemplates = new HashSet<>();
+
+
+  private ParameterNameCollector(@NotNull MessageAccessor messageAccessor) {
+    this.messageAccessor = messageAccessor;
+  }
+
+
+  /**
+   * Returns the names of all parameters referenced by {@code message}.
+   *
+   * @param messageAccessor  message accessor used for resolving templates, not {@code null}
+   * @param message          message to collect the parameter names for, not {@code null}
+   *
+   * @return  sorted set of parameter names, never {@code null}
+   */
+  public static @NotNull SortedSet<String> collect(@NotNull MessageAccessor messageAccessor,
+                                                   @NotNull Message message)
+  {
+    final var parameterNames = new TreeSet<String>();
+
+    new ParameterNameCollector(messageAccessor).collectMessage(message, parameterNames);
+
+    return parameterNames;
+  }
+
+
+  private void collectMessage(@NotNull Message message, @NotNull Set<String> parameterNames)
+  {
+    if (message instanceof Message.LocaleAware localeAware)
+    {
+      for(var localizedMessage: localeAware.getLocalizedMessages().values())
+        collectMessage(localizedMessage, parameterNames);
+    }
+    else if (message instanceof MessageDelegateWithCode delegate)
+      collectMessage(delegate.getMessage(), parameterNames);
+    else
+    {
+      final var messageParts = message instanceof CompoundMessage compoundMessage
+          ? compoundMessage.getMessagePartsNoCopy()
+          : message.getMessageParts();
+
+      for(var messagePart: messageParts)
+      {
+        if (messagePart instanceof ParameterPart parameter)
+          collectParameter(parameter, parameterNames);
+        else if (messagePart instanceof PostFormatterPart postFormatter)
+        {
+          collectMessage(postFormatter.getMessage(), parameterNames);
+          collectConfig(postFormatter.getConfig(), parameterNames);
+        }
+        else if (messagePart instanceof TemplatePart template)
+          collectTemplate(template, parameterNames);
+      }
+    }
+  }
+
+
+  private void collectParameter(@NotNull ParameterPart parameter, @NotNull Set<String> parameterNames)
+  {
+    parameterNames.add(parameter.getName());
+    collectConfig(parameter.getConfig(), parameterNames);
+
+    for(var iterator = parameter.getMap().mapEntryIterator(); iterator.hasNext();)
+    {
+      final var mapValue = iterator.next().getValue();
+
+      collectMessage(mapValue instanceof TypedValue.StringValue stringValue
+          ? stringValue.asMessage(messageAccessor.getMessageFactory())
+          : ((TypedValue.MessageValue)mapValue).messageValue(), parameterNames);
+    }
+  }
+
+
+  private void collectConfig(@NotNull MessagePartConfig config, @NotNull Set<String> parameterNames)
+  {
+    for(var configName: config.getConfigNames())
+      if (config.getConfigValue(configName) instanceof TypedValue.MessageValue messageValue)
+        collectMessage(messageValue.messageValue(), parameterNames);
+  }
+
+
+  private void collectTemplate(@NotNull TemplatePart template, @NotNull Set<String> parameterNames)
+  {
+    final var name = template.getName();
+    final var templateMessage = messageAccessor.getTemplateByName(name);
+
+    if (templateMessage != null && activeTemplates.add(name))
+    {
+      final var templateParameterNames = new TreeSet<String>();
+
+      collectMessage(templateMessage, templateParameterNames);
+      activeTemplates.remove(name);
+
+      final var delegates = new HashMap<String,String>();
+      for(var iterator = template.parameterDelegateIterator(); iterator.hasNext();)
+      {
+        final var delegate = iterator.next();
+        delegates.put(delegate.getKey(), delegate.getValue());
+      }
+
+      for(var templateParameterName: templateParameterNames)
+        parameterNames.add(delegates.getOrDefault(templateParameterName, templateParameterName));
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.internal.parser.MessageCompiler;
+import de.sayayi.lib.message.internal.part.config.MessagePartConfig;
+import de.sayayi.lib.message.internal.part.map.MessagePartMap;
+import de.sayayi.lib.message.internal.part.typedvalue.TypedValueMessage;
+import de.sayayi.lib.message.part.MapKey;
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.TypedValue.StringValue;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Message part normalizer which replaces string values that are used as messages with pre-parsed message values,
+ * before passing maps and configurations to the delegate normalizer.
+ * <p>
+ * All string values in a {@link MessagePartMap} are replaced, as map values are always formatted as messages. In a
+ * {@link MessagePartConfig} only the string values of the {@linkplain MessageFactory#getMessageConfigNames()
+ * message configuration names} are replaced.
+ * <p>
+ * Strings are compiled directly, bypassing the message cache of the factory, as the normalizer is invoked while the
+ * factory is parsing a message.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see MessageFactory#setPreParseStringValues(boolean)
+ */
+public final class PreParsingMessagePartNormalizer implements MessagePartNormalizer
+{
+  private final @NotNull MessagePartNormalizer delegate;
+  private final @NotNull MessageCompiler messageCompiler;
+  private final @NotNull Set<String> messageConfigNames;
+
+
+  private PreParsingMessagePartNormalizer(@NotNull MessagePartNormalizer delegate,
+                                          @NotNull MessageFactory messageFactory)
+  {
+    this.delegate = delegate;
+
+    messageCompiler = new MessageCompiler(messageFactory);
+    messageConfigNames = messageFactory.getMessageConfigNames();
+  }
+
+
+  /**
+   * Returns the normalizer to be used for message parts created by the given {@code messageFactory}. If
+   * {@linkplain MessageFactory#isPreParseStringValues() pre-parsing} is enabled for the message factory, the
+   * normalizer is wrapped so that string values used as messages are parsed.
+   *
+   * @param messageFactory  message factory, not {@code null}
+   *
+   * @return  message part normalizer, never {@code null}
+   *
+   * @see MetricsMessagePartNormalizer#of(MessageFactory)
+   */
+  @Contract(pure = true)
+  public static @NotNull MessagePartNormalizer of(@NotNull MessageFactory messageFactory)
+  {
+    final var normalizer = MetricsMessagePartNormalizer.of(messageFactory);
+
+    return messageFactory.isPreParseStringValues()
+        ? new PreParsingMessagePartNormalizer(normalizer, messageFactory)
+        : normalizer;
+  }
+
+
+  @Override
+  public <T extends MessagePart> @NotNull T normalize(@NotNull T part) {
+    return delegate.normalize(part);
+  }
+
+
+  @Override
+  public <K extends MapKey> @NotNull K normalizeMapKey(@NotNull K mapKey) {
+    return delegate.normalizeMapKey(mapKey);
+  }
+
+
+  @Override
+  public <V extends TypedValue<?>> @NotNull V normalizeValue(@NotNull V value) {
+    return delegate.normalizeValue(value);
+  }
+
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <C extends MessagePart.Config> @NotNull C normalizeConfig(@NotNull C config)
+  {
+    if (config instanceof MessagePartConfig &&
+        messageConfigNames.stream().anyMatch(name -> config.getConfigValue(name) instanceof StringValue))
+    {
+      final var parsedConfig = new HashMap<String,TypedValue<?>>();
+
+      for(var name: config.getConfigNames())
+      {
+        final var value = config.getConfigValue(name);
+
+        parsedConfig.put(name, messageConfigNames.contains(name) ? parse(value) : value);
+      }
+
+      return delegate.normalizeConfig((C)new MessagePartConfig(Map.copyOf(parsedConfig)));
+    }
+
+    return delegate.normalizeConfig(config);
+  }
+
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <M extends MessagePart.Map> @NotNull M normalizeMap(@NotNull M map)
+  {
+    if (map instanceof MessagePartMap messagePartMap)
+    {
+      final var parsedMap = new LinkedHashMap<MapKey,TypedValue<?>>();
+      var parsed = false;
+
+      for(var iterator = messagePartMap.mapEntryIterator(); iterator.hasNext();)
+      {
+        final var entry = iterator.next();
+        final var value = entry.getValue();
+        final var parsedValue = parse(value);
+
+        parsedMap.put(entry.getKey(), parsedValue);
+        parsed |= parsedValue != value;
+      }
+
+      if (parsed)
+        return delegate.normalizeMap((M)new MessagePartMap(parsedMap));
+    }
+
+    return delegate.normalizeMap(map);
+  }
+
+
+  @Contract(pure = true)
+  private @NotNull TypedValue<?> parse(@NotNull TypedValue<?> value)
+  {
+    return value instanceof StringValue stringValue
+        ? delegate.normalizeValue(new TypedValueMessage(messageCompiler.compileMessage(stringValue.stringValue())))
+        : value;
+  }
+}
@@ -28,6 +28,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
+
 
 /**
  * This class represents a message consisting of text only. It also provides information about
@@ -36,19 +38,25 @@ import java.io.IOException;
  * @author Jeroen Gremmen
  * @since 0.4.0
  */
-public final class TextMessage implements Message.WithSpaces
+public final class TextMessage implements Message.WithSpaces, FingerprintAware
 {
   /** Text part, not {@code null} */
   private final Text textPart;
 
+  /** Structural fingerprint */
+  private final long fingerprint;
+
 
   /**
    * Construct a text message based on a {@code textPart}.
    *
    * @param textPart  text part, not {@code null}
    */
-  public TextMessage(@NotNull Text textPart) {
+  public TextMessage(@NotNull Text textPart)
+  {
     this.textPart = textPart;
+
+    fingerprint = fingerprint(new MessagePart[] { textPart });
   }
 
 
@@ -83,13 +91,24 @@ public final class TextMessage implements Message.WithSpaces
 
   @Override
   public boolean equals(Object o) {
-    return o instanceof TextMessage && textPart.equals(((TextMessage)o).textPart);
+    return o instanceof TextMessage that && fingerprint == that.fingerprint && textPart.equals(that.textPart);
   }
 
 
   @Override
   public int hashCode() {
-    return textPart.hashCode();
+    return Long.hashCode(fingerprint);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
   }
 
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+
+/**
+ * Event emitted after a message has been formatted by a message support instance.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@Name("de.sayayi.lib.message.Format")
+@Label("Message Format")
+@Description("Formatting of a message")
+@Threshold("100 us")
+public final class FormatEvent extends MessageEvent
+{
+  @Label("Code")
+  @Description("Message code, or null if the message has no code")
+  public String code;
+
+  @Label("Locale")
+  public String locale;
+
+  @Label("Text Length")
+  @Description("Length of the formatted message")
+  public int textLength;
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * Base class for all message format flight recorder events.
+ * <p>
+ * Events are created, {@linkplain #begin() started} and {@linkplain #commit() committed} unconditionally. If no
+ * recording is active, the JVM reduces these operations to a no-op.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@Category("Message Format")
+@StackTrace(false)
+abstract class MessageEvent extends Event {
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Event emitted after a message pack has been imported.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@Name("de.sayayi.lib.message.PackImport")
+@Label("Pack Import")
+@Description("Import of a message pack")
+public final class PackImportEvent extends MessageEvent
+{
+  @Label("Message Count")
+  @Description("Number of imported messages")
+  public int messageCount;
+
+  @Label("Template Count")
+  @Description("Number of imported templates")
+  public int templateCount;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+
+/**
+ * Event emitted after a message or template has been parsed.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@Name("de.sayayi.lib.message.Parse")
+@Label("Message Parse")
+@Description("Parsing of a message or template format string")
+@Threshold("100 us")
+public final class ParseEvent extends MessageEvent
+{
+  @Label("Template")
+  @Description("Whether a template has been parsed")
+  public boolean template;
+
+  @Label("Text Length")
+  @Description("Length of the parsed format string")
+  public int textLength;
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+
+/**
+ * Event emitted after a post formatter part has been formatted.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@Name("de.sayayi.lib.message.PostFormat")
+@Label("Post Format")
+@Description("Formatting of a post formatter part, including its nested message")
+@Threshold("100 us")
+public final class PostFormatEvent extends MessageEvent
+{
+  @Label("Post Formatter Name")
+  public String name;
+
+  @Label("Locale")
+  public String locale;
+
+  @Label("Text Length")
+  @Description("Length of the post formatted text")
+  public int textLength;
+}
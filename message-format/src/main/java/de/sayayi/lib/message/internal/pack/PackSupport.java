@@ -29,6 +29,7 @@ import de.sayayi.lib.message.internal.part.typedvalue.TypedValueString;
 import de.sayayi.lib.message.part.MapKey;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
 import de.sayayi.lib.pack.PackConfig;
 import de.sayayi.lib.pack.PackInputStream;
 import de.sayayi.lib.pack.PackOutputStream;
@@ -40,6 +41,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static de.sayayi.lib.message.part.MessagePart.Text.EMPTY;
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
 
@@ -53,7 +55,16 @@ import static java.util.function.Function.identity;
 public final class PackSupport
 {
   /** Pack version */
-  public static final int VERSION = 3;
+  public static final int VERSION = 4;
+
+  /**
+   * Latest pack version storing message and template counts as unsigned short. Packs with no more than 65535
+   * messages and templates are written using this version so they remain readable by library versions prior
+   * to 0.24.0.
+   *
+   * @since 0.24.0
+   */
+  public static final int SHORT_COUNT_VERSION = 3;
 
   /** Pack mime type */
   public static final String MIME_TYPE = "application/x-message-format-pack";
@@ -96,6 +107,42 @@ public final class PackSupport
   private final Map<TypedValue<?>,TypedValue<?>> mapValues = new HashMap<>();
   private final Map<MessagePart,MessagePart> messageParts = new HashMap<>();
   private final Map<Message.WithSpaces,Message.WithSpaces> messagesWithSpaces = new HashMap<>();
+  private final @NotNull MessagePartNormalizer messagePartNormalizer;
+
+
+  /**
+   * Create a pack support instance which de-duplicates unpacked objects within a single import only.
+   */
+  public PackSupport() {
+    this(PASS_THROUGH);
+  }
+
+
+  /**
+   * Create a pack support instance which, in addition to de-duplicating unpacked objects within a single import,
+   * passes all unpacked message parts, map keys, typed values, configurations and maps to the given
+   * {@code messagePartNormalizer}.
+   *
+   * @param messagePartNormalizer  message part normalizer, not {@code null}
+   *
+   * @since 0.24.0
+   */
+  public PackSupport(@NotNull MessagePartNormalizer messagePartNormalizer) {
+    this.messagePartNormalizer = requireNonNull(messagePartNormalizer, "messagePartNormalizer must not be null");
+  }
+
+
+  /**
+   * Returns the message part normalizer used for unpacked objects.
+   *
+   * @return  message part normalizer, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull MessagePartNormalizer getMessagePartNormalizer() {
+    return messagePartNormalizer;
+  }
 
 
   @Contract(mutates = "param2,io")
@@ -253,7 +300,7 @@ public final class PackSupport
       default -> throw new IllegalStateException("message part expected");
     };
 
-    return messageParts.computeIfAbsent(messagePart, identity());
+    return messageParts.computeIfAbsent(messagePart, messagePartNormalizer::normalize);
   }
 
 
@@ -304,7 +351,7 @@ public final class PackSupport
       default -> throw new IllegalStateException("map key expected");
     };
 
-    return mapKeys.computeIfAbsent(mapKey, identity());
+    return mapKey == null ? null : mapKeys.computeIfAbsent(mapKey, messagePartNormalizer::normalizeMapKey);
   }
 
 
@@ -347,7 +394,75 @@ public final class PackSupport
       default -> throw new IllegalStateException("typed value expected");
     };
 
-    return mapValues.computeIfAbsent(configValue, identity());
+    return mapValues.computeIfAbsent(configValue, messagePartNormalizer::normalizeValue);
+  }
+
+
+  /**
+   * Returns the pack version to use for a pack with the given number of messages and templates.
+   * <p>
+   * If both counts fit in an unsigned short, {@link #SHORT_COUNT_VERSION} is returned, otherwise {@link #VERSION}.
+   *
+   * @param messageCount   number of messages, not negative
+   * @param templateCount  (maximum) number of templates, not negative
+   *
+   * @return  pack version
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public static int packVersion(int messageCount, int templateCount) {
+    return messageCount > 0xffff || templateCount > 0xffff ? VERSION : SHORT_COUNT_VERSION;
+  }
+
+
+  /**
+   * Pack the number of entries in a message or template section. Starting with version 4 the
+   * count is stored as a variable length number, lifting the 65535 entry limit of earlier versions.
+   *
+   * @param version     pack version used for the output stream
+   * @param count       number of entries, not negative
+   * @param packStream  pack output stream, not {@code null}
+   *
+   * @throws IOException  if an I/O error occurs
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param3,io")
+  public static void packCount(int version, int count, @NotNull PackOutputStream packStream) throws IOException
+  {
+    if (count < 0)
+      throw new IllegalArgumentException("count must not be negative");
+
+    if (version < 4)
+      packStream.writeUnsignedShort(count);
+    else
+      packLongVar(count, packStream);
+  }
+
+
+  /**
+   * Unpack the number of entries in a message or template section.
+   *
+   * @param packStream  pack input stream, not {@code null}
+   *
+   * @return  number of entries, not negative
+   *
+   * @throws IOException  if an I/O error occurs
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param1,io")
+  public static int unpackCount(@NotNull PackInputStream packStream) throws IOException
+  {
+    if (packStream.getVersion().orElseThrow() < 4)
+      return packStream.readUnsignedShort();
+
+    final var count = unpackLongVar(packStream);
+    if (count < 0 || count > Integer.MAX_VALUE)
+      throw new IllegalStateException("invalid entry count " + count);
+
+    return (int)count;
   }
 
 
@@ -25,7 +25,9 @@ import de.sayayi.lib.message.MessageFactory;
 import de.sayayi.lib.message.exception.MessageParserException;
 import de.sayayi.lib.message.internal.CompoundMessage;
 import de.sayayi.lib.message.internal.EmptyMessage;
+import de.sayayi.lib.message.internal.PreParsingMessagePartNormalizer;
 import de.sayayi.lib.message.internal.TextMessage;
+import de.sayayi.lib.message.internal.jfr.ParseEvent;
 import de.sayayi.lib.message.internal.part.TextPart;
 import de.sayayi.lib.message.internal.part.config.MessagePartConfig;
 import de.sayayi.lib.message.internal.part.map.MessagePartMap;
@@ -41,6 +43,7 @@ import de.sayayi.lib.message.part.MapKey;
 import de.sayayi.lib.message.part.MapKey.CompareType;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.misc.IntervalSet;
 import org.antlr.v4.runtime.tree.TerminalNode;
@@ -58,6 +61,7 @@ import static de.sayayi.lib.antlr4.walker.Walker.WALK_EXIT_RULES_HEAP;
 import static de.sayayi.lib.message.exception.MessageParserException.Type.MESSAGE;
 import static de.sayayi.lib.message.exception.MessageParserException.Type.TEMPLATE;
 import static de.sayayi.lib.message.internal.parser.MessageParser.*;
+import static de.sayayi.lib.message.metrics.MessageMetrics.DISABLED;
 import static de.sayayi.lib.message.util.MessageUtil.*;
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.Character.isSpaceChar;
@@ -124,12 +128,27 @@ public final class MessageCompiler extends AbstractAntlr4Parser
   private @NotNull Message.WithSpaces compileMessage(@NotNull @Language("MessageFormat") String text, boolean template)
   {
     final var listener = new Listener(template);
+    final var metrics = messageFactory.getMetrics();
+    final var start = metrics == DISABLED ? 0 : System.nanoTime();
+    final var event = new ParseEvent();
+
+    event.begin();
 
     try {
       return parse(new Lexer(text), lexer -> new Parser(listener.tokenStream = new BufferedTokenStream(lexer)),
           Parser::message, listener, ctx -> requireNonNull(ctx.messageWithSpaces));
     } catch(MessageParserException ex) {
       throw ex.withType(template ? TEMPLATE : MESSAGE);
+    } finally {
+      if (metrics != DISABLED)
+        metrics.messageParsed(template, System.nanoTime() - start);
+
+      if (event.shouldCommit())
+      {
+        event.template = template;
+        event.textLength = text.length();
+        event.commit();
+      }
     }
   }
 
@@ -300,11 +319,15 @@ public final class MessageCompiler extends AbstractAntlr4Parser
         "must match the kebab- or lower camel case naming convention";
 
     private final boolean template;
+    private final MessagePartNormalizer normalizer;
     private TokenStream tokenStream;
 
 
-    private Listener(boolean template) {
+    private Listener(boolean template)
+    {
       this.template = template;
+
+      normalizer = PreParsingMessagePartNormalizer.of(messageFactory);
     }
 
 
@@ -370,9 +393,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
     @Override
     public void exitTextPart(TextPartContext ctx)
     {
-      ctx.part = messageFactory
-          .getMessagePartNormalizer()
-          .normalize(new TextPart(ctx.text().characters));
+      ctx.part = normalizer.normalize(new TextPart(ctx.text().characters));
     }
 
 
@@ -460,7 +481,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
       final var mapEntryDefault = ctx.mapEntryDefault();
 
       if (mapEntryDefault != null)
-        mapElements.put(null, new TypedValueMessage(mapEntryDefault.messageWithSpaces));
+        mapElements.put(null, normalizer.normalizeValue(new TypedValueMessage(mapEntryDefault.messageWithSpaces)));
 
       final var parameterFormat = ctx.parameterFormat();
       final var format = switch(parameterFormat.size()) {
@@ -474,12 +495,13 @@ public final class MessageCompiler extends AbstractAntlr4Parser
         }
       };
 
-      ctx.part = messageFactory.getMessagePartNormalizer().normalize(new ParameterPart(
+      ctx.part = normalizer.normalize(new ParameterPart(
           ctx.parameterName().name, format,
           isSpaceAtTokenIndex(ctx.getStart().getTokenIndex() - 1),
           isSpaceAtTokenIndex(ctx.getStop().getTokenIndex() + 1),
-          new MessagePartConfig(ctx.configDefinition().stream().collect(PARAMETER_CONFIG_DEFINITION_COLLECTOR)),
-          new MessagePartMap(mapElements)));
+          normalizer.normalizeConfig(new MessagePartConfig(
+              ctx.configDefinition().stream().collect(PARAMETER_CONFIG_DEFINITION_COLLECTOR))),
+          normalizer.normalizeMap(new MessagePartMap(mapElements))));
     }
 
 
@@ -525,12 +547,12 @@ public final class MessageCompiler extends AbstractAntlr4Parser
     @Override
     public void exitTemplatePart(TemplatePartContext ctx)
     {
-      ctx.part = new TemplatePart(
+      ctx.part = normalizer.normalize(new TemplatePart(
           ctx.templateName().name,
           isSpaceAtTokenIndex(ctx.getStart().getTokenIndex() - 1),
           isSpaceAtTokenIndex(ctx.getStop().getTokenIndex() + 1),
           ctx.templateParameterDefault().stream().collect(TEMPLATE_PARAMETER_DEFAULT_COLLECTOR),
-          ctx.templateParameterDelegate().stream().collect(TEMPLATE_PARAMETER_DELEGATE_COLLECTOR));
+          ctx.templateParameterDelegate().stream().collect(TEMPLATE_PARAMETER_DELEGATE_COLLECTOR)));
     }
 
 
@@ -590,7 +612,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
             .report();
       }
 
-      ctx.value = new TypedValueNumber(parseLongValue(ctx.NUMBER()));
+      ctx.value = normalizer.normalizeValue(new TypedValueNumber(parseLongValue(ctx.NUMBER())));
     }
 
 
@@ -604,7 +626,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
             .report();
       }
 
-      ctx.value = new TypedValueString(ctx.quotedString().string);
+      ctx.value = normalizer.normalizeValue(new TypedValueString(ctx.quotedString().string));
     }
 
 
@@ -623,12 +645,13 @@ public final class MessageCompiler extends AbstractAntlr4Parser
     @Override
     public void exitPostFormatPart(PostFormatPartContext ctx)
     {
-      ctx.part = new PostFormatterPart(
+      ctx.part = normalizer.normalize(new PostFormatterPart(
           ctx.postFormatName().name,
           ctx.quotedMessage().messageWithSpaces,
           isSpaceAtTokenIndex(ctx.getStart().getTokenIndex() - 1),
           isSpaceAtTokenIndex(ctx.getStop().getTokenIndex() + 1),
-          new MessagePartConfig(ctx.configDefinition().stream().collect(POST_FORMAT_CONFIG_DEFINITION_COLLECTOR)));
+          normalizer.normalizeConfig(new MessagePartConfig(
+              ctx.configDefinition().stream().collect(POST_FORMAT_CONFIG_DEFINITION_COLLECTOR)))));
     }
 
 
@@ -644,7 +667,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
     public void exitMapEntryMessage(MapEntryMessageContext ctx)
     {
       ctx.keys = ctx.mapKeys().keys;
-      ctx.value = new TypedValueMessage(ctx.quotedMessage().messageWithSpaces);
+      ctx.value = normalizer.normalizeValue(new TypedValueMessage(ctx.quotedMessage().messageWithSpaces));
     }
 
 
@@ -652,7 +675,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
     public void exitMapEntryString(MapEntryStringContext ctx)
     {
       ctx.keys = ctx.mapKeys().keys;
-      ctx.value = new TypedValueString(ctx.simpleString().string);
+      ctx.value = normalizer.normalizeValue(new TypedValueString(ctx.simpleString().string));
     }
 
 
@@ -665,7 +688,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
       else
       {
         //noinspection LanguageMismatch
-        ctx.messageWithSpaces = messageFactory.parseMessage(ctx.simpleString().string);
+        ctx.messageWithSpaces = compileMessage(ctx.simpleString().string);
       }
     }
 
@@ -686,7 +709,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
       if (!isKebabCaseName(ctx.name = ctx.NAME().getText()))
         syntaxError("config name for numerical value " + KEBAB_CASE_MATCH).with(ctx.NAME()).report();
 
-      ctx.value = new TypedValueNumber(parseLongValue(ctx.NUMBER()));
+      ctx.value = normalizer.normalizeValue(new TypedValueNumber(parseLongValue(ctx.NUMBER())));
     }
 
 
@@ -696,7 +719,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
       if (!isKebabCaseName(ctx.name = ctx.NAME().getText()))
         syntaxError("config name for message value " + KEBAB_CASE_MATCH).with(ctx.NAME()).report();
 
-      ctx.value = new TypedValueMessage(ctx.quotedMessage().messageWithSpaces);
+      ctx.value = normalizer.normalizeValue(new TypedValueMessage(ctx.quotedMessage().messageWithSpaces));
     }
 
 
@@ -706,7 +729,7 @@ public final class MessageCompiler extends AbstractAntlr4Parser
       if (!isKebabCaseName(ctx.name = ctx.NAME().getText()))
         syntaxError("config name for string value " + KEBAB_CASE_MATCH).with(ctx.NAME()).report();
 
-      ctx.value = new TypedValueString(ctx.simpleString().string);
+      ctx.value = normalizer.normalizeValue(new TypedValueString(ctx.simpleString().string));
     }
 
 
@@ -754,9 +777,9 @@ public final class MessageCompiler extends AbstractAntlr4Parser
     {
       final var relationalOperator = ctx.relationalOperator();
 
-      ctx.key = new MapKeyNumber(
+      ctx.key = normalizer.normalizeMapKey(new MapKeyNumber(
           relationalOperator == null ? CompareType.EQ : relationalOperator.cmp,
-          parseLongValue(ctx.NUMBER()));
+          parseLongValue(ctx.NUMBER())));
     }
 
 
@@ -765,9 +788,9 @@ public final class MessageCompiler extends AbstractAntlr4Parser
     {
       final var relationalOperator = ctx.relationalOperator();
 
-      ctx.key = new MapKeyString(
+      ctx.key = normalizer.normalizeMapKey(new MapKeyString(
           relationalOperator == null ? CompareType.EQ : relationalOperator.cmp,
-          ctx.quotedString().string);
+          ctx.quotedString().string));
     }
 
 
@@ -15,6 +15,7 @@
  */
 package de.sayayi.lib.message.internal.part;
 
+import de.sayayi.lib.message.internal.FingerprintAware;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.util.MessageUtil;
 import de.sayayi.lib.pack.PackInputStream;
@@ -25,6 +26,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.util.Objects;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
 import static de.sayayi.lib.message.util.MessageUtil.isSpaceChar;
 import static de.sayayi.lib.message.util.MessageUtil.trimAndNormalizeSpaces;
 
@@ -45,7 +47,7 @@ import static de.sayayi.lib.message.util.MessageUtil.trimAndNormalizeSpaces;
  * @see MessageUtil#trimAndNormalizeSpaces(String)
  * @see MessageUtil#isSpaceChar(char)
  */
-public final class TextPart implements MessagePart.Text
+public final class TextPart implements MessagePart.Text, FingerprintAware
 {
   /** trimmed text string or {@code null}. */
   private final String text;
@@ -56,6 +58,9 @@ public final class TextPart implements MessagePart.Text
   /** tells whether the parameter has a trailing space. */
   private final boolean spaceAfter;
 
+  /** structural fingerprint. */
+  private final long fingerprint;
+
 
   /**
    * Constructs a text part from the given {@code text}.
@@ -102,6 +107,8 @@ public final class TextPart implements MessagePart.Text
       this.spaceBefore = addSpaceBefore || isSpaceChar(text.charAt(0));
       this.spaceAfter = addSpaceAfter || isSpaceChar(text.charAt(text.length() - 1));
     }
+
+    fingerprint = fingerprint(this.text, spaceBefore, spaceAfter);
   }
 
 
@@ -210,6 +217,7 @@ public final class TextPart implements MessagePart.Text
   public boolean equals(Object o)
   {
     return o instanceof Text that &&
+        (!(that instanceof FingerprintAware fingerprintAware) || fingerprint == fingerprintAware.getFingerprint()) &&
         spaceBefore == that.isSpaceBefore() &&
         spaceAfter == that.isSpaceAfter() &&
         Objects.equals(text, that.getText());
@@ -227,6 +235,17 @@ public final class TextPart implements MessagePart.Text
   }
 
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+
   @Override
   @Contract(pure = true)
   public String toString()
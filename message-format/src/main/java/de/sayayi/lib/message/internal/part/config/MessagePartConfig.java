@@ -15,6 +15,9 @@
  */
 package de.sayayi.lib.message.internal.part.config;
 
+import de.sayayi.lib.message.internal.CompoundMessage;
+import de.sayayi.lib.message.internal.FingerprintAware;
+import de.sayayi.lib.message.internal.FingerprintSupport;
 import de.sayayi.lib.message.internal.pack.PackSupport;
 import de.sayayi.lib.message.internal.part.typedvalue.TypedValueMessage;
 import de.sayayi.lib.message.part.MessagePart;
@@ -38,7 +41,7 @@ import static java.util.Collections.unmodifiableSet;
  * @author Jeroen Gremmen
  * @since 0.4.0
  */
-public final class MessagePartConfig implements MessagePart.Config
+public final class MessagePartConfig implements MessagePart.Config, FingerprintAware
 {
   /** Shared empty configuration instance. */
   public static final MessagePartConfig EMPTY_CONFIG = new MessagePartConfig(Map.of());
@@ -46,14 +49,20 @@ public final class MessagePartConfig implements MessagePart.Config
   /** The configuration map, keyed by config name. */
   private final @NotNull Map<String,TypedValue<?>> config;
 
+  /** Structural fingerprint. */
+  private final long fingerprint;
+
 
   /**
    * Creates a new configuration backed by the given map.
    *
    * @param config  the configuration map, not {@code null}
    */
-  public MessagePartConfig(@NotNull Map<String,TypedValue<?>> config) {
+  public MessagePartConfig(@NotNull Map<String,TypedValue<?>> config)
+  {
     this.config = config;
+
+    fingerprint = FingerprintSupport.fingerprint(config);
   }
 
 
@@ -123,14 +132,30 @@ public final class MessagePartConfig implements MessagePart.Config
   {
     final var templateNames = new TreeSet<String>();
 
-    for(var configValue: config.values())
-      if (configValue instanceof TypedValueMessage)
-        templateNames.addAll(((TypedValueMessage)configValue).asObject().getTemplateNames());
+    collectTemplateNames(templateNames);
 
     return unmodifiableSet(templateNames);
   }
 
 
+  /**
+   * Adds the template names referenced in all message values of this configuration to the given
+   * {@code templateNames} set.
+   *
+   * @param templateNames  set to add the template names to, not {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param1")
+  public void collectTemplateNames(@NotNull Set<String> templateNames)
+  {
+    for(var configValue: config.values())
+      if (configValue instanceof TypedValueMessage messageValue &&
+          messageValue.asObject() instanceof CompoundMessage compoundMessage)
+        compoundMessage.collectTemplateNames(templateNames);
+  }
+
+
   /**
    * Compares this configuration with another object for equality based on the underlying configuration map.
    *
@@ -141,18 +166,29 @@ public final class MessagePartConfig implements MessagePart.Config
    */
   @Override
   public boolean equals(Object o) {
-    return o instanceof MessagePartConfig that && config.equals(that.config);
+    return o instanceof MessagePartConfig that && fingerprint == that.fingerprint && config.equals(that.config);
   }
 
 
   /**
-   * Returns the hash code based on the underlying configuration map.
+   * Returns the hash code based on the structural fingerprint of the underlying configuration map.
    *
    * @return  hash code
    */
   @Override
   public int hashCode() {
-    return config.hashCode();
+    return Long.hashCode(fingerprint);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
   }
 
 
@@ -215,6 +251,6 @@ public final class MessagePartConfig implements MessagePart.Config
     for(var n = 0; n < size; n++)
       config[n] = Map.entry(packStream.readString(), unpack.unpackTypedValue(packStream));
 
-    return new MessagePartConfig(Map.ofEntries(config));
+    return unpack.getMessagePartNormalizer().normalizeConfig(new MessagePartConfig(Map.ofEntries(config)));
   }
 }
@@ -21,6 +21,8 @@ import de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter.ComparatorContext;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter.DefaultFormatter;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter.MapKeyComparator;
+import de.sayayi.lib.message.internal.CompoundMessage;
+import de.sayayi.lib.message.internal.FingerprintAware;
 import de.sayayi.lib.message.internal.pack.PackSupport;
 import de.sayayi.lib.message.internal.part.config.BaseConfigAccessor;
 import de.sayayi.lib.message.internal.part.map.key.MapKeyBool;
@@ -28,6 +30,7 @@ import de.sayayi.lib.message.internal.part.map.key.MapKeyNumber;
 import de.sayayi.lib.message.internal.part.map.key.MapKeyString;
 import de.sayayi.lib.message.internal.part.typedvalue.TypedValueMessage;
 import de.sayayi.lib.message.internal.part.typedvalue.TypedValueString;
+import de.sayayi.lib.message.internal.trace.Tracer;
 import de.sayayi.lib.message.part.MapKey;
 import de.sayayi.lib.message.part.MapKey.MatchResult;
 import de.sayayi.lib.message.part.MessagePart;
@@ -43,9 +46,13 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.*;
 import java.util.Map.Entry;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.combine;
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
 import static de.sayayi.lib.message.part.MapKey.MatchResult.Defined.MISMATCH;
 import static de.sayayi.lib.message.part.MapKey.Type.EMPTY;
 import static de.sayayi.lib.message.part.MapKey.Type.NULL;
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.MAP;
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.MAP_KEY;
 import static java.util.Collections.unmodifiableSet;
 
 
@@ -55,7 +62,7 @@ import static java.util.Collections.unmodifiableSet;
  * @author Jeroen Gremmen
  * @since 0.21.0
  */
-public final class MessagePartMap implements MessagePart.Map
+public final class MessagePartMap implements MessagePart.Map, FingerprintAware
 {
   public static final MessagePartMap EMPTY_MAP = new MessagePartMap(Map.of());
 
@@ -72,6 +79,9 @@ public final class MessagePartMap implements MessagePart.Map
   /** Bitmask for {@link MapKey.Type} stating which keys map to a message. */
   private final byte hasKeyType;
 
+  /** Structural fingerprint. */
+  private final long fingerprint;
+
 
   /**
    * Create a message parameter config instance with the given {@code map}.
@@ -110,6 +120,12 @@ public final class MessagePartMap implements MessagePart.Map
 
     this.defaultValue = mapNullValue;
     this.hasKeyType = (byte)keyTypeMask;
+
+    var fingerprint = fingerprint(defaultValue);
+    for(var n = 0; n < mapLength; n++)
+      fingerprint = combine(combine(fingerprint, fingerprint(mapKeys[n])), fingerprint(mapValues[n]));
+
+    this.fingerprint = fingerprint;
   }
 
 
@@ -162,12 +178,31 @@ public final class MessagePartMap implements MessagePart.Map
                                        @NotNull Set<MapKey.Type> keyTypes, boolean includeDefault,
                                        MessagePart.Config config)
   {
-    var configValue = findMappedValue(messageAccessor, locale, key, keyTypes, config);
+    final var tracer = Tracer.current();
+
+    return tracer == null || keyTypes.stream().noneMatch(this::hasMessageWithKeyType)
+        ? findMessage(messageAccessor, key, locale, keyTypes, includeDefault, config, null)
+        : tracer.trace(MAP, String.valueOf(key), null,
+            () -> findMessage(messageAccessor, key, locale, keyTypes, includeDefault, config, tracer));
+  }
+
+
+  @Contract(pure = true)
+  private Message.WithSpaces findMessage(@NotNull MessageAccessor messageAccessor, Object key, @NotNull Locale locale,
+                                         @NotNull Set<MapKey.Type> keyTypes, boolean includeDefault,
+                                         MessagePart.Config config, Tracer tracer)
+  {
+    var configValue = findMappedValue(messageAccessor, locale, key, keyTypes, config, tracer);
     if (configValue == null)
     {
       if (includeDefault && defaultValue != null &&
           Arrays.stream(mapKeys).anyMatch(mk -> keyTypes.contains(mk.getType())))
+      {
         configValue = defaultValue;
+
+        if (tracer != null)
+          tracer.result("default");
+      }
       else
         return null;
     }
@@ -180,7 +215,8 @@ public final class MessagePartMap implements MessagePart.Map
 
   @Contract(pure = true)
   private TypedValue<?> findMappedValue(@NotNull MessageAccessor messageAccessor, @NotNull Locale locale,
-                                        Object value, @NotNull Set<MapKey.Type> keyTypes, MessagePart.Config config)
+                                        Object value, @NotNull Set<MapKey.Type> keyTypes, MessagePart.Config config,
+                                        Tracer tracer)
   {
     TypedValue<?> bestMatch = null;
 
@@ -195,10 +231,16 @@ public final class MessagePartMap implements MessagePart.Map
       {
         var matchResult = findBestMatch(comparatorContext, formatters, value);
 
+        if (tracer != null)
+          tracer.event(MAP_KEY, mapKeys[n].toString(), Tracer.nameOf(matchResult));
+
         if (MatchResult.compare(matchResult, bestMatchResult) > 0)
         {
           bestMatchResult = matchResult;
           bestMatch = mapValues[n];
+
+          if (tracer != null)
+            tracer.result(mapKeys[n].toString());
         }
       }
 
@@ -259,18 +301,35 @@ public final class MessagePartMap implements MessagePart.Map
   {
     var templateNames = new TreeSet<String>();
 
-    for(var configValue: mapValues)
-      if (configValue instanceof TypedValueMessage)
-        templateNames.addAll(((TypedValueMessage)configValue).asObject().getTemplateNames());
+    collectTemplateNames(templateNames);
 
     return unmodifiableSet(templateNames);
   }
 
 
+  /**
+   * Adds the template names referenced in all message values of this map to the given
+   * {@code templateNames} set.
+   *
+   * @param templateNames  set to add the template names to, not {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param1")
+  public void collectTemplateNames(@NotNull Set<String> templateNames)
+  {
+    for(var mapValue: mapValues)
+      if (mapValue instanceof TypedValueMessage messageValue &&
+          messageValue.asObject() instanceof CompoundMessage compoundMessage)
+        compoundMessage.collectTemplateNames(templateNames);
+  }
+
+
   @Override
   public boolean equals(Object o)
   {
     return o instanceof MessagePartMap that &&
+        fingerprint == that.fingerprint &&
         hasKeyType == that.hasKeyType &&
         Arrays.equals(mapKeys, that.mapKeys) &&
         Arrays.equals(mapValues, that.mapValues) &&
@@ -280,7 +339,18 @@ public final class MessagePartMap implements MessagePart.Map
 
   @Override
   public int hashCode() {
-    return (Objects.hashCode(defaultValue) * 59 + Arrays.hashCode(mapKeys)) * 59 + Arrays.hashCode(mapValues);
+    return Long.hashCode(fingerprint);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
   }
 
 
@@ -330,7 +400,7 @@ public final class MessagePartMap implements MessagePart.Map
     if (packStream.readBoolean())
       map.put(null, unpack.unpackTypedValue(packStream));
 
-    return new MessagePartMap(map);
+    return unpack.getMessagePartNormalizer().normalizeMap(new MessagePartMap(map));
   }
 
 
@@ -432,6 +502,12 @@ public final class MessagePartMap implements MessagePart.Map
     }
 
 
+    @Override
+    public Number getStringKeyNumber() {
+      return ((MapKeyString)mapKey).getNumber();
+    }
+
+
     @Override
     public @NotNull Locale getLocale() {
       return locale;
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 
 import static de.sayayi.lib.message.part.MapKey.CompareType.EQ;
+import static de.sayayi.lib.message.util.MessageUtil.parseNumber;
 import static de.sayayi.lib.message.util.MessageUtil.serializeQuotedString;
 import static java.util.Objects.requireNonNull;
 
@@ -31,6 +32,9 @@ import static java.util.Objects.requireNonNull;
 /**
  * Internal implementation of {@link MapKey} representing a string map key. A string key consists of a string value
  * and a {@link CompareType} that determines how the provided value is compared to this key.
+ * <p>
+ * The numeric interpretation of the string value is determined once, when the key is created, so number values can
+ * be compared to string keys without parsing the string each time.
  *
  * @author Jeroen Gremmen
  * @since 0.4.0 (renamed in 0.8.0)
@@ -44,6 +48,9 @@ public final class MapKeyString implements MapKey
   /** The string key value. */
   private final @NotNull String string;
 
+  /** Numeric interpretation of the string key value, or {@code null}. */
+  private final Number number;
+
 
   /**
    * Creates a string map key with compare type {@link CompareType#EQ EQ}.
@@ -71,6 +78,8 @@ public final class MapKeyString implements MapKey
   {
     this.compareType = requireNonNull(compareType, "compareType must not be null");
     this.string = requireNonNull(string, "string must not be null");
+
+    number = parseNumber(string);
   }
 
 
@@ -94,6 +103,21 @@ public final class MapKeyString implements MapKey
   }
 
 
+  /**
+   * Returns the numeric interpretation of the string key value, as determined by
+   * {@link de.sayayi.lib.message.util.MessageUtil#parseNumber(String) MessageUtil.parseNumber(String)} when
+   * this key was created.
+   *
+   * @return  numeric key value or {@code null} if the string key value is not a number
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public Number getNumber() {
+    return number;
+  }
+
+
   /**
    * {@inheritDoc}
    *
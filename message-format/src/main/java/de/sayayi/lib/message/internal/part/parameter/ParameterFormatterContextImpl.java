@@ -23,10 +23,12 @@ import de.sayayi.lib.message.formatter.parameter.ParameterFormatter.ClassifierCo
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatter.SizeQueryable;
 import de.sayayi.lib.message.formatter.parameter.ParameterFormatterContext;
 import de.sayayi.lib.message.internal.part.config.BaseConfigAccessor;
+import de.sayayi.lib.message.internal.trace.Tracer;
 import de.sayayi.lib.message.part.MapKey;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.MessagePart.Config;
 import de.sayayi.lib.message.part.MessagePart.Text;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -35,6 +37,7 @@ import static de.sayayi.lib.message.formatter.parameter.ParameterFormatter.Class
 import static de.sayayi.lib.message.formatter.parameter.ParameterFormatter.NULL_TYPE;
 import static de.sayayi.lib.message.part.MessagePart.Text.NULL;
 import static de.sayayi.lib.message.part.TextPartFactory.addSpaces;
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.FORMATTER;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 
@@ -143,7 +146,24 @@ final class ParameterFormatterContextImpl extends BaseConfigAccessor implements
     if (parameterFormatterIndex == parameterFormatters.length)
       throw new NoSuchElementException();
 
-    return parameterFormatters[parameterFormatterIndex++].format(this, value);
+    final var formatter = parameterFormatters[parameterFormatterIndex++];
+    final var tracer = Tracer.current();
+
+    return tracer == null
+        ? formatter.format(this, value)
+        : tracer.trace(FORMATTER, Tracer.nameOf(formatter), formatterChain(), () -> formatter.format(this, value));
+  }
+
+
+  @Contract(pure = true)
+  private @NotNull String formatterChain()
+  {
+    final var chain = new StringJoiner(", ", "#" + parameterFormatterIndex + " of ", "");
+
+    for(var formatter: parameterFormatters)
+      chain.add(Tracer.nameOf(formatter));
+
+    return chain.toString();
   }
 
 
@@ -17,10 +17,12 @@ package de.sayayi.lib.message.internal.part.parameter;
 
 import de.sayayi.lib.message.Message.Parameters;
 import de.sayayi.lib.message.MessageSupport.MessageAccessor;
+import de.sayayi.lib.message.internal.FingerprintAware;
 import de.sayayi.lib.message.internal.pack.PackSupport;
 import de.sayayi.lib.message.internal.part.config.MessagePartConfig;
 import de.sayayi.lib.message.internal.part.map.MessagePartMap;
 import de.sayayi.lib.message.internal.part.map.key.*;
+import de.sayayi.lib.message.internal.trace.Tracer;
 import de.sayayi.lib.message.part.MapKey;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.TypedValue;
@@ -34,11 +36,13 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Objects;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
 import static de.sayayi.lib.message.internal.pack.PackSupport.*;
 import static de.sayayi.lib.message.internal.part.config.MessagePartConfig.EMPTY_CONFIG;
 import static de.sayayi.lib.message.internal.part.map.MessagePartMap.EMPTY_MAP;
 import static de.sayayi.lib.message.part.MessagePart.Text.SPACE;
 import static de.sayayi.lib.message.part.TextPartFactory.addSpaces;
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.PARAMETER;
 import static de.sayayi.lib.message.util.MessageUtil.validateName;
 import static java.util.Objects.requireNonNull;
 
@@ -49,7 +53,7 @@ import static java.util.Objects.requireNonNull;
  * @author Jeroen Gremmen
  * @since 0.1.0
  */
-public final class ParameterPart implements MessagePart.Parameter
+public final class ParameterPart implements MessagePart.Parameter, FingerprintAware
 {
   /** parameter name. */
   private final @NotNull String name;
@@ -69,6 +73,9 @@ public final class ParameterPart implements MessagePart.Parameter
   /** tells whether the parameter has a trailing space. */
   private final boolean spaceAfter;
 
+  /** structural fingerprint. */
+  private final long fingerprint;
+
 
   /**
    * Construct a parameter part with the given parameter {@code name}.
@@ -113,6 +120,8 @@ public final class ParameterPart implements MessagePart.Parameter
     this.map = requireNonNull(map, "map must not be null");
     this.spaceBefore = spaceBefore;
     this.spaceAfter = spaceAfter;
+
+    fingerprint = fingerprint(this.name, this.format, spaceBefore, spaceAfter, config, map);
   }
 
 
@@ -132,13 +141,13 @@ public final class ParameterPart implements MessagePart.Parameter
 
   @Override
   @Contract(pure = true)
-  public @NotNull MessagePart.Config getConfig() {
+  public @NotNull MessagePartConfig getConfig() {
     return config;
   }
 
 
   @Override
-  public @NotNull MessagePart.Map getMap() {
+  public @NotNull MessagePartMap getMap() {
     return map;
   }
 
@@ -159,10 +168,23 @@ public final class ParameterPart implements MessagePart.Parameter
   @Contract(pure = true)
   public @NotNull Text getText(@NotNull MessageAccessor messageAccessor, @NotNull Parameters parameters)
   {
-    final var context = new ParameterFormatterContextImpl(messageAccessor, parameters,
-        parameters.getParameterValue(name), null, format, config, map);
+    final var value = parameters.getParameterValue(name);
+    final var tracer = Tracer.current();
+
+    return addSpaces(tracer == null
+        ? formatValue(messageAccessor, parameters, value)
+        : tracer.trace(PARAMETER, name, value == null ? "null" : value.getClass().getName(),
+            () -> formatValue(messageAccessor, parameters, value)),
+        spaceBefore, spaceAfter);
+  }
+
 
-    return addSpaces(context.delegateToNextFormatter(), spaceBefore, spaceAfter);
+  @Contract(pure = true)
+  private @NotNull Text formatValue(@NotNull MessageAccessor messageAccessor, @NotNull Parameters parameters,
+                                    Object value)
+  {
+    return new ParameterFormatterContextImpl(messageAccessor, parameters, value, null, format, config, map)
+        .delegateToNextFormatter();
   }
 
 
@@ -213,6 +235,7 @@ public final class ParameterPart implements MessagePart.Parameter
   public boolean equals(Object o)
   {
     return o instanceof Parameter that &&
+        (!(that instanceof FingerprintAware fingerprintAware) || fingerprint == fingerprintAware.getFingerprint()) &&
         name.equals(that.getName()) &&
         Objects.equals(format, that.getFormat()) &&
         spaceBefore == that.isSpaceBefore() &&
@@ -224,7 +247,18 @@ public final class ParameterPart implements MessagePart.Parameter
 
   @Override
   public int hashCode() {
-    return name.hashCode() * 11 + (spaceBefore ? 8 : 0) + (spaceAfter ? 2 : 0);
+    return Long.hashCode(fingerprint);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
   }
 
 
@@ -342,6 +376,9 @@ public final class ParameterPart implements MessagePart.Parameter
       }
     }
 
-    return new ParameterPart(name, format, spaceBefore, spaceAfter, new MessagePartConfig(config), new MessagePartMap(map));
+    final var normalizer = unpack.getMessagePartNormalizer();
+
+    return new ParameterPart(name, format, spaceBefore, spaceAfter,
+        normalizer.normalizeConfig(new MessagePartConfig(config)), normalizer.normalizeMap(new MessagePartMap(map)));
   }
 }
@@ -18,8 +18,11 @@ package de.sayayi.lib.message.internal.part.post;
 import de.sayayi.lib.message.Message;
 import de.sayayi.lib.message.Message.Parameters;
 import de.sayayi.lib.message.MessageSupport.MessageAccessor;
+import de.sayayi.lib.message.internal.FingerprintAware;
+import de.sayayi.lib.message.internal.jfr.PostFormatEvent;
 import de.sayayi.lib.message.internal.pack.PackSupport;
 import de.sayayi.lib.message.internal.part.config.MessagePartConfig;
+import de.sayayi.lib.message.internal.trace.Tracer;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.pack.PackInputStream;
 import de.sayayi.lib.pack.PackOutputStream;
@@ -28,9 +31,11 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
 import static de.sayayi.lib.message.part.MessagePart.Text.SPACE;
 import static de.sayayi.lib.message.part.TextPartFactory.addSpaces;
 import static de.sayayi.lib.message.part.TextPartFactory.noSpaceText;
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.POST_FORMATTER;
 import static de.sayayi.lib.message.util.MessageUtil.serializeMessage;
 import static de.sayayi.lib.message.util.MessageUtil.validateName;
 import static java.util.Objects.requireNonNull;
@@ -51,7 +56,7 @@ import static java.util.Objects.requireNonNull;
  * @see MessagePart.PostFormat
  * @see de.sayayi.lib.message.formatter.post.PostFormatter PostFormatter
  */
-public final class PostFormatterPart implements MessagePart.PostFormat
+public final class PostFormatterPart implements MessagePart.PostFormat, FingerprintAware
 {
   /** post formatter name. */
   private final @NotNull String name;
@@ -68,6 +73,9 @@ public final class PostFormatterPart implements MessagePart.PostFormat
   /** tells whether the parameter has a trailing space. */
   private final boolean spaceAfter;
 
+  /** structural fingerprint. */
+  private final long fingerprint;
+
 
   /**
    * Creates a new post formatter part.
@@ -86,6 +94,8 @@ public final class PostFormatterPart implements MessagePart.PostFormat
     this.config = requireNonNull(config, "config must not be null");
     this.spaceBefore = spaceBefore;
     this.spaceAfter = spaceAfter;
+
+    fingerprint = fingerprint(this.name, message, spaceBefore, spaceAfter, config);
   }
 
 
@@ -103,7 +113,7 @@ public final class PostFormatterPart implements MessagePart.PostFormat
 
   @Override
   @Contract(pure = true)
-  public @NotNull MessagePart.Config getConfig() {
+  public @NotNull MessagePartConfig getConfig() {
     return config;
   }
 
@@ -134,6 +144,29 @@ public final class PostFormatterPart implements MessagePart.PostFormat
   @Override
   @Contract(pure = true)
   public @NotNull Text getText(@NotNull MessageAccessor messageAccessor, @NotNull Parameters parameters)
+  {
+    final var event = new PostFormatEvent();
+    event.begin();
+
+    final var tracer = Tracer.current();
+    final var text = tracer == null
+        ? postFormat(messageAccessor, parameters)
+        : tracer.trace(POST_FORMATTER, name, null, () -> postFormat(messageAccessor, parameters));
+
+    if (event.shouldCommit())
+    {
+      event.name = name;
+      event.locale = parameters.getLocale().toLanguageTag();
+      event.textLength = text.getTextNotNull().length();
+      event.commit();
+    }
+
+    return text;
+  }
+
+
+  @Contract(pure = true)
+  private @NotNull Text postFormat(@NotNull MessageAccessor messageAccessor, @NotNull Parameters parameters)
   {
     final var text = message.formatAsText(messageAccessor, parameters);
     if (text.isEmpty())
@@ -180,6 +213,7 @@ public final class PostFormatterPart implements MessagePart.PostFormat
   public boolean equals(Object o)
   {
     return o instanceof PostFormat that &&
+        (!(that instanceof FingerprintAware fingerprintAware) || fingerprint == fingerprintAware.getFingerprint()) &&
         name.equals(that.getName()) &&
         message.equals(that.getMessage()) &&
         spaceBefore == that.isSpaceBefore() &&
@@ -190,7 +224,18 @@ public final class PostFormatterPart implements MessagePart.PostFormat
 
   @Override
   public int hashCode() {
-    return name.hashCode() * 11 + (spaceBefore ? 8 : 0) + (spaceAfter ? 2 : 0);
+    return Long.hashCode(fingerprint);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
   }
 
 
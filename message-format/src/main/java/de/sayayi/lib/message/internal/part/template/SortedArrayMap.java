@@ -15,6 +15,7 @@
  */
 package de.sayayi.lib.message.internal.part.template;
 
+import de.sayayi.lib.message.internal.FingerprintSupport;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -25,6 +26,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.combine;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Comparator.nullsFirst;
 
@@ -259,6 +261,38 @@ class SortedArrayMap<K extends Comparable<? super K>,V> implements Iterable<Entr
   }
 
 
+  /**
+   * Returns the structural fingerprint of this map. The fingerprint depends on the keys and values, in sorted
+   * order.
+   *
+   * @return  fingerprint
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public long fingerprint()
+  {
+    var fingerprint = (long)size;
+
+    for(var n = 0; n < size * 2; n++)
+      fingerprint = combine(fingerprint, FingerprintSupport.fingerprint(array[n]));
+
+    return fingerprint;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof SortedArrayMap<?,?> that && Arrays.equals(array, that.array);
+  }
+
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(array);
+  }
+
+
 
 
   /**
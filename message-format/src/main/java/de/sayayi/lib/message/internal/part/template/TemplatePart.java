@@ -17,7 +17,10 @@ package de.sayayi.lib.message.internal.part.template;
 
 import de.sayayi.lib.message.Message.Parameters;
 import de.sayayi.lib.message.MessageSupport.MessageAccessor;
+import de.sayayi.lib.message.internal.FingerprintAware;
+import de.sayayi.lib.message.internal.jfr.TemplateEvent;
 import de.sayayi.lib.message.internal.pack.PackSupport;
+import de.sayayi.lib.message.internal.trace.Tracer;
 import de.sayayi.lib.message.part.MessagePart;
 import de.sayayi.lib.message.part.TypedValue;
 import de.sayayi.lib.pack.PackInputStream;
@@ -27,15 +30,19 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
 
+import static de.sayayi.lib.message.internal.FingerprintSupport.combine;
+import static de.sayayi.lib.message.internal.FingerprintSupport.fingerprint;
 import static de.sayayi.lib.message.part.MessagePart.Text.EMPTY;
 import static de.sayayi.lib.message.part.MessagePart.Text.SPACE;
 import static de.sayayi.lib.message.part.TextPartFactory.addSpaces;
 import static de.sayayi.lib.message.part.TextPartFactory.noSpaceText;
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.TEMPLATE;
 import static de.sayayi.lib.message.util.MessageUtil.validateName;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
@@ -49,7 +56,7 @@ import static java.util.stream.Collectors.joining;
  *
  * @since 0.8.0
  */
-public final class TemplatePart implements MessagePart.Template
+public final class TemplatePart implements MessagePart.Template, FingerprintAware
 {
   /** template name. */
   private final @NotNull String name;
@@ -76,6 +83,9 @@ public final class TemplatePart implements MessagePart.Template
    */
   private final SortedArrayMap<String,String> parameterDelegateMap;
 
+  /** structural fingerprint. */
+  private final long fingerprint;
+
 
   /**
    * Constructs a template part.
@@ -98,6 +108,9 @@ public final class TemplatePart implements MessagePart.Template
 
     defaultParameterMap = new SortedArrayMap<>(defaultParameters);
     parameterDelegateMap = new SortedArrayMap<>(parameterDelegates);
+
+    fingerprint = combine(combine(combine(fingerprint(this.name), defaultParameterMap.fingerprint()),
+        parameterDelegateMap.fingerprint()), spaceBefore, spaceAfter);
   }
 
 
@@ -119,10 +132,60 @@ public final class TemplatePart implements MessagePart.Template
   }
 
 
+  /**
+   * Returns an iterator over all default parameters of this template, ordered by parameter name.
+   *
+   * @return  iterator over all default parameters, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull Iterator<Entry<String,TypedValue<?>>> defaultParameterIterator() {
+    return defaultParameterMap.iterator();
+  }
+
+
+  /**
+   * Returns an iterator over all parameter delegates of this template, ordered by template parameter name. The
+   * entry key is the template parameter name and the entry value is the message parameter name it delegates to.
+   *
+   * @return  iterator over all parameter delegates, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public @NotNull Iterator<Entry<String,String>> parameterDelegateIterator() {
+    return parameterDelegateMap.iterator();
+  }
+
+
   @Override
   public @NotNull Text getText(@NotNull MessageAccessor messageAccessor, @NotNull Parameters parameters)
   {
-    var message = messageAccessor.getTemplateByName(name);
+    final var event = new TemplateEvent();
+    event.begin();
+
+    final var tracer = Tracer.current();
+    final var text = tracer == null
+        ? formatTemplate(messageAccessor, parameters)
+        : tracer.trace(TEMPLATE, name, null, () -> formatTemplate(messageAccessor, parameters));
+
+    if (event.shouldCommit())
+    {
+      event.name = name;
+      event.locale = parameters.getLocale().toLanguageTag();
+      event.textLength = text.getTextNotNull().length();
+      event.commit();
+    }
+
+    return text;
+  }
+
+
+  @Contract(pure = true)
+  private @NotNull Text formatTemplate(@NotNull MessageAccessor messageAccessor, @NotNull Parameters parameters)
+  {
+    final var message = messageAccessor.getTemplateByName(name);
 
     return addSpaces(message != null
         ? noSpaceText(message.format(messageAccessor, new ParameterAdapter(parameters)))
@@ -163,16 +226,30 @@ public final class TemplatePart implements MessagePart.Template
   @Override
   public boolean equals(Object o)
   {
-    return o instanceof Template that &&
-        spaceBefore == that.isSpaceBefore() &&
-        spaceAfter == that.isSpaceAfter() &&
-        name.equals(that.getName());
+    return o instanceof TemplatePart that &&
+        fingerprint == that.fingerprint &&
+        spaceBefore == that.spaceBefore &&
+        spaceAfter == that.spaceAfter &&
+        name.equals(that.name) &&
+        defaultParameterMap.equals(that.defaultParameterMap) &&
+        parameterDelegateMap.equals(that.parameterDelegateMap);
   }
 
 
   @Override
   public int hashCode() {
-    return name.hashCode() * 11 + (spaceBefore ? 8 : 0) + (spaceAfter ? 2 : 0);
+    return Long.hashCode(fingerprint);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return fingerprint;
   }
 
 
@@ -16,6 +16,8 @@
 package de.sayayi.lib.message.internal.part.typedvalue;
 
 import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.internal.FingerprintAware;
+import de.sayayi.lib.message.internal.FingerprintSupport;
 import de.sayayi.lib.message.internal.pack.PackSupport;
 import de.sayayi.lib.message.part.TypedValue.MessageValue;
 import de.sayayi.lib.message.util.MessageUtil;
@@ -39,7 +41,7 @@ import static java.util.Objects.requireNonNull;
  * @author Jeroen Gremmen
  * @since 0.4.0 (renamed in 0.8.0)
  */
-public record TypedValueMessage(@NotNull Message.WithSpaces messageValue) implements MessageValue
+public record TypedValueMessage(@NotNull Message.WithSpaces messageValue) implements MessageValue, FingerprintAware
 {
   /**
    * Creates a new typed value message wrapping the given message.
@@ -62,6 +64,17 @@ public record TypedValueMessage(@NotNull Message.WithSpaces messageValue) implem
   }
 
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.24.0
+   */
+  @Override
+  public long getFingerprint() {
+    return FingerprintSupport.fingerprint(messageValue);
+  }
+
+
   /**
    * Serializes this message value into its format string representation using
    * {@link MessageUtil#serializeMessage(Context, Message, boolean)}.
@@ -32,7 +32,8 @@ import static java.util.Objects.requireNonNull;
 /**
  * Internal implementation of {@link StringValue} representing a string typed configuration value.
  * The string can optionally be parsed into a {@link Message.WithSpaces} via
- * {@link #asMessage(MessageFactory)}.
+ * {@link #asMessage(MessageFactory)}. The string is parsed at most once, even if the message is requested by
+ * multiple threads concurrently.
  *
  * @author Jeroen Gremmen
  * @since 0.4.0 (renamed in 0.8.0)
@@ -82,10 +83,16 @@ public final class TypedValueString implements StringValue
   @Override
   public @NotNull Message.WithSpaces asMessage(@NotNull MessageFactory messageFactory)
   {
+    var message = this.message;
     if (message == null)
     {
-      //noinspection LanguageMismatch
-      message = messageFactory.parseMessage(string);
+      synchronized(this) {
+        if ((message = this.message) == null)
+        {
+          //noinspection LanguageMismatch
+          this.message = message = messageFactory.parseMessage(string);
+        }
+      }
     }
 
     return message;
@@ -0,0 +1,608 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.source;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.SpacesAware;
+import de.sayayi.lib.message.internal.EmptyMessageWithCode;
+import de.sayayi.lib.message.internal.MessageDelegateWithCode;
+import de.sayayi.lib.message.internal.part.map.key.*;
+import de.sayayi.lib.message.internal.part.parameter.ParameterPart;
+import de.sayayi.lib.message.internal.part.post.PostFormatterPart;
+import de.sayayi.lib.message.internal.part.template.TemplatePart;
+import de.sayayi.lib.message.part.MapKey;
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.MessagePart.Text;
+import de.sayayi.lib.message.part.TypedValue;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.Map.Entry;
+
+import static java.util.Locale.ROOT;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Exports messages and templates as the source code of a Java class.
+ * <p>
+ * The generated class constructs all messages and templates using the public {@link MessageFactory#messageBuilder()
+ * message builder} API. Adding the messages to a message support therefore requires neither parsing message formats
+ * nor reading and decoding a message pack.
+ * <p>
+ * The messages and templates are distributed over nested classes, each containing at most
+ * {@value #MESSAGES_PER_CLASS} messages or templates, so even large catalogs do not exceed the class file limits.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class JavaSourceSupport
+{
+  /** Reserved keywords and literals which cannot be used as identifiers. */
+  private static final Set<String> KEYWORDS = Set.of(
+      "_", "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+      "default", "do", "double", "else", "enum", "extends", "false", "final", "finally", "float", "for", "goto", "if",
+      "implements", "import", "instanceof", "int", "interface", "long", "native", "new", "null", "package",
+      "private", "protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized",
+      "this", "throw", "throws", "transient", "true", "try", "void", "volatile", "while");
+
+  /** Maximum number of messages or templates per nested class. */
+  private static final int MESSAGES_PER_CLASS = 256;
+
+  /** Indentation per level. */
+  private static final String INDENT = "  ";
+
+  /** Continuation indentation for chained method calls. */
+  private static final String CONTINUATION_INDENT = "    ";
+
+  private final @NotNull MessageFactory messageFactory;
+  private final @NotNull StringBuilder source;
+
+  /** Nesting depth of message builder lambda expressions, used to create unique lambda parameter names. */
+  private int lambdaDepth;
+
+
+  private JavaSourceSupport(@NotNull MessageFactory messageFactory)
+  {
+    this.messageFactory = messageFactory;
+
+    source = new StringBuilder();
+  }
+
+
+  /**
+   * Export the given messages and templates as the source code of a Java class.
+   * <p>
+   * The generated class provides a single method {@code configure(ConfigurableMessageSupport)}, which adds all
+   * messages and templates to the given message support. Messages are written in iteration order, templates are
+   * written regardless of whether they are referenced by any of the messages.
+   *
+   * @param writer          source writer, not {@code null}
+   * @param messageFactory  message factory, used to convert string map values into messages, not {@code null}
+   * @param packageName     package name of the generated class or an empty string for the default package,
+   *                        not {@code null}
+   * @param className       simple name of the generated class, not {@code null}
+   * @param messages        messages to export, not {@code null}
+   * @param templates       templates to export, keyed by template name, not {@code null}
+   *
+   * @throws IOException               if an I/O error occurs
+   * @throws IllegalArgumentException  if {@code packageName} or {@code className} is not a valid Java name or if a
+   *                                   message cannot be exported
+   */
+  public static void export(@NotNull Writer writer, @NotNull MessageFactory messageFactory,
+                            @NotNull String packageName, @NotNull String className,
+                            @NotNull Collection<? extends Message.WithCode> messages,
+                            @NotNull Map<String,? extends Message> templates)
+      throws IOException
+  {
+    requireNonNull(writer, "writer must not be null");
+    requireNonNull(messages, "messages must not be null");
+    requireNonNull(templates, "templates must not be null");
+
+    if (!requireNonNull(packageName, "packageName must not be null").isEmpty() && !isQualifiedName(packageName))
+      throw new IllegalArgumentException("invalid package name '" + packageName + "'");
+
+    if (!isSimpleName(requireNonNull(className, "className must not be null")))
+      throw new IllegalArgumentException("invalid class name '" + className + "'");
+
+    final var javaSourceSupport = new JavaSourceSupport(requireNonNull(messageFactory,
+        "messageFactory must not be null"));
+
+    javaSourceSupport.appendClass(packageName, className, List.copyOf(messages),
+        List.copyOf(templates.entrySet()));
+
+    writer.append(javaSourceSupport.source);
+  }
+
+
+  /**
+   * Tells whether the given {@code name} is a valid qualified Java name, i.e. a sequence of simple names separated
+   * by dots.
+   */
+  @Contract(pure = true)
+  private static boolean isQualifiedName(@NotNull String name)
+  {
+    for(int start = 0, end; ; start = end + 1)
+    {
+      if (!isSimpleName(name.substring(start, (end = name.indexOf('.', start)) == -1 ? name.length() : end)))
+        return false;
+
+      if (end == -1)
+        return true;
+    }
+  }
+
+
+  /**
+   * Tells whether the given {@code name} is a valid simple Java name, i.e. an identifier which is not a keyword.
+   */
+  @Contract(pure = true)
+  private static boolean isSimpleName(@NotNull String name)
+  {
+    return !name.isEmpty() && !KEYWORDS.contains(name) && Character.isJavaIdentifierStart(name.codePointAt(0)) &&
+           name.codePoints().skip(1).allMatch(Character::isJavaIdentifierPart);
+  }
+
+
+  private void appendClass(@NotNull String packageName, @NotNull String className,
+                           @NotNull List<? extends Message.WithCode> messages,
+                           @NotNull List<? extends Entry<String,? extends Message>> templates)
+  {
+    final var messageClasses = (messages.size() + MESSAGES_PER_CLASS - 1) / MESSAGES_PER_CLASS;
+    final var templateClasses = (templates.size() + MESSAGES_PER_CLASS - 1) / MESSAGES_PER_CLASS;
+
+    if (!packageName.isEmpty())
+      source.append("package ").append(packageName).append(";\n\n");
+
+    source
+        .append("import de.sayayi.lib.message.Message;\n")
+        .append("import de.sayayi.lib.message.MessageFactory;\n")
+        .append("import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;\n\n")
+        .append("import java.util.Locale;\n")
+        .append("import java.util.Map;\n\n\n")
+        .append("/**\n")
+        .append(" * Message catalog containing ").append(messages.size()).append(" messages and ")
+        .append(templates.size()).append(" templates.\n")
+        .append(" * <p>\n")
+        .append(" * This class has been generated by message-format; do not edit.\n")
+        .append(" */\n")
+        .append("@SuppressWarnings(\"all\")\n")
+        .append("public final class ").append(className).append("\n{\n")
+        .append(INDENT).append("private ").append(className).append("() {}\n\n\n")
+        .append(INDENT).append("/**\n")
+        .append(INDENT).append(" * Adds all messages and templates to the given {@code messageSupport}.\n")
+        .append(INDENT).append(" *\n")
+        .append(INDENT).append(" * @param messageSupport  message support, not {@code null}\n")
+        .append(INDENT).append(" */\n")
+        .append(INDENT).append("public static void configure(ConfigurableMessageSupport messageSupport)\n")
+        .append(INDENT).append("{\n")
+        .append(INDENT).append(INDENT)
+        .append("final var factory = messageSupport.getMessageAccessor().getMessageFactory();\n\n");
+
+    for(int n = 0; n < templateClasses; n++)
+      appendIndent(2).append("Templates").append(n).append(".configure(messageSupport, factory);\n");
+    for(int n = 0; n < messageClasses; n++)
+      appendIndent(2).append("Messages").append(n).append(".configure(messageSupport, factory);\n");
+
+    source.append(INDENT).append("}\n");
+
+    for(int n = 0; n < templateClasses; n++)
+    {
+      appendTemplateClass("Templates" + n, templates.subList(n * MESSAGES_PER_CLASS,
+          Math.min(templates.size(), (n + 1) * MESSAGES_PER_CLASS)));
+    }
+
+    for(int n = 0; n < messageClasses; n++)
+    {
+      appendMessageClass("Messages" + n, messages.subList(n * MESSAGES_PER_CLASS,
+          Math.min(messages.size(), (n + 1) * MESSAGES_PER_CLASS)));
+    }
+
+    source.append("}\n");
+  }
+
+
+  private void appendTemplateClass(@NotNull String nestedClassName,
+                                   @NotNull List<? extends Entry<String,? extends Message>> templates)
+  {
+    appendNestedClassStart(nestedClassName);
+
+    for(int n = 0, size = templates.size(); n < size; n++)
+    {
+      appendIndent(3).append("messageSupport.addTemplate(").append(javaString(templates.get(n).getKey()))
+          .append(", template").append(n).append("(factory));\n");
+    }
+
+    appendIndent(2).append("}\n");
+
+    for(int n = 0, size = templates.size(); n < size; n++)
+    {
+      source.append("\n\n");
+      appendIndent(2).append("private static Message template").append(n).append("(MessageFactory factory) {\n");
+      appendIndent(3).append("return ");
+      appendMessage(templates.get(n).getValue(), 3);
+      source.append(";\n");
+      appendIndent(2).append("}\n");
+    }
+
+    appendIndent(1).append("}\n");
+  }
+
+
+  private void appendMessageClass(@NotNull String nestedClassName,
+                                  @NotNull List<? extends Message.WithCode> messages)
+  {
+    appendNestedClassStart(nestedClassName);
+
+    for(int n = 0, size = messages.size(); n < size; n++)
+      appendIndent(3).append("messageSupport.addMessage(message").append(n).append("(factory));\n");
+
+    appendIndent(2).append("}\n");
+
+    for(int n = 0, size = messages.size(); n < size; n++)
+    {
+      source.append("\n\n");
+      appendIndent(2).append("private static Message.WithCode message").append(n)
+          .append("(MessageFactory factory) {\n");
+      appendIndent(3).append("return ");
+      appendMessage(messages.get(n), 3);
+      source.append(";\n");
+      appendIndent(2).append("}\n");
+    }
+
+    appendIndent(1).append("}\n");
+  }
+
+
+  private void appendNestedClassStart(@NotNull String nestedClassName)
+  {
+    source.append("\n\n\n\n");
+    appendIndent(1).append("private static final class ").append(nestedClassName).append("\n");
+    appendIndent(1).append("{\n");
+    appendIndent(2).append("private static void configure(ConfigurableMessageSupport messageSupport, ")
+        .append("MessageFactory factory)\n");
+    appendIndent(2).append("{\n");
+  }
+
+
+  /**
+   * Appends an expression constructing the given {@code message}.
+   *
+   * @param message  message, not {@code null}
+   * @param indent   indentation level of the line containing the start of the expression
+   */
+  private void appendMessage(@NotNull Message message, int indent)
+  {
+    if (message instanceof Message.LocaleAware localeAware)
+    {
+      source.append("factory.withCode(")
+          .append(javaString(((Message.WithCode)localeAware).getCode()))
+          .append(", Map.ofEntries(");
+
+      final var localizedMessages = new ArrayList<>(localeAware.getLocalizedMessages().entrySet());
+      localizedMessages.sort(Comparator.comparing(entry -> entry.getKey().toLanguageTag()));
+
+      for(var iterator = localizedMessages.iterator(); iterator.hasNext();)
+      {
+        final var localizedMessage = iterator.next();
+
+        source.append('\n');
+        appendContinuationIndent(indent).append("Map.entry(").append(javaLocale(localizedMessage.getKey()))
+            .append(", ");
+        appendMessage(localizedMessage.getValue(), indent + 2);
+        source.append(iterator.hasNext() ? ")," : ")");
+      }
+
+      source.append("))");
+    }
+    else if (message instanceof EmptyMessageWithCode emptyMessageWithCode)
+    {
+      source.append("factory.messageBuilder().buildWithCode(")
+          .append(javaString(emptyMessageWithCode.getCode())).append(')');
+    }
+    else if (message instanceof MessageDelegateWithCode delegate &&
+             delegate.getMessage() instanceof Message.WithSpaces messageWithSpaces)
+    {
+      appendBuilder("factory.messageBuilder()", messageWithSpaces, indent);
+      source.append('\n');
+      appendContinuationIndent(indent).append(".buildWithCode(").append(javaString(delegate.getCode()))
+          .append(')');
+    }
+    else if (message instanceof MessageDelegateWithCode delegate)
+    {
+      source.append("factory.withCode(").append(javaString(delegate.getCode())).append(", ");
+      appendMessage(delegate.getMessage(), indent);
+      source.append(')');
+    }
+    else if (message instanceof Message.WithSpaces messageWithSpaces)
+    {
+      appendBuilder("factory.messageBuilder()", messageWithSpaces, indent);
+
+      if (messageWithSpaces.getMessageParts().length > 0)
+      {
+        source.append('\n');
+        appendContinuationIndent(indent);
+      }
+
+      source.append(".build()");
+    }
+    else
+      throw new IllegalArgumentException("unsupported message type " + message.getClass().getName());
+  }
+
+
+  /**
+   * Appends the message builder invocations for all parts of the given {@code message}.
+   *
+   * @param builder  builder expression, not {@code null}
+   * @param message  message, not {@code null}
+   * @param indent   indentation level of the line containing the builder expression
+   */
+  private void appendBuilder(@NotNull String builder, @NotNull Message.WithSpaces message, int indent)
+  {
+    source.append(builder);
+
+    for(var messagePart: message.getMessageParts())
+    {
+      source.append('\n');
+      appendContinuationIndent(indent);
+
+      if (messagePart instanceof Text text)
+        appendTextPart(text);
+      else if (messagePart instanceof ParameterPart parameter)
+        appendParameterPart(parameter, indent + 2);
+      else if (messagePart instanceof PostFormatterPart postFormatter)
+        appendPostFormatterPart(postFormatter, indent + 2);
+      else if (messagePart instanceof TemplatePart template)
+        appendTemplatePart(template, indent + 2);
+      else
+        throw new IllegalArgumentException("unsupported message part " + messagePart.getClass().getName());
+    }
+  }
+
+
+  private void appendTextPart(@NotNull Text text)
+  {
+    source.append(".text(").append(javaString(text.getTextNotNull())).append(')');
+    appendSpaces(text);
+  }
+
+
+  private void appendParameterPart(@NotNull ParameterPart parameter, int indent)
+  {
+    source.append(".parameter(").append(javaString(parameter.getName())).append(')');
+
+    final var format = parameter.getFormat();
+    if (format != null)
+      source.append(".withFormat(").append(javaString(format)).append(')');
+
+    appendSpaces(parameter);
+    appendConfig(parameter.getConfig(), indent);
+
+    for(var iterator = parameter.getMap().mapEntryIterator(); iterator.hasNext();)
+    {
+      final var mapEntry = iterator.next();
+
+      source.append('\n');
+      appendContinuationIndent(indent);
+      appendMapKey(mapEntry.getKey());
+      source.append(".message(");
+      appendMessage(mapEntry.getValue() instanceof TypedValue.StringValue stringValue
+          ? stringValue.asMessage(messageFactory)
+          : ((TypedValue.MessageValue)mapEntry.getValue()).messageValue(), indent + 2);
+      source.append(')');
+    }
+  }
+
+
+  private void appendMapKey(MapKey mapKey)
+  {
+    switch(mapKey)
+    {
+      case null -> {
+        source.append(".mapDefault()");
+        return;
+      }
+
+      case MapKeyBool bool -> {
+        source.append(".mapBool(").append(bool.isBool()).append(')');
+        return;
+      }
+
+      case MapKeyEmpty ignored -> source.append(".mapEmpty()");
+      case MapKeyNull ignored -> source.append(".mapNull()");
+      case MapKeyNumber number -> source.append(".mapNumber(").append(number.getNumber()).append("L)");
+      case MapKeyString string -> source.append(".mapString(").append(javaString(string.getString())).append(')');
+    }
+
+    source.append('.').append(mapKey.getCompareType().name().toLowerCase(ROOT)).append("()");
+  }
+
+
+  private void appendPostFormatterPart(@NotNull PostFormatterPart postFormatter, int indent)
+  {
+    source.append(".postFormatter(").append(javaString(postFormatter.getName())).append(')');
+
+    appendSpaces(postFormatter);
+    appendConfig(postFormatter.getConfig(), indent);
+
+    final var message = postFormatter.getMessage();
+    final var lambdaParameter = "b" + ++lambdaDepth;
+
+    source.append('\n');
+    appendContinuationIndent(indent).append(".withMessage(").append(lambdaParameter).append(" -> ");
+
+    if (message.getMessageParts().length == 0)
+      source.append("{}");
+    else
+      appendBuilder(lambdaParameter, message, indent + 2);
+
+    source.append(')');
+    lambdaDepth--;
+  }
+
+
+  private void appendTemplatePart(@NotNull TemplatePart template, int indent)
+  {
+    source.append(".template(").append(javaString(template.getName())).append(')');
+
+    appendSpaces(template);
+
+    for(var iterator = template.parameterDelegateIterator(); iterator.hasNext();)
+    {
+      final var parameterDelegate = iterator.next();
+
+      source.append('\n');
+      appendContinuationIndent(indent).append(".withParameterDelegate(")
+          .append(javaString(parameterDelegate.getKey())).append(", ")
+          .append(javaString(parameterDelegate.getValue())).append(')');
+    }
+
+    for(var iterator = template.defaultParameterIterator(); iterator.hasNext();)
+    {
+      final var defaultParameter = iterator.next();
+
+      source.append('\n');
+      appendContinuationIndent(indent);
+      appendTypedValue(".withDefaultParameter", defaultParameter.getKey(), defaultParameter.getValue(), indent);
+    }
+  }
+
+
+  private void appendConfig(@NotNull MessagePart.Config config, int indent)
+  {
+    for(var name: new TreeSet<>(config.getConfigNames()))
+    {
+      source.append('\n');
+      appendContinuationIndent(indent);
+      appendTypedValue(".config", name, requireNonNull(config.getConfigValue(name)), indent);
+    }
+  }
+
+
+  /**
+   * Appends a builder invocation for a named typed value, e.g. {@code .configBool("name", true)}.
+   *
+   * @param methodPrefix  builder method name prefix, not {@code null}
+   * @param name          value name, not {@code null}
+   * @param value         typed value, not {@code null}
+   * @param indent        indentation level of the current line
+   */
+  private void appendTypedValue(@NotNull String methodPrefix, @NotNull String name, @NotNull TypedValue<?> value,
+                                int indent)
+  {
+    source.append(methodPrefix);
+
+    switch(value)
+    {
+      case TypedValue.BoolValue bool ->
+          source.append("Bool(").append(javaString(name)).append(", ").append(bool.booleanValue());
+
+      case TypedValue.NumberValue number ->
+          source.append("Number(").append(javaString(name)).append(", ").append(number.longValue()).append('L');
+
+      case TypedValue.StringValue string ->
+          source.append("String(").append(javaString(name)).append(", ").append(javaString(string.stringValue()));
+
+      case TypedValue.MessageValue message -> {
+        source.append("Message(").append(javaString(name)).append(", ");
+        appendMessage(message.messageValue(), indent + 2);
+      }
+    }
+
+    source.append(')');
+  }
+
+
+  private void appendSpaces(@NotNull SpacesAware spacesAware)
+  {
+    final var spaceBefore = spacesAware.isSpaceBefore();
+    final var spaceAfter = spacesAware.isSpaceAfter();
+
+    if (spaceBefore && spaceAfter)
+      source.append(".spacesAround()");
+    else if (spaceBefore)
+      source.append(".spaceBefore()");
+    else if (spaceAfter)
+      source.append(".spaceAfter()");
+  }
+
+
+  private @NotNull StringBuilder appendIndent(int indent) {
+    return source.append(INDENT.repeat(indent));
+  }
+
+
+  private @NotNull StringBuilder appendContinuationIndent(int indent) {
+    return appendIndent(indent).append(CONTINUATION_INDENT);
+  }
+
+
+  /**
+   * Returns a Java expression for the given {@code locale}.
+   *
+   * @param locale  locale, not {@code null}
+   *
+   * @return  locale expression, never {@code null}
+   */
+  @Contract(pure = true)
+  private static @NotNull String javaLocale(@NotNull Locale locale)
+  {
+    return ROOT.equals(locale)
+        ? "Locale.ROOT"
+        : "Locale.forLanguageTag(" + javaString(locale.toLanguageTag()) + ')';
+  }
+
+
+  /**
+   * Returns a Java string literal for the given {@code string}. All non-ASCII and control characters are escaped,
+   * so the generated source is independent of the source file encoding.
+   *
+   * @param string  string, not {@code null}
+   *
+   * @return  quoted and escaped string literal, never {@code null}
+   */
+  @Contract(pure = true)
+  static @NotNull String javaString(@NotNull String string)
+  {
+    final var literal = new StringBuilder(string.length() + 2).append('"');
+
+    for(var ch: string.toCharArray())
+    {
+      switch(ch)
+      {
+        case '"' -> literal.append("\\\"");
+        case '\\' -> literal.append("\\\\");
+        case '\n' -> literal.append("\\n");
+        case '\r' -> literal.append("\\r");
+        case '\t' -> literal.append("\\t");
+
+        default -> {
+          if (ch < ' ' || ch > '~')
+            literal.append(String.format("\\u%04x", (int)ch));
+          else
+            literal.append(ch);
+        }
+      }
+    }
+
+    return literal.append('"').toString();
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.trace;
+
+import de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
+import de.sayayi.lib.message.part.MapKey.MatchResult;
+import de.sayayi.lib.message.part.MessagePart.Text;
+import de.sayayi.lib.message.trace.FormatTrace;
+import de.sayayi.lib.message.trace.FormatTrace.Kind;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.MESSAGE;
+
+
+/**
+ * Collects the evaluation tree of a message which is formatted with tracing enabled.
+ * <p>
+ * A tracer is bound to the formatting thread. As long as no thread is tracing, {@link #current()} returns
+ * {@code null} after reading a single counter, so instrumented code does not have to look up the thread local.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class Tracer
+{
+  private static final AtomicInteger ACTIVE_TRACERS = new AtomicInteger();
+  private static final ThreadLocal<Tracer> CURRENT_TRACER = new ThreadLocal<>();
+
+  private final List<NodeBuilder> stack = new ArrayList<>();
+  private NodeBuilder root;
+
+
+  private Tracer() {
+  }
+
+
+  /**
+   * Returns the tracer for the current thread.
+   *
+   * @return  tracer for the current thread or {@code null} if the current thread is not tracing
+   */
+  @Contract(pure = true)
+  public static Tracer current() {
+    return ACTIVE_TRACERS.get() == 0 ? null : CURRENT_TRACER.get();
+  }
+
+
+  /**
+   * Formats a message with tracing enabled for the current thread.
+   *
+   * @param code    message code, or {@code null}
+   * @param format  function formatting the message, not {@code null}
+   *
+   * @return  format trace, never {@code null}
+   */
+  public static @NotNull FormatTrace trace(String code, @NotNull Supplier<String> format)
+  {
+    final var previousTracer = CURRENT_TRACER.get();
+    final var tracer = new Tracer();
+
+    CURRENT_TRACER.set(tracer);
+    ACTIVE_TRACERS.incrementAndGet();
+
+    try {
+      final var text = tracer.trace(MESSAGE, code, null, format);
+      return new FormatTrace(text, tracer.root.build());
+    } finally {
+      ACTIVE_TRACERS.decrementAndGet();
+
+      if (previousTracer == null)
+        CURRENT_TRACER.remove();
+      else
+        CURRENT_TRACER.set(previousTracer);
+    }
+  }
+
+
+  /**
+   * Records a node for the given {@code action}. Nodes recorded by the action become children of this node.
+   * If the action returns a text or string, it is recorded as the node result unless a result has already been
+   * set using {@link #result(String)}.
+   *
+   * @param kind    node kind, not {@code null}
+   * @param name    node name, or {@code null}
+   * @param detail  node detail, or {@code null}
+   * @param action  traced action, not {@code null}
+   * @param <T>     action result type
+   *
+   * @return  action result
+   */
+  public <T> T trace(@NotNull Kind kind, String name, String detail, @NotNull Supplier<T> action)
+  {
+    final var node = new NodeBuilder(kind, name, detail);
+
+    if (stack.isEmpty())
+      root = node;
+    else
+      stack.getLast().children.add(node);
+
+    stack.add(node);
+
+    final var start = System.nanoTime();
+    try {
+      final var result = action.get();
+
+      if (node.result == null)
+      {
+        if (result instanceof Text text)
+          node.result = text.getText();
+        else if (result instanceof String string)
+          node.result = string;
+      }
+
+      return result;
+    } catch(RuntimeException ex) {
+      node.result = "failed: " + ex;
+      throw ex;
+    } finally {
+      node.durationNanos = System.nanoTime() - start;
+      stack.removeLast();
+    }
+  }
+
+
+  /**
+   * Records a leaf node as a child of the current node.
+   *
+   * @param kind    node kind, not {@code null}
+   * @param name    node name, or {@code null}
+   * @param result  node result, or {@code null}
+   */
+  public void event(@NotNull Kind kind, String name, String result)
+  {
+    if (!stack.isEmpty())
+    {
+      final var node = new NodeBuilder(kind, name, null);
+      node.result = result;
+
+      stack.getLast().children.add(node);
+    }
+  }
+
+
+  /**
+   * Sets the result of the current node.
+   *
+   * @param result  node result, or {@code null}
+   */
+  public void result(String result)
+  {
+    if (!stack.isEmpty())
+      stack.getLast().result = result;
+  }
+
+
+  /**
+   * Returns the name used for the given {@code formatter} in trace nodes.
+   *
+   * @param formatter  parameter formatter, not {@code null}
+   *
+   * @return  formatter name, never {@code null}
+   */
+  @Contract(pure = true)
+  public static @NotNull String nameOf(@NotNull ParameterFormatter formatter)
+  {
+    final var formatterClass = formatter.getClass();
+    final var simpleName = formatterClass.getSimpleName();
+
+    return simpleName.isEmpty() ? formatterClass.getName() : simpleName;
+  }
+
+
+  /**
+   * Returns the text used for the given {@code matchResult} in trace nodes.
+   *
+   * @param matchResult  match result, not {@code null}
+   *
+   * @return  match result text, never {@code null}
+   */
+  @Contract(pure = true)
+  public static @NotNull String nameOf(@NotNull MatchResult matchResult) {
+    return matchResult instanceof MatchResult.Defined ? matchResult.toString() : "(" + matchResult.value() + ')';
+  }
+
+
+
+
+  private static final class NodeBuilder
+  {
+    private final @NotNull Kind kind;
+    private final String name;
+    private final String detail;
+    private final List<NodeBuilder> children = new ArrayList<>(4);
+    private String result;
+    private long durationNanos;
+
+
+    private NodeBuilder(@NotNull Kind kind, String name, String detail)
+    {
+      this.kind = kind;
+      this.name = name;
+      this.detail = detail;
+    }
+
+
+    @Contract(pure = true)
+    private @NotNull FormatTrace.Node build() {
+      return new FormatTrace.Node(kind, name, detail, result, durationNanos,
+          children.stream().map(NodeBuilder::build).toList());
+    }
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Message metrics implementation which collects metrics in memory and exposes them as a platform MXBean.
+ * <p>
+ * Format statistics are collected for all formatted messages and for each message code separately. In order to
+ * limit the memory used, statistics are collected for a limited number of distinct message codes only. Messages
+ * with other codes are included in the overall format statistics only.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * var metrics = new JmxMessageMetrics();
+ * metrics.register("messages");
+ *
+ * messageFactory.setMetrics(metrics);
+ * formatterService.setMetrics(metrics);
+ * messageSupport.setMetrics(metrics);
+ * }</pre>
+ * <p>
+ * This class requires the {@code java.management} module.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class JmxMessageMetrics implements MessageMetrics, MessageMetricsMXBean
+{
+  /** Object name domain used for registered MXBeans. */
+  public static final String DOMAIN = "de.sayayi.lib.message";
+
+  /** Default maximum number of message codes for which format statistics are collected. */
+  public static final int DEFAULT_MAX_CODES = 1024;
+
+  private static final int HISTOGRAM_BUCKETS = 22;
+
+  private final int maxCodes;
+  private final FormatTimer formatTimer = new FormatTimer();
+  private final Map<String,FormatTimer> formatTimerByCode = new ConcurrentHashMap<>();
+  private final LongAdder parseCount = new LongAdder();
+  private final LongAdder parseTime = new LongAdder();
+  private final LongAdder[] cacheCounters = new LongAdder[Cache.values().length * 3];
+  private final LongAdder packImportCount = new LongAdder();
+  private final LongAdder packImportTime = new LongAdder();
+  private final AtomicLong lastPackImportTime = new AtomicLong();
+  private final LongAdder importedMessageCount = new LongAdder();
+  private final LongAdder importedTemplateCount = new LongAdder();
+
+  private ObjectName objectName;
+
+
+  /**
+   * Create a metrics instance collecting format statistics for up to {@value #DEFAULT_MAX_CODES} message codes.
+   */
+  public JmxMessageMetrics() {
+    this(DEFAULT_MAX_CODES);
+  }
+
+
+  /**
+   * Create a metrics instance collecting format statistics for up to {@code maxCodes} message codes.
+   *
+   * @param maxCodes  maximum number of message codes, {@code 0} disables per code statistics
+   *
+   * @throws IllegalArgumentException  if {@code maxCodes} is negative
+   */
+  public JmxMessageMetrics(int maxCodes)
+  {
+    if (maxCodes < 0)
+      throw new IllegalArgumentException("maxCodes must not be negative");
+
+    this.maxCodes = maxCodes;
+
+    for(int n = 0; n < cacheCounters.length; n++)
+      cacheCounters[n] = new LongAdder();
+  }
+
+
+  /**
+   * Registers this instance with the platform MBean server using object name
+   * {@code de.sayayi.lib.message:type=MessageMetrics,name=<name>}.
+   *
+   * @param name  name distinguishing multiple registered instances, not {@code null}
+   *
+   * @return  object name of the registered MXBean, never {@code null}
+   *
+   * @throws JMException  if the MXBean could not be registered
+   */
+  @Contract(mutates = "this")
+  public synchronized @NotNull ObjectName register(@NotNull String name) throws JMException
+  {
+    requireNonNull(name, "name must not be null");
+
+    if (objectName != null)
+      throw new IllegalStateException("metrics already registered as " + objectName);
+
+    final var on = new ObjectName(DOMAIN + ":type=MessageMetrics,name=" + ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+
+    return objectName = on;
+  }
+
+
+  /**
+   * Unregisters this instance from the platform MBean server. If this instance has not been registered, this
+   * method does nothing.
+   *
+   * @throws JMException  if the MXBean could not be unregistered
+   */
+  @Contract(mutates = "this")
+  public synchronized void unregister() throws JMException
+  {
+    if (objectName != null)
+    {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+      objectName = null;
+    }
+  }
+
+
+  @Override
+  public void messageFormatted(String code, long nanos)
+  {
+    formatTimer.record(nanos);
+
+    if (code != null && maxCodes > 0)
+    {
+      var timer = formatTimerByCode.get(code);
+      if (timer == null && formatTimerByCode.size() < maxCodes)
+        timer = formatTimerByCode.computeIfAbsent(code, c -> new FormatTimer());
+
+      if (timer != null)
+        timer.record(nanos);
+    }
+  }
+
+
+  @Override
+  public void messageParsed(boolean template, long nanos)
+  {
+    parseCount.increment();
+    parseTime.add(nanos);
+  }
+
+
+  @Override
+  public void cacheHit(@NotNull Cache cache) {
+    cacheCounters[cache.ordinal() * 3].increment();
+  }
+
+
+  @Override
+  public void cacheMiss(@NotNull Cache cache) {
+    cacheCounters[cache.ordinal() * 3 + 1].increment();
+  }
+
+
+  @Override
+  public void cacheEviction(@NotNull Cache cache) {
+    cacheCounters[cache.ordinal() * 3 + 2].increment();
+  }
+
+
+  @Override
+  public void packImported(int messageCount, int templateCount, long nanos)
+  {
+    packImportCount.increment();
+    packImportTime.add(nanos);
+    lastPackImportTime.set(nanos);
+    importedMessageCount.add(messageCount);
+    importedTemplateCount.add(templateCount);
+  }
+
+
+  @Override
+  public @NotNull FormatStatistics getFormatStatistics() {
+    return formatTimer.getStatistics();
+  }
+
+
+  @Override
+  public @NotNull Map<String,FormatStatistics> getFormatStatisticsByCode()
+  {
+    final var statistics = new TreeMap<String,FormatStatistics>();
+
+    formatTimerByCode.forEach((code, timer) -> statistics.put(code, timer.getStatistics()));
+
+    return statistics;
+  }
+
+
+  @Override
+  public long getParseCount() {
+    return parseCount.sum();
+  }
+
+
+  @Override
+  public long getParseTimeNanos() {
+    return parseTime.sum();
+  }
+
+
+  @Override
+  public @NotNull CacheStatistics getMessageCacheStatistics() {
+    return getCacheStatistics(Cache.MESSAGE);
+  }
+
+
+  @Override
+  public @NotNull CacheStatistics getFormatterCacheStatistics() {
+    return getCacheStatistics(Cache.FORMATTER);
+  }
+
+
+  @Override
+  public @NotNull CacheStatistics getNormalizerStatistics() {
+    return getCacheStatistics(Cache.NORMALIZER);
+  }
+
+
+  @Contract(pure = true)
+  private @NotNull CacheStatistics getCacheStatistics(@NotNull Cache cache)
+  {
+    final var offset = cache.ordinal() * 3;
+    final var hitCount = cacheCounters[offset].sum();
+    final var missCount = cacheCounters[offset + 1].sum();
+    final var requestCount = hitCount + missCount;
+
+    return new CacheStatistics(hitCount, missCount, cacheCounters[offset + 2].sum(),
+        requestCount == 0 ? 0.0 : (double)hitCount / requestCount);
+  }
+
+
+  @Override
+  public long getPackImportCount() {
+    return packImportCount.sum();
+  }
+
+
+  @Override
+  public long getPackImportTimeNanos() {
+    return packImportTime.sum();
+  }
+
+
+  @Override
+  public long getLastPackImportTimeNanos() {
+    return lastPackImportTime.get();
+  }
+
+
+  @Override
+  public long getImportedMessageCount() {
+    return importedMessageCount.sum();
+  }
+
+
+  @Override
+  public long getImportedTemplateCount() {
+    return importedTemplateCount.sum();
+  }
+
+
+  @Override
+  public void reset()
+  {
+    formatTimer.reset();
+    formatTimerByCode.clear();
+    parseCount.reset();
+    parseTime.reset();
+
+    for(var cacheCounter: cacheCounters)
+      cacheCounter.reset();
+
+    packImportCount.reset();
+    packImportTime.reset();
+    lastPackImportTime.set(0);
+    importedMessageCount.reset();
+    importedTemplateCount.reset();
+  }
+
+
+  @Override
+  public String toString() {
+    return "JmxMessageMetrics(" + (objectName == null ? "unregistered" : objectName) + ')';
+  }
+
+
+
+
+  /**
+   * Collects the format times for a single message code, or for all messages.
+   */
+  private static final class FormatTimer
+  {
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+
+    private void record(long nanos)
+    {
+      totalTime.add(nanos);
+      maxTime.accumulate(nanos);
+      histogram.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(nanos >>> 10), HISTOGRAM_BUCKETS - 1));
+    }
+
+
+    @Contract(pure = true)
+    private @NotNull FormatStatistics getStatistics()
+    {
+      final var buckets = new long[HISTOGRAM_BUCKETS];
+      var bucketCount = 0L;
+
+      for(int n = 0; n < HISTOGRAM_BUCKETS; n++)
+        bucketCount += buckets[n] = histogram.get(n);
+
+      final var totalTimeNanos = totalTime.sum();
+      final var maxTimeNanos = maxTime.get();
+
+      return new FormatStatistics(bucketCount, totalTimeNanos, maxTimeNanos,
+          bucketCount == 0 ? 0 : totalTimeNanos / bucketCount,
+          percentile(buckets, bucketCount, 50, maxTimeNanos),
+          percentile(buckets, bucketCount, 90, maxTimeNanos),
+          percentile(buckets, bucketCount, 99, maxTimeNanos),
+          buckets);
+    }
+
+
+    @Contract(pure = true)
+    private static long percentile(long @NotNull [] buckets, long bucketCount, int percentile, long maxTimeNanos)
+    {
+      final var threshold = (bucketCount * percentile + 99) / 100;
+      var count = 0L;
+
+      if (bucketCount > 0)
+        for(int n = 0; n < HISTOGRAM_BUCKETS - 1; n++)
+          if ((count += buckets[n]) >= threshold)
+            return Math.min(1024L << n, maxTimeNanos);
+
+      return maxTimeNanos;
+    }
+
+
+    private void reset()
+    {
+      totalTime.reset();
+      maxTime.reset();
+
+      for(int n = 0; n < HISTOGRAM_BUCKETS; n++)
+        histogram.set(n, 0);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.metrics;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Instrumentation interface for collecting runtime metrics.
+ * <p>
+ * A metrics instance is registered with a {@link ConfigurableMessageSupport#setMetrics(MessageMetrics) message
+ * support}, a {@link MessageFactory#setMetrics(MessageMetrics) message factory} and/or a
+ * {@link GenericFormatterService#setMetrics(MessageMetrics) formatter service}. Each component only reports the
+ * events it is responsible for, so the same instance is usually registered with all components.
+ * <p>
+ * All methods have an empty default implementation, so implementations only need to override the methods for the
+ * events they are interested in. Methods are invoked synchronously by the thread performing the operation and
+ * must therefore be thread-safe and fast. Some methods are invoked while the component holds an internal lock.
+ * <p>
+ * If a component has no metrics instance registered, or {@link #DISABLED} has been registered, no timestamps are
+ * taken and no events are reported.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see JmxMessageMetrics
+ */
+public interface MessageMetrics
+{
+  /**
+   * Metrics implementation which disables instrumentation.
+   */
+  MessageMetrics DISABLED = new MessageMetrics() {
+    @Override
+    public String toString() {
+      return "MessageMetrics.DISABLED";
+    }
+  };
+
+
+  /**
+   * Invoked after a message has been formatted by a message support instance.
+   *
+   * @param code   message code, or {@code null} if the formatted message has no code
+   * @param nanos  formatting time in nanoseconds
+   */
+  default void messageFormatted(String code, long nanos) {
+  }
+
+
+  /**
+   * Invoked after a message or template has been parsed by a message factory. Messages returned from the message
+   * cache are not parsed and therefore not reported.
+   *
+   * @param template  {@code true} if a template has been parsed, {@code false} if a message has been parsed
+   * @param nanos     parsing time in nanoseconds
+   */
+  default void messageParsed(boolean template, long nanos) {
+  }
+
+
+  /**
+   * Invoked when a lookup in the given {@code cache} returns a cached instance.
+   *
+   * @param cache  cache, never {@code null}
+   */
+  default void cacheHit(@NotNull Cache cache) {
+  }
+
+
+  /**
+   * Invoked when a lookup in the given {@code cache} does not find a cached instance.
+   *
+   * @param cache  cache, never {@code null}
+   */
+  default void cacheMiss(@NotNull Cache cache) {
+  }
+
+
+  /**
+   * Invoked when an entry is evicted from the given {@code cache}.
+   *
+   * @param cache  cache, never {@code null}
+   */
+  default void cacheEviction(@NotNull Cache cache) {
+  }
+
+
+  /**
+   * Invoked after a message pack has been imported into a message support instance.
+   *
+   * @param messageCount   number of messages in the pack
+   * @param templateCount  number of templates in the pack
+   * @param nanos          import time in nanoseconds
+   */
+  default void packImported(int messageCount, int templateCount, long nanos) {
+  }
+
+
+
+
+  /**
+   * Caches reporting hit, miss and eviction events.
+   */
+  enum Cache
+  {
+    /**
+     * Parsed message cache of a {@link MessageFactory}.
+     */
+    MESSAGE,
+
+    /**
+     * Type to formatter cache of a {@link GenericFormatterService}.
+     */
+    FORMATTER,
+
+    /**
+     * Message part normalizer of a {@link MessageFactory}. A hit is reported if the normalizer returns a different,
+     * previously normalized instance. Normalizers do not report evictions.
+     */
+    NORMALIZER
+  }
+}
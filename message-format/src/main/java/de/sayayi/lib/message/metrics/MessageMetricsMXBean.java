@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+
+/**
+ * Management interface for the metrics collected by {@link JmxMessageMetrics}.
+ * <p>
+ * All times are reported in nanoseconds. The returned statistics are snapshots; as the metrics are updated
+ * concurrently, the values may not be consistent with each other while messages are being formatted.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public interface MessageMetricsMXBean
+{
+  /**
+   * Returns the format statistics for all formatted messages, including messages without a code.
+   *
+   * @return  format statistics, never {@code null}
+   */
+  @Contract(pure = true)
+  @NotNull FormatStatistics getFormatStatistics();
+
+
+  /**
+   * Returns the format statistics for each formatted message code.
+   *
+   * @return  format statistics keyed by message code, never {@code null}
+   */
+  @Contract(pure = true)
+  @NotNull Map<String,FormatStatistics> getFormatStatisticsByCode();
+
+
+  /**
+   * Returns the number of parsed messages and templates.
+   *
+   * @return  parse count
+   */
+  @Contract(pure = true)
+  long getParseCount();
+
+
+  /**
+   * Returns the total time spent parsing messages and templates.
+   *
+   * @return  total parse time in nanoseconds
+   */
+  @Contract(pure = true)
+  long getParseTimeNanos();
+
+
+  /**
+   * Returns the statistics for the parsed message cache.
+   *
+   * @return  message cache statistics, never {@code null}
+   */
+  @Contract(pure = true)
+  @NotNull CacheStatistics getMessageCacheStatistics();
+
+
+  /**
+   * Returns the statistics for the type to formatter cache.
+   *
+   * @return  formatter cache statistics, never {@code null}
+   */
+  @Contract(pure = true)
+  @NotNull CacheStatistics getFormatterCacheStatistics();
+
+
+  /**
+   * Returns the statistics for the message part normalizer.
+   *
+   * @return  normalizer statistics, never {@code null}
+   */
+  @Contract(pure = true)
+  @NotNull CacheStatistics getNormalizerStatistics();
+
+
+  /**
+   * Returns the number of imported message packs.
+   *
+   * @return  pack import count
+   */
+  @Contract(pure = true)
+  long getPackImportCount();
+
+
+  /**
+   * Returns the total time spent importing message packs.
+   *
+   * @return  total pack import time in nanoseconds
+   */
+  @Contract(pure = true)
+  long getPackImportTimeNanos();
+
+
+  /**
+   * Returns the time spent importing the most recent message pack.
+   *
+   * @return  last pack import time in nanoseconds, or {@code 0} if no pack has been imported
+   */
+  @Contract(pure = true)
+  long getLastPackImportTimeNanos();
+
+
+  /**
+   * Returns the total number of messages imported from message packs.
+   *
+   * @return  imported message count
+   */
+  @Contract(pure = true)
+  long getImportedMessageCount();
+
+
+  /**
+   * Returns the total number of templates imported from message packs.
+   *
+   * @return  imported template count
+   */
+  @Contract(pure = true)
+  long getImportedTemplateCount();
+
+
+  /**
+   * Resets all metrics.
+   */
+  void reset();
+
+
+
+
+  /**
+   * Format statistics.
+   * <p>
+   * Format times are recorded in a histogram with exponentially growing buckets. Bucket {@code n} counts the format
+   * operations which took less than {@code 1024 << n} nanoseconds (and at least {@code 512 << n} nanoseconds for
+   * {@code n > 0}). The last bucket counts all slower operations. Percentiles are estimated using the upper bound of
+   * the bucket containing the percentile.
+   *
+   * @param count           number of formatted messages
+   * @param totalTimeNanos  total format time in nanoseconds
+   * @param maxTimeNanos    maximum format time in nanoseconds
+   * @param meanTimeNanos   mean format time in nanoseconds
+   * @param p50TimeNanos    estimated median format time in nanoseconds
+   * @param p90TimeNanos    estimated 90th percentile format time in nanoseconds
+   * @param p99TimeNanos    estimated 99th percentile format time in nanoseconds
+   * @param histogram       number of formatted messages per histogram bucket
+   */
+  record FormatStatistics(long count, long totalTimeNanos, long maxTimeNanos, long meanTimeNanos,
+                          long p50TimeNanos, long p90TimeNanos, long p99TimeNanos, long[] histogram) {
+  }
+
+
+
+
+  /**
+   * Cache statistics.
+   *
+   * @param hitCount       number of lookups which returned a cached instance
+   * @param missCount      number of lookups which did not find a cached instance
+   * @param evictionCount  number of evicted entries
+   * @param hitRate        ratio of lookups which returned a cached instance in the range {@code 0.0} to
+   *                       {@code 1.0}, or {@code 0.0} if no lookup has been performed
+   */
+  record CacheStatistics(long hitCount, long missCount, long evictionCount, double hitRate) {
+  }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Runtime metrics for message formatting, message parsing, caches and message pack imports, including an
+ * in-memory implementation exposed as a JMX MXBean.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+package de.sayayi.lib.message.metrics;
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.part.normalizer;
+
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.util.CacheStatistics;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.Math.clamp;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Thread-safe message part normalizer which can be shared by concurrently parsing threads.
+ * <p>
+ * The cached parts are distributed over a number of stripes, based on their hash code. Each stripe is an LRU cache
+ * guarded by its own lock, so threads normalizing parts in different stripes do not contend with each other. As
+ * eviction is performed per stripe, the normalizer approximates a global LRU strategy and the total number of cached
+ * parts may slightly exceed the requested maximum size.
+ * <p>
+ * The normalizer keeps track of hit, miss and eviction counts, which can be obtained using
+ * {@link #getStatistics()}.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see LRUMessagePartNormalizer
+ */
+public final class ConcurrentMessagePartNormalizer implements MessagePartNormalizer
+{
+  private static final int MAX_STRIPES = 64;
+
+  private final Stripe[] stripes;
+  private final int stripeMask;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+
+  /**
+   * Create a concurrent message part normalizer with the given maximum cache size. The number of stripes is
+   * derived from the number of available processors.
+   *
+   * @param maxSize  maximum number of cached parts, must be positive
+   *
+   * @throws IllegalArgumentException  if {@code maxSize} is not positive
+   */
+  public ConcurrentMessagePartNormalizer(int maxSize) {
+    this(maxSize, Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+
+  /**
+   * Create a concurrent message part normalizer with the given maximum cache size and number of stripes. The number
+   * of stripes is rounded down to a power of 2, limited to 64 and limited so that each stripe can hold at least
+   * 8 parts.
+   *
+   * @param maxSize      maximum number of cached parts, must be positive
+   * @param concurrency  estimated number of concurrently normalizing threads, must be positive
+   *
+   * @throws IllegalArgumentException  if {@code maxSize} or {@code concurrency} is not positive
+   */
+  public ConcurrentMessagePartNormalizer(int maxSize, int concurrency)
+  {
+    if (maxSize <= 0)
+      throw new IllegalArgumentException("maxSize must be a positive number");
+    if (concurrency <= 0)
+      throw new IllegalArgumentException("concurrency must be a positive number");
+
+    final var stripeCount = Integer.highestOneBit(clamp(min(concurrency, maxSize / 8), 1, MAX_STRIPES));
+    final var stripeSize = (maxSize + stripeCount - 1) / stripeCount;
+
+    stripes = new Stripe[stripeCount];
+    for(int n = 0; n < stripeCount; n++)
+      stripes[n] = new Stripe(stripeSize, evictionCount);
+
+    stripeMask = stripeCount - 1;
+  }
+
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends MessagePart> @NotNull T normalize(@NotNull T part)
+  {
+    final var hash = requireNonNull(part, "part must not be null").hashCode();
+    final var stripe = stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    final MessagePart cachedPart;
+
+    stripe.lock.lock();
+    try {
+      cachedPart = stripe.cache.putIfAbsent(part, part);
+    } finally {
+      stripe.lock.unlock();
+    }
+
+    if (cachedPart == null)
+    {
+      missCount.increment();
+      return part;
+    }
+
+    hitCount.increment();
+
+    return (T)cachedPart;
+  }
+
+
+  /**
+   * Returns the number of stripes used by this normalizer.
+   *
+   * @return  number of stripes, always a power of 2
+   */
+  @Contract(pure = true)
+  public int getStripeCount() {
+    return stripes.length;
+  }
+
+
+  /**
+   * Returns the current number of cached parts.
+   *
+   * @return  number of cached parts
+   */
+  @Contract(pure = true)
+  public int size()
+  {
+    var size = 0;
+
+    for(var stripe: stripes)
+    {
+      stripe.lock.lock();
+      try {
+        size += stripe.cache.size();
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+
+    return size;
+  }
+
+
+  /**
+   * Returns a snapshot of the normalizer statistics. As the counters are updated concurrently, the values may not
+   * be consistent with each other while normalization is in progress.
+   *
+   * @return  normalizer statistics, never {@code null}
+   */
+  @Contract(value = "-> new", pure = true)
+  public @NotNull CacheStatistics getStatistics() {
+    return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+  }
+
+
+  /**
+   * Removes all cached parts and resets the statistics.
+   */
+  @Contract(mutates = "this")
+  public void clear()
+  {
+    for(var stripe: stripes)
+    {
+      stripe.lock.lock();
+      try {
+        stripe.cache.clear();
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+
+    hitCount.reset();
+    missCount.reset();
+    evictionCount.reset();
+  }
+
+
+  @Override
+  public String toString() {
+    return "ConcurrentMessagePartNormalizer(stripes=" + stripes.length + ',' + getStatistics() + ')';
+  }
+
+
+
+
+  /**
+   * LRU cache for a single stripe. All access to {@link #cache} must be guarded by {@link #lock}.
+   */
+  private static final class Stripe
+  {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<MessagePart,MessagePart> cache;
+
+
+    private Stripe(int maxSize, @NotNull LongAdder evictionCount)
+    {
+      cache = new LinkedHashMap<>(clamp(maxSize, 16, 64), 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<MessagePart,MessagePart> eldest)
+        {
+          if (size() > maxSize)
+          {
+            evictionCount.increment();
+            return true;
+          }
+
+          return false;
+        }
+      };
+    }
+  }
+}
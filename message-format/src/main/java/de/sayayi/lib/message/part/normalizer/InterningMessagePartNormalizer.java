@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.part.normalizer;
+
+import de.sayayi.lib.message.part.MapKey;
+import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.TypedValue;
+import de.sayayi.lib.message.util.CacheStatistics;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.Math.clamp;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Thread-safe message part normalizer which interns message parts and their components.
+ * <p>
+ * Contrary to the LRU based normalizers, this normalizer does not limit the number of cached instances. Instead, all
+ * instances are weakly referenced, so an interned instance is kept as long as it is used by at least one message and
+ * is released by the garbage collector afterwards. Besides message parts, map keys, typed values, configurations and
+ * maps are interned as well, so equal components are shared between messages even if the parts containing them
+ * differ.
+ * <p>
+ * A single instance is usually shared by all message factories of an application, so messages which are parsed,
+ * built or imported from a message pack share their parts with all other messages.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see ConcurrentMessagePartNormalizer
+ */
+public final class InterningMessagePartNormalizer implements MessagePartNormalizer
+{
+  private static final int MAX_STRIPES = 64;
+
+  private final Stripe[] stripes;
+  private final int stripeMask;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+
+  /**
+   * Create an interning message part normalizer. The number of stripes is derived from the number of available
+   * processors.
+   */
+  public InterningMessagePartNormalizer() {
+    this(Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+
+  /**
+   * Create an interning message part normalizer with the given number of stripes. The number of stripes is rounded
+   * down to a power of 2 and limited to 64.
+   *
+   * @param concurrency  estimated number of concurrently normalizing threads, must be positive
+   *
+   * @throws IllegalArgumentException  if {@code concurrency} is not positive
+   */
+  public InterningMessagePartNormalizer(int concurrency)
+  {
+    if (concurrency <= 0)
+      throw new IllegalArgumentException("concurrency must be a positive number");
+
+    final var stripeCount = Integer.highestOneBit(clamp(concurrency, 1, MAX_STRIPES));
+
+    stripes = new Stripe[stripeCount];
+    for(int n = 0; n < stripeCount; n++)
+      stripes[n] = new Stripe();
+
+    stripeMask = stripeCount - 1;
+  }
+
+
+  @Override
+  public <T extends MessagePart> @NotNull T normalize(@NotNull T part) {
+    return intern(requireNonNull(part, "part must not be null"));
+  }
+
+
+  @Override
+  public <K extends MapKey> @NotNull K normalizeMapKey(@NotNull K mapKey) {
+    return intern(requireNonNull(mapKey, "mapKey must not be null"));
+  }
+
+
+  @Override
+  public <V extends TypedValue<?>> @NotNull V normalizeValue(@NotNull V value) {
+    return intern(requireNonNull(value, "value must not be null"));
+  }
+
+
+  @Override
+  public <C extends MessagePart.Config> @NotNull C normalizeConfig(@NotNull C config) {
+    return intern(requireNonNull(config, "config must not be null"));
+  }
+
+
+  @Override
+  public <M extends MessagePart.Map> @NotNull M normalizeMap(@NotNull M map) {
+    return intern(requireNonNull(map, "map must not be null"));
+  }
+
+
+  /**
+   * Returns the interned instance equal to {@code object}. If no such instance exists, {@code object} is interned
+   * and returned. Equal instances of a different class are never returned, as some message part implementations
+   * compare equal to other implementations of the same interface. Such an instance is replaced by {@code object}
+   * and counted as a miss.
+   *
+   * @param object  object to intern, not {@code null}
+   *
+   * @return  interned instance, never {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  private <T> @NotNull T intern(@NotNull T object)
+  {
+    final var hash = object.hashCode();
+    final var stripe = stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    Object internedObject;
+
+    stripe.lock.lock();
+    try {
+      final var ref = stripe.map.get(object);
+
+      if (ref == null || (internedObject = ref.get()) == null || internedObject.getClass() != object.getClass())
+      {
+        // remove the entry first, as put() keeps the existing key of an equal instance
+        if (ref != null)
+          stripe.map.remove(object);
+
+        stripe.map.put(object, new WeakReference<>(object));
+        internedObject = null;
+      }
+    } finally {
+      stripe.lock.unlock();
+    }
+
+    if (internedObject == null)
+    {
+      missCount.increment();
+      return object;
+    }
+
+    hitCount.increment();
+
+    return (T)internedObject;
+  }
+
+
+  /**
+   * Returns the current number of interned instances. Instances which have been garbage collected but not yet
+   * expunged may be included in the count.
+   *
+   * @return  number of interned instances
+   */
+  @Contract(pure = true)
+  public int size()
+  {
+    var size = 0;
+
+    for(var stripe: stripes)
+    {
+      stripe.lock.lock();
+      try {
+        size += stripe.map.size();
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+
+    return size;
+  }
+
+
+  /**
+   * Returns a snapshot of the normalizer statistics. As the counters are updated concurrently, the values may not
+   * be consistent with each other while normalization is in progress. Interned instances are released by the
+   * garbage collector instead of being evicted, so the eviction count is always {@code 0}.
+   *
+   * @return  normalizer statistics, never {@code null}
+   */
+  @Contract(value = "-> new", pure = true)
+  public @NotNull CacheStatistics getStatistics() {
+    return new CacheStatistics(hitCount.sum(), missCount.sum(), 0, size());
+  }
+
+
+  /**
+   * Removes all interned instances and resets the statistics. Instances already shared by messages are not affected.
+   */
+  @Contract(mutates = "this")
+  public void clear()
+  {
+    for(var stripe: stripes)
+    {
+      stripe.lock.lock();
+      try {
+        stripe.map.clear();
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+
+    hitCount.reset();
+    missCount.reset();
+  }
+
+
+  @Override
+  public String toString() {
+    return "InterningMessagePartNormalizer(stripes=" + stripes.length + ',' + getStatistics() + ')';
+  }
+
+
+
+
+  /**
+   * Weak interning map for a single stripe. All access must be guarded by {@link #lock}.
+   */
+  private static final class Stripe
+  {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final WeakHashMap<Object,WeakReference<Object>> map = new WeakHashMap<>();
+  }
+}
@@ -38,11 +38,15 @@ import static java.util.function.Function.identity;
  * <p>
  * Depending on the requested cache size, the factory selects an implementation optimized for either small or large
  * numbers of entries.
+ * <p>
+ * The normalizers created by this factory are not thread-safe. Use {@link ConcurrentMessagePartNormalizer} for
+ * message factories which are used by multiple threads concurrently.
  *
  * @author Jeroen Gremmen
  * @since 0.6.0
  *
  * @see MessagePartNormalizer
+ * @see ConcurrentMessagePartNormalizer
  */
 public final class LRUMessagePartNormalizer
 {
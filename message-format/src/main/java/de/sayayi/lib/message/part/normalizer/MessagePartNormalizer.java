@@ -15,18 +15,26 @@
  */
 package de.sayayi.lib.message.part.normalizer;
 
+import de.sayayi.lib.message.part.MapKey;
 import de.sayayi.lib.message.part.MessagePart;
+import de.sayayi.lib.message.part.TypedValue;
 import org.jetbrains.annotations.NotNull;
 
 
 /**
  * A normalizer for {@link MessagePart} instances. Implementations can be used to deduplicate or cache message parts
  * in order to reduce the overall memory footprint.
+ * <p>
+ * Besides message parts, the components message parts are composed of (map keys, typed values, configurations and
+ * maps) are passed to the normalizer as well, when they are created by the message parser, the message builder or
+ * a message pack import. By default, these components are not normalized.
  *
  * @author Jeroen Gremmen
  * @since 0.6.0
  *
  * @see LRUMessagePartNormalizer
+ * @see ConcurrentMessagePartNormalizer
+ * @see InterningMessagePartNormalizer
  */
 @FunctionalInterface
 public interface MessagePartNormalizer
@@ -53,4 +61,68 @@ public interface MessagePartNormalizer
    * @return  normalized message part, never {@code null}
    */
   <T extends MessagePart> @NotNull T normalize(@NotNull T part);
+
+
+  /**
+   * Normalize the given map key. The returned key may be replaced with an identical cached version in order to
+   * reduce the memory footprint.
+   *
+   * @param <K>     map key implementation type
+   * @param mapKey  map key, not {@code null}
+   *
+   * @return  normalized map key, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  default <K extends MapKey> @NotNull K normalizeMapKey(@NotNull K mapKey) {
+    return mapKey;
+  }
+
+
+  /**
+   * Normalize the given typed value, used as a map value, configuration value or template parameter default value.
+   * The returned value may be replaced with an identical cached version in order to reduce the memory footprint.
+   *
+   * @param <V>    typed value implementation type
+   * @param value  typed value, not {@code null}
+   *
+   * @return  normalized typed value, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  default <V extends TypedValue<?>> @NotNull V normalizeValue(@NotNull V value) {
+    return value;
+  }
+
+
+  /**
+   * Normalize the given message part configuration. The returned configuration may be replaced with an identical
+   * cached version in order to reduce the memory footprint.
+   *
+   * @param <C>     configuration implementation type
+   * @param config  message part configuration, not {@code null}
+   *
+   * @return  normalized configuration, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  default <C extends MessagePart.Config> @NotNull C normalizeConfig(@NotNull C config) {
+    return config;
+  }
+
+
+  /**
+   * Normalize the given message part map. The returned map may be replaced with an identical cached version in order
+   * to reduce the memory footprint.
+   *
+   * @param <M>  map implementation type
+   * @param map  message part map, not {@code null}
+   *
+   * @return  normalized map, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  default <M extends MessagePart.Map> @NotNull M normalizeMap(@NotNull M map) {
+    return map;
+  }
 }
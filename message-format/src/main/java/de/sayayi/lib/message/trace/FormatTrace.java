@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.trace;
+
+import de.sayayi.lib.message.MessageSupport.MessageConfigurer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Formatted message text together with the evaluation tree recorded while formatting the message.
+ * <p>
+ * A format trace is created by {@link MessageConfigurer#formatWithTrace()}. The {@linkplain #root() root} node
+ * represents the formatted message; its children describe the evaluated parameters, the parameter formatters
+ * selected for each parameter value, map key matching, templates and post formatters in evaluation order.
+ * <p>
+ * The string representation of a format trace is a human-readable, indented tree.
+ *
+ * @param text  formatted message, not {@code null}
+ * @param root  root node representing the formatted message, not {@code null}
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public record FormatTrace(@NotNull String text, @NotNull Node root)
+{
+  public FormatTrace
+  {
+    requireNonNull(text, "text must not be null");
+    requireNonNull(root, "root must not be null");
+  }
+
+
+  @Override
+  public String toString()
+  {
+    final var sb = new StringBuilder();
+
+    root.appendTo(sb, 0);
+
+    return sb.toString();
+  }
+
+
+
+
+  /**
+   * Trace node kind.
+   */
+  public enum Kind
+  {
+    /** Formatted message. The node name is the message code, if available. */
+    MESSAGE,
+
+    /** Parameter part. The node name is the parameter name, the detail contains the value type. */
+    PARAMETER,
+
+    /**
+     * Parameter formatter invocation. The node name is the formatter class name, the detail contains the position
+     * of the formatter in the formatter chain. Delegating to the next formatter creates a nested formatter node.
+     */
+    FORMATTER,
+
+    /** Map message lookup. The node name is the looked up value, the result is the selected map key. */
+    MAP,
+
+    /** Map key comparison. The node name is the map key, the result is the match result. */
+    MAP_KEY,
+
+    /** Template part. The node name is the template name. */
+    TEMPLATE,
+
+    /** Post formatter part. The node name is the post formatter name. */
+    POST_FORMATTER
+  }
+
+
+
+
+  /**
+   * Trace node.
+   *
+   * @param kind           node kind, not {@code null}
+   * @param name           node name, or {@code null}
+   * @param detail         additional information, or {@code null}
+   * @param result         formatted text or decision made by this node, or {@code null}
+   * @param durationNanos  time spent in this node including its children, in nanoseconds
+   * @param children       child nodes in evaluation order, not {@code null}
+   */
+  public record Node(@NotNull Kind kind, String name, String detail, String result, long durationNanos,
+                     @Unmodifiable @NotNull List<Node> children)
+  {
+    public Node
+    {
+      requireNonNull(kind, "kind must not be null");
+      children = List.copyOf(children);
+    }
+
+
+    /**
+     * Returns all nodes of the given {@code kind} in this subtree, in evaluation order.
+     *
+     * @param kind  node kind, not {@code null}
+     *
+     * @return  unmodifiable list of nodes, never {@code null}
+     */
+    @Contract(pure = true)
+    public @Unmodifiable @NotNull List<Node> find(@NotNull Kind kind)
+    {
+      requireNonNull(kind, "kind must not be null");
+
+      final var nodes = new ArrayList<Node>();
+      collect(kind, nodes);
+
+      return List.copyOf(nodes);
+    }
+
+
+    private void collect(@NotNull Kind kind, @NotNull List<Node> nodes)
+    {
+      if (this.kind == kind)
+        nodes.add(this);
+
+      for(var child: children)
+        child.collect(kind, nodes);
+    }
+
+
+    private void appendTo(@NotNull StringBuilder sb, int level)
+    {
+      sb.append("  ".repeat(level)).append(kind);
+
+      if (name != null)
+        sb.append(' ').append(name);
+      if (detail != null)
+        sb.append(" [").append(detail).append(']');
+      if (result != null)
+        sb.append(" = \"").append(result).append('"');
+
+      sb.append(" (").append(durationNanos).append(" ns)\n");
+
+      for(var child: children)
+        child.appendTo(sb, level + 1);
+    }
+  }
+}
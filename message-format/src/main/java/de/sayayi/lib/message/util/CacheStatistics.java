@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.util;
+
+import org.jetbrains.annotations.Contract;
+
+
+/**
+ * Statistics of a cache, like the format instance cache or a message part normalizer.
+ *
+ * @param hitCount       number of lookups which returned a cached instance
+ * @param missCount      number of lookups which did not find a cached instance
+ * @param evictionCount  number of entries evicted from the cache
+ * @param size           number of cached entries
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public record CacheStatistics(long hitCount, long missCount, long evictionCount, int size)
+{
+  /**
+   * Returns the ratio of lookups which returned a cached instance.
+   *
+   * @return  hit rate in the range {@code 0.0} to {@code 1.0}, or {@code 0.0} if no lookup has been performed
+   */
+  @Contract(pure = true)
+  public double hitRate()
+  {
+    final var requestCount = hitCount + missCount;
+    return requestCount == 0 ? 0.0 : (double)hitCount / requestCount;
+  }
+}
@@ -17,22 +17,40 @@ package de.sayayi.lib.message.util;
 
 import de.sayayi.lib.message.FormatStringSerializer.Context;
 import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.MessageAccessor;
+import de.sayayi.lib.message.internal.ParameterNameCollector;
 import de.sayayi.lib.message.internal.TextMessage;
+import de.sayayi.lib.message.internal.jfr.PackImportEvent;
 import de.sayayi.lib.message.internal.pack.PackFileTypeDetector;
 import de.sayayi.lib.message.internal.pack.PackSupport;
+import de.sayayi.lib.message.internal.source.JavaSourceSupport;
 import de.sayayi.lib.message.part.MessagePart.Text;
+import de.sayayi.lib.message.part.normalizer.MessagePartNormalizer;
 import de.sayayi.lib.pack.PackInputStream;
+import de.sayayi.lib.pack.PackOutputStream;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedSet;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import static de.sayayi.lib.message.internal.pack.PackSupport.MIME_TYPE;
 import static de.sayayi.lib.message.internal.pack.PackSupport.PACK_CONFIG;
+import static de.sayayi.lib.message.internal.pack.PackSupport.packCount;
+import static de.sayayi.lib.message.internal.pack.PackSupport.packVersion;
+import static de.sayayi.lib.message.internal.pack.PackSupport.unpackCount;
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
 import static java.lang.Character.*;
 import static java.util.Objects.requireNonNull;
 
@@ -43,7 +61,9 @@ import static java.util.Objects.requireNonNull;
  *   <li>Name validation (kebab-case, lower camel-case, general name format)</li>
  *   <li>Space-aware string trimming and normalization</li>
  *   <li>Message and string serialization into the format string representation</li>
- *   <li>Pack file detection and message/template import</li>
+ *   <li>Parameter name analysis</li>
+ *   <li>Pack file detection and message/template import and export</li>
+ *   <li>Message/template export as Java source</li>
  * </ul>
  *
  * <p>This class cannot be instantiated.
@@ -460,6 +480,44 @@ public final class MessageUtil
   }
 
 
+  /**
+   * Returns the numeric interpretation of the given {@code string}.
+   * <p>
+   * Integral strings accepted by {@link BigInteger#BigInteger(String)} are returned as {@link Long} if they fit in a
+   * {@code long} or as {@link BigInteger} otherwise. Other strings accepted by {@link BigDecimal#BigDecimal(String)}
+   * are returned as {@link BigDecimal}.
+   *
+   * @param string  string to interpret, not {@code null}
+   *
+   * @return  {@code Long}, {@code BigInteger} or {@code BigDecimal} instance or {@code null} if the string is not
+   *          a number
+   *
+   * @since 0.24.0
+   */
+  @Contract(pure = true)
+  public static Number parseNumber(@NotNull String string)
+  {
+    if (string.isEmpty())
+      return null;
+
+    final var ch = string.charAt(0);
+    if (!Character.isDigit(ch) && ch != '+' && ch != '-' && ch != '.')
+      return null;
+
+    try {
+      final var bigInteger = new BigInteger(string);
+      return bigInteger.bitLength() < 64 ? (Number)bigInteger.longValue() : bigInteger;
+    } catch(NumberFormatException ignored) {
+    }
+
+    try {
+      return new BigDecimal(string);
+    } catch(NumberFormatException ex) {
+      return null;
+    }
+  }
+
+
   /**
    * Serializes a string into the format string representation by appending characters to the
    * context's {@linkplain Context#textJoiner() text joiner}, applying the following escaping rules:
@@ -590,6 +648,31 @@ public final class MessageUtil
   }
 
 
+  /**
+   * Returns the names of all parameters referenced by the given {@code message}. This includes parameters referenced
+   * in map values, configuration values, post formatter messages and templates.
+   * <p>
+   * Templates are resolved using {@code messageAccessor}. Template parameters are reported with the name used by
+   * the referencing message, taking parameter delegates into account. Templates which are not available in the
+   * message accessor do not contribute any parameter names.
+   *
+   * @param messageAccessor  message accessor used for resolving templates, not {@code null}
+   * @param message          message, not {@code null}
+   *
+   * @return  sorted set of parameter names, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @Contract(value = "_, _ -> new", pure = true)
+  public static @NotNull SortedSet<String> getParameterNames(@NotNull MessageAccessor messageAccessor,
+                                                             @NotNull Message message)
+  {
+    return ParameterNameCollector.collect(
+        requireNonNull(messageAccessor, "messageAccessor must not be null"),
+        requireNonNull(message, "message must not be null"));
+  }
+
+
   /**
    * Tells whether the file at the given {@code path} is a message format pack file.
    * <p>
@@ -635,17 +718,52 @@ public final class MessageUtil
                                     Consumer<Message.WithCode> messageConsumer,
                                     BiConsumer<String,Message.WithSpaces> templateConsumer)
       throws IOException
+  {
+    importMessages(packStream, PASS_THROUGH, messageConsumer, templateConsumer);
+  }
+
+
+  /**
+   * Import messages and templates from a message format pack file. The {@code packStream} is
+   * validated and all entries are iterated. Each message is passed to the optional
+   * {@code messageConsumer} and each template to the optional {@code templateConsumer}.
+   * <p>
+   * All unpacked message parts, map keys, typed values, configurations and maps are passed to the
+   * {@code messagePartNormalizer}, so they can be shared with messages from other sources.
+   * <p>
+   * The {@code packStream} is closed when this method returns, regardless of whether the
+   * import was successful or not.
+   *
+   * @param packStream             pack input stream, not {@code null}
+   * @param messagePartNormalizer  message part normalizer, not {@code null}
+   * @param messageConsumer        consumer invoked for each message found, or {@code null}
+   * @param templateConsumer       consumer invoked for each template found, or {@code null}
+   *
+   * @throws IOException  if an I/O error occurs or the pack stream is invalid
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param1,io")
+  public static void importMessages(@NotNull InputStream packStream,
+                                    @NotNull MessagePartNormalizer messagePartNormalizer,
+                                    Consumer<Message.WithCode> messageConsumer,
+                                    BiConsumer<String,Message.WithSpaces> templateConsumer)
+      throws IOException
   {
     requireNonNull(packStream, "packStream must not be null");
 
-    final var packHelper = new PackSupport();
+    final var packHelper = new PackSupport(messagePartNormalizer);
+    final var event = new PackImportEvent();
+
+    event.begin();
 
     try(var dataStream = new PackInputStream(PACK_CONFIG, packStream)) {
       if (dataStream.getVersion().isEmpty())
         throw new IllegalArgumentException("packStream has no version");
 
       // messages
-      for(int n = 0, size = dataStream.readUnsignedShort(); n < size; n++)
+      final var messageCount = unpackCount(dataStream);
+      for(int n = 0; n < messageCount; n++)
       {
         final var message = packHelper.unpackMessageWithCode(dataStream);
 
@@ -654,7 +772,8 @@ public final class MessageUtil
       }
 
       // templates
-      for(int n = 0, size = dataStream.readUnsignedShort(); n < size; n++)
+      final var templateCount = unpackCount(dataStream);
+      for(int n = 0; n < templateCount; n++)
       {
         final var name = requireNonNull(dataStream.readString());
         final var template = packHelper.unpackMessageWithSpaces(dataStream);
@@ -662,6 +781,94 @@ public final class MessageUtil
         if (templateConsumer != null)
           templateConsumer.accept(name, template);
       }
+
+      if (event.shouldCommit())
+      {
+        event.messageCount = messageCount;
+        event.templateCount = templateCount;
+        event.commit();
+      }
     }
   }
+
+
+  /**
+   * Export the given messages and templates to a message format pack. All messages and templates are written as
+   * provided, in iteration order; templates are written regardless of whether they are referenced by any of the
+   * messages.
+   * <p>
+   * The resulting pack can be read using {@link #importMessages(InputStream, Consumer, BiConsumer)} or
+   * {@link de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport#importMessages(InputStream)
+   * ConfigurableMessageSupport#importMessages(InputStream)}. The {@code stream} is closed when this method returns.
+   *
+   * @param stream     pack output stream, not {@code null}
+   * @param compress   {@code true} to compress the pack, {@code false} otherwise
+   * @param messages   messages to export, not {@code null}
+   * @param templates  templates to export, keyed by template name, not {@code null}
+   *
+   * @throws IOException  if an I/O error occurs
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param1,io")
+  public static void exportMessages(@NotNull OutputStream stream, boolean compress,
+                                    @NotNull Collection<? extends Message.WithCode> messages,
+                                    @NotNull Map<String,? extends Message> templates)
+      throws IOException
+  {
+    requireNonNull(stream, "stream must not be null");
+    requireNonNull(messages, "messages must not be null");
+    requireNonNull(templates, "templates must not be null");
+
+    final var version = packVersion(messages.size(), templates.size());
+
+    try(var dataStream = new PackOutputStream(PACK_CONFIG, version, compress, stream)) {
+      // messages
+      packCount(version, messages.size(), dataStream);
+
+      for(var message: messages)
+        PackSupport.pack(message, dataStream);
+
+      // templates
+      packCount(version, templates.size(), dataStream);
+
+      for(var entry: templates.entrySet())
+      {
+        dataStream.writeString(entry.getKey());
+        PackSupport.pack(entry.getValue(), dataStream);
+      }
+    }
+  }
+
+
+  /**
+   * Export the given messages and templates as the source code of a Java class. The generated class provides a
+   * static {@code configure(ConfigurableMessageSupport)} method which adds all messages and templates to a message
+   * support, without parsing message formats or reading a message pack.
+   * <p>
+   * All messages and templates are written as provided, in iteration order; templates are written regardless of
+   * whether they are referenced by any of the messages. The {@code writer} is not closed by this method.
+   *
+   * @param writer       source writer, not {@code null}
+   * @param packageName  package name of the generated class or an empty string for the default package,
+   *                     not {@code null}
+   * @param className    simple name of the generated class, not {@code null}
+   * @param messages     messages to export, not {@code null}
+   * @param templates    templates to export, keyed by template name, not {@code null}
+   *
+   * @throws IOException               if an I/O error occurs
+   * @throws IllegalArgumentException  if {@code packageName} or {@code className} is not a valid Java name
+   *
+   * @since 0.24.0
+   */
+  @Contract(mutates = "param1,io")
+  public static void exportJavaSource(@NotNull Writer writer, @NotNull String packageName,
+                                      @NotNull String className,
+                                      @NotNull Collection<? extends Message.WithCode> messages,
+                                      @NotNull Map<String,? extends Message> templates)
+      throws IOException
+  {
+    JavaSourceSupport.export(writer, MessageFactory.getSharedInstance(), packageName, className, messages,
+        templates);
+  }
 }
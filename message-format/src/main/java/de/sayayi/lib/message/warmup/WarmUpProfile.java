@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.warmup;
+
+import de.sayayi.lib.message.MessageSupport;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.*;
+import java.util.*;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Warm-up profile listing message codes together with the locales and parameter value types they are formatted
+ * with.
+ * <p>
+ * A warm-up profile is either created programmatically or recorded by a {@link WarmUpProfileRecorder} and passed
+ * to {@link MessageSupport#warmUp(WarmUpProfile)}.
+ * <p>
+ * Profiles can be persisted as text, with one entry per line. Each line contains the message code, the locale
+ * language tag (or {@code -} for the message support default locale) and the parameter types, separated by tab
+ * characters:
+ * <pre>
+ *   MSG-001	en-GB	count=java.lang.Integer	name=java.lang.String
+ * </pre>
+ * A parameter formatted with values of different types is listed once for each type.
+ *
+ * @param entries  profile entries, not {@code null}
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public record WarmUpProfile(@Unmodifiable @NotNull List<Entry> entries)
+{
+  private static final String HEADER = "# message format warm-up profile";
+
+
+  public WarmUpProfile {
+    entries = List.copyOf(entries);
+  }
+
+
+  /**
+   * Creates a warm-up profile for the given {@code codes} formatted with the message support default locale.
+   *
+   * @param codes           message codes, not {@code null}
+   * @param parameterTypes  representative parameter types by parameter name, not {@code null}. Parameters not used
+   *                        by a message are ignored
+   *
+   * @return  warm-up profile, never {@code null}
+   */
+  @Contract(pure = true)
+  public static @NotNull WarmUpProfile of(@NotNull Collection<String> codes,
+                                          @NotNull Map<String,Class<?>> parameterTypes)
+  {
+    final var types = new TreeMap<String,Set<Class<?>>>();
+
+    requireNonNull(parameterTypes, "parameterTypes must not be null")
+        .forEach((name, type) -> types.put(name, Set.of(type)));
+
+    return new WarmUpProfile(requireNonNull(codes, "codes must not be null").stream()
+        .map(code -> new Entry(code, null, types))
+        .toList());
+  }
+
+
+  /**
+   * Writes this profile to the given {@code writer}.
+   *
+   * @param writer  profile writer, not {@code null}
+   *
+   * @throws IOException  if an I/O error occurs
+   */
+  @Contract(mutates = "param1")
+  public void write(@NotNull Writer writer) throws IOException
+  {
+    final var line = new StringBuilder();
+
+    writer.write(HEADER);
+    writer.write('\n');
+
+    for(var entry: entries)
+    {
+      line.setLength(0);
+      line.append(entry.code).append('\t').append(entry.locale == null ? "-" : entry.locale.toLanguageTag());
+
+      entry.parameterTypes.forEach((name, types) -> types.stream()
+          .map(Class::getName)
+          .sorted()
+          .forEach(typeName -> line.append('\t').append(name).append('=').append(typeName)));
+
+      writer.write(line.append('\n').toString());
+    }
+
+    writer.flush();
+  }
+
+
+  /**
+   * Reads a profile from the given {@code reader}. Parameter types which cannot be loaded are ignored.
+   *
+   * @param reader  profile reader, not {@code null}
+   *
+   * @return  warm-up profile, never {@code null}
+   *
+   * @throws IOException  if an I/O error occurs or the profile is malformed
+   */
+  @Contract(mutates = "param1")
+  public static @NotNull WarmUpProfile read(@NotNull Reader reader) throws IOException
+  {
+    final var classLoader = Optional
+        .ofNullable(Thread.currentThread().getContextClassLoader())
+        .orElse(WarmUpProfile.class.getClassLoader());
+    final var bufferedReader = new BufferedReader(requireNonNull(reader, "reader must not be null"));
+    final var entries = new ArrayList<Entry>();
+
+    for(String line; (line = bufferedReader.readLine()) != null;)
+    {
+      if (line.isBlank() || line.startsWith("#"))
+        continue;
+
+      final var fields = line.split("\t");
+      if (fields.length < 2)
+        throw new IOException("malformed warm-up profile line: " + line);
+
+      final var parameterTypes = new TreeMap<String,Set<Class<?>>>();
+
+      for(int n = 2; n < fields.length; n++)
+      {
+        final var separator = fields[n].indexOf('=');
+        if (separator <= 0)
+          throw new IOException("malformed warm-up profile parameter: " + fields[n]);
+
+        try {
+          final var type = Class.forName(fields[n].substring(separator + 1), false, classLoader);
+
+          parameterTypes
+              .computeIfAbsent(fields[n].substring(0, separator), name -> new LinkedHashSet<>())
+              .add(type);
+        } catch(ClassNotFoundException | LinkageError ignored) {
+        }
+      }
+
+      entries.add(new Entry(fields[0], fields[1].equals("-") ? null : Locale.forLanguageTag(fields[1]),
+          parameterTypes));
+    }
+
+    return new WarmUpProfile(entries);
+  }
+
+
+
+
+  /**
+   * Warm-up profile entry.
+   *
+   * @param code            message code, not {@code null}
+   * @param locale          locale, or {@code null} for the message support default locale
+   * @param parameterTypes  parameter value types by parameter name, not {@code null}
+   */
+  public record Entry(@NotNull String code, Locale locale,
+                      @Unmodifiable @NotNull Map<String,Set<Class<?>>> parameterTypes)
+  {
+    public Entry
+    {
+      requireNonNull(code, "code must not be null");
+
+      final var types = new TreeMap<String,Set<Class<?>>>();
+      requireNonNull(parameterTypes, "parameterTypes must not be null")
+          .forEach((name, typeSet) -> types.put(name, Set.copyOf(typeSet)));
+
+      parameterTypes = unmodifiableMap(types);
+    }
+  }
+}
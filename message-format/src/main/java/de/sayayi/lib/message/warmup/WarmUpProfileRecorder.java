@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.warmup;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Comparator.comparing;
+
+
+/**
+ * Records which message codes, locales and parameter value types are used while formatting messages.
+ * <p>
+ * A profile recorder is registered with a {@link ConfigurableMessageSupport#setWarmUpProfileRecorder(
+ * WarmUpProfileRecorder) message support}. The {@link #getProfile() recorded profile} can be persisted and used
+ * to {@linkplain de.sayayi.lib.message.MessageSupport#warmUp(WarmUpProfile) warm up} the message support on the
+ * next application start.
+ * <p>
+ * Only messages with a code are recorded. The number of recorded code and locale combinations is limited; further
+ * combinations are ignored once the limit has been reached. For each parameter at most
+ * {@value #MAX_PARAMETER_TYPES} value types are recorded. Recording is thread-safe.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class WarmUpProfileRecorder
+{
+  private static final Comparator<Key> KEY_ORDER =
+      comparing(Key::code).thenComparing(key -> key.locale().toLanguageTag());
+
+  /** Default maximum number of recorded code and locale combinations. */
+  public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+  /** Maximum number of recorded value types per parameter. */
+  public static final int MAX_PARAMETER_TYPES = 16;
+
+  private final @NotNull ConcurrentMap<Key,Map<String,Set<Class<?>>>> entries = new ConcurrentHashMap<>();
+  private final @NotNull AtomicInteger entryCount = new AtomicInteger();
+  private final int maxEntries;
+
+
+  /**
+   * Creates a profile recorder for at most {@link #DEFAULT_MAX_ENTRIES} code and locale combinations.
+   */
+  public WarmUpProfileRecorder() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+
+  /**
+   * Creates a profile recorder for at most {@code maxEntries} code and locale combinations.
+   *
+   * @param maxEntries  maximum number of recorded code and locale combinations, at least 1
+   */
+  public WarmUpProfileRecorder(int maxEntries)
+  {
+    if (maxEntries < 1)
+      throw new IllegalArgumentException("maxEntries must be at least 1");
+
+    this.maxEntries = maxEntries;
+  }
+
+
+  /**
+   * Records the code, locale and parameter value types of a formatted message.
+   *
+   * @param message     formatted message, not {@code null}
+   * @param parameters  message parameters, not {@code null}
+   */
+  public void record(@NotNull Message message, @NotNull Message.Parameters parameters)
+  {
+    if (message instanceof Message.WithCode withCode)
+    {
+      final var key = new Key(withCode.getCode(), parameters.getLocale());
+
+      // once the profile is full, only existing entries are updated
+      final var parameterTypes = entryCount.get() >= maxEntries
+          ? entries.get(key)
+          : entries.computeIfAbsent(key, this::createEntry);
+      if (parameterTypes == null)
+        return;
+
+      for(var parameterName: parameters.getParameterNames())
+      {
+        final var value = parameters.getParameterValue(parameterName);
+
+        if (value != null)
+        {
+          final var types = parameterTypes.computeIfAbsent(parameterName, name -> ConcurrentHashMap.newKeySet());
+
+          // the limit may be exceeded slightly by concurrently recording threads
+          if (types.size() < MAX_PARAMETER_TYPES)
+            types.add(value.getClass());
+        }
+      }
+    }
+  }
+
+
+  private Map<String,Set<Class<?>>> createEntry(@NotNull Key key)
+  {
+    if (entryCount.incrementAndGet() > maxEntries)
+    {
+      entryCount.decrementAndGet();
+      return null;
+    }
+
+    return new ConcurrentHashMap<>();
+  }
+
+
+  /**
+   * Returns the profile recorded so far. Messages with a generated code are not included.
+   *
+   * @return  recorded profile, never {@code null}
+   */
+  @Contract(pure = true)
+  public @NotNull WarmUpProfile getProfile()
+  {
+    return new WarmUpProfile(entries.entrySet().stream()
+        .filter(entry -> !MessageFactory.isGeneratedCode(entry.getKey().code()))
+        .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+        .map(entry -> new WarmUpProfile.Entry(entry.getKey().code(), entry.getKey().locale(),
+            snapshot(entry.getValue())))
+        .toList());
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull Map<String,Set<Class<?>>> snapshot(@NotNull Map<String,Set<Class<?>>> parameterTypes)
+  {
+    final var snapshot = new HashMap<String,Set<Class<?>>>();
+
+    parameterTypes.forEach((name, types) -> snapshot.put(name, Set.copyOf(types)));
+
+    return snapshot;
+  }
+
+
+  /**
+   * Removes all recorded entries.
+   */
+  @Contract(mutates = "this")
+  public void clear()
+  {
+    entries.clear();
+    entryCount.set(0);
+  }
+
+
+
+
+  private record Key(@NotNull String code, @NotNull Locale locale) {
+  }
+}
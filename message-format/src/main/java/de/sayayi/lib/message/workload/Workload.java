@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.workload;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static de.sayayi.lib.message.workload.WorkloadFormat.CALL_WITH_CODE;
+import static de.sayayi.lib.message.workload.WorkloadFormat.CALL_WITH_MESSAGE;
+import static de.sayayi.lib.message.workload.WorkloadFormat.END;
+import static java.io.ObjectInputFilter.merge;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Format calls captured by a {@link WorkloadRecorder}.
+ *
+ * @param calls  captured format calls in recording order, not {@code null}
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see WorkloadReplay
+ */
+public record Workload(@Unmodifiable @NotNull List<Call> calls)
+{
+  public Workload {
+    calls = List.copyOf(calls);
+  }
+
+
+  /**
+   * Reads a workload log from the given {@code stream}. The stream is closed when this method returns.
+   * <p>
+   * If the workload log has not been closed properly, all completely recorded calls are returned.
+   * <p>
+   * Captured parameter values stored using Java serialization are only deserialized if they are enums, primitive
+   * arrays or instances of the {@code java.time} value types, {@link Date}, {@link UUID} or {@link Currency}. Other
+   * serialized values are rejected; use {@link #read(InputStream, ObjectInputFilter)} to allow additional classes.
+   *
+   * @param stream  workload log input stream, not {@code null}
+   *
+   * @return  workload, never {@code null}
+   *
+   * @throws IOException  if an I/O error occurs, the stream does not contain a valid workload log or a captured
+   *                      parameter value is rejected
+   */
+  @Contract(mutates = "param1")
+  public static @NotNull Workload read(@NotNull InputStream stream) throws IOException {
+    return read(stream, WorkloadFormat.VALUE_TYPES);
+  }
+
+
+  /**
+   * Reads a workload log from the given {@code stream}, deserializing captured parameter values of the classes
+   * allowed by {@code valueFilter}. The stream is closed when this method returns.
+   * <p>
+   * The classes allowed by default (see {@link #read(InputStream)}) are always accepted. Classes for which
+   * {@code valueFilter} returns {@link ObjectInputFilter.Status#UNDECIDED UNDECIDED} are rejected, so additional
+   * classes can be allowed using {@link ObjectInputFilter#allowFilter(java.util.function.Predicate,
+   * ObjectInputFilter.Status) allowFilter}. As Java serialization can execute code of the deserialized classes,
+   * only classes from trusted sources should be allowed.
+   *
+   * @param stream       workload log input stream, not {@code null}
+   * @param valueFilter  deserialization filter for captured parameter values, not {@code null}
+   *
+   * @return  workload, never {@code null}
+   *
+   * @throws IOException  if an I/O error occurs, the stream does not contain a valid workload log or a captured
+   *                      parameter value is rejected
+   */
+  @Contract(mutates = "param1")
+  public static @NotNull Workload read(@NotNull InputStream stream, @NotNull ObjectInputFilter valueFilter)
+      throws IOException
+  {
+    requireNonNull(valueFilter, "valueFilter must not be null");
+
+    final var calls = new ArrayList<Call>();
+
+    try(stream) {
+      final var reader = new WorkloadFormat.Reader(requireNonNull(stream, "stream must not be null"),
+          valueFilter == WorkloadFormat.VALUE_TYPES ? valueFilter : merge(WorkloadFormat.VALUE_TYPES, valueFilter));
+
+      for(int recordType; (recordType = reader.readRecordType()) != END;)
+      {
+        if (recordType != CALL_WITH_CODE && recordType != CALL_WITH_MESSAGE)
+          throw new IOException("malformed workload log record " + recordType);
+
+        try {
+          calls.add(readCall(reader, recordType == CALL_WITH_CODE));
+        } catch(EOFException ex) {
+          break;  // truncated workload log
+        }
+      }
+    }
+
+    return new Workload(calls);
+  }
+
+
+  /**
+   * Reads a workload log from the file at the given {@code path}.
+   *
+   * @param path  workload log file, not {@code null}
+   *
+   * @return  workload, never {@code null}
+   *
+   * @throws IOException  if an I/O error occurs, the file does not contain a valid workload log or a captured
+   *                      parameter value is rejected
+   *
+   * @see #read(InputStream)
+   */
+  @Contract(mutates = "io")
+  public static @NotNull Workload read(@NotNull Path path) throws IOException {
+    return read(new BufferedInputStream(Files.newInputStream(path)));
+  }
+
+
+  /**
+   * Reads a workload log from the file at the given {@code path}, deserializing captured parameter values of the
+   * classes allowed by {@code valueFilter}.
+   *
+   * @param path         workload log file, not {@code null}
+   * @param valueFilter  deserialization filter for captured parameter values, not {@code null}
+   *
+   * @return  workload, never {@code null}
+   *
+   * @throws IOException  if an I/O error occurs, the file does not contain a valid workload log or a captured
+   *                      parameter value is rejected
+   *
+   * @see #read(InputStream, ObjectInputFilter)
+   */
+  @Contract(mutates = "io")
+  public static @NotNull Workload read(@NotNull Path path, @NotNull ObjectInputFilter valueFilter)
+      throws IOException
+  {
+    return read(new BufferedInputStream(Files.newInputStream(path)), valueFilter);
+  }
+
+
+  private static @NotNull Call readCall(@NotNull WorkloadFormat.Reader reader, boolean withCode)
+      throws IOException
+  {
+    final var codeOrMessage = reader.readString();
+    final var locale = Locale.forLanguageTag(requireNonNull(reader.readString()));
+    final var parameterCount = (int)reader.readVarInt();
+    final var parameters = new TreeMap<String,Object>();
+
+    for(int n = 0; n < parameterCount; n++)
+      parameters.put(reader.readString(), reader.readValue());
+
+    return withCode
+        ? new Call(codeOrMessage, null, locale, unmodifiableMap(parameters))
+        : new Call(null, codeOrMessage, locale, unmodifiableMap(parameters));
+  }
+
+
+
+
+  /**
+   * Captured format call.
+   * <p>
+   * Exactly one of {@code code} and {@code message} is provided.
+   *
+   * @param code        message code, or {@code null} if the formatted message has no code
+   * @param message     message format, or {@code null} if the formatted message has a code
+   * @param locale      format locale, not {@code null}
+   * @param parameters  parameter values, not {@code null}. Values may be {@code null}
+   */
+  public record Call(String code, String message, @NotNull Locale locale,
+                     @Unmodifiable @NotNull Map<String,Object> parameters)
+  {
+    public Call
+    {
+      if ((code == null) == (message == null))
+        throw new IllegalArgumentException("exactly one of code and message must be provided");
+
+      requireNonNull(locale, "locale must not be null");
+      requireNonNull(parameters, "parameters must not be null");
+    }
+  }
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.workload;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import static java.io.ObjectInputFilter.Status.*;
+import static java.io.ObjectInputFilter.rejectUndecidedClass;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Binary workload log encoding shared by {@link WorkloadRecorder} and {@link Workload}.
+ * <p>
+ * A workload log starts with a magic and a version byte, followed by a sequence of format calls and an end marker.
+ * Strings are written once and referenced by index afterwards, so repeated codes, locales, parameter names and
+ * values take 1 or 2 bytes each. Integral numbers are written as variable length integers.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+final class WorkloadFormat
+{
+  static final int MAGIC = 0x4d46574c;  // MFWL
+  static final int VERSION = 1;
+
+  static final int END = 0;
+  static final int CALL_WITH_CODE = 1;
+  static final int CALL_WITH_MESSAGE = 2;
+
+  private static final int VALUE_NULL = 0;
+  private static final int VALUE_STRING = 1;
+  private static final int VALUE_TRUE = 2;
+  private static final int VALUE_FALSE = 3;
+  private static final int VALUE_CHARACTER = 4;
+  private static final int VALUE_BYTE = 5;
+  private static final int VALUE_SHORT = 6;
+  private static final int VALUE_INTEGER = 7;
+  private static final int VALUE_LONG = 8;
+  private static final int VALUE_FLOAT = 9;
+  private static final int VALUE_DOUBLE = 10;
+  private static final int VALUE_BIG_INTEGER = 11;
+  private static final int VALUE_BIG_DECIMAL = 12;
+  private static final int VALUE_LOCALE = 13;
+  private static final int VALUE_SERIALIZED = 14;
+  private static final int VALUE_UNSUPPORTED = 15;
+
+  private static final int MAX_SERIALIZED_DEPTH = 16;
+
+  /**
+   * Deserialization filter allowing enums, primitive arrays and the serializable value types of {@code java.time},
+   * {@link Date}, {@link UUID} and {@link Currency}. The filter is undecided for all other classes.
+   */
+  static final ObjectInputFilter VALUE_TYPES = info -> {
+    var type = info.serialClass();
+    if (type == null)
+      return UNDECIDED;
+
+    while(type.isArray())
+      type = type.getComponentType();
+
+    final var packageName = type.getPackageName();
+
+    return type.isPrimitive() || Enum.class.isAssignableFrom(type) ||
+           packageName.equals("java.time") || packageName.startsWith("java.time.") ||
+           type == Date.class || type == UUID.class || type == Currency.class
+        ? ALLOWED
+        : UNDECIDED;
+  };
+
+
+  private WorkloadFormat() {
+  }
+
+
+  /**
+   * Returns a snapshot of {@code value} which can be written by {@link Writer#writeValue(Object)} at a later time,
+   * possibly on another thread. Natively stored values are immutable and returned as is. Other values are serialized
+   * or converted into their string representation immediately, so later modifications do not affect the recorded
+   * value.
+   *
+   * @param value  parameter value, or {@code null}
+   *
+   * @return  value snapshot, or {@code null} if {@code value} is {@code null}
+   */
+  @Contract(pure = true)
+  static Object snapshotValue(Object value)
+  {
+    if (value == null || isStoredNatively(value))
+      return value;
+
+    if (value instanceof Serializable)
+    {
+      try {
+        final var byteStream = new ByteArrayOutputStream();
+
+        try(var objectStream = new ObjectOutputStream(byteStream)) {
+          objectStream.writeObject(value);
+        }
+
+        return new SerializedValue(byteStream.toByteArray());
+      } catch(IOException | RuntimeException ex) {
+        // serializable value referring to a non-serializable object or failing to serialize itself
+      }
+    }
+
+    String string;
+
+    try {
+      string = String.valueOf(value);
+    } catch(RuntimeException ex) {
+      string = null;
+    }
+
+    return new UnsupportedValue(value.getClass().getName(), string);
+  }
+
+
+  @Contract(pure = true)
+  private static boolean isStoredNatively(@NotNull Object value)
+  {
+    return value instanceof String || value instanceof Boolean || value instanceof Character ||
+           value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long ||
+           value instanceof Float || value instanceof Double || value instanceof BigInteger ||
+           value instanceof BigDecimal || value instanceof Locale || value instanceof SerializedValue ||
+           value instanceof UnsupportedValue;
+  }
+
+
+
+
+  /**
+   * Workload log writer keeping track of the strings already written.
+   */
+  static final class Writer
+  {
+    private final @NotNull DataOutputStream stream;
+    private final @NotNull Map<String,Integer> strings = new HashMap<>();
+
+
+    Writer(@NotNull OutputStream stream) throws IOException
+    {
+      this.stream = new DataOutputStream(stream);
+
+      this.stream.writeInt(MAGIC);
+      this.stream.writeByte(VERSION);
+    }
+
+
+    @Contract(mutates = "this,io")
+    void writeByte(int b) throws IOException {
+      stream.writeByte(b);
+    }
+
+
+    @Contract(mutates = "this,io")
+    void writeVarInt(long value) throws IOException
+    {
+      // zig-zag encoding keeps small negative numbers short
+      for(var v = (value << 1) ^ (value >> 63); ; v >>>= 7)
+      {
+        if ((v & ~0x7fL) == 0)
+        {
+          stream.writeByte((int)v);
+          break;
+        }
+
+        stream.writeByte((int)(v & 0x7f) | 0x80);
+      }
+    }
+
+
+    @Contract(mutates = "this,io")
+    void writeString(String s) throws IOException
+    {
+      if (s == null)
+        writeVarInt(0);
+      else
+      {
+        final var index = strings.get(s);
+
+        if (index != null)
+          writeVarInt(index);
+        else
+        {
+          final var bytes = s.getBytes(UTF_8);
+
+          strings.put(s, strings.size() + 2);
+
+          writeVarInt(1);
+          writeVarInt(bytes.length);
+          stream.write(bytes);
+        }
+      }
+    }
+
+
+    @Contract(mutates = "this,io")
+    void writeValue(Object value) throws IOException
+    {
+      switch(value) {
+        case null -> writeByte(VALUE_NULL);
+
+        case String s -> {
+          writeByte(VALUE_STRING);
+          writeString(s);
+        }
+
+        case Boolean bool -> writeByte(bool ? VALUE_TRUE : VALUE_FALSE);
+
+        case Character ch -> {
+          writeByte(VALUE_CHARACTER);
+          writeVarInt(ch);
+        }
+
+        case Byte b -> {
+          writeByte(VALUE_BYTE);
+          writeVarInt(b);
+        }
+
+        case Short s -> {
+          writeByte(VALUE_SHORT);
+          writeVarInt(s);
+        }
+
+        case Integer i -> {
+          writeByte(VALUE_INTEGER);
+          writeVarInt(i);
+        }
+
+        case Long l -> {
+          writeByte(VALUE_LONG);
+          writeVarInt(l);
+        }
+
+        case Float f -> {
+          writeByte(VALUE_FLOAT);
+          stream.writeFloat(f);
+        }
+
+        case Double d -> {
+          writeByte(VALUE_DOUBLE);
+          stream.writeDouble(d);
+        }
+
+        case BigInteger bigInteger -> {
+          writeByte(VALUE_BIG_INTEGER);
+          writeString(bigInteger.toString());
+        }
+
+        case BigDecimal bigDecimal -> {
+          writeByte(VALUE_BIG_DECIMAL);
+          writeString(bigDecimal.toString());
+        }
+
+        case Locale locale -> {
+          writeByte(VALUE_LOCALE);
+          writeString(locale.toLanguageTag());
+        }
+
+        case SerializedValue serialized -> {
+          writeByte(VALUE_SERIALIZED);
+          writeVarInt(serialized.bytes().length);
+          stream.write(serialized.bytes());
+        }
+
+        case UnsupportedValue unsupported -> {
+          writeByte(VALUE_UNSUPPORTED);
+          writeString(unsupported.typeName());
+          writeString(unsupported.string());
+        }
+
+        default -> writeValue(snapshotValue(value));
+      }
+    }
+
+
+    @Contract(mutates = "this,io")
+    void flush() throws IOException {
+      stream.flush();
+    }
+
+
+    @Contract(mutates = "this,io")
+    void close(boolean writeEnd) throws IOException
+    {
+      try {
+        if (writeEnd)
+          stream.writeByte(END);
+      } finally {
+        stream.close();
+      }
+    }
+  }
+
+
+
+
+  /**
+   * Workload log reader resolving string references.
+   */
+  static final class Reader
+  {
+    private final @NotNull DataInputStream stream;
+    private final @NotNull ObjectInputFilter valueFilter;
+    private final @NotNull List<String> strings = new ArrayList<>();
+
+
+    /**
+     * Creates a workload log reader. Serialized values are deserialized only if their classes are allowed by
+     * {@code valueFilter}; classes for which the filter is undecided are rejected.
+     *
+     * @param stream       workload log input stream, not {@code null}
+     * @param valueFilter  deserialization filter for serialized values, not {@code null}
+     */
+    Reader(@NotNull InputStream stream, @NotNull ObjectInputFilter valueFilter) throws IOException
+    {
+      this.stream = new DataInputStream(stream);
+      this.valueFilter = rejectUndecidedClass(valueFilter);
+
+      if (this.stream.readInt() != MAGIC)
+        throw new IOException("stream is not a workload log");
+
+      final var version = this.stream.readUnsignedByte();
+      if (version != VERSION)
+        throw new IOException("unsupported workload log version " + version);
+    }
+
+
+    /**
+     * Reads the next record type. A workload log which has not been closed properly has no end marker; in that
+     * case the end of the stream is treated as the end marker.
+     *
+     * @return  record type
+     */
+    @Contract(mutates = "this,io")
+    int readRecordType() throws IOException
+    {
+      final var recordType = stream.read();
+      return recordType == -1 ? END : recordType;
+    }
+
+
+    @Contract(mutates = "this,io")
+    long readVarInt() throws IOException
+    {
+      long v = 0;
+
+      for(int shift = 0; ; shift += 7)
+      {
+        if (shift > 63)
+          throw new IOException("malformed variable length integer");
+
+        final var b = stream.readUnsignedByte();
+        v |= (long)(b & 0x7f) << shift;
+
+        if ((b & 0x80) == 0)
+          return (v >>> 1) ^ -(v & 1);
+      }
+    }
+
+
+    @Contract(mutates = "this,io")
+    String readString() throws IOException
+    {
+      final var index = (int)readVarInt();
+
+      switch(index) {
+        case 0:
+          return null;
+
+        case 1: {
+          final var bytes = new byte[(int)readVarInt()];
+          stream.readFully(bytes);
+
+          final var s = new String(bytes, UTF_8);
+          strings.add(s);
+
+          return s;
+        }
+
+        default:
+          if (index - 2 >= strings.size())
+            throw new IOException("malformed string reference " + index);
+
+          return strings.get(index - 2);
+      }
+    }
+
+
+    @Contract(mutates = "this,io")
+    Object readValue() throws IOException
+    {
+      return switch(stream.readUnsignedByte()) {
+        case VALUE_NULL -> null;
+        case VALUE_STRING -> readString();
+        case VALUE_TRUE -> Boolean.TRUE;
+        case VALUE_FALSE -> Boolean.FALSE;
+        case VALUE_CHARACTER -> (char)readVarInt();
+        case VALUE_BYTE -> (byte)readVarInt();
+        case VALUE_SHORT -> (short)readVarInt();
+        case VALUE_INTEGER -> (int)readVarInt();
+        case VALUE_LONG -> readVarInt();
+        case VALUE_FLOAT -> stream.readFloat();
+        case VALUE_DOUBLE -> stream.readDouble();
+        case VALUE_BIG_INTEGER -> new BigInteger(requireString());
+        case VALUE_BIG_DECIMAL -> new BigDecimal(requireString());
+        case VALUE_LOCALE -> Locale.forLanguageTag(requireString());
+        case VALUE_SERIALIZED -> readSerialized();
+        case VALUE_UNSUPPORTED -> {
+          readString();  // type name
+          yield readString();
+        }
+        default -> throw new IOException("malformed workload log value");
+      };
+    }
+
+
+    private @NotNull String requireString() throws IOException
+    {
+      final var s = readString();
+      if (s == null)
+        throw new IOException("malformed workload log value");
+
+      return s;
+    }
+
+
+    private Object readSerialized() throws IOException
+    {
+      final var bytes = new byte[(int)readVarInt()];
+      stream.readFully(bytes);
+
+      try(var objectStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+        // arrays cannot have more elements than the serialized value has bytes
+        objectStream.setObjectInputFilter(info ->
+            info.arrayLength() > bytes.length || info.depth() > MAX_SERIALIZED_DEPTH
+                ? REJECTED
+                : valueFilter.checkInput(info));
+
+        return objectStream.readObject();
+      } catch(InvalidClassException ex) {
+        throw new IOException("captured parameter value rejected: " + ex.getMessage(), ex);
+      } catch(ClassNotFoundException ex) {
+        throw new IOException("class for captured parameter value not found: " + ex.getMessage(), ex);
+      }
+    }
+  }
+
+
+
+
+  /**
+   * Parameter value stored using Java serialization.
+   *
+   * @param bytes  serialized value, not {@code null}
+   */
+  record SerializedValue(byte @NotNull [] bytes) {
+  }
+
+
+
+
+  /**
+   * Parameter value which is stored by its type name and string representation.
+   *
+   * @param typeName  value type name, not {@code null}
+   * @param string    string representation, or {@code null} if it could not be determined
+   */
+  record UnsupportedValue(@NotNull String typeName, String string) {
+  }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.workload;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static de.sayayi.lib.message.workload.WorkloadFormat.CALL_WITH_CODE;
+import static de.sayayi.lib.message.workload.WorkloadFormat.CALL_WITH_MESSAGE;
+import static de.sayayi.lib.message.workload.WorkloadFormat.snapshotValue;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Records format calls to a compact binary workload log.
+ * <p>
+ * A workload recorder is registered with a {@link ConfigurableMessageSupport#setWorkloadRecorder(WorkloadRecorder)
+ * message support}. For each formatted message the message code (or the message format for messages without code),
+ * the locale and all parameter names and values are recorded. Parameter values are stored as follows:
+ * <ul>
+ *   <li>strings, booleans, characters, numbers and locales are stored natively</li>
+ *   <li>other {@link java.io.Serializable Serializable} values are stored using Java serialization</li>
+ *   <li>
+ *     for all other values the type name and the string representation are stored. These values are replayed as
+ *     strings
+ *   </li>
+ * </ul>
+ * <p>
+ * Recording is thread-safe and does not block formatting threads. Parameter values which are not stored natively
+ * are serialized or converted into their string representation on the formatting thread. The format calls are then
+ * queued and written to the workload log by a background thread. If the queue is full, format calls are dropped
+ * instead (see {@link #getDroppedCalls()}). An I/O error does not affect message
+ * formatting; instead recording stops and the error is reported by {@link #flush()} and {@link #close()}.
+ * <p>
+ * The recorded workload can be read using {@link Workload#read(java.io.InputStream)} and replayed using
+ * {@link WorkloadReplay}.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class WorkloadRecorder implements Closeable
+{
+  private static final int QUEUE_CAPACITY = 8192;
+  private static final Object CLOSE = new Object();
+
+  private final @NotNull WorkloadFormat.Writer writer;
+  private final @NotNull BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private final @NotNull Thread writerThread;
+  private final int maxCalls;
+  private final AtomicInteger recordedCalls = new AtomicInteger();
+  private final LongAdder droppedCalls = new LongAdder();
+  private volatile IOException error;
+  private volatile boolean closed;
+
+
+  /**
+   * Creates a workload recorder writing to the given {@code stream}.
+   *
+   * @param stream  workload log output stream, not {@code null}
+   *
+   * @throws IOException  if an I/O error occurs while writing the workload log header
+   */
+  public WorkloadRecorder(@NotNull OutputStream stream) throws IOException {
+    this(stream, Integer.MAX_VALUE);
+  }
+
+
+  /**
+   * Creates a workload recorder writing at most {@code maxCalls} format calls to the given {@code stream}.
+   *
+   * @param stream    workload log output stream, not {@code null}
+   * @param maxCalls  maximum number of format calls to record, at least 1
+   *
+   * @throws IOException  if an I/O error occurs while writing the workload log header
+   */
+  public WorkloadRecorder(@NotNull OutputStream stream, int maxCalls) throws IOException
+  {
+    if (maxCalls < 1)
+      throw new IllegalArgumentException("maxCalls must be at least 1");
+
+    this.writer = new WorkloadFormat.Writer(requireNonNull(stream, "stream must not be null"));
+    this.maxCalls = maxCalls;
+
+    writerThread = Thread.ofPlatform().name("workload-recorder").daemon().start(this::writeCalls);
+  }
+
+
+  /**
+   * Records a format call for the given {@code message} and {@code parameters}.
+   * <p>
+   * Format calls are ignored after the maximum number of calls has been recorded, after an I/O error or after the
+   * recorder has been closed. The call is written to the workload log asynchronously.
+   *
+   * @param message     formatted message, not {@code null}
+   * @param parameters  message parameters, not {@code null}
+   */
+  @Contract(mutates = "this")
+  public void record(@NotNull Message message, @NotNull Message.Parameters parameters)
+  {
+    if (closed || error != null || !reserveCall())
+      return;
+
+    final QueuedCall call;
+
+    try {
+      call = message instanceof Message.WithCode withCode
+          ? queuedCall(CALL_WITH_CODE, withCode.getCode(), parameters)
+          : queuedCall(CALL_WITH_MESSAGE, message.asFormatString(UTF_8), parameters);
+    } catch(UnsupportedOperationException ex) {
+      // message without format string representation
+      recordedCalls.decrementAndGet();
+      return;
+    }
+
+    if (!queue.offer(call))
+    {
+      recordedCalls.decrementAndGet();
+      droppedCalls.increment();
+    }
+  }
+
+
+  private boolean reserveCall()
+  {
+    for(int calls; (calls = recordedCalls.get()) < maxCalls;)
+      if (recordedCalls.compareAndSet(calls, calls + 1))
+        return true;
+
+    return false;
+  }
+
+
+  /**
+   * Creates a queued call, taking snapshots of all parameter values on the calling thread. This way the workload
+   * log contains the values which have actually been formatted.
+   */
+  @Contract(pure = true)
+  private static @NotNull QueuedCall queuedCall(int recordType, @NotNull String codeOrMessage,
+                                                @NotNull Message.Parameters parameters)
+  {
+    final var parameterNames = parameters.getParameterNames().toArray(String[]::new);
+    final var values = new Object[parameterNames.length];
+
+    for(int n = 0; n < parameterNames.length; n++)
+      values[n] = snapshotValue(parameters.getParameterValue(parameterNames[n]));
+
+    return new QueuedCall(recordType, codeOrMessage, parameters.getLocale().toLanguageTag(), parameterNames,
+        values);
+  }
+
+
+  /**
+   * Returns the number of recorded format calls. Recorded calls may not have been written to the workload log yet.
+   *
+   * @return  number of recorded format calls
+   */
+  @Contract(pure = true)
+  public int getRecordedCalls() {
+    return recordedCalls.get();
+  }
+
+
+  /**
+   * Returns the number of format calls which have been dropped, as the background thread could not keep up with
+   * writing the workload log.
+   *
+   * @return  number of dropped format calls
+   */
+  @Contract(pure = true)
+  public long getDroppedCalls() {
+    return droppedCalls.sum();
+  }
+
+
+  /**
+   * Writes all recorded format calls and flushes the workload log.
+   *
+   * @throws IOException  if an I/O error occurs or if an I/O error occurred while recording a format call
+   */
+  @Contract(mutates = "this,io")
+  public synchronized void flush() throws IOException
+  {
+    if (!closed && writerThread.isAlive())
+    {
+      final var flushed = new CountDownLatch(1);
+
+      try {
+        queue.put(flushed);
+        flushed.await();
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while flushing workload log");
+      }
+    }
+
+    if (error != null)
+      throw error;
+  }
+
+
+  /**
+   * Stops recording, writes all recorded format calls and closes the workload log.
+   *
+   * @throws IOException  if an I/O error occurs or if an I/O error occurred while recording a format call
+   */
+  @Override
+  @Contract(mutates = "this,io")
+  public synchronized void close() throws IOException
+  {
+    if (!closed)
+    {
+      closed = true;
+
+      try {
+        if (writerThread.isAlive())
+          queue.put(CLOSE);
+
+        writerThread.join();
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while closing workload log");
+      }
+
+      // a partially written call must not be followed by an end marker
+      writer.close(error == null);
+    }
+
+    if (error != null)
+      throw error;
+  }
+
+
+  private void writeCalls()
+  {
+    try {
+      for(Object element; (element = queue.take()) != CLOSE;)
+      {
+        if (element instanceof CountDownLatch flushed)
+        {
+          if (error == null)
+            writer.flush();
+
+          flushed.countDown();
+        }
+        else if (error == null)
+          writeCall((QueuedCall)element);
+      }
+    } catch(IOException ex) {
+      error = ex;
+      discardCalls();
+    } catch(RuntimeException ex) {
+      error = new IOException("failed to write workload log", ex);
+      discardCalls();
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+
+  private void writeCall(@NotNull QueuedCall call) throws IOException
+  {
+    final var parameterNames = call.parameterNames();
+    final var values = call.values();
+
+    writer.writeByte(call.recordType());
+    writer.writeString(call.codeOrMessage());
+    writer.writeString(call.locale());
+    writer.writeVarInt(parameterNames.length);
+
+    for(int n = 0; n < parameterNames.length; n++)
+    {
+      writer.writeString(parameterNames[n]);
+      writer.writeValue(values[n]);
+    }
+  }
+
+
+  /**
+   * Releases waiting {@link #flush()} and {@link #close()} calls after an error.
+   */
+  private void discardCalls()
+  {
+    try {
+      for(Object element; (element = queue.take()) != CLOSE;)
+        if (element instanceof CountDownLatch flushed)
+          flushed.countDown();
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+
+
+
+  private record QueuedCall(int recordType, @NotNull String codeOrMessage, @NotNull String locale,
+                            @NotNull String[] parameterNames, @NotNull Object[] values) {
+  }
+}
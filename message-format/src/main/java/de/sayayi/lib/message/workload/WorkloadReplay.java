@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.workload;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import de.sayayi.lib.message.workload.Workload.Call;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Replays a captured {@link Workload} against a message support instance and measures throughput and latency.
+ * <p>
+ * Messages with a code are looked up by the message support for each call, so the message support must provide
+ * all messages and templates used by the workload, usually by importing the same message pack which was used
+ * while capturing the workload. Messages without a code are parsed once when the replay is created.
+ * <p>
+ * The workload can also be replayed from the command line:
+ * <pre>
+ *   java de.sayayi.lib.message.workload.WorkloadReplay [--threads n] [--iterations n] [--warmup n]
+ *       &lt;workload file&gt; &lt;pack file&gt;...
+ * </pre>
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+public final class WorkloadReplay
+{
+  private final @NotNull MessageSupport messageSupport;
+  private final @NotNull ReplayCall[] calls;
+
+
+  /**
+   * Creates a replay for the given {@code workload}.
+   *
+   * @param messageSupport  message support providing the messages and templates, not {@code null}
+   * @param workload        captured workload, not {@code null}
+   */
+  public WorkloadReplay(@NotNull MessageSupport messageSupport, @NotNull Workload workload)
+  {
+    this.messageSupport = requireNonNull(messageSupport, "messageSupport must not be null");
+
+    final var messageFactory = messageSupport.getMessageAccessor().getMessageFactory();
+    final var messages = new HashMap<String,Message>();
+
+    calls = requireNonNull(workload, "workload must not be null").calls().stream()
+        .map(call -> new ReplayCall(call.code(),
+            call.message() == null ? null : messages.computeIfAbsent(call.message(), messageFactory::parseMessage),
+            call.locale(), flatten(call)))
+        .toArray(ReplayCall[]::new);
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull Object[] flatten(@NotNull Call call)
+  {
+    final var parameters = new Object[call.parameters().size() * 2];
+    var n = 0;
+
+    for(var entry: call.parameters().entrySet())
+    {
+      parameters[n++] = entry.getKey();
+      parameters[n++] = entry.getValue();
+    }
+
+    return parameters;
+  }
+
+
+  /**
+   * Returns the number of calls in the replayed workload.
+   *
+   * @return  number of calls
+   */
+  @Contract(pure = true)
+  public int size() {
+    return calls.length;
+  }
+
+
+  /**
+   * Formats the call at the given {@code index}.
+   *
+   * @param index  call index, {@code 0 <= index < size()}
+   *
+   * @return  formatted message, never {@code null}
+   */
+  @Contract(pure = true)
+  public @NotNull String format(int index) {
+    return calls[index].format(messageSupport);
+  }
+
+
+  /**
+   * Replays the workload using {@code threads} threads. Each thread formats all calls of the workload
+   * {@code iterations} times.
+   *
+   * @param threads     number of threads, at least 1
+   * @param iterations  number of iterations per thread, at least 1
+   *
+   * @return  replay result, never {@code null}
+   */
+  @Contract(pure = true)
+  public @NotNull Result run(int threads, int iterations)
+  {
+    if (threads < 1)
+      throw new IllegalArgumentException("threads must be at least 1");
+    if (iterations < 1)
+      throw new IllegalArgumentException("iterations must be at least 1");
+
+    final var start = new CountDownLatch(1);
+    final var histograms = new LatencyHistogram[threads];
+    final var workers = new ArrayList<Thread>(threads);
+
+    for(int t = 0; t < threads; t++)
+    {
+      final var histogram = histograms[t] = new LatencyHistogram();
+      final var offset = (int)((long)calls.length * t / threads);
+
+      workers.add(Thread.ofPlatform().name("workload-replay-" + t).start(() -> {
+        try {
+          start.await();
+        } catch(InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        // threads start at different offsets, so they do not format the same calls in lockstep
+        for(int i = 0; i < iterations; i++)
+          for(int n = 0; n < calls.length; n++)
+            histogram.replay(calls[(offset + n) % calls.length], messageSupport);
+      }));
+    }
+
+    final var startNanos = System.nanoTime();
+    start.countDown();
+
+    try {
+      for(var worker: workers)
+        worker.join();
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("workload replay interrupted", ex);
+    }
+
+    final var elapsedNanos = System.nanoTime() - startNanos;
+    final var histogram = new LatencyHistogram();
+
+    for(var threadHistogram: histograms)
+      histogram.add(threadHistogram);
+
+    return new Result(threads, histogram.calls, histogram.failures, elapsedNanos,
+        histogram.percentile(0.5), histogram.percentile(0.9), histogram.percentile(0.99),
+        histogram.percentile(0.999), histogram.max);
+  }
+
+
+  /**
+   * Replays a workload log against one or more message packs using the default formatter service and prints the
+   * replay result.
+   *
+   * @param args  command line arguments
+   *
+   * @throws IOException  if an I/O error occurs while reading the workload log or a message pack
+   */
+  public static void main(String[] args) throws IOException
+  {
+    var threads = 1;
+    var iterations = 10;
+    var warmup = 3;
+    final var files = new ArrayList<Path>();
+
+    for(int n = 0; n < args.length; n++)
+    {
+      switch(args[n]) {
+        case "--threads" -> threads = Integer.parseInt(args[++n]);
+        case "--iterations" -> iterations = Integer.parseInt(args[++n]);
+        case "--warmup" -> warmup = Integer.parseInt(args[++n]);
+        default -> files.add(Path.of(args[n]));
+      }
+    }
+
+    if (files.size() < 2)
+    {
+      System.err.println("usage: WorkloadReplay [--threads n] [--iterations n] [--warmup n] " +
+          "<workload file> <pack file>...");
+      System.exit(1);
+    }
+
+    final var messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    for(var packFile: files.subList(1, files.size()))
+      messageSupport.importMessages(new BufferedInputStream(Files.newInputStream(packFile)));
+
+    final var replay = new WorkloadReplay(messageSupport, Workload.read(files.getFirst()));
+
+    if (warmup > 0)
+      replay.run(threads, warmup);
+
+    System.out.println(replay.run(threads, iterations));
+  }
+
+
+
+
+  /**
+   * Workload replay result. Latencies are accurate to within approximately 3%.
+   *
+   * @param threads       number of replay threads
+   * @param calls         number of successfully formatted calls
+   * @param failures      number of calls which failed with an exception
+   * @param elapsedNanos  total replay time in nanoseconds
+   * @param p50Nanos      median latency in nanoseconds
+   * @param p90Nanos      90th percentile latency in nanoseconds
+   * @param p99Nanos      99th percentile latency in nanoseconds
+   * @param p999Nanos     99.9th percentile latency in nanoseconds
+   * @param maxNanos      maximum latency in nanoseconds
+   */
+  public record Result(int threads, long calls, long failures, long elapsedNanos, long p50Nanos, long p90Nanos,
+                       long p99Nanos, long p999Nanos, long maxNanos)
+  {
+    /**
+     * Returns the number of successfully formatted calls per second.
+     *
+     * @return  throughput in calls per second
+     */
+    @Contract(pure = true)
+    public double throughput() {
+      return elapsedNanos == 0 ? 0 : calls * 1e9 / elapsedNanos;
+    }
+
+
+    @Override
+    public String toString()
+    {
+      return String.format(Locale.ROOT,
+          "threads=%d, calls=%d, failures=%d, throughput=%.1f calls/s, " +
+          "latency p50=%d ns, p90=%d ns, p99=%d ns, p99.9=%d ns, max=%d ns",
+          threads, calls, failures, throughput(), p50Nanos, p90Nanos, p99Nanos, p999Nanos, maxNanos);
+    }
+  }
+
+
+
+
+  private record ReplayCall(String code, Message message, @NotNull Locale locale, @NotNull Object[] parameters)
+  {
+    @Contract(pure = true)
+    private @NotNull String format(@NotNull MessageSupport messageSupport)
+    {
+      final var configurer = code != null ? messageSupport.code(code) : messageSupport.message(message);
+
+      configurer.locale(locale);
+
+      for(int n = 0; n < parameters.length; n += 2)
+        configurer.with((String)parameters[n], parameters[n + 1]);
+
+      return configurer.format();
+    }
+  }
+
+
+
+
+  /**
+   * Log-linear latency histogram with 32 sub-buckets per power of 2.
+   */
+  private static final class LatencyHistogram
+  {
+    private final long[] counts = new long[(64 - 4) * 32];
+    private long calls;
+    private long failures;
+    private long max;
+
+
+    private void replay(@NotNull ReplayCall call, @NotNull MessageSupport messageSupport)
+    {
+      final var start = System.nanoTime();
+
+      try {
+        call.format(messageSupport);
+      } catch(RuntimeException ex) {
+        failures++;
+        return;
+      }
+
+      final var nanos = System.nanoTime() - start;
+
+      counts[bucket(nanos)]++;
+      calls++;
+
+      if (nanos > max)
+        max = nanos;
+    }
+
+
+    private void add(@NotNull LatencyHistogram histogram)
+    {
+      for(int n = 0; n < counts.length; n++)
+        counts[n] += histogram.counts[n];
+
+      calls += histogram.calls;
+      failures += histogram.failures;
+      max = Math.max(max, histogram.max);
+    }
+
+
+    @Contract(pure = true)
+    private long percentile(double percentile)
+    {
+      final var target = (long)Math.ceil(calls * percentile);
+      var count = 0L;
+
+      for(int n = 0; n < counts.length; n++)
+        if ((count += counts[n]) >= target && count > 0)
+          return Math.min(bucketValue(n), max);
+
+      return max;
+    }
+
+
+    @Contract(pure = true)
+    private static int bucket(long nanos)
+    {
+      if (nanos < 32)
+        return (int)Math.max(nanos, 0);
+
+      final var exponent = 63 - numberOfLeadingZeros(nanos);
+
+      return (exponent - 4) * 32 + (int)((nanos >>> (exponent - 5)) & 31);
+    }
+
+
+    @Contract(pure = true)
+    private static long bucketValue(int bucket)
+    {
+      if (bucket < 32)
+        return bucket;
+
+      final var exponent = bucket / 32 + 4;
+
+      return (32L + (bucket & 31)) << (exponent - 5);
+    }
+  }
+}
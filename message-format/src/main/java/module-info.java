@@ -62,7 +62,9 @@ module de.sayayi.lib.message
   requires de.sayayi.lib.pack;
   requires org.antlr.antlr4.runtime;
   requires java.sql;
+  requires jdk.jfr;
 
+  requires static java.management;
   requires static java.xml;
   requires static lombok;
   requires static org.apache.tika.core;
@@ -79,9 +81,13 @@ module de.sayayi.lib.message
   exports de.sayayi.lib.message.formatter.parameter.runtime.extra;
   exports de.sayayi.lib.message.formatter.post;
   exports de.sayayi.lib.message.formatter.post.runtime;
+  exports de.sayayi.lib.message.metrics;
   exports de.sayayi.lib.message.part;
   exports de.sayayi.lib.message.part.normalizer;
+  exports de.sayayi.lib.message.trace;
   exports de.sayayi.lib.message.util;
+  exports de.sayayi.lib.message.warmup;
+  exports de.sayayi.lib.message.workload;
 
   uses de.sayayi.lib.message.formatter.parameter.ParameterFormatter;
   uses de.sayayi.lib.message.formatter.post.PostFormatter;
@@ -16,17 +16,25 @@
 package de.sayayi.lib.message;
 
 import de.sayayi.lib.message.exception.MessageParserException;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
 import de.sayayi.lib.message.internal.CompoundMessage;
 import de.sayayi.lib.message.internal.EmptyMessage;
 import de.sayayi.lib.message.internal.EmptyMessageWithCode;
+import de.sayayi.lib.message.internal.part.parameter.ParameterPart;
+import de.sayayi.lib.message.internal.part.typedvalue.TypedValueMessage;
+import de.sayayi.lib.message.internal.part.typedvalue.TypedValueString;
 import de.sayayi.lib.message.part.normalizer.LRUMessagePartNormalizer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
 import static org.junit.jupiter.api.Assertions.*;
@@ -163,4 +171,92 @@ final class MessageFactoryTest
 
     assertTrue(errors.isEmpty(), "concurrent cache access should not throw: " + errors);
   }
+
+
+  @Test
+  @DisplayName("Pre-parse string values used as map values and message configuration values")
+  void testPreParseStringValues()
+  {
+    final var text = "%{n,list-value:item,list-sep:x,1:one,>1:'%{n} items',:other}";
+    final var factory = new MessageFactory(PASS_THROUGH, 16);
+
+    var parameterPart = (ParameterPart)factory.parseMessage(text).getMessageParts()[0];
+
+    assertInstanceOf(TypedValueString.class, parameterPart.getConfig().getConfigValue("list-value"));
+    assertTrue(parameterPart.getMap().toString().startsWith("{1:'one',"));
+
+    factory.setPreParseStringValues(true);
+    parameterPart = (ParameterPart)factory.parseMessage(text + ' ').getMessageParts()[0];
+
+    final var config = parameterPart.getConfig();
+
+    assertInstanceOf(TypedValueMessage.class, config.getConfigValue("list-value"));
+    assertInstanceOf(TypedValueString.class, config.getConfigValue("list-sep"));
+
+    for(var iterator = parameterPart.getMap().mapEntryIterator(); iterator.hasNext();)
+      assertInstanceOf(TypedValueMessage.class, iterator.next().getValue());
+  }
+
+
+  @Test
+  @DisplayName("Pre-parsed string values are exported to message packs")
+  void testPreParseStringValuesPack() throws IOException
+  {
+    final var factory = new MessageFactory(PASS_THROUGH);
+    final var pack = new ByteArrayOutputStream();
+
+    factory.setPreParseStringValues(true);
+
+    MessageSupportFactory
+        .create(new GenericFormatterService(), factory)
+        .addMessage("msg", "%{n,1:one,:other}")
+        .exportMessages(pack);
+
+    final var messageSupport = MessageSupportFactory
+        .create(new GenericFormatterService(), new MessageFactory(PASS_THROUGH))
+        .importMessages(new ByteArrayInputStream(pack.toByteArray()));
+    final var parameterPart = (ParameterPart)messageSupport
+        .getMessageAccessor()
+        .getMessageByCode("msg")
+        .getMessageParts()[0];
+
+    for(var iterator = parameterPart.getMap().mapEntryIterator(); iterator.hasNext();)
+      assertInstanceOf(TypedValueMessage.class, iterator.next().getValue());
+  }
+
+
+  @Test
+  @DisplayName("String value is parsed only once under concurrent access")
+  void testStringValueAsMessageThreadSafety() throws Exception
+  {
+    final var THREAD_COUNT = 8;
+
+    final var factory = new MessageFactory(PASS_THROUGH);
+    final var stringValue = new TypedValueString("%{a} and %{b}");
+    final var barrier = new CyclicBarrier(THREAD_COUNT);
+    final var messages = new AtomicReferenceArray<Message.WithSpaces>(THREAD_COUNT);
+    final var threads = new Thread[THREAD_COUNT];
+
+    for(int t = 0; t < THREAD_COUNT; t++)
+    {
+      final var index = t;
+
+      threads[t] = new Thread(() -> {
+        try {
+          barrier.await();
+          messages.set(index, stringValue.asMessage(factory));
+        } catch(Exception ignored) {
+        }
+      });
+      threads[t].start();
+    }
+
+    for(var thread: threads)
+      thread.join();
+
+    for(int t = 0; t < THREAD_COUNT; t++)
+      assertSame(messages.get(0), messages.get(t));
+
+    assertNotNull(messages.get(0));
+  }
 }
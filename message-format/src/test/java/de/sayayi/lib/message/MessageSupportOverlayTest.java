@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message;
+
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Locale.GERMANY;
+import static java.util.Locale.UK;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Overlay message support")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class MessageSupportOverlayTest
+{
+  @Test
+  @DisplayName("Overlay messages take precedence over base messages")
+  void testMessageLookup()
+  {
+    val base = createBase();
+    val overlay = MessageSupportFactory.createOverlay(base.seal());
+
+    // overriding a base message is not a duplicate
+    overlay
+        .addMessage("MSG-2", "tenant 2")
+        .addMessage("MSG-4", "tenant 4");
+
+    val accessor = overlay.getMessageAccessor();
+
+    assertEquals("base 1 footer", overlay.code("MSG-1").format());
+    assertEquals("tenant 2", overlay.code("MSG-2").format());
+    assertEquals("tenant 4", overlay.code("MSG-4").format());
+    assertTrue(accessor.hasMessageWithCode("MSG-3"));
+    assertFalse(accessor.hasMessageWithCode("MSG-5"));
+    assertEquals(List.of("MSG-1", "MSG-2", "MSG-3", "MSG-4"), List.copyOf(accessor.getMessageCodes()));
+
+    // base is unaffected
+    assertEquals("base 2", base.code("MSG-2").format());
+    assertFalse(base.getMessageAccessor().hasMessageWithCode("MSG-4"));
+  }
+
+
+  @Test
+  @DisplayName("Template resolution respects layering")
+  void testTemplateLookup()
+  {
+    val base = createBase();
+    val overlay = MessageSupportFactory.createOverlay(base);
+
+    overlay.addTemplate("footer", overlay.getMessageAccessor().getMessageFactory().parseTemplate("tenant footer"));
+
+    assertEquals("base 1 tenant footer", overlay.code("MSG-1").format());
+    assertEquals("base 1 footer", base.code("MSG-1").format());
+    assertEquals(Set.of("footer", "header"), overlay.getMessageAccessor().getTemplateNames());
+    assertTrue(overlay.getMessageAccessor().findMissingTemplates(null).isEmpty());
+  }
+
+
+  @Test
+  @DisplayName("Locale and default configuration")
+  void testConfig()
+  {
+    val base = createBase()
+        .setLocale(GERMANY)
+        .setDefaultConfig("a", "base-a")
+        .setDefaultConfig("b", "base-b");
+    val overlay = MessageSupportFactory.createOverlay(base)
+        .setDefaultConfig("b", "tenant-b");
+    val accessor = overlay.getMessageAccessor();
+
+    assertEquals(GERMANY, accessor.getLocale());
+    assertEquals("base-a", accessor.getDefaultConfig("a").asObject());
+    assertEquals("tenant-b", accessor.getDefaultConfig("b").asObject());
+
+    overlay.setLocale(UK);
+    assertEquals(GERMANY, base.getMessageAccessor().getLocale());
+  }
+
+
+  @Test
+  @DisplayName("Base reload is visible in overlay")
+  void testBaseReload() throws IOException
+  {
+    val base = createBase();
+    val overlay = MessageSupportFactory.createOverlay(base.seal());
+
+    overlay.addMessage("MSG-2", "tenant 2");
+
+    base.reload(staged -> staged
+        .addMessage("MSG-1", "reloaded 1")
+        .addMessage("MSG-2", "reloaded 2"));
+
+    assertEquals("reloaded 1", overlay.code("MSG-1").format());
+    assertEquals("tenant 2", overlay.code("MSG-2").format());
+    assertFalse(overlay.getMessageAccessor().hasMessageWithCode("MSG-3"));
+  }
+
+
+  @Test
+  @DisplayName("Message codes follow additions to overlay and base")
+  void testMessageCodesView()
+  {
+    val base = createBase();
+    val overlay = MessageSupportFactory.createOverlay(base);
+    val messageCodes = overlay.getMessageAccessor().getMessageCodes();
+
+    assertEquals(3, messageCodes.size());
+
+    overlay.addMessage("MSG-4", "tenant 4");
+    assertEquals(4, messageCodes.size());
+
+    // same code in base and overlay is counted once
+    base.addMessage("MSG-4", "base 4");
+    assertEquals(4, messageCodes.size());
+
+    base.addMessage("MSG-5", "base 5");
+    assertEquals(5, messageCodes.size());
+    assertEquals(List.of("MSG-1", "MSG-2", "MSG-3", "MSG-4", "MSG-5"),
+        List.copyOf(overlay.getMessageAccessor().getMessageCodes()));
+  }
+
+
+  @Test
+  @DisplayName("Export and freeze combine overlay and base")
+  void testExportAndFreeze() throws IOException
+  {
+    val overlay = MessageSupportFactory.createOverlay(createBase());
+
+    overlay
+        .addMessage("MSG-0", "tenant 0 %[footer]")
+        .addMessage("MSG-3", "tenant 3");
+
+    val frozen = overlay.freeze();
+
+    assertEquals(List.of("MSG-0", "MSG-1", "MSG-2", "MSG-3"),
+        List.copyOf(frozen.getMessageAccessor().getMessageCodes()));
+    assertEquals("tenant 3", frozen.code("MSG-3").format());
+
+    val pack = new ByteArrayOutputStream();
+    overlay.exportMessages(pack);
+
+    val imported = createMessageSupport();
+    imported.importMessages(new ByteArrayInputStream(pack.toByteArray()));
+
+    assertEquals(List.of("MSG-0", "MSG-1", "MSG-2", "MSG-3"),
+        List.copyOf(imported.getMessageAccessor().getMessageCodes()));
+    assertEquals("tenant 0 footer", imported.code("MSG-0").format());
+    assertEquals("tenant 3", imported.code("MSG-3").format());
+  }
+
+
+  @Test
+  @DisplayName("Base must be created by message support factory")
+  @SuppressWarnings("DataFlowIssue")
+  void testForeignBase()
+  {
+    val base = mock(MessageSupport.class);
+
+    assertThrows(NullPointerException.class, () -> MessageSupportFactory.createOverlay(null));
+    assertThrows(IllegalArgumentException.class, () -> MessageSupportFactory.createOverlay(base));
+  }
+
+
+  private static @NotNull ConfigurableMessageSupport createBase()
+  {
+    val base = createMessageSupport();
+    val messageFactory = base.getMessageAccessor().getMessageFactory();
+
+    return base
+        .addMessage("MSG-1", "base 1 %[footer]")
+        .addMessage("MSG-2", "base 2")
+        .addMessage("MSG-3", "%[header]base 3")
+        .addTemplate("footer", messageFactory.parseTemplate("footer"))
+        .addTemplate("header", messageFactory.parseTemplate("header "));
+  }
+
+
+  private static @NotNull ConfigurableMessageSupport createMessageSupport() {
+    return MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message;
+
+import de.sayayi.lib.message.exception.DuplicateMessageException;
+import de.sayayi.lib.message.exception.MessageException;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Message support reload")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class MessageSupportReloadTest
+{
+  @Test
+  @DisplayName("Reload replaces all messages and templates")
+  void testReload() throws IOException
+  {
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    messageSupport
+        .addMessage("MSG-1", "version 1 %[tpl]")
+        .addMessage("MSG-2", "removed")
+        .addTemplate("tpl", MessageFactory.getSharedInstance().parseTemplate("template 1"));
+
+    assertEquals("version 1 template 1", messageSupport.code("MSG-1").format());
+
+    messageSupport.reload(staged -> staged
+        .addMessage("MSG-1", "version 2 %[tpl]")
+        .addMessage("MSG-3", "added")
+        .addTemplate("tpl", MessageFactory.getSharedInstance().parseTemplate("template 2")));
+
+    val messageAccessor = messageSupport.getMessageAccessor();
+
+    assertEquals(Set.of("MSG-1", "MSG-3"), messageAccessor.getMessageCodes());
+    assertEquals("version 2 template 2", messageSupport.code("MSG-1").format());
+    assertFalse(messageAccessor.hasMessageWithCode("MSG-2"));
+  }
+
+
+  @Test
+  @DisplayName("Failed reload keeps current messages")
+  void testFailedReload()
+  {
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    messageSupport.addMessage("MSG-1", "current");
+
+    assertThrowsExactly(DuplicateMessageException.class, () -> messageSupport.reload(staged -> staged
+        .addMessage("MSG-1", "new")
+        .addMessage("MSG-1", "duplicate")));
+    assertThrowsExactly(IOException.class, () -> messageSupport.reload(staged -> {
+      staged.addMessage("MSG-2", "new");
+      throw new IOException();
+    }));
+
+    assertEquals(Set.of("MSG-1"), messageSupport.getMessageAccessor().getMessageCodes());
+    assertEquals("current", messageSupport.code("MSG-1").format());
+  }
+
+
+  @Test
+  @DisplayName("Reload with missing template keeps current messages")
+  void testReloadMissingTemplate()
+  {
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    messageSupport.addMessage("MSG-1", "current");
+
+    val ex = assertThrowsExactly(MessageException.class, () -> messageSupport.reload(staged -> staged
+        .addMessage("MSG-1", "new %[tpl1]")
+        .addMessage("MSG-2", "new %[tpl2]")));
+
+    assertEquals("missing message templates: tpl1, tpl2", ex.getMessage());
+    assertEquals("current", messageSupport.code("MSG-1").format());
+  }
+
+
+  @Test
+  @DisplayName("Reload applies configured filters")
+  void testReloadFilters() throws IOException
+  {
+    val messageFactory = MessageFactory.getSharedInstance();
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    messageSupport
+        .setMessageFilter(message -> !message.getCode().startsWith("IGNORED-"))
+        .setTemplateFilter((name, template) -> !name.startsWith("ignored-"));
+
+    messageSupport.reload(staged -> staged
+        .addMessage("MSG-1", "message")
+        .addMessage("IGNORED-1", "ignored")
+        .addTemplate("tpl", messageFactory.parseTemplate("template"))
+        .addTemplate("ignored-tpl", messageFactory.parseTemplate("ignored")));
+
+    val messageAccessor = messageSupport.getMessageAccessor();
+
+    assertEquals(Set.of("MSG-1"), messageAccessor.getMessageCodes());
+    assertEquals(Set.of("tpl"), messageAccessor.getTemplateNames());
+
+    // default duplicate filter checks the staged instance
+    val defaultSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    defaultSupport.addMessage("MSG-1", "current");
+    defaultSupport.reload(staged -> staged.addMessage("MSG-1", "reloaded"));
+
+    assertEquals("reloaded", defaultSupport.code("MSG-1").format());
+  }
+
+
+  @Test
+  @DisplayName("Staged messages are invisible until published")
+  void testStagedInvisible() throws IOException
+  {
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    messageSupport.addMessage("MSG-1", "current");
+    messageSupport.reload(staged -> {
+      staged.addMessage("MSG-1", "staged");
+
+      assertEquals("staged", staged.code("MSG-1").format());
+      assertEquals("current", messageSupport.code("MSG-1").format());
+    });
+
+    assertEquals("staged", messageSupport.code("MSG-1").format());
+  }
+
+
+  @Test
+  @DisplayName("In-flight configurer keeps its snapshot")
+  void testConfigurerSnapshot() throws Exception
+  {
+    val messageFactory = MessageFactory.getSharedInstance();
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    messageSupport
+        .addMessage("MSG", "text %[tpl]")
+        .addTemplate("tpl", messageFactory.parseTemplate("old"));
+
+    val configurer = messageSupport.code("MSG");
+    val oldAccessor = messageSupport.getMessageAccessor();
+
+    // publish the new snapshot from another thread while the configurer is in use
+    val reloaded = new CountDownLatch(1);
+    val error = new AtomicReference<Throwable>();
+    val thread = new Thread(() -> {
+      try {
+        messageSupport.reload(staged -> staged
+            .addMessage("MSG", "new text %[tpl]")
+            .addTemplate("tpl", messageFactory.parseTemplate("new")));
+      } catch(Throwable ex) {
+        error.set(ex);
+      } finally {
+        reloaded.countDown();
+      }
+    });
+
+    thread.start();
+    reloaded.await();
+
+    assertNull(error.get());
+    assertEquals("text old", configurer.format());
+    assertEquals("old", oldAccessor.getTemplateByName("tpl").format(oldAccessor, Map.of()));
+    assertEquals("new text new", messageSupport.code("MSG").format());
+  }
+}
@@ -15,6 +15,9 @@
  */
 package de.sayayi.lib.message;
 
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.exception.DuplicateMessageException;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
 import lombok.val;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -31,8 +35,7 @@ import java.util.OptionalLong;
 import static de.sayayi.lib.message.MessageSupportFactory.shared;
 import static java.util.Locale.GERMANY;
 import static java.util.Locale.US;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.*;
 
 
 /**
@@ -113,4 +116,61 @@ final class MessageSupportTest
 
     assertEquals("answer = yes", exception.getMessage());
   }
+
+
+  @Test
+  @DisplayName("Frozen message support is an immutable snapshot")
+  void testFreeze()
+  {
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+
+    messageSupport
+        .addMessage("MSG-2", "second %[tpl]")
+        .addMessage("MSG-1", "first")
+        .addTemplate("tpl", messageSupport.getMessageAccessor().getMessageFactory().parseTemplate("template"))
+        .setLocale(GERMANY);
+
+    val frozen = messageSupport.freeze();
+    val frozenAccessor = frozen.getMessageAccessor();
+
+    assertFalse(frozen instanceof ConfigurableMessageSupport);
+    assertEquals(List.of("MSG-1", "MSG-2"), List.copyOf(frozenAccessor.getMessageCodes()));
+    assertEquals("second template", frozen.code("MSG-2").format());
+    assertEquals(GERMANY, frozenAccessor.getLocale());
+
+    // changes to the configurable message support do not affect the frozen instance
+    messageSupport
+        .addMessage("MSG-3", "third")
+        .setLocale(US);
+
+    assertTrue(messageSupport.getMessageAccessor().hasMessageWithCode("MSG-3"));
+    assertFalse(frozenAccessor.hasMessageWithCode("MSG-3"));
+    assertEquals(GERMANY, frozenAccessor.getLocale());
+  }
+
+
+  @Test
+  @DisplayName("Add messages in a single batch")
+  void testAddMessages()
+  {
+    val messageSupport = MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+    val messageFactory = messageSupport.getMessageAccessor().getMessageFactory();
+
+    messageSupport.addMessages(List.of(
+        messageFactory.parseMessage("MSG-2", "second"),
+        messageFactory.parseMessage("MSG-1", "first"),
+        messageFactory.parseMessage("MSG-2", "second")));
+
+    assertEquals(List.of("MSG-1", "MSG-2"), List.copyOf(messageSupport.getMessageAccessor().getMessageCodes()));
+
+    // a duplicate message leaves the message support unchanged
+    assertThrows(DuplicateMessageException.class, () -> messageSupport.addMessages(List.of(
+        messageFactory.parseMessage("MSG-3", "third"),
+        messageFactory.parseMessage("MSG-1", "other"))));
+    assertThrows(DuplicateMessageException.class, () -> messageSupport.addMessages(List.of(
+        messageFactory.parseMessage("MSG-4", "fourth"),
+        messageFactory.parseMessage("MSG-4", "other"))));
+
+    assertEquals(List.of("MSG-1", "MSG-2"), List.copyOf(messageSupport.getMessageAccessor().getMessageCodes()));
+  }
 }
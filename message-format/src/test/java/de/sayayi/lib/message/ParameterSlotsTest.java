@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message;
+
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Locale.GERMAN;
+import static java.util.Locale.ROOT;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Parameter slots")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class ParameterSlotsTest
+{
+  @Test
+  @DisplayName("Bind values in slot order")
+  void testBind()
+  {
+    val slots = ParameterSlots.of("name", "count", "item-type");
+
+    assertEquals(3, slots.size());
+    assertEquals(List.of("name", "count", "item-type"), slots.getParameterNames());
+
+    val parameters = slots.bind(GERMAN, "Order", 3, null);
+
+    assertEquals(GERMAN, parameters.getLocale());
+    assertEquals(Set.of("count", "item-type", "name"), parameters.getParameterNames());
+    assertEquals("Order", parameters.getParameterValue("name"));
+    assertEquals(3, parameters.getParameterValue("count"));
+    assertNull(parameters.getParameterValue("item-type"));
+    assertNull(parameters.getParameterValue("other"));
+    assertEquals(parameters, slots.bind(GERMAN, "Order", 3, null));
+    assertEquals(parameters.hashCode(), slots.bind(GERMAN, "Order", 3, null).hashCode());
+  }
+
+
+  @Test
+  @DisplayName("Format message with bound values")
+  void testFormat()
+  {
+    val messageSupport = MessageSupportFactory.create(new GenericFormatterService());
+    val messageAccessor = messageSupport.getMessageAccessor();
+    val message = messageAccessor.getMessageFactory().parseMessage("%{name} has %{count} items");
+    val slots = ParameterSlots.of("count", "name");
+
+    assertEquals("Order has 3 items", message.format(messageAccessor, slots.bind(ROOT, 3, "Order")));
+    assertEquals(messageSupport.message(message).with("name", "Order").with("count", 3).format(),
+        message.format(messageAccessor, slots.bind(ROOT, 3, "Order")));
+  }
+
+
+  @Test
+  @DisplayName("No slots")
+  void testEmpty()
+  {
+    val slots = ParameterSlots.of();
+
+    assertEquals(0, slots.size());
+    assertTrue(slots.bind(ROOT).getParameterNames().isEmpty());
+  }
+
+
+  @Test
+  @DisplayName("Invalid parameter names and values")
+  void testInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> ParameterSlots.of("a", "b", "a"));
+    assertThrows(IllegalArgumentException.class, () -> ParameterSlots.of("Invalid"));
+    assertThrows(IllegalArgumentException.class, () -> ParameterSlots.of(""));
+    assertThrows(NullPointerException.class, () -> ParameterSlots.of("a", null));
+
+    val slots = ParameterSlots.of("a", "b");
+
+    assertThrows(IllegalArgumentException.class, () -> slots.bind(ROOT, 1));
+    assertThrows(IllegalArgumentException.class, () -> slots.bind(ROOT, 1, 2, 3));
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.adopter;
+
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.DefaultFormatterService;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Message directory watcher")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class MessageDirectoryWatcherTest
+{
+  @Test
+  @DisplayName("Load messages and templates from directory")
+  void testDirectoryLoader(@TempDir Path directory) throws IOException
+  {
+    Files.writeString(directory.resolve("messages.properties"), "MSG-1=Hello %[name]\nMSG-2=World\n", ISO_8859_1);
+    Files.writeString(directory.resolve("template.properties"), "name=Template\n", ISO_8859_1);
+    Files.writeString(directory.resolve("readme.txt"), "ignored", ISO_8859_1);
+
+    val messageSupport = createMessageSupport();
+    messageSupport.reload(MessageDirectoryWatcher.directoryLoader(directory));
+
+    assertEquals(Set.of("MSG-1", "MSG-2"), messageSupport.getMessageAccessor().getMessageCodes());
+    assertEquals("Hello Template", messageSupport.code("MSG-1").format());
+  }
+
+
+  @Test
+  @DisplayName("Load messages from message pack")
+  void testDirectoryLoaderPack(@TempDir Path directory) throws IOException
+  {
+    val source = createMessageSupport();
+    source
+        .addMessage("MSG-1", "Packed %[tpl]")
+        .addTemplate("tpl", source.getMessageAccessor().getMessageFactory().parseTemplate("template"));
+
+    try(var outputStream = Files.newOutputStream(directory.resolve("messages.mfp"))) {
+      source.exportMessages(outputStream);
+    }
+
+    val messageSupport = createMessageSupport();
+    messageSupport.reload(MessageDirectoryWatcher.directoryLoader(directory));
+
+    assertEquals("Packed template", messageSupport.code("MSG-1").format());
+  }
+
+
+  @Test
+  @DisplayName("Reload on directory change")
+  void testWatch(@TempDir Path directory) throws Exception
+  {
+    val messagesFile = directory.resolve("messages.properties");
+    Files.writeString(messagesFile, "MSG=version 1\n", ISO_8859_1);
+
+    val messageSupport = createMessageSupport();
+    val errors = new CopyOnWriteArrayList<Exception>();
+
+    try(var watcher = new MessageDirectoryWatcher(messageSupport, directory, Duration.ofMillis(50), errors::add)) {
+      watcher.start();
+      assertEquals("version 1", messageSupport.code("MSG").format());
+
+      // modify existing file
+      Files.writeString(messagesFile, "MSG=version 2\n", ISO_8859_1);
+      awaitCondition(() -> "version 2".equals(messageSupport.code("MSG").format()));
+
+      // add new file
+      Files.writeString(directory.resolve("more-messages.properties"), "MSG-NEW=new\n", ISO_8859_1);
+      awaitCondition(() -> messageSupport.getMessageAccessor().hasMessageWithCode("MSG-NEW"));
+
+      // broken file: current messages remain available
+      Files.writeString(directory.resolve("more-messages.properties"), "MSG-NEW=%{\n", ISO_8859_1);
+      awaitCondition(() -> !errors.isEmpty());
+      assertTrue(messageSupport.getMessageAccessor().hasMessageWithCode("MSG-NEW"));
+    }
+  }
+
+
+  private static @NotNull ConfigurableMessageSupport createMessageSupport() {
+    return MessageSupportFactory.create(DefaultFormatterService.getSharedInstance());
+  }
+
+
+  private static void awaitCondition(@NotNull BooleanSupplier condition) throws InterruptedException
+  {
+    // some watch service implementations poll the file system every few seconds
+    for(var deadline = System.currentTimeMillis() + 30_000; !condition.getAsBoolean();)
+    {
+      if (System.currentTimeMillis() > deadline)
+        fail("condition not met within timeout");
+
+      Thread.sleep(20);
+    }
+  }
+}
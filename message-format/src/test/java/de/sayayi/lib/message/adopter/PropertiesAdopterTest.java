@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.adopter;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.exception.MessageParserException;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.metrics.JmxMessageMetrics;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.sayayi.lib.message.part.normalizer.LRUMessagePartNormalizer.create;
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.util.Locale.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Properties adopter")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class PropertiesAdopterTest
+{
+  @Test
+  @DisplayName("Identical texts are parsed once")
+  void testUniqueTexts()
+  {
+    val parseCount = new AtomicInteger();
+    val messageFactory = new MessageFactory(PASS_THROUGH) {
+      @Override
+      public Message.@NotNull WithSpaces parseMessage(@NotNull String text)
+      {
+        parseCount.incrementAndGet();
+        return super.parseMessage(text);
+      }
+    };
+    val messageSupport = MessageSupportFactory.create(new GenericFormatterService(), messageFactory);
+
+    new PropertiesAdopter(messageSupport).adopt(Map.of(
+        ENGLISH, properties("MSG-1", "Yes", "MSG-2", "No", "MSG-3", "Yes"),
+        UK, properties("MSG-1", "Yes", "MSG-2", "No"),
+        GERMAN, properties("MSG-1", "Ja", "MSG-2", "Nein")));
+
+    assertEquals(4, parseCount.get());
+
+    val accessor = messageSupport.getMessageAccessor();
+    assertEquals("Ja", messageSupport.code("MSG-1").locale(GERMAN).format());
+    assertEquals("No", messageSupport.code("MSG-2").locale(UK).format());
+    assertEquals("Yes", messageSupport.code("MSG-3").locale(GERMAN).format());
+    assertEquals(3, accessor.getMessageCodes().size());
+  }
+
+
+  @Test
+  @DisplayName("Parallel adoption matches sequential adoption")
+  void testParallel()
+  {
+    val localizedProperties = Map.of(
+        ENGLISH, new Properties(),
+        GERMAN, new Properties(),
+        FRENCH, new Properties());
+
+    for(int n = 0; n < 500; n++)
+    {
+      val code = "MSG-" + n;
+
+      localizedProperties.get(ENGLISH).put(code, "%{n,format:number} message " + n);
+      localizedProperties.get(GERMAN).put(code, "Nachricht " + n + " %{n}");
+      if (n % 3 == 0)
+        localizedProperties.get(FRENCH).put(code, "message " + (n % 10));
+    }
+
+    val sequential = createMessageSupport();
+    new PropertiesAdopter(sequential).adopt(localizedProperties);
+
+    val parallel = createMessageSupport();
+    try(var executor = Executors.newFixedThreadPool(4)) {
+      new PropertiesAdopter(parallel).adopt(localizedProperties, executor);
+    }
+
+    val sequentialAccessor = sequential.getMessageAccessor();
+    val parallelAccessor = parallel.getMessageAccessor();
+
+    assertEquals(sequentialAccessor.getMessageCodes(), parallelAccessor.getMessageCodes());
+    for(var code: sequentialAccessor.getMessageCodes())
+    {
+      //noinspection DataFlowIssue
+      assertTrue(sequentialAccessor.getMessageByCode(code).isSame(parallelAccessor.getMessageByCode(code)));
+    }
+
+    assertEquals("Nachricht 42 7", parallel.code("MSG-42").locale(GERMAN).with("n", 7).format());
+  }
+
+
+  @Test
+  @DisplayName("Parallel adoption keeps the message factory settings")
+  void testParallelFactorySettings()
+  {
+    val metrics = new JmxMessageMetrics();
+    val messageFactory = new MessageFactory(create(16), 1000);
+    messageFactory.setMetrics(metrics);
+
+    val localizedProperties = Map.of(ROOT, new Properties());
+    for(int n = 0; n < 200; n++)
+      localizedProperties.get(ROOT).put("MSG-" + n, "message " + n + " %{n}");
+
+    val messageSupport = MessageSupportFactory.create(new GenericFormatterService(), messageFactory);
+    try(var executor = Executors.newFixedThreadPool(4)) {
+      new PropertiesAdopter(messageSupport).adopt(localizedProperties, executor);
+    }
+
+    assertEquals(200, metrics.getParseCount());
+    assertEquals(200, metrics.getMessageCacheStatistics().missCount());
+
+    // parsed texts are in the cache of the configured factory
+    messageFactory.parseMessage("message 42 %{n}");
+
+    assertEquals(200, metrics.getParseCount());
+    assertEquals(1, metrics.getMessageCacheStatistics().hitCount());
+    assertEquals("message 42 7", messageSupport.code("MSG-42").with("n", 7).format());
+  }
+
+
+  @Test
+  @DisplayName("Messages are published in code order after parsing")
+  void testPublishOrder()
+  {
+    val codes = new ArrayList<String>();
+    val messageSupport = createMessageSupport();
+    messageSupport.setMessageFilter(message -> codes.add(message.getCode()));
+
+    val localizedProperties = Map.of(ROOT, new Properties());
+    for(int n = 199; n >= 0; n--)
+      localizedProperties.get(ROOT).put(String.format("MSG-%03d", n), "message " + n);
+
+    try(var executor = Executors.newFixedThreadPool(4)) {
+      new PropertiesAdopter(messageSupport).adopt(localizedProperties, executor);
+    }
+
+    assertEquals(200, codes.size());
+    assertEquals(codes.stream().sorted().toList(), codes);
+
+    localizedProperties.get(ROOT).put("MSG-100", "%{");
+    codes.clear();
+
+    try(var executor = Executors.newFixedThreadPool(4)) {
+      val ex = assertThrows(MessageParserException.class,
+          () -> new PropertiesAdopter(messageSupport).adopt(localizedProperties, executor));
+
+      assertEquals("MSG-100", ex.getCode());
+      assertEquals(ROOT, ex.getLocale());
+    }
+
+    assertTrue(codes.isEmpty());
+  }
+
+
+  private static @NotNull ConfigurableMessageSupport createMessageSupport() {
+    return MessageSupportFactory.create(new GenericFormatterService(), new MessageFactory(create(16)));
+  }
+
+
+  private static @NotNull Properties properties(@NotNull String... keyValues)
+  {
+    val properties = new Properties();
+
+    for(int n = 0; n < keyValues.length; n += 2)
+      properties.put(keyValues[n], keyValues[n + 1]);
+
+    return properties;
+  }
+}
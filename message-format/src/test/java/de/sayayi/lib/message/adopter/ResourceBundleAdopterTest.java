@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.adopter;
+
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.GERMAN;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Resource bundle adopter")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class ResourceBundleAdopterTest
+{
+  @Test
+  @DisplayName("Adopt resource bundles sequentially and in parallel")
+  void testAdoptBundles()
+  {
+    val bundles = List.of(bundle(ENGLISH, "Message"), bundle(GERMAN, "Nachricht"));
+
+    val sequential = createMessageSupport();
+    new ResourceBundleAdopter(sequential).adopt(bundles);
+
+    val parallel = createMessageSupport();
+    new ResourceBundleAdopter(parallel).adopt(bundles, ForkJoinPool.commonPool());
+
+    for(var messageSupport: List.of(sequential, parallel))
+    {
+      assertEquals(150, messageSupport.getMessageAccessor().getMessageCodes().size());
+      assertEquals("Message 42", messageSupport.code("MSG-42").locale(ENGLISH).format());
+      assertEquals("Nachricht 42", messageSupport.code("MSG-42").locale(GERMAN).format());
+      assertEquals("shared", messageSupport.code("SHARED-7").locale(GERMAN).format());
+    }
+  }
+
+
+  private static @NotNull ResourceBundle bundle(@NotNull Locale locale, @NotNull String text)
+  {
+    val contents = new Object[150][];
+
+    for(int n = 0; n < 100; n++)
+      contents[n] = new Object[] { "MSG-" + n, text + ' ' + n };
+    for(int n = 0; n < 50; n++)
+      contents[100 + n] = new Object[] { "SHARED-" + n, "shared" };
+
+    return new ListResourceBundle() {
+      @Override
+      public @NotNull Locale getLocale() {
+        return locale;
+      }
+
+
+      @Override
+      protected Object @NotNull [][] getContents() {
+        return contents;
+      }
+    };
+  }
+
+
+  private static @NotNull ConfigurableMessageSupport createMessageSupport() {
+    return MessageSupportFactory.create(new GenericFormatterService());
+  }
+}
@@ -16,16 +16,31 @@
 package de.sayayi.lib.message.formatter.parameter.runtime;
 
 import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.parameter.NamedParameterFormatter;
+import de.sayayi.lib.message.formatter.parameter.ParameterFormatterContext;
+import de.sayayi.lib.message.internal.part.map.key.MapKeyString;
 import de.sayayi.lib.message.internal.part.parameter.AbstractFormatterTest;
+import de.sayayi.lib.message.part.MessagePart.Text;
 import lombok.val;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.concurrent.CyclicBarrier;
+
+import static de.sayayi.lib.message.part.MapKey.STRING_TYPE;
+import static de.sayayi.lib.message.part.TextPartFactory.noSpaceText;
 import static java.lang.Math.PI;
 import static java.util.Locale.GERMANY;
+import static java.util.Locale.UK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
@@ -68,4 +83,118 @@ final class NumberFormatterTest extends AbstractFormatterTest
         .with("d", 0.1d)
         .format());
   }
+
+
+  @Test
+  @DisplayName("Number formats are cached by locale and format")
+  void testFormatCache()
+  {
+    val formatter = new NumberFormatter(2);
+    val messageSupport = MessageSupportFactory.create(createFormatterService(formatter));
+
+    assertEquals("3,14", messageSupport.message("%{pi,number:'0.00'}").with("pi", PI).locale(GERMANY).format());
+    assertEquals("3,14", messageSupport.message("%{pi,number:'0.00'}").with("pi", PI).locale(GERMANY).format());
+    assertEquals("3.14", messageSupport.message("%{pi,number:'0.00'}").with("pi", PI).locale(UK).format());
+
+    var statistics = formatter.getFormatCache().getStatistics();
+
+    assertEquals(1, statistics.hitCount());
+    assertEquals(2, statistics.missCount());
+    assertEquals(0, statistics.evictionCount());
+
+    assertEquals("314%", messageSupport.message("%{pi,number:percent}").with("pi", PI).locale(UK).format());
+
+    statistics = formatter.getFormatCache().getStatistics();
+
+    assertEquals(1, statistics.evictionCount());
+    assertEquals(2, statistics.size());
+  }
+
+
+  @Test
+  @DisplayName("Cached number formats are thread-safe")
+  void testFormatCacheThreadSafety() throws Exception
+  {
+    val THREAD_COUNT = 8;
+
+    val messageSupport = MessageSupportFactory
+        .create(createFormatterService(new NumberFormatter()))
+        .setLocale(UK);
+    val barrier = new CyclicBarrier(THREAD_COUNT);
+    val errors = new ArrayList<Throwable>();
+    val threads = new Thread[THREAD_COUNT];
+
+    for(int t = 0; t < THREAD_COUNT; t++)
+    {
+      val offset = t;
+
+      threads[t] = new Thread(() -> {
+        try {
+          barrier.await();
+
+          for(int i = 0; i < 1000; i++)
+          {
+            val n = offset * 1000 + i;
+
+            assertEquals(n + ".50", messageSupport
+                .message("%{n,number:'0.00'}")
+                .with("n", BigDecimal.valueOf(n * 10L + 5, 1))
+                .format());
+          }
+        } catch(Throwable ex) {
+          synchronized(errors) {
+            errors.add(ex);
+          }
+        }
+      });
+      threads[t].start();
+    }
+
+    for(val thread: threads)
+      thread.join();
+
+    assertTrue(errors.isEmpty(), "concurrent formatting should not fail: " + errors);
+  }
+
+
+  @Test
+  @DisplayName("Compare numbers to numeric string keys")
+  void testStringKey()
+  {
+    val formatterService = createFormatterService(new NumberFormatter());
+
+    formatterService.addFormatter(new NamedParameterFormatter() {
+      @Override
+      public @NotNull Text format(@NotNull ParameterFormatterContext context, Object value)
+      {
+        return context
+            .getMapMessage(value, STRING_TYPE)
+            .map(context::format)
+            .orElseGet(() -> noSpaceText("none"));
+      }
+
+      @Override
+      public @NotNull String getName() {
+        return "string-key";
+      }
+    });
+
+    val messageSupport = MessageSupportFactory.create(formatterService).setLocale(UK);
+    val message =
+        "%{n,format:string-key,>'99999999999999999999':'huge',>'100':'large',='1.5':'one and a half',='abc':'abc'}";
+
+    assertEquals("large", messageSupport.message(message).with("n", 200).format());
+    assertEquals("none", messageSupport.message(message).with("n", 100L).format());
+    assertEquals("huge", messageSupport.message(message).with("n", BigInteger.TEN.pow(20)).format());
+    assertEquals("large", messageSupport.message(message).with("n", Long.MAX_VALUE).format());
+    assertEquals("one and a half", messageSupport.message(message).with("n", new BigDecimal("1.50")).format());
+    assertEquals("one and a half", messageSupport.message(message).with("n", 1.5f).format());
+    assertEquals("none", messageSupport.message(message).with("n", Double.NaN).format());
+
+    assertEquals(5L, new MapKeyString("+5").getNumber());
+    assertEquals(new BigInteger("-99999999999999999999"), new MapKeyString("-99999999999999999999").getNumber());
+    assertEquals(new BigDecimal("1e3"), new MapKeyString("1e3").getNumber());
+    assertNull(new MapKeyString("").getNumber());
+    assertNull(new MapKeyString("12abc").getNumber());
+  }
 }
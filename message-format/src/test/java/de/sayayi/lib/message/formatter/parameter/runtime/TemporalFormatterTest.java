@@ -23,9 +23,11 @@ import de.sayayi.lib.message.part.MessagePart.Text;
 import lombok.val;
 import org.junit.jupiter.api.*;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.Map;
 import java.util.TimeZone;
 
@@ -164,4 +166,77 @@ final class TemporalFormatterTest extends AbstractFormatterTest
         .locale("nl")
         .format());
   }
+
+
+  @Test
+  @DisplayName("Format in configured zone")
+  void testZone()
+  {
+    val instant = Instant.parse("2026-03-14T12:00:00Z");
+
+    val utcMessageSupport = MessageSupportFactory
+        .create(createFormatterService(new TemporalFormatter(ZoneId.of("UTC"))))
+        .setLocale(UK);
+
+    assertEquals("14 Mar 2026, 12:00:00", utcMessageSupport.message("%{i}").with("i", instant).format());
+    assertEquals("12:00", utcMessageSupport.message("%{i,date:'HH:mm'}").with("i", instant).format());
+
+    val tokyoMessageSupport = MessageSupportFactory
+        .create(createFormatterService(new TemporalFormatter(ZoneId.of("Asia/Tokyo"))))
+        .setLocale(UK);
+
+    assertEquals("14 Mar 2026, 21:00:00", tokyoMessageSupport.message("%{i}").with("i", instant).format());
+    assertEquals("21:00", tokyoMessageSupport.message("%{i,date:'HH:mm'}").with("i", instant).format());
+  }
+
+
+  @Test
+  @DisplayName("Formatters are cached by format, locale and zone")
+  void testFormatCache()
+  {
+    val formatter = new TemporalFormatter();
+    val messageSupport = MessageSupportFactory.create(createFormatterService(formatter));
+    val date = LocalDate.of(2026, 3, 14);
+
+    assertEquals("14 mars", messageSupport.message("%{d,date:'dd MMMM'}").with("d", date).locale(FRANCE).format());
+    assertEquals("14 mars", messageSupport.message("%{d,date:'dd MMMM'}").with("d", date).locale(FRANCE).format());
+    assertEquals("14 March", messageSupport.message("%{d,date:'dd MMMM'}").with("d", date).locale(UK).format());
+
+    var statistics = formatter.getFormatCache().getStatistics();
+
+    assertEquals(1, statistics.hitCount());
+    assertEquals(2, statistics.missCount());
+
+    // pattern and style with the same name are cached separately
+    assertEquals("03", messageSupport.message("%{d,date:'MM'}").with("d", date).locale(UK).format());
+    assertEquals("14 Mar 2026", messageSupport.message("%{d,date:medium}").with("d", date).locale(UK).format());
+
+    statistics = formatter.getFormatCache().getStatistics();
+
+    assertEquals(4, statistics.missCount());
+    assertEquals(4, statistics.size());
+  }
+
+
+  @Test
+  @DisplayName("Medium style formatters are kept per locale")
+  void testMediumFormatterPerLocale()
+  {
+    val formatter = new TemporalFormatter(ZoneId.of("UTC"));
+    val messageSupport = MessageSupportFactory.create(createFormatterService(formatter));
+    val instant = Instant.parse("2026-03-14T12:00:00Z");
+
+    for(int n = 0; n < 3; n++)
+    {
+      assertEquals("14 Mar 2026, 12:00:00", messageSupport.message("%{i}").with("i", instant).locale(UK).format());
+      assertEquals("14 mars 2026, 12:00:00",
+          messageSupport.message("%{i}").with("i", instant).locale(FRANCE).format());
+    }
+
+    // alternating locales do not replace each other's formatter
+    val statistics = formatter.getFormatCache().getStatistics();
+
+    assertEquals(0, statistics.hitCount());
+    assertEquals(2, statistics.missCount());
+  }
 }
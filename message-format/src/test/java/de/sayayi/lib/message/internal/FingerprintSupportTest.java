@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.internal.part.TextPart;
+import de.sayayi.lib.message.internal.part.template.TemplatePart;
+import de.sayayi.lib.message.internal.part.typedvalue.TypedValueString;
+import de.sayayi.lib.message.part.MessagePart;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+import java.util.Map;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Message fingerprints")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class FingerprintSupportTest
+{
+  private static final MessageFactory MESSAGE_FACTORY = new MessageFactory(PASS_THROUGH);
+
+
+  @Test
+  @DisplayName("Equal messages have equal fingerprints")
+  void testEqualMessages()
+  {
+    val m1 = (FingerprintAware)MESSAGE_FACTORY.parseMessage(
+        "a %{n,format:number,number:'0000',1:'one',2:'two',:'%{n} items'} %[tpl,x=1] %{s,clip:'%{s}',clip-size:4}");
+    val m2 = (FingerprintAware)MESSAGE_FACTORY.parseMessage(
+        "a %{n,format:number,number:'0000',1:'one',2:'two',:'%{n} items'} %[tpl,x=1] %{s,clip-size:4,clip:'%{s}'}");
+
+    assertNotSame(m1, m2);
+    assertEquals(m1, m2);
+    assertEquals(m1.getFingerprint(), m2.getFingerprint());
+    assertEquals(m1.hashCode(), m2.hashCode());
+  }
+
+
+  @Test
+  @DisplayName("Different messages have different fingerprints")
+  void testDifferentMessages()
+  {
+    val messages = List.of(
+        "a %{n}", "a %{m}", "a  %{n} ", "a %{n,format:number}", "a %{n,1:'one'}", "a %{n,1:'one',:'many'}",
+        "a %{n,1:'one',2:'one'}", "a %[tpl]", "a %[tpl,x=1]", "a %[tpl,x=2]", "a %[tpl,x->y]", "b", "b ", "");
+    val fingerprints = messages.stream()
+        .map(MESSAGE_FACTORY::parseMessage)
+        .mapToLong(message -> ((FingerprintAware)message).getFingerprint())
+        .distinct()
+        .count();
+
+    assertEquals(messages.size(), fingerprints);
+  }
+
+
+  @Test
+  @DisplayName("Template parts compare default parameters and delegates")
+  void testTemplatePart()
+  {
+    val t1 = new TemplatePart("tpl", false, false, Map.of("x", new TypedValueString("1")), Map.of());
+    val t2 = new TemplatePart("tpl", false, false, Map.of("x", new TypedValueString("2")), Map.of());
+    val t3 = new TemplatePart("tpl", false, false, Map.of(), Map.of("x", "1"));
+
+    assertEquals(t1, new TemplatePart("tpl", false, false, Map.of("x", new TypedValueString("1")), Map.of()));
+    assertNotEquals(t1, t2);
+    assertNotEquals(t1, t3);
+    assertNotEquals(t1.getFingerprint(), t2.getFingerprint());
+  }
+
+
+  @Test
+  @DisplayName("Same message check")
+  void testIsSame()
+  {
+    assertTrue(MESSAGE_FACTORY.parseMessage("a %{n} b").isSame(MESSAGE_FACTORY.parseMessage("a %{n} b")));
+    assertFalse(MESSAGE_FACTORY.parseMessage("a %{n} b").isSame(MESSAGE_FACTORY.parseMessage("a %{n} c")));
+    assertTrue(MESSAGE_FACTORY.parseMessage("MSG-1", "x").isSame(new TextMessage(new TextPart("x"))));
+    assertTrue(EmptyMessage.INSTANCE.isSame(new TextMessage(MessagePart.Text.EMPTY)));
+  }
+
+
+  @Test
+  @DisplayName("Message parts without copy")
+  void testMessagePartsNoCopy()
+  {
+    val message = (CompoundMessage)MESSAGE_FACTORY.parseMessage("a %{n} b");
+
+    assertSame(message.getMessagePartsNoCopy(), message.getMessagePartsNoCopy());
+    assertArrayEquals(message.getMessageParts(), message.getMessagePartsNoCopy());
+    assertNotSame(message.getMessageParts(), message.getMessagePartsNoCopy());
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal;
+
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Frozen name map")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class FrozenNameMapTest
+{
+  @Test
+  @DisplayName("Empty map")
+  void testEmpty()
+  {
+    val map = new FrozenNameMap<Integer>(Map.of());
+
+    assertTrue(map.isEmpty());
+    assertNull(map.get("key"));
+    assertFalse(map.containsKey("key"));
+    assertFalse(map.keySet().iterator().hasNext());
+  }
+
+
+  @Test
+  @DisplayName("Lookup and sorted iteration")
+  void testLookup()
+  {
+    val source = new HashMap<String,Integer>();
+    for(int n = 0; n < 1000; n++)
+      source.put("MSG-" + n, n);
+
+    val map = new FrozenNameMap<>(source);
+
+    assertEquals(1000, map.size());
+    assertEquals(source, map);
+    assertEquals(map, source);
+    assertEquals(source.hashCode(), map.hashCode());
+
+    for(int n = 0; n < 1000; n++)
+    {
+      assertEquals(n, map.get("MSG-" + n));
+      assertTrue(map.keySet().contains("MSG-" + n));
+    }
+
+    assertNull(map.get("MSG-1000"));
+    assertNull(map.get(42));
+    assertFalse(map.containsKey(null));
+
+    val sorted = new TreeMap<>(source);
+    assertEquals(new ArrayList<>(sorted.keySet()), new ArrayList<>(map.keySet()));
+    assertEquals(new ArrayList<>(sorted.values()), new ArrayList<>(map.values()));
+    assertEquals(new ArrayList<>(sorted.entrySet()), new ArrayList<>(map.entrySet()));
+  }
+
+
+  @Test
+  @DisplayName("Keys with colliding hash codes")
+  void testCollisions()
+  {
+    // "Aa" and "BB" share the same hash code
+    val keys = List.of("Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB");
+    val source = new HashMap<String,String>();
+    for(val key: keys)
+      source.put(key, key.toLowerCase());
+
+    val map = new FrozenNameMap<>(source);
+
+    for(val key: keys)
+      assertEquals(key.toLowerCase(), map.get(key));
+
+    assertNull(map.get("AB"));
+    assertEquals(List.of("Aa", "AaAa", "AaBB", "BB", "BBAa", "BBBB"), new ArrayList<>(map.keySet()));
+  }
+
+
+  @Test
+  @DisplayName("Map is immutable")
+  void testImmutable()
+  {
+    val map = new FrozenNameMap<>(Map.of("a", 1, "b", 2));
+
+    assertThrows(UnsupportedOperationException.class, () -> map.put("c", 3));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+    assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove("a"));
+    assertThrows(UnsupportedOperationException.class, () -> map.values().clear());
+    assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(3));
+    assertThrows(UnsupportedOperationException.class, map::clear);
+  }
+}
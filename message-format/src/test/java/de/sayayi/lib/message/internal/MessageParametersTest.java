@@ -49,7 +49,8 @@ final class MessageParametersTest
   {
     val messageSupport = new MessageSupportImpl(DefaultFormatterService.getSharedInstance(),
         MessageFactory.getSharedInstance());
-    val configurer = messageSupport.new Configurer<>(() -> null);
+    val configurer = messageSupport.new Configurer<>(
+        (MessageSupportImpl.Accessor)messageSupport.getMessageAccessor(), () -> null);
 
     configurer
         .locale(ITALIAN)
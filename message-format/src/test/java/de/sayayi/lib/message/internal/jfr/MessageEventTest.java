@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.jfr;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.formatter.post.runtime.CasePostFormatter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.time.Duration.ZERO;
+import static java.util.Locale.GERMANY;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Flight recorder events")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class MessageEventTest
+{
+  @TempDir Path tempDir;
+
+
+  @Test
+  @DisplayName("Record parse, format, template and post format events")
+  void testFormatEvents() throws IOException
+  {
+    val messageFactory = new MessageFactory(PASS_THROUGH);
+    val formatterService = new GenericFormatterService();
+    final List<RecordedEvent> events;
+
+    formatterService.addPostFormatter(new CasePostFormatter());
+
+    try(val recording = startRecording()) {
+      MessageSupportFactory
+          .create(formatterService, messageFactory)
+          .addMessage("msg", "Hello %(case,'%[name]',case:upper)")
+          .addTemplate("name", messageFactory.parseTemplate("%{name}"))
+          .setLocale(GERMANY)
+          .code("msg")
+          .with("name", "joe")
+          .format();
+
+      events = stopRecording(recording);
+    }
+
+    val parseEvents = filter(events, "de.sayayi.lib.message.Parse");
+
+    assertEquals(2, parseEvents.size());
+    assertFalse(parseEvents.get(0).getBoolean("template"));
+    assertEquals(34, parseEvents.get(0).getInt("textLength"));
+    assertTrue(parseEvents.get(1).getBoolean("template"));
+
+    val formatEvents = filter(events, "de.sayayi.lib.message.Format");
+
+    assertEquals(1, formatEvents.size());
+    assertEquals("msg", formatEvents.getFirst().getString("code"));
+    assertEquals("de-DE", formatEvents.getFirst().getString("locale"));
+    assertEquals(9, formatEvents.getFirst().getInt("textLength"));
+
+    val templateEvents = filter(events, "de.sayayi.lib.message.Template");
+
+    assertEquals(1, templateEvents.size());
+    assertEquals("name", templateEvents.getFirst().getString("name"));
+    assertEquals(3, templateEvents.getFirst().getInt("textLength"));
+
+    val postFormatEvents = filter(events, "de.sayayi.lib.message.PostFormat");
+
+    assertEquals(1, postFormatEvents.size());
+    assertEquals("case", postFormatEvents.getFirst().getString("name"));
+    assertEquals("de-DE", postFormatEvents.getFirst().getString("locale"));
+  }
+
+
+  @Test
+  @DisplayName("Record pack import event")
+  void testPackImportEvent() throws IOException
+  {
+    val messageFactory = new MessageFactory(PASS_THROUGH);
+    val pack = new ByteArrayOutputStream();
+
+    MessageSupportFactory
+        .create(new GenericFormatterService(), messageFactory)
+        .addMessage("m1", "message 1 %[t]")
+        .addMessage("m2", "message 2")
+        .addTemplate("t", messageFactory.parseTemplate("template"))
+        .exportMessages(pack);
+
+    final List<RecordedEvent> events;
+
+    try(val recording = startRecording()) {
+      MessageSupportFactory
+          .create(new GenericFormatterService(), messageFactory)
+          .importMessages(new ByteArrayInputStream(pack.toByteArray()));
+
+      events = stopRecording(recording);
+    }
+
+    val packImportEvents = filter(events, "de.sayayi.lib.message.PackImport");
+
+    assertEquals(1, packImportEvents.size());
+    assertEquals(2, packImportEvents.getFirst().getInt("messageCount"));
+    assertEquals(1, packImportEvents.getFirst().getInt("templateCount"));
+  }
+
+
+  private static Recording startRecording()
+  {
+    val recording = new Recording();
+
+    for(val eventName: List.of("Parse", "Format", "Template", "PostFormat", "PackImport"))
+      recording.enable("de.sayayi.lib.message." + eventName).withThreshold(ZERO);
+
+    recording.start();
+
+    return recording;
+  }
+
+
+  private List<RecordedEvent> stopRecording(Recording recording) throws IOException
+  {
+    val file = tempDir.resolve("recording.jfr");
+
+    recording.stop();
+    recording.dump(file);
+
+    return RecordingFile.readAllEvents(file);
+  }
+
+
+  private static List<RecordedEvent> filter(List<RecordedEvent> events, String eventName)
+  {
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(eventName))
+        .filter(event -> event.getThread().getJavaThreadId() == Thread.currentThread().threadId())
+        .toList();
+  }
+}
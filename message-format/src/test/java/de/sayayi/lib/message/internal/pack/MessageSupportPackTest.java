@@ -1,18 +1,26 @@
 package de.sayayi.lib.message.internal.pack;
 
+import de.sayayi.lib.message.Message;
 import de.sayayi.lib.message.MessageSupport;
 import de.sayayi.lib.message.MessageSupportFactory;
 import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.pack.PackInputStream;
 import lombok.val;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static de.sayayi.lib.message.util.MessageUtil.importMessages;
+import static org.junit.jupiter.api.Assertions.*;
 
 
 /**
@@ -23,6 +31,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 @TestMethodOrder(MethodOrderer.DisplayName.class)
 final class MessageSupportPackTest
 {
+  private static final int LARGE_CATALOG_SIZE = 1_000_000;
+  private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+
   private static MessageSupport messageSupport;
 
 
@@ -75,4 +87,112 @@ final class MessageSupportPackTest
           messageAccessorCloned.getMessageByCode(messageCode));
     }
   }
+
+
+  @Test
+  @DisplayName("Export/import 1,000,000 messages in code order")
+  void testExportImportLargeCatalog() throws IOException
+  {
+    val cms = MessageSupportFactory.create(new GenericFormatterService());
+    val messageFactory = cms.getMessageAccessor().getMessageFactory();
+    val messages = new Message[] {
+        messageFactory.parseMessage("Message %{n} using template %[tpl-a]"),
+        messageFactory.parseMessage("%{n,>0:'positive %[tpl-b]',:'not positive'}"),
+        messageFactory.parseMessage("Plain text")
+    };
+
+    cms.addTemplate("tpl-a", messageFactory.parseTemplate("template a"));
+    cms.addTemplate("tpl-b", messageFactory.parseTemplate("template b"));
+    cms.addTemplate("tpl-unused", messageFactory.parseTemplate("unused template"));
+
+    // messages share their parts; the catalog footprint is dominated by the codes
+    for(int n = LARGE_CATALOG_SIZE; n-- > 0;)
+      cms.addMessage(messageFactory.withCode(String.format("MSG-%07d", n), messages[n % messages.length]));
+
+    val pack = new ChunkRecordingOutputStream();
+    cms.exportMessages(pack, false, null);
+
+    // the pack is written while messages are visited, not assembled in memory and written at once
+    assertTrue(pack.size() > 4 * MAX_CHUNK_SIZE);
+    assertTrue(pack.maxChunkSize <= MAX_CHUNK_SIZE, "largest chunk written: " + pack.maxChunkSize);
+    assertEquals(PackSupport.VERSION, packVersion(pack.toByteArray()));
+
+    val messageCount = new AtomicInteger();
+    val templateNames = new ArrayList<String>();
+
+    importMessages(new ByteArrayInputStream(pack.toByteArray()),
+        message -> {
+          val n = messageCount.getAndIncrement();
+
+          assertEquals(String.format("MSG-%07d", n), message.getCode());
+          assertTrue(messages[n % messages.length].isSame(message));
+        },
+        (name, template) -> templateNames.add(name));
+
+    assertEquals(LARGE_CATALOG_SIZE, messageCount.get());
+    assertEquals(List.of("tpl-a", "tpl-b"), templateNames);
+  }
+
+
+  @Test
+  @DisplayName("Export small catalogs in a pack format readable by earlier versions")
+  void testExportShortCountVersion() throws IOException
+  {
+    val pack = new ByteArrayOutputStream();
+
+    messageSupport.exportMessages(pack);
+
+    assertEquals(PackSupport.SHORT_COUNT_VERSION, packVersion(pack.toByteArray()));
+  }
+
+
+  @Test
+  @DisplayName("Export filtered messages with required templates only")
+  void testExportFiltered() throws IOException
+  {
+    val pack = new ByteArrayOutputStream();
+
+    messageSupport.exportMessages(pack, false, code -> code.compareTo("MSG-005") >= 0);
+
+    val cms = MessageSupportFactory.create(new GenericFormatterService());
+
+    cms.importMessages(new ByteArrayInputStream(pack.toByteArray()));
+
+    val messageAccessor = cms.getMessageAccessor();
+
+    assertEquals(Set.of("MSG-005", "MSG-006", "MSG-007", "MSG-008"), messageAccessor.getMessageCodes());
+    assertEquals(Set.of("exception"), messageAccessor.getTemplateNames());
+  }
+
+
+  private static int packVersion(byte[] pack) throws IOException
+  {
+    try(val packStream = new PackInputStream(PackSupport.PACK_CONFIG, new ByteArrayInputStream(pack))) {
+      return packStream.getVersion().orElseThrow();
+    }
+  }
+
+
+
+
+  private static final class ChunkRecordingOutputStream extends ByteArrayOutputStream
+  {
+    private int maxChunkSize;
+
+
+    @Override
+    public void write(int b)
+    {
+      maxChunkSize = Math.max(maxChunkSize, 1);
+      super.write(b);
+    }
+
+
+    @Override
+    public void write(byte @NotNull [] b, int off, int len)
+    {
+      maxChunkSize = Math.max(maxChunkSize, len);
+      super.write(b, off, len);
+    }
+  }
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.internal.source;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.formatter.post.runtime.ClipPostFormatter;
+import lombok.val;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static de.sayayi.lib.message.util.MessageUtil.exportJavaSource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Export messages and templates as Java source")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class JavaSourceSupportTest
+{
+  private static MessageSupport messageSupport;
+
+
+  @BeforeAll
+  static void initMessageSupport()
+  {
+    var cms = createMessageSupport();
+    var messageFactory = cms.getMessageAccessor().getMessageFactory();
+
+    cms.addMessage("MSG-001", "");
+    cms.addMessage("MSG-002", "Not empty");
+    cms.addMessage(messageFactory.parseMessage("MSG-003", Map.of(
+        Locale.ROOT, "Default %{n}",
+        Locale.forLanguageTag("en"), "English",
+        Locale.forLanguageTag("de-CH"), "Deutsch")));
+    cms.addMessage("MSG-004", "Compound parameter %{n} and template %[tpl]");
+    cms.addMessage("MSG-005", "%{n,true:'yes',64:'2^6','name':'name',null:'val %{n1}',empty:'empty',:'xyz'}");
+    cms.addMessage("MSG-006", "%{n,name:-128,check:false,str:'string',msg:'msg %{p}'}");
+    cms.addMessage("MSG-007", "^°!§$%&/()=?ßüöäÖÄÜ@€«∑®†Ω¨⁄øπ@∆ª©ƒ∂‚å¥≈ç√∫~∞…🍀 \"quoted\"");
+    cms.addMessage("MSG-008", "Something went wrong%[exception,with-stack=true]");
+    cms.addMessage("MSG-009", "%{n,<0:'negative',>=10:'large',!'':'not empty',!null:'%{n}'} items");
+    cms.addMessage("MSG-010", "Clipped: %(clip,'%{v} %[tpl,x->v]',clip:8) done");
+    cms.addMessage("MSG-011", "%{b,true:'%{n,format:choice,1:'one',:'many'}'} %[tpl,a=1,b=true,c='text']");
+    cms.addTemplate("exception", messageFactory.parseTemplate("%{ex,!empty:': %{ex}'}"));
+    cms.addTemplate("tpl", messageFactory.parseTemplate("template %{x}"));
+
+    messageSupport = cms.seal();
+  }
+
+
+  @Test
+  @DisplayName("Compile and configure exported messages and templates")
+  void testExportCompileConfigure(@TempDir Path tempDir) throws Exception
+  {
+    val messageAccessor = messageSupport.getMessageAccessor();
+    val messages = messageAccessor.getMessageCodes().stream()
+        .map(messageAccessor::getMessageByCode)
+        .toList();
+    val templates = new TreeMap<String,Message>();
+
+    for(val templateName: messageAccessor.getTemplateNames())
+      templates.put(templateName, messageAccessor.getTemplateByName(templateName));
+
+    val cms = compileAndConfigure(tempDir, "test.generated", "Catalog", messages, templates);
+    val generatedAccessor = cms.getMessageAccessor();
+
+    assertEquals(messageAccessor.getMessageCodes(), generatedAccessor.getMessageCodes());
+    assertEquals(messageAccessor.getTemplateNames(), generatedAccessor.getTemplateNames());
+
+    for(val message: messages)
+    {
+      val generatedMessage = generatedAccessor.getMessageByCode(message.getCode());
+
+      assertNotNull(generatedMessage);
+      assertTrue(message.isSame(generatedMessage), message.getCode());
+
+      if (message instanceof Message.LocaleAware localeAware)
+      {
+        val generatedLocalizedMessages = ((Message.LocaleAware)generatedMessage).getLocalizedMessages();
+
+        localeAware.getLocalizedMessages().forEach((locale, localizedMessage) ->
+            assertEquals(localizedMessage.asFormatString(UTF_8),
+                generatedLocalizedMessages.get(locale).asFormatString(UTF_8)));
+      }
+      else
+        assertEquals(message.asFormatString(UTF_8), generatedMessage.asFormatString(UTF_8), message.getCode());
+    }
+
+    for(val template: templates.entrySet())
+    {
+      assertEquals(template.getValue().asFormatString(UTF_8),
+          requireTemplate(cms, template.getKey()).asFormatString(UTF_8));
+    }
+
+    for(val code: messageAccessor.getMessageCodes())
+    {
+      assertEquals(
+          messageSupport.code(code).locale("de-CH").with("n", 64).with("v", "text").with("b", true).format(),
+          cms.code(code).locale("de-CH").with("n", 64).with("v", "text").with("b", true).format(), code);
+    }
+  }
+
+
+  @Test
+  @DisplayName("Pre-parse string map values")
+  void testStringMapValues(@TempDir Path tempDir) throws Exception
+  {
+    val original = createMessageSupport();
+    val message = new MessageFactory(PASS_THROUGH).parseMessage("MSG", "%{n,true:yes,64:'2^6',name:name,null:'val %{n1}',empty:empty,:xyz}");
+
+    original.addMessage(message);
+
+    val cms = compileAndConfigure(tempDir, "test", "Catalog", List.of(message), Map.of());
+
+    for(val value: Arrays.asList(true, 64, "name", null, "", "other"))
+    {
+      assertEquals(original.code("MSG").with("n", value).with("n1", 1).format(),
+          cms.code("MSG").with("n", value).with("n1", 1).format());
+    }
+  }
+
+
+  @Test
+  @DisplayName("Compile large catalog distributed over nested classes")
+  void testLargeCatalog(@TempDir Path tempDir) throws Exception
+  {
+    val messageFactory = messageSupport.getMessageAccessor().getMessageFactory();
+    val messages = new ArrayList<Message.WithCode>();
+
+    for(int n = 0; n < 1000; n++)
+      messages.add(messageFactory.parseMessage("MSG-" + n, "Message %{n,>0:'number " + n + "'}"));
+
+    val original = createMessageSupport();
+    messages.forEach(original::addMessage);
+
+    val cms = compileAndConfigure(tempDir, "", "LargeCatalog", messages, Map.of());
+
+    assertEquals(1000, cms.getMessageAccessor().getMessageCodes().size());
+    assertEquals(original.code("MSG-500").with("n", 1).format(), cms.code("MSG-500").with("n", 1).format());
+  }
+
+
+  @Test
+  @DisplayName("Invalid package or class name")
+  void testInvalidName()
+  {
+    val writer = new StringWriter();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test..generated", "Catalog", List.of(), Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test", "1Catalog", List.of(), Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test", "class", List.of(), Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test.int", "Catalog", List.of(), Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test", "test.Catalog", List.of(), Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test.", "Catalog", List.of(), Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test", "_", List.of(), Map.of()));
+    assertThrows(IllegalArgumentException.class,
+        () -> exportJavaSource(writer, "test", "null", List.of(), Map.of()));
+
+    assertDoesNotThrow(() -> exportJavaSource(writer, "", "Catalog", List.of(), Map.of()));
+    assertDoesNotThrow(() -> exportJavaSource(writer, "de.sayayi.$test", "Catalög_1", List.of(), Map.of()));
+  }
+
+
+  @Test
+  @DisplayName("Java string literal")
+  void testJavaString()
+  {
+    assertEquals("\"\"", JavaSourceSupport.javaString(""));
+    assertEquals("\"a\\\"b\\\\c\\n\\t\"", JavaSourceSupport.javaString("a\"b\\c\n\t"));
+    assertEquals("\"\\u00e4\\u20ac\"", JavaSourceSupport.javaString("ä€"));
+  }
+
+
+  private static ConfigurableMessageSupport createMessageSupport()
+  {
+    val formatterService = new GenericFormatterService();
+    formatterService.addPostFormatter(new ClipPostFormatter());
+
+    return MessageSupportFactory.create(formatterService);
+  }
+
+
+  private static Message requireTemplate(ConfigurableMessageSupport cms, String name)
+  {
+    val template = cms.getMessageAccessor().getTemplateByName(name);
+
+    assertNotNull(template, name);
+
+    return template;
+  }
+
+
+  private static ConfigurableMessageSupport compileAndConfigure(Path tempDir, String packageName, String className,
+                                                                Collection<? extends Message.WithCode> messages,
+                                                                Map<String,? extends Message> templates)
+      throws Exception
+  {
+    val sourceDir = Files.createDirectories(tempDir.resolve("src").resolve(packageName.replace('.', '/')));
+    val classesDir = Files.createDirectories(tempDir.resolve("classes"));
+    val sourceFile = sourceDir.resolve(className + ".java");
+
+    try(val writer = Files.newBufferedWriter(sourceFile, UTF_8)) {
+      exportJavaSource(writer, packageName, className, messages, templates);
+    }
+
+    val messageFormatClasses = Path.of(MessageSupport.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    val result = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-proc:none",
+        "-classpath", messageFormatClasses + File.pathSeparator + System.getProperty("java.class.path"),
+        "-d", classesDir.toString(), sourceFile.toString());
+
+    assertEquals(0, result, "compilation failed");
+
+    val cms = createMessageSupport();
+
+    try(val classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() },
+        JavaSourceSupportTest.class.getClassLoader())) {
+      classLoader
+          .loadClass(packageName.isEmpty() ? className : packageName + '.' + className)
+          .getMethod("configure", ConfigurableMessageSupport.class)
+          .invoke(null, cms);
+    }
+
+    return cms;
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.metrics;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.ParameterSlots;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.part.normalizer.LRUMessagePartNormalizer;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import javax.management.JMException;
+import javax.management.openmbean.CompositeData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static de.sayayi.lib.message.internal.part.config.MessagePartConfig.EMPTY_CONFIG;
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.util.Locale.ROOT;
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("JMX message metrics")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class JmxMessageMetricsTest
+{
+  @Test
+  @DisplayName("Report parse times and message cache statistics")
+  void testMessageCache()
+  {
+    val metrics = new JmxMessageMetrics();
+    val messageFactory = new MessageFactory(PASS_THROUGH, 2);
+
+    messageFactory.setMetrics(metrics);
+
+    messageFactory.parseMessage("a %{a}");
+    messageFactory.parseMessage("a %{a}");
+    messageFactory.parseMessage("b %{b}");
+    messageFactory.parseMessage("c %{c}");
+
+    assertEquals(3, metrics.getParseCount());
+    assertTrue(metrics.getParseTimeNanos() > 0);
+    assertEquals(new MessageMetricsMXBean.CacheStatistics(1, 3, 1, 0.25), metrics.getMessageCacheStatistics());
+  }
+
+
+  @Test
+  @DisplayName("Report normalizer statistics")
+  void testNormalizer()
+  {
+    val metrics = new JmxMessageMetrics();
+    val messageFactory = new MessageFactory(LRUMessagePartNormalizer.create(16));
+
+    messageFactory.setMetrics(metrics);
+    messageFactory.parseMessage("%{a}");
+    messageFactory.parseMessage("%{a}");
+
+    val statistics = metrics.getNormalizerStatistics();
+
+    assertTrue(statistics.hitCount() > 0);
+    assertTrue(statistics.missCount() > 0);
+    assertEquals(0, statistics.evictionCount());
+  }
+
+
+  @Test
+  @DisplayName("Report format statistics")
+  void testFormat()
+  {
+    val metrics = new JmxMessageMetrics();
+    val messageSupport = MessageSupportFactory
+        .create(new GenericFormatterService(), new MessageFactory(PASS_THROUGH))
+        .addMessage("msg", "Hello %{name}")
+        .setMetrics(metrics);
+
+    assertEquals("Hello Joe", messageSupport.code("msg").with("name", "Joe").format());
+    assertEquals("Hello Jim", messageSupport.code("msg").with("name", "Jim").formatSupplier().get());
+    assertEquals("text", messageSupport.message("text").format());
+    assertEquals("Hello Ann", messageSupport.format(messageSupport.getMessageAccessor().getMessageByCode("msg"),
+        ParameterSlots.of("name").bind(ROOT, "Ann")));
+
+    assertEquals(4, metrics.getFormatStatistics().count());
+
+    val statisticsByCode = metrics.getFormatStatisticsByCode();
+
+    assertEquals(1, statisticsByCode.size());
+    assertEquals(3, statisticsByCode.get("msg").count());
+
+    metrics.reset();
+
+    assertEquals(0, metrics.getFormatStatistics().count());
+    assertTrue(metrics.getFormatStatisticsByCode().isEmpty());
+  }
+
+
+  @Test
+  @DisplayName("Limit number of message codes")
+  void testMaxCodes()
+  {
+    val metrics = new JmxMessageMetrics(2);
+
+    metrics.messageFormatted("a", 100);
+    metrics.messageFormatted("b", 100);
+    metrics.messageFormatted("c", 100);
+    metrics.messageFormatted(null, 100);
+
+    assertEquals(4, metrics.getFormatStatistics().count());
+    assertEquals(Map.of("a", 1L, "b", 1L), metrics.getFormatStatisticsByCode().entrySet().stream()
+        .collect(toMap(Entry::getKey, entry -> entry.getValue().count())));
+
+    assertThrowsExactly(IllegalArgumentException.class, () -> new JmxMessageMetrics(-1));
+  }
+
+
+  @Test
+  @DisplayName("Estimate format time percentiles")
+  void testPercentiles()
+  {
+    val metrics = new JmxMessageMetrics();
+
+    for(int n = 0; n < 98; n++)
+      metrics.messageFormatted(null, 500);
+    metrics.messageFormatted(null, 3000);
+    metrics.messageFormatted(null, 100_000);
+
+    val statistics = metrics.getFormatStatistics();
+
+    assertEquals(100, statistics.count());
+    assertEquals(100_000, statistics.maxTimeNanos());
+    assertEquals((98 * 500 + 3000 + 100_000) / 100, statistics.meanTimeNanos());
+    assertEquals(1024, statistics.p50TimeNanos());
+    assertEquals(1024, statistics.p90TimeNanos());
+    assertEquals(4096, statistics.p99TimeNanos());
+    assertEquals(98, statistics.histogram()[0]);
+    assertEquals(1, statistics.histogram()[2]);
+    assertEquals(1, statistics.histogram()[7]);
+  }
+
+
+  @Test
+  @DisplayName("Report formatter cache statistics")
+  void testFormatterCache()
+  {
+    val metrics = new JmxMessageMetrics();
+    val formatterService = new GenericFormatterService(8);
+
+    formatterService.setMetrics(metrics);
+    assertSame(metrics, formatterService.getMetrics());
+
+    formatterService.getFormatters(null, String.class, EMPTY_CONFIG);
+    formatterService.getFormatters(null, String.class, EMPTY_CONFIG);
+    formatterService.getFormatters(null, Integer.class, EMPTY_CONFIG);
+
+    assertEquals(new MessageMetricsMXBean.CacheStatistics(1, 2, 0, 1.0 / 3),
+        metrics.getFormatterCacheStatistics());
+  }
+
+
+  @Test
+  @DisplayName("Report pack import")
+  void testPackImport() throws IOException
+  {
+    val messageFactory = new MessageFactory(PASS_THROUGH);
+    val pack = new ByteArrayOutputStream();
+
+    MessageSupportFactory
+        .create(new GenericFormatterService(), messageFactory)
+        .addMessage("m1", "message 1 %[t]")
+        .addMessage("m2", "message 2")
+        .addTemplate("t", messageFactory.parseTemplate("template"))
+        .exportMessages(pack);
+
+    val metrics = new JmxMessageMetrics();
+    val messageSupport = MessageSupportFactory
+        .create(new GenericFormatterService(), messageFactory)
+        .setMetrics(metrics)
+        .importMessages(new ByteArrayInputStream(pack.toByteArray()));
+
+    assertEquals("message 1 template", messageSupport.code("m1").format());
+    assertEquals(1, metrics.getPackImportCount());
+    assertEquals(2, metrics.getImportedMessageCount());
+    assertEquals(1, metrics.getImportedTemplateCount());
+    assertTrue(metrics.getLastPackImportTimeNanos() > 0);
+    assertEquals(metrics.getLastPackImportTimeNanos(), metrics.getPackImportTimeNanos());
+  }
+
+
+  @Test
+  @DisplayName("Register with platform MBean server")
+  void testRegister() throws JMException
+  {
+    val metrics = new JmxMessageMetrics();
+    val objectName = metrics.register("test");
+    val mbeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    try {
+      assertEquals(JmxMessageMetrics.DOMAIN, objectName.getDomain());
+      assertTrue(mbeanServer.isRegistered(objectName));
+      assertThrowsExactly(IllegalStateException.class, () -> metrics.register("test"));
+
+      metrics.messageFormatted("code", 2000);
+      metrics.cacheHit(MessageMetrics.Cache.MESSAGE);
+
+      assertEquals(0L, mbeanServer.getAttribute(objectName, "ParseCount"));
+      assertEquals(1L, ((CompositeData)mbeanServer.getAttribute(objectName, "FormatStatistics")).get("count"));
+      assertEquals(1.0, ((CompositeData)mbeanServer.getAttribute(objectName, "MessageCacheStatistics"))
+          .get("hitRate"));
+
+      mbeanServer.invoke(objectName, "reset", null, null);
+      assertEquals(0, metrics.getFormatStatistics().count());
+    } finally {
+      metrics.unregister();
+    }
+
+    assertFalse(mbeanServer.isRegistered(objectName));
+  }
+}
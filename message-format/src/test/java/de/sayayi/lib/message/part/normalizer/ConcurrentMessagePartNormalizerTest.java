@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.part.normalizer;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.internal.part.TextPart;
+import de.sayayi.lib.message.util.CacheStatistics;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Concurrent message part normalizer")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class ConcurrentMessagePartNormalizerTest
+{
+  @Test
+  @DisplayName("Normalize and collect statistics")
+  void testNormalize()
+  {
+    val normalizer = new ConcurrentMessagePartNormalizer(64, 4);
+    val mp1 = new TextPart("mp1");
+    val mp2 = new TextPart("mp2");
+
+    assertEquals(4, normalizer.getStripeCount());
+    assertSame(mp1, normalizer.normalize(mp1));
+    assertSame(mp2, normalizer.normalize(mp2));
+    assertSame(mp1, normalizer.normalize(new TextPart("mp1")));
+    assertSame(mp2, normalizer.normalize(new TextPart("mp2")));
+
+    val statistics = normalizer.getStatistics();
+
+    assertEquals(2, statistics.hitCount());
+    assertEquals(2, statistics.missCount());
+    assertEquals(0, statistics.evictionCount());
+    assertEquals(2, statistics.size());
+    assertEquals(0.5, statistics.hitRate());
+
+    normalizer.clear();
+
+    assertEquals(new CacheStatistics(0, 0, 0, 0), normalizer.getStatistics());
+    assertEquals(0.0, normalizer.getStatistics().hitRate());
+  }
+
+
+  @Test
+  @DisplayName("Evict least recently used parts")
+  void testEviction()
+  {
+    val normalizer = new ConcurrentMessagePartNormalizer(4, 8);
+    val mp1 = new TextPart("mp1");
+    val mp2 = new TextPart("mp2");
+
+    assertEquals(1, normalizer.getStripeCount());
+
+    normalizer.normalize(mp1);
+    normalizer.normalize(mp2);
+    for(int n = 3; n <= 8; n++)
+    {
+      normalizer.normalize(new TextPart("mp" + n));
+      assertSame(mp1, normalizer.normalize(new TextPart("mp1")));
+    }
+
+    val statistics = normalizer.getStatistics();
+
+    assertEquals(4, statistics.size());
+    assertEquals(4, statistics.evictionCount());
+    assertNotSame(mp2, normalizer.normalize(new TextPart("mp2")));
+  }
+
+
+  @Test
+  @DisplayName("Invalid arguments")
+  void testInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentMessagePartNormalizer(0));
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentMessagePartNormalizer(16, 0));
+  }
+
+
+  @Test
+  @DisplayName("Concurrent parsing")
+  void testConcurrentParsing() throws Exception
+  {
+    val normalizer = new ConcurrentMessagePartNormalizer(1024, 8);
+    val messageFactory = new MessageFactory(normalizer);
+    val tasks = new ArrayList<Callable<Void>>();
+
+    for(int t = 0; t < 8; t++)
+    {
+      tasks.add(() -> {
+        for(int n = 0; n < 500; n++)
+        {
+          val message = messageFactory.parseMessage("text " + (n % 50) + " %{p" + (n % 20) + ",format:number} end");
+
+          for(var part: message.getMessageParts())
+            assertSame(part, normalizer.normalize(part));
+        }
+
+        return null;
+      });
+    }
+
+    try(var executor = Executors.newFixedThreadPool(8)) {
+      for(var future: executor.invokeAll(tasks))
+        future.get();
+    }
+
+    val statistics = normalizer.getStatistics();
+
+    assertEquals(0, statistics.evictionCount());
+    assertTrue(statistics.size() <= 50 + 20 + 1);
+    assertTrue(statistics.hitRate() > 0.9);
+  }
+}
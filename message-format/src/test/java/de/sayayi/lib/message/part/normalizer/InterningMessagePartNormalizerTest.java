@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.part.normalizer;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.Message.Parameters;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.MessageAccessor;
+import de.sayayi.lib.message.internal.part.TextPart;
+import de.sayayi.lib.message.part.MessagePart.Parameter;
+import de.sayayi.lib.message.part.MessagePart.Text;
+import de.sayayi.lib.message.util.CacheStatistics;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static de.sayayi.lib.message.util.MessageUtil.exportMessages;
+import static de.sayayi.lib.message.util.MessageUtil.importMessages;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Interning message part normalizer")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class InterningMessagePartNormalizerTest
+{
+  @Test
+  @DisplayName("Intern parts and collect statistics")
+  void testNormalize()
+  {
+    val normalizer = new InterningMessagePartNormalizer(4);
+    val mp1 = new TextPart("mp1");
+
+    assertSame(mp1, normalizer.normalize(mp1));
+    assertSame(mp1, normalizer.normalize(new TextPart("mp1")));
+
+    val statistics = normalizer.getStatistics();
+
+    assertEquals(1, statistics.hitCount());
+    assertEquals(1, statistics.missCount());
+    assertEquals(1, statistics.size());
+    assertEquals(0.5, statistics.hitRate());
+
+    normalizer.clear();
+
+    assertEquals(new CacheStatistics(0, 0, 0, 0), normalizer.getStatistics());
+    assertNotSame(mp1, normalizer.normalize(new TextPart("mp1")));
+  }
+
+
+  @Test
+  @DisplayName("Replace equal parts of a different class")
+  void testNormalizeOtherClass()
+  {
+    val normalizer = new InterningMessagePartNormalizer(4);
+    val foreignText = new ForeignText(new TextPart("mp1"));
+    val mp1 = new TextPart("mp1");
+
+    assertEquals(mp1, foreignText);
+    assertSame(foreignText, normalizer.normalize(foreignText));
+    assertSame(mp1, normalizer.normalize(mp1));
+    assertSame(mp1, normalizer.normalize(new TextPart("mp1")));
+
+    assertEquals(new CacheStatistics(1, 2, 0, 1), normalizer.getStatistics());
+  }
+
+
+  @Test
+  @DisplayName("Share components between parsed messages")
+  void testParse()
+  {
+    val messageFactory = new MessageFactory(new InterningMessagePartNormalizer());
+    val p1 = parameter(messageFactory.parseMessage("a %{n,format:number,number:'0000',1:'one',:'many'}"));
+    val p2 = parameter(messageFactory.parseMessage("b %{n,format:number,number:'0000',1:'one',:'many'}"));
+    val p3 = parameter(messageFactory.parseMessage("c %{m,format:number,number:'0000',1:'one',:'many'}"));
+
+    assertSame(p1, p2);
+    assertNotSame(p1, p3);
+    assertSame(p1.getConfig(), p3.getConfig());
+    assertSame(p1.getMap(), p3.getMap());
+  }
+
+
+  @Test
+  @DisplayName("Share parts between built and parsed messages")
+  void testBuilder()
+  {
+    val messageFactory = new MessageFactory(new InterningMessagePartNormalizer());
+    val parsed = messageFactory.parseMessage("%{n,format:number,1:'one'}");
+    val built = messageFactory.messageBuilder()
+        .parameter("n")
+            .withFormat("number")
+            .mapNumber(1).message("one")
+        .build();
+
+    assertSame(parsed.getMessageParts()[0], built.getMessageParts()[0]);
+  }
+
+
+  @Test
+  @DisplayName("Share parts between parsed and imported messages")
+  void testImport() throws IOException
+  {
+    val normalizer = new InterningMessagePartNormalizer();
+    val messageFactory = new MessageFactory(normalizer);
+    val message = messageFactory.parseMessage("MSG-1", "hello %{name,!empty:'dear %{name}',:'world'}!");
+    val byteStream = new ByteArrayOutputStream();
+
+    exportMessages(byteStream, false, List.of(message), Map.of());
+
+    val messages = new ArrayList<Message.WithCode>();
+    importMessages(new ByteArrayInputStream(byteStream.toByteArray()), normalizer, messages::add,
+        (name, template) -> {});
+
+    assertEquals(1, messages.size());
+
+    val importedParts = messages.getFirst().getMessageParts();
+    val parts = message.getMessageParts();
+
+    assertEquals(parts.length, importedParts.length);
+    for(int n = 0; n < parts.length; n++)
+      assertSame(parts[n], importedParts[n]);
+  }
+
+
+  private static Parameter parameter(Message message) {
+    return (Parameter)message.getMessageParts()[1];
+  }
+
+
+
+  private record ForeignText(@NotNull TextPart delegate) implements Text
+  {
+    @Override
+    public @NotNull Text getText(@NotNull MessageAccessor messageAccessor, @NotNull Parameters parameters) {
+      return delegate.getText(messageAccessor, parameters);
+    }
+
+
+    @Override
+    public String getText() {
+      return delegate.getText();
+    }
+
+
+    @Override
+    public @NotNull String getTextNotNull() {
+      return delegate.getTextNotNull();
+    }
+
+
+    @Override
+    public @NotNull String getTextWithSpaces() {
+      return delegate.getTextWithSpaces();
+    }
+
+
+    @Override
+    public boolean isEmpty() {
+      return delegate.isEmpty();
+    }
+
+
+    @Override
+    public boolean isSpaceBefore() {
+      return delegate.isSpaceBefore();
+    }
+
+
+    @Override
+    public boolean isSpaceAfter() {
+      return delegate.isSpaceAfter();
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+      return delegate.equals(o);
+    }
+
+
+    @Override
+    public int hashCode() {
+      return delegate.hashCode();
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.trace;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.formatter.parameter.named.ChoiceFormatter;
+import de.sayayi.lib.message.formatter.parameter.runtime.NumberFormatter;
+import de.sayayi.lib.message.formatter.post.runtime.CasePostFormatter;
+import de.sayayi.lib.message.internal.trace.Tracer;
+import de.sayayi.lib.message.trace.FormatTrace.Node;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static de.sayayi.lib.message.trace.FormatTrace.Kind.*;
+import static java.util.Locale.UK;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Format trace")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class FormatTraceTest
+{
+  @Test
+  @DisplayName("Trace parameters, formatters, map keys, templates and post formatters")
+  void testTrace()
+  {
+    val messageSupport = createMessageSupport();
+    val trace = messageSupport
+        .code("msg")
+        .with("n", 3)
+        .with("name", "joe")
+        .formatWithTrace();
+
+    assertEquals("3 items JOE", trace.text());
+    assertNull(Tracer.current());
+
+    val root = trace.root();
+
+    assertEquals(MESSAGE, root.kind());
+    assertEquals("msg", root.name());
+    assertEquals("3 items JOE", root.result());
+    assertTrue(root.durationNanos() > 0);
+
+    val parameters = root.find(PARAMETER);
+
+    assertEquals("n", parameters.getFirst().name());
+    assertEquals("java.lang.Integer", parameters.getFirst().detail());
+    assertEquals("3 items", parameters.getFirst().result());
+    assertEquals("name", parameters.getLast().name());
+
+    val formatter = parameters.getFirst().children().getFirst();
+
+    assertEquals(FORMATTER, formatter.kind());
+    assertEquals("NumberFormatter", formatter.name());
+    assertTrue(formatter.detail().startsWith("#1 of NumberFormatter"));
+
+    val map = root.find(MAP);
+
+    assertEquals(1, map.size());
+    assertEquals("3", map.getFirst().name());
+    assertEquals(">1", map.getFirst().result());
+    assertEquals(List.of("1", ">1"), map.getFirst().children().stream().map(Node::name).toList());
+    assertEquals("MISMATCH(0)", map.getFirst().children().getFirst().result());
+
+    val template = root.find(TEMPLATE);
+
+    assertEquals(1, template.size());
+    assertEquals("who", template.getFirst().name());
+    assertEquals("joe", template.getFirst().result());
+
+    val postFormatter = root.find(POST_FORMATTER);
+
+    assertEquals(1, postFormatter.size());
+    assertEquals("case", postFormatter.getFirst().name());
+    assertEquals(root.find(TEMPLATE), postFormatter.getFirst().find(TEMPLATE));
+
+    assertTrue(trace.toString().startsWith("MESSAGE msg = \"3 items JOE\" ("));
+    assertTrue(trace.toString().contains("\n      MAP 3 = \">1\" ("));
+  }
+
+
+  @Test
+  @DisplayName("Trace default map entry")
+  void testDefaultMapEntry()
+  {
+    val trace = createMessageSupport()
+        .message("%{s,format:choice,'a':'first',:'other'}")
+        .with("s", "b")
+        .formatWithTrace();
+
+    assertEquals("other", trace.text());
+    assertNull(trace.root().name());
+    assertEquals("default", trace.root().find(MAP).getFirst().result());
+  }
+
+
+  @Test
+  @DisplayName("Trace failed formatting")
+  void testFailure()
+  {
+    val configurer = createMessageSupport().message("%(unknown,'%{a}')").with("a", 1);
+
+    assertThrows(RuntimeException.class, configurer::formatWithTrace);
+    assertNull(Tracer.current());
+  }
+
+
+  private static ConfigurableMessageSupport createMessageSupport()
+  {
+    val messageFactory = new MessageFactory(PASS_THROUGH);
+    val formatterService = new GenericFormatterService();
+
+    formatterService.addFormatter(new ChoiceFormatter());
+    formatterService.addFormatter(new NumberFormatter());
+    formatterService.addPostFormatter(new CasePostFormatter());
+
+    return MessageSupportFactory
+        .create(formatterService, messageFactory)
+        .setLocale(UK)
+        .addMessage("msg", "%{n,1:'one item',>1:'%{n} items'} %(case,'%[who]',case:upper)")
+        .addTemplate("who", messageFactory.parseTemplate("%{name}"));
+  }
+}
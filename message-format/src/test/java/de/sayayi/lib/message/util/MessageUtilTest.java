@@ -18,10 +18,22 @@ package de.sayayi.lib.message.util;
 import de.sayayi.lib.message.FormatStringSerializer;
 import de.sayayi.lib.message.Message;
 import de.sayayi.lib.message.MessageBuilder;
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import lombok.val;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
 import static de.sayayi.lib.message.util.MessageUtil.*;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.*;
@@ -389,6 +401,64 @@ final class MessageUtilTest
   }
 
 
+  @Test
+  @DisplayName("export and import messages and templates")
+  void testExportImportMessages() throws IOException
+  {
+    val messageFactory = MessageFactory.getSharedInstance();
+    val byteStream = new ByteArrayOutputStream();
+
+    exportMessages(byteStream, false,
+        List.of(messageFactory.parseMessage("MSG-1", "message %[tpl]")),
+        Map.of("tpl", messageFactory.parseTemplate("template"), "unused", messageFactory.parseTemplate("unused")));
+
+    val messages = new ArrayList<Message.WithCode>();
+    val templates = new TreeMap<String,Message>();
+
+    importMessages(new ByteArrayInputStream(byteStream.toByteArray()), messages::add, templates::put);
+
+    assertEquals(1, messages.size());
+    assertEquals("MSG-1", messages.getFirst().getCode());
+    assertEquals(Set.of("tpl", "unused"), templates.keySet());
+  }
+
+
+  @Test
+  @DisplayName("parameter names")
+  void testGetParameterNames()
+  {
+    val messageSupport = MessageSupportFactory.create(new GenericFormatterService(),
+        new MessageFactory(PASS_THROUGH));
+    val messageAccessor = messageSupport.getMessageAccessor();
+    val messageFactory = messageAccessor.getMessageFactory();
+
+    messageSupport.addTemplate("tpl", messageFactory.parseTemplate("%{x} %{y,true:'%{z}'}"));
+
+    assertEquals(List.of(), List.copyOf(getParameterNames(messageAccessor, messageFactory.parseMessage("text"))));
+    assertEquals(List.of("a", "b", "c", "d", "e"), List.copyOf(getParameterNames(messageAccessor,
+        messageFactory.parseMessage("%{a,1:'%{b}',:d} %(clip,'%{c}',clip:5) %{e,msg:'%{d}'}"))));
+    assertEquals(List.of("v", "y", "z"), List.copyOf(getParameterNames(messageAccessor,
+        messageFactory.parseMessage("%[tpl,x->v] %[missing]"))));
+    assertEquals(List.of("a", "b"), List.copyOf(getParameterNames(messageAccessor,
+        messageFactory.parseMessage("MSG", Map.of(Locale.ROOT, "%{a}", Locale.GERMAN, "%{b}")))));
+  }
+
+
+  @Test
+  @DisplayName("parse numbers")
+  void testParseNumber()
+  {
+    assertEquals(42L, parseNumber("42"));
+    assertEquals(-7L, parseNumber("-7"));
+    assertEquals(new BigInteger("123456789012345678901234567890"), parseNumber("123456789012345678901234567890"));
+    assertEquals(new BigDecimal("1.50"), parseNumber("1.50"));
+    assertEquals(new BigDecimal(".5"), parseNumber(".5"));
+    assertNull(parseNumber(""));
+    assertNull(parseNumber("abc"));
+    assertNull(parseNumber("1a"));
+  }
+
+
 
 
   @Nested
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.warmup;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.formatter.parameter.runtime.NumberFormatter;
+import de.sayayi.lib.message.metrics.MessageMetrics;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.sayayi.lib.message.metrics.MessageMetrics.Cache.FORMATTER;
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.util.Locale.GERMANY;
+import static java.util.Locale.UK;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Warm-up")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class WarmUpTest
+{
+  @Test
+  @DisplayName("Warm up parses map messages and resolves formatters")
+  void testWarmUp()
+  {
+    val metrics = new CountingMetrics();
+    val messageSupport = createMessageSupport(metrics);
+
+    assertEquals(1, messageSupport.warmUp(List.of("items", "unknown"), Map.of("n", Double.class)));
+    assertEquals(0, metrics.formatted.get());
+
+    val parsed = metrics.parsed.get();
+    val formatterCacheMisses = metrics.formatterCacheMisses.get();
+
+    assertEquals("2.5 items", messageSupport.code("items").with("n", 2.5).format());
+    assertEquals(parsed, metrics.parsed.get());
+    assertEquals(formatterCacheMisses, metrics.formatterCacheMisses.get());
+  }
+
+
+  @Test
+  @DisplayName("Record warm-up profile")
+  void testRecordProfile() throws IOException
+  {
+    val messageSupport = createMessageSupport(MessageMetrics.DISABLED);
+    val recorder = new WarmUpProfileRecorder();
+
+    messageSupport.setWarmUpProfileRecorder(recorder);
+    messageSupport.code("items").with("n", 1).format();
+    messageSupport.code("items").with("n", 2L).format();
+    messageSupport.code("items").locale(GERMANY).with("n", 1.5).with("s", null).format();
+    messageSupport.message("%{n}").with("n", 1).format();
+
+    val profile = recorder.getProfile();
+
+    assertEquals(2, profile.entries().size());
+    assertEquals(new WarmUpProfile.Entry("items", GERMANY, Map.of("n", Set.of(Double.class))),
+        profile.entries().get(0));
+    assertEquals(new WarmUpProfile.Entry("items", UK, Map.of("n", Set.of(Integer.class, Long.class))),
+        profile.entries().get(1));
+
+    val writer = new StringWriter();
+    profile.write(writer);
+
+    assertEquals("""
+        # message format warm-up profile
+        items\tde-DE\tn=java.lang.Double
+        items\ten-GB\tn=java.lang.Integer\tn=java.lang.Long
+        """, writer.toString());
+
+    assertEquals(profile, WarmUpProfile.read(new StringReader(writer.toString())));
+    assertEquals(2, createMessageSupport(MessageMetrics.DISABLED).warmUp(profile));
+
+    recorder.clear();
+    assertTrue(recorder.getProfile().entries().isEmpty());
+  }
+
+
+  @Test
+  @DisplayName("Warm up does not parse configuration values which are not messages")
+  void testWarmUpConfig()
+  {
+    val metrics = new CountingMetrics();
+    val messageSupport = createMessageSupport(metrics)
+        .addMessage("price", "%{n,number:'0.00'}");
+
+    val parsed = metrics.parsed.get();
+
+    assertEquals(1, messageSupport.warmUp(List.of("price"), Map.of("n", Double.class)));
+    assertEquals(parsed, metrics.parsed.get());
+  }
+
+
+  @Test
+  @DisplayName("Record limited warm-up profile")
+  void testRecordProfileLimit()
+  {
+    val messageSupport = createMessageSupport(MessageMetrics.DISABLED)
+        .addMessage("other", "%{n}");
+    val recorder = new WarmUpProfileRecorder(1);
+
+    messageSupport.setWarmUpProfileRecorder(recorder);
+    messageSupport.code("items").with("n", 1).format();
+    messageSupport.code("other").with("n", 1).format();
+
+    assertEquals(List.of(new WarmUpProfile.Entry("items", UK, Map.of("n", Set.of(Integer.class)))),
+        recorder.getProfile().entries());
+
+    // existing entries are still updated once the profile is full
+    messageSupport.code("items").with("n", 2L).format();
+
+    assertEquals(List.of(new WarmUpProfile.Entry("items", UK, Map.of("n", Set.of(Integer.class, Long.class)))),
+        recorder.getProfile().entries());
+
+    recorder.clear();
+    messageSupport.code("other").with("n", 1).format();
+
+    assertEquals(List.of(new WarmUpProfile.Entry("other", UK, Map.of("n", Set.of(Integer.class)))),
+        recorder.getProfile().entries());
+    assertThrows(IllegalArgumentException.class, () -> new WarmUpProfileRecorder(0));
+  }
+
+
+  @Test
+  @DisplayName("Read warm-up profile with unknown types")
+  void testReadProfile() throws IOException
+  {
+    val profile = WarmUpProfile.read(new StringReader("""
+        # comment
+        code\t-\ta=java.lang.String\tb=com.example.Unknown
+
+        """));
+
+    assertEquals(List.of(new WarmUpProfile.Entry("code", null, Map.of("a", Set.of(String.class)))),
+        profile.entries());
+    assertThrows(IOException.class, () -> WarmUpProfile.read(new StringReader("code")));
+  }
+
+
+  private static ConfigurableMessageSupport createMessageSupport(@NotNull MessageMetrics metrics)
+  {
+    val messageFactory = new MessageFactory(PASS_THROUGH);
+    val formatterService = new GenericFormatterService();
+
+    messageFactory.setMetrics(metrics);
+    formatterService.setMetrics(metrics);
+    formatterService.addFormatter(new NumberFormatter());
+
+    return MessageSupportFactory
+        .create(formatterService, messageFactory)
+        .setMetrics(metrics)
+        .setLocale(UK)
+        .addMessage("items", "%{n,1:'one item',>1:'%{n} items'}");
+  }
+
+
+
+
+  private static final class CountingMetrics implements MessageMetrics
+  {
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final AtomicInteger formatted = new AtomicInteger();
+    private final AtomicInteger formatterCacheMisses = new AtomicInteger();
+
+
+    @Override
+    public void messageParsed(boolean template, long nanos) {
+      parsed.incrementAndGet();
+    }
+
+
+    @Override
+    public void messageFormatted(String code, long nanos) {
+      formatted.incrementAndGet();
+    }
+
+
+    @Override
+    public void cacheMiss(@NotNull Cache cache)
+    {
+      if (cache == FORMATTER)
+        formatterCacheMisses.incrementAndGet();
+    }
+  }
+}
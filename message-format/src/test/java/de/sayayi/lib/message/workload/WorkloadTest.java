@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.lib.message.workload;
+
+import de.sayayi.lib.message.MessageFactory;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import de.sayayi.lib.message.formatter.parameter.runtime.NumberFormatter;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+
+import static de.sayayi.lib.message.part.normalizer.MessagePartNormalizer.PASS_THROUGH;
+import static java.io.ObjectInputFilter.Status.UNDECIDED;
+import static java.util.Locale.GERMANY;
+import static java.util.Locale.UK;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+@DisplayName("Workload capture and replay")
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+final class WorkloadTest
+{
+  @Test
+  @DisplayName("Capture format calls")
+  void testCapture() throws IOException
+  {
+    val messageSupport = createMessageSupport();
+    val log = new ByteArrayOutputStream();
+
+    try(val recorder = new WorkloadRecorder(log)) {
+      messageSupport.setWorkloadRecorder(recorder);
+
+      messageSupport.code("items").with("n", 3).format();
+      messageSupport.code("items").locale(GERMANY).with("n", 1L).format();
+      messageSupport
+          .message("%{a} %{b} %{c} %{d} %{e} %{f}")
+          .with("a", new BigDecimal("1.50"))
+          .with("b", LocalDate.of(2026, 10, 19))
+          .with("c", DayOfWeek.MONDAY)
+          .with("d", new Object() {
+            @Override
+            public String toString() {
+              return "object";
+            }
+          })
+          .with("e", (Object)null)
+          .with("f", 'x')
+          .format();
+
+      assertEquals(3, recorder.getRecordedCalls());
+    }
+
+    val calls = Workload.read(new ByteArrayInputStream(log.toByteArray())).calls();
+
+    assertEquals(3, calls.size());
+
+    assertEquals("items", calls.get(0).code());
+    assertNull(calls.get(0).message());
+    assertEquals(UK, calls.get(0).locale());
+    assertEquals(3, calls.get(0).parameters().get("n"));
+
+    assertEquals(GERMANY, calls.get(1).locale());
+    assertEquals(1L, calls.get(1).parameters().get("n"));
+
+    val parameters = calls.get(2).parameters();
+
+    assertNull(calls.get(2).code());
+    assertEquals("%{a} %{b} %{c} %{d} %{e} %{f}", calls.get(2).message());
+    assertEquals(new BigDecimal("1.50"), parameters.get("a"));
+    assertEquals(LocalDate.of(2026, 10, 19), parameters.get("b"));
+    assertEquals(DayOfWeek.MONDAY, parameters.get("c"));
+    assertEquals("object", parameters.get("d"));
+    assertTrue(parameters.containsKey("e"));
+    assertNull(parameters.get("e"));
+    assertEquals('x', parameters.get("f"));
+  }
+
+
+  @Test
+  @DisplayName("Reject serialized values of classes not allowed")
+  void testValueFilter() throws IOException
+  {
+    val messageSupport = createMessageSupport();
+    val log = new ByteArrayOutputStream();
+
+    try(val recorder = new WorkloadRecorder(log)) {
+      messageSupport.setWorkloadRecorder(recorder);
+      messageSupport.message("%{a}").with("a", new Amount(42)).format();
+    }
+
+    val bytes = log.toByteArray();
+    val ex = assertThrows(IOException.class, () -> Workload.read(new ByteArrayInputStream(bytes)));
+
+    assertInstanceOf(InvalidClassException.class, ex.getCause());
+
+    val calls = Workload.read(new ByteArrayInputStream(bytes),
+        ObjectInputFilter.allowFilter(Amount.class::equals, UNDECIDED)).calls();
+
+    assertEquals(new Amount(42), calls.getFirst().parameters().get("a"));
+  }
+
+
+  @Test
+  @DisplayName("Capture parameter values at format time")
+  void testCaptureSnapshot() throws IOException
+  {
+    val messageSupport = createMessageSupport();
+    val log = new ByteArrayOutputStream();
+    val text = new Text("before");
+
+    try(val recorder = new WorkloadRecorder(log)) {
+      messageSupport.setWorkloadRecorder(recorder);
+      messageSupport.message("%{a} %{b}").with("a", text).with("b", new Unserializable()).format();
+      text.value = "after";
+      messageSupport.code("items").with("n", 2).format();
+    }
+
+    val calls = Workload.read(new ByteArrayInputStream(log.toByteArray())).calls();
+
+    assertEquals(2, calls.size());
+    assertEquals("before", calls.get(0).parameters().get("a"));
+    assertEquals("unserializable", calls.get(0).parameters().get("b"));
+    assertEquals(2, calls.get(1).parameters().get("n"));
+  }
+
+
+  @Test
+  @DisplayName("Capture format calls from multiple threads")
+  void testConcurrentCapture() throws IOException
+  {
+    val messageSupport = createMessageSupport();
+    val log = new ByteArrayOutputStream();
+    val recorder = new WorkloadRecorder(log);
+
+    messageSupport.setWorkloadRecorder(recorder);
+
+    try(var executor = Executors.newFixedThreadPool(4)) {
+      for(int t = 0; t < 4; t++)
+        executor.submit(() -> {
+          for(int n = 0; n < 500; n++)
+            messageSupport.code("items").with("n", n).format();
+        });
+    }
+
+    recorder.close();
+
+    assertEquals(2000, recorder.getRecordedCalls() + recorder.getDroppedCalls());
+    assertEquals(recorder.getRecordedCalls(),
+        Workload.read(new ByteArrayInputStream(log.toByteArray())).calls().size());
+  }
+
+
+  @Test
+  @DisplayName("Capture limited number of format calls")
+  void testMaxCalls() throws IOException
+  {
+    val messageSupport = createMessageSupport();
+    val log = new ByteArrayOutputStream();
+
+    try(val recorder = new WorkloadRecorder(log, 2)) {
+      messageSupport.setWorkloadRecorder(recorder);
+
+      for(int n = 0; n < 5; n++)
+        messageSupport.code("items").with("n", n).format();
+    }
+
+    assertEquals(2, Workload.read(new ByteArrayInputStream(log.toByteArray())).calls().size());
+  }
+
+
+  @Test
+  @DisplayName("Read truncated workload log")
+  void testTruncatedLog() throws IOException
+  {
+    val messageSupport = createMessageSupport();
+    val log = new ByteArrayOutputStream();
+    val recorder = new WorkloadRecorder(log);
+
+    messageSupport.setWorkloadRecorder(recorder);
+    messageSupport.code("items").with("n", 1).format();
+    messageSupport.code("items").with("n", 2).with("s", "text").format();
+    recorder.flush();
+
+    val bytes = log.toByteArray();
+
+    assertEquals(2, Workload.read(new ByteArrayInputStream(bytes)).calls().size());
+    assertEquals(1, Workload.read(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 2))).calls().size());
+    assertThrows(IOException.class, () -> Workload.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 })));
+  }
+
+
+  @Test
+  @DisplayName("Replay captured workload")
+  void testReplay() throws IOException
+  {
+    val messageSupport = createMessageSupport().addMessage("removed", "removed message");
+    val log = new ByteArrayOutputStream();
+
+    try(val recorder = new WorkloadRecorder(log)) {
+      messageSupport.setWorkloadRecorder(recorder);
+
+      messageSupport.code("items").with("n", 1).format();
+      messageSupport.code("items").with("n", 7).format();
+      messageSupport.message("%{n} left").with("n", 2).format();
+      messageSupport.code("removed").format();
+    }
+
+    // replay against a message support which no longer provides message 'removed'
+
+    val replay = new WorkloadReplay(createMessageSupport(), Workload.read(new ByteArrayInputStream(log.toByteArray())));
+
+    assertEquals(4, replay.size());
+    assertEquals("one item", replay.format(0));
+    assertEquals("7 items", replay.format(1));
+    assertEquals("2 left", replay.format(2));
+
+    val result = replay.run(2, 5);
+
+    assertEquals(2, result.threads());
+    assertEquals(30, result.calls());
+    assertEquals(10, result.failures());
+    assertTrue(result.throughput() > 0);
+    assertTrue(result.p50Nanos() <= result.p90Nanos());
+    assertTrue(result.p90Nanos() <= result.p99Nanos());
+    assertTrue(result.p99Nanos() <= result.p999Nanos());
+    assertTrue(result.p999Nanos() <= result.maxNanos());
+    assertTrue(result.toString().startsWith("threads=2, calls=30, failures=10, throughput="));
+  }
+
+
+  private static ConfigurableMessageSupport createMessageSupport()
+  {
+    val formatterService = new GenericFormatterService();
+
+    formatterService.addFormatter(new NumberFormatter());
+
+    return MessageSupportFactory
+        .create(formatterService, new MessageFactory(PASS_THROUGH))
+        .setLocale(UK)
+        .addMessage("items", "%{n,1:'one item',>1:'%{n} items'}");
+  }
+
+
+  private record Amount(int value) implements Serializable {
+  }
+
+
+
+
+  private static final class Text
+  {
+    private String value;
+
+
+    private Text(String value) {
+      this.value = value;
+    }
+
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
+
+
+
+
+  private static final class Unserializable implements Serializable
+  {
+    @Serial
+    private void writeObject(ObjectOutputStream stream) {
+      throw new IllegalStateException();
+    }
+
+
+    @Override
+    public String toString() {
+      return "unserializable";
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.plugin.gradle.message;
+
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import de.sayayi.lib.message.exception.DuplicateMessageException;
+import de.sayayi.lib.message.exception.DuplicateTemplateException;
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import static org.gradle.api.logging.LogLevel.ERROR;
+import static org.gradle.api.logging.LogLevel.WARN;
+
+
+/**
+ * Message and template filters implementing a {@link DuplicateMsgStrategy} for the messages and templates from a
+ * single origin, like a class or a resource bundle.
+ * <p>
+ * The origin is fixed for each filter instance, so filters for different origins can be used concurrently.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+final class DuplicateMsgFilter
+{
+  private final @NotNull Logger logger;
+  private final @NotNull String origin;
+
+
+  private DuplicateMsgFilter(@NotNull Logger logger, @NotNull String origin)
+  {
+    this.logger = logger;
+    this.origin = origin;
+  }
+
+
+  /**
+   * Configures the message and template filters of {@code messageSupport} according to the given duplicate
+   * {@code strategy}. Duplicates are reported as being found in {@code origin}.
+   *
+   * @param messageSupport  message support to configure, not {@code null}
+   * @param strategy        duplicate message strategy, not {@code null}
+   * @param logger          logger for reporting duplicates, not {@code null}
+   * @param origin          origin of the messages and templates, e.g. {@code class org.example.Example},
+   *                        not {@code null}
+   */
+  static void configure(@NotNull ConfigurableMessageSupport messageSupport, @NotNull DuplicateMsgStrategy strategy,
+                        @NotNull Logger logger, @NotNull String origin)
+  {
+    final var filter = new DuplicateMsgFilter(logger, origin);
+
+    switch(strategy)
+    {
+      case FAIL:
+        filter.configureFailStrategy(messageSupport);
+        break;
+
+      case OVERRIDE:
+        filter.configureOverrideStrategy(messageSupport, false);
+        break;
+
+      case OVERRIDE_AND_WARN:
+        filter.configureOverrideStrategy(messageSupport, true);
+        break;
+
+      case IGNORE:
+        filter.configureIgnoreStrategy(messageSupport, false);
+        break;
+
+      case IGNORE_AND_WARN:
+        filter.configureIgnoreStrategy(messageSupport, true);
+        break;
+    }
+  }
+
+
+  private void configureFailStrategy(@NotNull ConfigurableMessageSupport messageSupport)
+  {
+    var messageAccessor = messageSupport.getMessageAccessor();
+
+    messageSupport.setMessageFilter(message -> {
+      var code = message.getCode();
+
+      if (!messageAccessor.hasMessageWithCode(code))
+        return true;
+      else if (!messageAccessor.getMessageByCode(code).isSame(message))
+        throw new DuplicateMessageException(code, logDuplicateMessage(ERROR, code));
+
+      return false;
+    });
+
+    messageSupport.setTemplateFilter((name, template) -> {
+      if (!messageAccessor.hasTemplateWithName(name))
+        return true;
+      else if (!messageAccessor.getTemplateByName(name).isSame(template))
+        throw new DuplicateTemplateException(name, logDuplicateTemplate(ERROR, name));
+
+      return false;
+    });
+  }
+
+
+  private void configureIgnoreStrategy(@NotNull ConfigurableMessageSupport messageSupport, boolean warn)
+  {
+    var messageAccessor = messageSupport.getMessageAccessor();
+
+    messageSupport.setMessageFilter(message -> {
+      var code = message.getCode();
+
+      if (!messageAccessor.hasMessageWithCode(code))
+        return true;
+      else if (warn && !messageAccessor.getMessageByCode(code).isSame(message))
+        logDuplicateMessage(WARN, code);
+
+      return false;
+    });
+
+    messageSupport.setTemplateFilter((name, template) -> {
+      if (!messageAccessor.hasTemplateWithName(name))
+        return true;
+      else if (warn && !messageAccessor.getTemplateByName(name).isSame(template))
+        logDuplicateTemplate(WARN, name);
+
+      return false;
+    });
+  }
+
+
+  private void configureOverrideStrategy(@NotNull ConfigurableMessageSupport messageSupport, boolean warn)
+  {
+    var messageAccessor = messageSupport.getMessageAccessor();
+
+    messageSupport.setMessageFilter(message -> {
+      var code = message.getCode();
+
+      if (warn && messageAccessor.hasMessageWithCode(code))
+      {
+        if (messageAccessor.getMessageByCode(code).isSame(message))
+          return false;
+
+        logDuplicateMessage(WARN, code);
+      }
+
+      return true;
+    });
+
+    messageSupport.setTemplateFilter((name, template) -> {
+      if (warn && messageAccessor.hasTemplateWithName(name))
+      {
+        if (messageAccessor.getTemplateByName(name).isSame(template))
+          return false;
+
+        logDuplicateTemplate(WARN, name);
+      }
+
+      return true;
+    });
+  }
+
+
+  private @NotNull String logDuplicateMessage(@NotNull LogLevel level, @NotNull String code)
+  {
+    var msg = "Duplicate message code '" + code + "' in " + origin;
+
+    logger.log(level, msg);
+
+    return msg;
+  }
+
+
+  private @NotNull String logDuplicateTemplate(@NotNull LogLevel level, @NotNull String name)
+  {
+    var msg = "Duplicate template name '" + name + "' in " + origin;
+
+    logger.log(level, msg);
+
+    return msg;
+  }
+}
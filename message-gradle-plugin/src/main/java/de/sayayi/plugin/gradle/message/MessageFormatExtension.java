@@ -28,7 +28,9 @@ import java.util.List;
  * Gradle extension {@code messageFormat} for configuring the {@link MessageFormatPackTask messageFormatPack} task.
  * <p>
  * This extension allows configuring the pack filename, compression, duplicate message handling strategy, template
- * validation, source sets to scan and include/exclude filters for message codes.
+ * validation, source sets to scan, message and template properties files, include/exclude filters for message
+ * codes and the name of the Java message catalog generated by the
+ * {@link MessageFormatJavaSourceTask messageFormatJavaSource} task.
  *
  * @author Jeroen Gremmen
  * @since 0.8.0
@@ -107,6 +109,36 @@ public abstract class MessageFormatExtension
   public abstract ConfigurableFileCollection getSources();
 
 
+  /**
+   * Returns a collection of message properties files to include in the message pack.
+   * <p>
+   * Properties files follow the resource bundle naming convention: the file name consists of a bundle base name,
+   * optionally followed by a locale suffix (e.g. {@code messages_de_CH.properties}). All files in the same
+   * directory with the same base name form a resource bundle and their messages are combined into localized
+   * messages. Only properties ({@code *.properties}) files are used.
+   * <p>
+   * The default value is an empty collection.
+   *
+   * @return  message properties files, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  public abstract ConfigurableFileCollection getMessageProperties();
+
+
+  /**
+   * Returns a collection of template properties files to include in the message pack. Each property key is a
+   * template name and its value is the template format. Only properties ({@code *.properties}) files are used.
+   * <p>
+   * The default value is an empty collection.
+   *
+   * @return  template properties files, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  public abstract ConfigurableFileCollection getTemplateProperties();
+
+
   /**
    * Property containing the strategy to use in case a duplicate message code or template name (with different message
    * definition) is found. The default strategy is {@link DuplicateMsgStrategy#IGNORE_AND_WARN IGNORE_AND_WARN}.
@@ -149,6 +181,32 @@ public abstract class MessageFormatExtension
   public abstract Property<@NotNull Boolean> getValidateReferencedTemplates();
 
 
+  /**
+   * Return the package name property for the generated Java message catalog. The default value is the unnamed
+   * package.
+   *
+   * @return  catalog package name property, never {@code null}
+   *
+   * @see MessageFormatJavaSourceTask
+   *
+   * @since 0.24.0
+   */
+  public abstract Property<@NotNull String> getCatalogPackageName();
+
+
+  /**
+   * Return the class name property for the generated Java message catalog. The default value is
+   * {@code MessageCatalog}.
+   *
+   * @return  catalog class name property, never {@code null}
+   *
+   * @see MessageFormatJavaSourceTask
+   *
+   * @since 0.24.0
+   */
+  public abstract Property<@NotNull String> getCatalogClassName();
+
+
   /**
    * Include messages that match the given regular expressions.
    *
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.plugin.gradle.message;
+
+import de.sayayi.lib.message.Message;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.*;
+import org.jetbrains.annotations.NotNull;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static de.sayayi.lib.message.util.MessageUtil.exportJavaSource;
+import static de.sayayi.lib.message.util.MessageUtil.importMessages;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.*;
+import static org.gradle.api.tasks.PathSensitivity.NONE;
+
+
+/**
+ * Gradle task for generating a Java message catalog from a message pack.
+ * <p>
+ * The generated class provides a static {@code configure(ConfigurableMessageSupport)} method which adds all messages
+ * and templates from the pack to the message support. The messages are constructed directly, so neither the pack nor
+ * any message format needs to be read or parsed at runtime.
+ * <p>
+ * As the message pack is usually built from the compiled classes of the {@code main} source set, the generated source
+ * cannot be compiled as part of that same source set. It is intended to be compiled in a separate source set or
+ * project.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ *
+ * @see MessageFormatPlugin
+ * @see MessageFormatPackTask
+ */
+@CacheableTask
+public abstract class MessageFormatJavaSourceTask extends DefaultTask
+{
+  /**
+   * Gradle task constructor.
+   */
+  public MessageFormatJavaSourceTask()
+  {
+    getPackageName().convention("");
+    getClassName().convention("MessageCatalog");
+  }
+
+
+  /**
+   * Returns the message pack to generate the Java message catalog for.
+   *
+   * @return  message pack file property, never {@code null}
+   */
+  @InputFile
+  @PathSensitive(NONE)
+  public abstract RegularFileProperty getPackFile();
+
+
+  /**
+   * Returns the package name of the generated class. The default value is the unnamed package.
+   *
+   * @return  package name property, never {@code null}
+   */
+  @Input
+  public abstract Property<@NotNull String> getPackageName();
+
+
+  /**
+   * Returns the simple name of the generated class. The default value is {@code MessageCatalog}.
+   *
+   * @return  class name property, never {@code null}
+   */
+  @Input
+  public abstract Property<@NotNull String> getClassName();
+
+
+  /**
+   * Returns the source directory where the generated class is stored. The directory is cleared before the class is
+   * generated.
+   *
+   * @return  destination directory property, never {@code null}
+   */
+  @OutputDirectory
+  public abstract DirectoryProperty getDestinationDir();
+
+
+  /**
+   * Returns the file system operations service used for clearing the destination directory.
+   *
+   * @return  file system operations, never {@code null}
+   */
+  @Inject
+  protected abstract FileSystemOperations getFileSystemOperations();
+
+
+  /**
+   * Generates the Java message catalog.
+   *
+   * @throws GradleException  if reading the message pack or writing the Java source fails
+   */
+  @TaskAction
+  public void generate()
+  {
+    final var packageName = getPackageName().get();
+    final var className = getClassName().get();
+    final var destinationDir = getDestinationDir().get().getAsFile().toPath();
+    final var packFile = getPackFile().get().getAsFile().toPath();
+    final var messages = new ArrayList<Message.WithCode>();
+    final var templates = new LinkedHashMap<String,Message>();
+
+    getFileSystemOperations().delete(deleteSpec -> deleteSpec.delete(destinationDir));
+
+    try {
+      getLogger().info("Reading message pack: {}", packFile);
+      importMessages(newInputStream(packFile), messages::add, templates::put);
+
+      final var sourceDir = packageName.isEmpty()
+          ? destinationDir
+          : destinationDir.resolve(packageName.replace('.', '/'));
+      final var sourceFile = sourceDir.resolve(className + ".java");
+
+      getLogger().info("Writing Java message catalog: {}", sourceFile);
+      createDirectories(sourceDir);
+
+      try(var writer = newBufferedWriter(sourceFile, UTF_8)) {
+        exportJavaSource(writer, packageName, className, messages, templates);
+      }
+    } catch(Exception ex) {
+      throw new GradleException("Failed to generate Java message catalog", ex);
+    }
+  }
+}
@@ -19,9 +19,7 @@ import de.sayayi.lib.message.MessageSupport;
 import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
 import de.sayayi.lib.message.MessageSupport.MessageAccessor;
 import de.sayayi.lib.message.MessageSupportFactory;
-import de.sayayi.lib.message.annotation.adopter.AnnotationAdopter;
-import de.sayayi.lib.message.exception.DuplicateMessageException;
-import de.sayayi.lib.message.exception.DuplicateTemplateException;
+import de.sayayi.lib.message.adopter.PropertiesAdopter;
 import de.sayayi.lib.message.formatter.GenericFormatterService;
 import groovy.lang.GString;
 import org.gradle.api.Action;
@@ -30,35 +28,50 @@ import org.gradle.api.GradleException;
 import org.gradle.api.InvalidUserDataException;
 import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
 import org.gradle.api.file.RegularFile;
-import org.gradle.api.logging.LogLevel;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.*;
 import org.gradle.api.tasks.util.PatternFilterable;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkerExecutor;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import org.objectweb.asm.ClassReader;
 
+import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import static de.sayayi.lib.message.util.MessageUtil.isMessageFormatPack;
 import static de.sayayi.plugin.gradle.message.DuplicateMsgStrategy.IGNORE_AND_WARN;
-import static java.nio.file.Files.newInputStream;
-import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.Files.*;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparing;
 import static java.util.Locale.ROOT;
-import static org.gradle.api.logging.LogLevel.ERROR;
-import static org.gradle.api.logging.LogLevel.WARN;
+import static org.gradle.api.file.FileType.DIRECTORY;
 import static org.gradle.api.tasks.PathSensitivity.RELATIVE;
+import static org.gradle.work.ChangeType.REMOVED;
 
 
 /**
  * Gradle task for scanning messages and templates in classes and packing them into a single file which can be
  * imported into a {@link MessageSupport.ConfigurableMessageSupport}.
+ * <p>
+ * Besides annotated classes, messages from {@link #getMessageProperties() message properties} files (resource
+ * bundles with locale suffixes) and templates from {@link #getTemplateProperties() template properties} files are
+ * parsed, validated and included in the message pack.
+ * <p>
+ * The task is incremental: the messages and templates found in each class are stored as a pre-parsed fragment in
+ * the {@link #getFragmentDir() fragment directory}. On subsequent runs only added or modified classes are scanned
+ * and fragments for removed classes are deleted. The message pack is then assembled from all fragments.
+ * <p>
+ * Classes are scanned concurrently using the Gradle worker API, so scanning scales with the number of available
+ * workers ({@code --max-workers}). Fragments are always assembled in the same order, which makes the message pack
+ * independent of the number of workers.
  *
  * @author Jeroen Gremmen
  * @since 0.8.0
@@ -72,13 +85,22 @@ public abstract class MessageFormatPackTask extends DefaultTask
   private static final Action<@NotNull PatternFilterable> CLASS_FILES =
       patternFilterable -> patternFilterable.include("**/*.class");
 
+  private static final Action<@NotNull PatternFilterable> PROPERTIES_FILES =
+      patternFilterable -> patternFilterable.include("**/*.properties");
+
+  private static final String FRAGMENT_SUFFIX = ".fragment";
+  private static final String CLASSES_FRAGMENT_DIR = "classes";
+  private static final String MESSAGES_FRAGMENT_DIR = "messages";
+  private static final String TEMPLATES_FRAGMENT_DIR = "templates";
+  private static final String SOURCE_ROOTS_FILE = "source-roots";
+
+  /** Number of class files scanned by a single work action. */
+  private static final int CLASS_FILE_BATCH_SIZE = 64;
+
   private final List<String> includeRegexFilters = new ArrayList<>();
   private final List<String> excludeRegexFilters = new ArrayList<>();
   private final List<Action<@NotNull MessageAccessor>> actionList = new ArrayList<>();
 
-  private final ThreadLocal<String> currentClassName = new ThreadLocal<>();
-
-
   /**
    * Gradle task constructor.
    */
@@ -87,6 +109,7 @@ public abstract class MessageFormatPackTask extends DefaultTask
     getCompress().convention(false);
     getDuplicateMsgStrategy().convention(IGNORE_AND_WARN);
     getValidateReferencedTemplates().convention(true);
+    getFragmentDir().convention(getProject().getLayout().getBuildDirectory().dir("tmp/" + getName() + "/fragments"));
   }
 
 
@@ -149,11 +172,80 @@ public abstract class MessageFormatPackTask extends DefaultTask
    * @see #sourceSet(SourceSet)
    */
   @InputFiles
+  @Incremental
   @IgnoreEmptyDirectories
   @PathSensitive(RELATIVE)
   public abstract ConfigurableFileCollection getSources();
 
 
+  /**
+   * Returns a collection of message properties files. Each property key is a message code and its value is the
+   * message format.
+   * <p>
+   * Properties files follow the resource bundle naming convention: the file name consists of a bundle base name,
+   * optionally followed by a locale suffix (e.g. {@code messages_de_CH.properties}). All files in the same
+   * directory with the same base name form a resource bundle and their messages are combined into localized
+   * messages. Only properties ({@code *.properties}) files are used.
+   *
+   * @return  collection of message properties files, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @InputFiles
+  @Incremental
+  @IgnoreEmptyDirectories
+  @PathSensitive(RELATIVE)
+  public abstract ConfigurableFileCollection getMessageProperties();
+
+
+  /**
+   * Returns a collection of template properties files. Each property key is a template name and its value is the
+   * template format. Only properties ({@code *.properties}) files are used.
+   *
+   * @return  collection of template properties files, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @InputFiles
+  @Incremental
+  @IgnoreEmptyDirectories
+  @PathSensitive(RELATIVE)
+  public abstract ConfigurableFileCollection getTemplateProperties();
+
+
+  /**
+   * Parameter containing the directory where the messages and templates found in each scanned class are stored as
+   * pre-parsed fragments. The default directory is {@code build/tmp/<task name>/fragments}.
+   * <p>
+   * The fragments are an implementation detail of the incremental scan; the directory is cleared whenever the task
+   * performs a full scan.
+   *
+   * @return  fragment directory parameter, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  @LocalState
+  public abstract DirectoryProperty getFragmentDir();
+
+
+  /**
+   * Returns the file system operations service used for clearing the fragment directory.
+   *
+   * @return  file system operations, never {@code null}
+   */
+  @Inject
+  protected abstract FileSystemOperations getFileSystemOperations();
+
+
+  /**
+   * Returns the worker executor used for scanning class files concurrently.
+   *
+   * @return  worker executor, never {@code null}
+   */
+  @Inject
+  protected abstract WorkerExecutor getWorkerExecutor();
+
+
   /**
    * Property containing the strategy to use in case a duplicate message code or template name (with different message
    * definition) is found. The default strategy is {@link DuplicateMsgStrategy#IGNORE_AND_WARN IGNORE_AND_WARN}.
@@ -295,58 +387,323 @@ public abstract class MessageFormatPackTask extends DefaultTask
 
 
   /**
-   * Scans the configured source files for message and template annotations, validates referenced templates, executes
-   * registered actions and writes the packed message file.
+   * Scans the added and modified source files for message and template annotations and assembles the messages and
+   * templates of all classes. Finally, referenced templates are validated, registered actions are executed and the
+   * packed message file is written.
+   *
+   * @param inputChanges  changes to the source files since the last execution, not {@code null}
    *
    * @throws GradleException  if scanning, validation or writing fails
    */
   @TaskAction
-  public void pack()
+  public void pack(@NotNull InputChanges inputChanges)
   {
     final var messageSupport = MessageSupportFactory.create(new GenericFormatterService());
-
-    configureDuplicatesStrategy(messageSupport);
-
-    pack_scanMessages(messageSupport);
+    final var duplicateMsgStrategy = configureDuplicatesStrategy_toEnum();
+    final var fragmentDir = getFragmentDir().get().getAsFile().toPath();
+    final var sourceRoots = getSources().getFiles().stream().map(file -> file.toPath().toAbsolutePath()).toList();
+    final var incremental = inputChanges.isIncremental() && isDirectory(fragmentDir) &&
+                            sourceRoots.equals(pack_readSourceRoots(fragmentDir));
+
+    if (!incremental)
+      getFileSystemOperations().delete(deleteSpec -> deleteSpec.delete(fragmentDir));
+
+    pack_scanMessages(inputChanges, incremental, sourceRoots, duplicateMsgStrategy);
+    pack_readProperties(inputChanges, incremental);
+    pack_assembleMessages(messageSupport, duplicateMsgStrategy);
     pack_validateTemplates(messageSupport);
     pack_action(messageSupport);
     pack_write(messageSupport);
   }
 
 
-  private void pack_scanMessages(@NotNull ConfigurableMessageSupport messageSupport)
+  /**
+   * Reads the source roots the class fragments in {@code fragmentDir} have been created for.
+   *
+   * @param fragmentDir  fragment directory, not {@code null}
+   *
+   * @return  source roots or {@code null} if the source roots are unknown
+   */
+  private List<Path> pack_readSourceRoots(@NotNull Path fragmentDir)
   {
-    final var logger = getLogger();
+    try {
+      return readAllLines(fragmentDir.resolve(SOURCE_ROOTS_FILE)).stream().map(Path::of).toList();
+    } catch(IOException ex) {
+      return null;
+    }
+  }
 
-    logger.info("Scanning classes for messages and templates");
+
+  /**
+   * Scans the added and modified class files for messages and templates. Class files with the same relative path
+   * may exist in several source roots, so each fragment is stored in a directory named after the index of the
+   * source root in {@link #getSources()}. The source roots are stored in the fragment directory, as fragments
+   * cannot be reused once the source roots have changed.
+   */
+  private void pack_scanMessages(@NotNull InputChanges inputChanges, boolean incremental,
+                                 @NotNull List<Path> sourceRoots,
+                                 @NotNull DuplicateMsgStrategy duplicateMsgStrategy)
+  {
+    final var logger = getLogger();
+    final var fragmentDir = getFragmentDir().get().getAsFile().toPath();
+    final var classesFragmentDir = fragmentDir.resolve(CLASSES_FRAGMENT_DIR);
+    final var classFiles = new ArrayList<File>();
+    final var fragmentFiles = new ArrayList<File>();
 
     try {
-      var adopter = new AnnotationAdopter(messageSupport);
-      var trace = logger.isTraceEnabled();
-
-      getSources()
-          .getAsFileTree()
-          .matching(CLASS_FILES)
-          .getFiles()
-          .stream()
-          .map(File::toPath)
-          .forEach(classPath -> {
-            var className = getClassName(classPath);
-
-            if (trace)
-              logger.trace("Scanning class {}, path {}", className, classPath);
+      if (incremental)
+      {
+        logger.info("Scanning changed classes for messages and templates");
+
+        for(var change: inputChanges.getFileChanges(getSources()))
+        {
+          var normalizedPath = change.getNormalizedPath();
+
+          if (change.getFileType() != DIRECTORY && normalizedPath.endsWith(".class"))
+          {
+            var fragmentPath = classesFragmentDir
+                .resolve(sourceRootIndex(sourceRoots, change.getFile(), normalizedPath))
+                .resolve(normalizedPath + FRAGMENT_SUFFIX);
+
+            if (change.getChangeType() == REMOVED)
+            {
+              logger.debug("Removing class {}", normalizedPath);
+              deleteIfExists(fragmentPath);
+            }
             else
-              logger.debug("Scanning class {}", className);
+            {
+              classFiles.add(change.getFile());
+              fragmentFiles.add(fragmentPath.toFile());
+            }
+          }
+        }
+      }
+      else
+      {
+        logger.info("Scanning classes for messages and templates");
+
+        getSources()
+            .getAsFileTree()
+            .matching(CLASS_FILES)
+            .visit(fileDetails -> {
+              if (!fileDetails.isDirectory())
+              {
+                classFiles.add(fileDetails.getFile());
+                fragmentFiles.add(classesFragmentDir
+                    .resolve(sourceRootIndex(sourceRoots, fileDetails.getFile(), fileDetails.getPath()))
+                    .resolve(fileDetails.getPath() + FRAGMENT_SUFFIX)
+                    .toFile());
+              }
+            });
+      }
 
-            currentClassName.set(className);
-            adopter.adopt(classPath);
-          });
+      pack_scanClasses(classFiles, fragmentFiles, duplicateMsgStrategy);
+
+      createDirectories(fragmentDir);
+      write(fragmentDir.resolve(SOURCE_ROOTS_FILE), sourceRoots.stream().map(Path::toString).toList());
     } catch(Exception ex) {
       throw new GradleException("Failed to scan messages", ex);
     }
   }
 
 
+  /**
+   * Returns the index of the source root {@code relativePath} of {@code file} is relative to.
+   */
+  @Contract(pure = true)
+  private static @NotNull String sourceRootIndex(@NotNull List<Path> sourceRoots, @NotNull File file,
+                                                 @NotNull String relativePath)
+  {
+    final var path = file.toPath().toAbsolutePath();
+
+    for(int n = 0, size = sourceRoots.size(); n < size; n++)
+    {
+      var sourceRoot = sourceRoots.get(n);
+
+      if (path.equals(isDirectory(sourceRoot) ? sourceRoot.resolve(relativePath) : sourceRoot))
+        return Integer.toString(n);
+    }
+
+    throw new IllegalStateException("no source root found for " + file);
+  }
+
+
+  /**
+   * Scans the given class files in batches using the worker API. Each class produces its own fragment, so the
+   * order in which the batches are processed does not affect the resulting message pack.
+   *
+   * @param classFiles            class files to scan, not {@code null}
+   * @param fragmentFiles         fragment file for each class file, not {@code null}
+   * @param duplicateMsgStrategy  duplicate message strategy, not {@code null}
+   */
+  private void pack_scanClasses(@NotNull List<File> classFiles, @NotNull List<File> fragmentFiles,
+                                @NotNull DuplicateMsgStrategy duplicateMsgStrategy)
+  {
+    final var workQueue = getWorkerExecutor().noIsolation();
+
+    for(int n = 0, size = classFiles.size(); n < size; n += CLASS_FILE_BATCH_SIZE)
+    {
+      final var batchEnd = Math.min(n + CLASS_FILE_BATCH_SIZE, size);
+      final var batchClassFiles = classFiles.subList(n, batchEnd);
+      final var batchFragmentFiles = fragmentFiles.subList(n, batchEnd);
+
+      workQueue.submit(ScanClassesAction.class, parameters -> {
+        parameters.getClassFiles().set(batchClassFiles);
+        parameters.getFragmentFiles().set(batchFragmentFiles);
+        parameters.getDuplicateMsgStrategy().set(duplicateMsgStrategy);
+      });
+    }
+
+    workQueue.await();
+  }
+
+
+  /**
+   * Reads all message and template properties files, if any of them has changed. The messages of each resource
+   * bundle and the templates of each template properties file are stored as a fragment.
+   *
+   * @param inputChanges  changes to the properties files since the last execution, not {@code null}
+   * @param incremental   {@code true} if the fragments of the previous execution are available
+   */
+  private void pack_readProperties(@NotNull InputChanges inputChanges, boolean incremental)
+  {
+    if (incremental &&
+        !inputChanges.getFileChanges(getMessageProperties()).iterator().hasNext() &&
+        !inputChanges.getFileChanges(getTemplateProperties()).iterator().hasNext())
+      return;
+
+    final var fragmentDir = getFragmentDir().get().getAsFile().toPath();
+    final var messagesFragmentDir = fragmentDir.resolve(MESSAGES_FRAGMENT_DIR);
+    final var templatesFragmentDir = fragmentDir.resolve(TEMPLATES_FRAGMENT_DIR);
+    final var formatterService = new GenericFormatterService();
+
+    getLogger().info("Reading message and template properties");
+    getFileSystemOperations().delete(deleteSpec -> deleteSpec.delete(messagesFragmentDir, templatesFragmentDir));
+
+    // bundle path -> locale -> properties file
+    final var messageBundles = new TreeMap<String,Map<Locale,File>>();
+
+    getMessageProperties()
+        .getAsFileTree()
+        .matching(PROPERTIES_FILES)
+        .visit(fileDetails -> {
+          if (!fileDetails.isDirectory())
+          {
+            var relativePath = fileDetails.getRelativePath();
+            var bundleFileName = BundleFileName.parse(relativePath.getLastName());
+            var bundleParent = relativePath.getParent();
+            var bundlePath = bundleParent == null || bundleParent.getSegments().length == 0
+                ? bundleFileName.baseName()
+                : bundleParent.getPathString() + '/' + bundleFileName.baseName();
+
+            messageBundles
+                .computeIfAbsent(bundlePath, k -> new TreeMap<>(comparing(Locale::toString)))
+                .put(bundleFileName.locale(), fileDetails.getFile());
+          }
+        });
+
+    for(var messageBundle: messageBundles.entrySet())
+    {
+      var bundlePath = messageBundle.getKey();
+      var origin = "message bundle " + bundlePath;
+      var bundleMessageSupport = MessageSupportFactory.create(formatterService);
+      var localizedProperties = new LinkedHashMap<Locale,Properties>();
+
+      getLogger().debug("Reading {}", origin);
+
+      try {
+        for(var localizedFile: messageBundle.getValue().entrySet())
+          localizedProperties.put(localizedFile.getKey(), loadProperties(localizedFile.getValue().toPath()));
+
+        new PropertiesAdopter(bundleMessageSupport).adopt(localizedProperties);
+        MessageFragment.write(messagesFragmentDir.resolve(bundlePath + FRAGMENT_SUFFIX), origin,
+            bundleMessageSupport);
+      } catch(Exception ex) {
+        throw new GradleException("Failed to read " + origin, ex);
+      }
+    }
+
+    getTemplateProperties()
+        .getAsFileTree()
+        .matching(PROPERTIES_FILES)
+        .visit(fileDetails -> {
+          if (!fileDetails.isDirectory())
+          {
+            var templatesPath = fileDetails.getPath();
+            var origin = "template properties " + templatesPath;
+            var templateMessageSupport = MessageSupportFactory.create(formatterService);
+
+            getLogger().debug("Reading {}", origin);
+
+            try {
+              new PropertiesAdopter(templateMessageSupport)
+                  .adoptTemplates(loadProperties(fileDetails.getFile().toPath()));
+              MessageFragment.write(templatesFragmentDir.resolve(templatesPath + FRAGMENT_SUFFIX), origin,
+                  templateMessageSupport);
+            } catch(Exception ex) {
+              throw new GradleException("Failed to read " + origin, ex);
+            }
+          }
+        });
+  }
+
+
+  /**
+   * Load a properties file. Like {@link PropertyResourceBundle}, the file is read as UTF-8 and falls back to
+   * ISO-8859-1 if the file is not valid UTF-8.
+   *
+   * @param propertiesPath  properties file, not {@code null}
+   *
+   * @return  properties, never {@code null}
+   *
+   * @throws IOException  if an I/O error occurs
+   */
+  @Contract(pure = true)
+  private static @NotNull Properties loadProperties(@NotNull Path propertiesPath) throws IOException
+  {
+    try(var propertiesStream = newInputStream(propertiesPath)) {
+      var resourceBundle = new PropertyResourceBundle(propertiesStream);
+      var properties = new Properties();
+
+      for(var key: resourceBundle.keySet())
+        properties.setProperty(key, resourceBundle.getString(key));
+
+      return properties;
+    }
+  }
+
+
+  private void pack_assembleMessages(@NotNull ConfigurableMessageSupport messageSupport,
+                                     @NotNull DuplicateMsgStrategy duplicateMsgStrategy)
+  {
+    final var fragmentDir = getFragmentDir().get().getAsFile().toPath();
+
+    getLogger().info("Assembling messages and templates");
+
+    try {
+      // classes first, then properties; sorted order guarantees a deterministic duplicate resolution
+      for(var fragmentSubDir: List.of(CLASSES_FRAGMENT_DIR, MESSAGES_FRAGMENT_DIR, TEMPLATES_FRAGMENT_DIR))
+      {
+        var fragmentSubDirPath = fragmentDir.resolve(fragmentSubDir);
+
+        if (isDirectory(fragmentSubDirPath))
+        {
+          final List<Path> fragmentPaths;
+
+          try(var pathStream = Files.walk(fragmentSubDirPath)) {
+            fragmentPaths = pathStream.filter(Files::isRegularFile).sorted().toList();
+          }
+
+          for(var fragmentPath: fragmentPaths)
+            MessageFragment.read(fragmentPath, messageSupport, duplicateMsgStrategy, getLogger());
+        }
+      }
+    } catch(Exception ex) {
+      throw new GradleException("Failed to assemble messages", ex);
+    }
+  }
+
+
   private void pack_validateTemplates(@NotNull MessageSupport messageSupport)
   {
     if (getValidateReferencedTemplates().get())
@@ -425,33 +782,6 @@ public abstract class MessageFormatPackTask extends DefaultTask
   }
 
 
-  private void configureDuplicatesStrategy(@NotNull ConfigurableMessageSupport messageSupport)
-  {
-    switch(configureDuplicatesStrategy_toEnum())
-    {
-      case FAIL:
-        configureDuplicateFailStrategy(messageSupport);
-        break;
-
-      case OVERRIDE:
-        configureDuplicateOverrideStrategy(messageSupport, false);
-        break;
-
-      case OVERRIDE_AND_WARN:
-        configureDuplicateOverrideStrategy(messageSupport, true);
-        break;
-
-      case IGNORE:
-        configureDuplicateIgnoreStrategy(messageSupport, false);
-        break;
-
-      case IGNORE_AND_WARN:
-        configureDuplicateIgnoreStrategy(messageSupport, true);
-        break;
-    }
-  }
-
-
   @Contract(pure = true)
   private @NotNull DuplicateMsgStrategy configureDuplicatesStrategy_toEnum()
   {
@@ -478,117 +808,50 @@ public abstract class MessageFormatPackTask extends DefaultTask
   }
 
 
-  private void configureDuplicateFailStrategy(@NotNull ConfigurableMessageSupport messageSupport)
-  {
-    var messageAccessor = messageSupport.getMessageAccessor();
 
-    messageSupport.setMessageFilter(message -> {
-      var code = message.getCode();
 
-      if (!messageAccessor.hasMessageWithCode(code))
-        return true;
-      else if (!messageAccessor.getMessageByCode(code).isSame(message))
-        throw new DuplicateMessageException(code, logDuplicateMessage(ERROR, code));
-
-      return false;
-    });
-
-    messageSupport.setTemplateFilter((name, template) -> {
-      if (!messageAccessor.hasTemplateWithName(name))
-        return true;
-      else if (!messageAccessor.getTemplateByName(name).isSame(template))
-        throw new DuplicateTemplateException(name, logDuplicateTemplate(ERROR, name));
-
-      return false;
-    });
-  }
-
-
-  private void configureDuplicateIgnoreStrategy(@NotNull ConfigurableMessageSupport messageSupport, boolean warn)
-  {
-    var messageAccessor = messageSupport.getMessageAccessor();
-
-    messageSupport.setMessageFilter(message -> {
-      var code = message.getCode();
-
-      if (!messageAccessor.hasMessageWithCode(code))
-        return true;
-      else if (warn && !messageAccessor.getMessageByCode(code).isSame(message))
-        logDuplicateMessage(WARN, code);
-
-      return false;
-    });
-
-    messageSupport.setTemplateFilter((name, template) -> {
-      if (!messageAccessor.hasTemplateWithName(name))
-        return true;
-      else if (warn && !messageAccessor.getTemplateByName(name).isSame(template))
-        logDuplicateTemplate(WARN, name);
-
-      return false;
-    });
-  }
-
-
-  private void configureDuplicateOverrideStrategy(@NotNull ConfigurableMessageSupport messageSupport, boolean warn)
+  /**
+   * Properties file name, split into bundle base name and locale.
+   *
+   * @param baseName  bundle base name, not {@code null}
+   * @param locale    locale, {@link Locale#ROOT} if the file name has no locale suffix, not {@code null}
+   */
+  private record BundleFileName(@NotNull String baseName, @NotNull Locale locale)
   {
-    var messageAccessor = messageSupport.getMessageAccessor();
-
-    messageSupport.setMessageFilter(message -> {
-      var code = message.getCode();
-
-      if (warn && messageAccessor.hasMessageWithCode(code))
-      {
-        if (messageAccessor.getMessageByCode(code).isSame(message))
-          return false;
-
-        logDuplicateMessage(WARN, code);
-      }
-
-      return true;
-    });
+    private static final Set<String> LANGUAGES = Set.of(Locale.getISOLanguages());
+    private static final Set<String> COUNTRIES = Set.of(Locale.getISOCountries());
+
+
+    /**
+     * Splits the given properties file name into bundle base name and locale. A locale suffix is recognized if it
+     * consists of an ISO 639 language code, optionally followed by an ISO 3166 country code (or a 3-digit UN M.49
+     * area code) and a variant, e.g. {@code messages_de.properties} or {@code messages_en_US.properties}.
+     *
+     * @param fileName  properties file name, not {@code null}
+     *
+     * @return  bundle file name, never {@code null}
+     */
+    @Contract(pure = true)
+    private static @NotNull BundleFileName parse(@NotNull String fileName)
+    {
+      final var name = fileName.substring(0, fileName.length() - ".properties".length());
+      final var segments = name.split("_", -1);
 
-    messageSupport.setTemplateFilter((name, template) -> {
-      if (warn && messageAccessor.hasTemplateWithName(name))
+      for(int n = Math.max(1, segments.length - 3); n < segments.length; n++)
       {
-        if (messageAccessor.getTemplateByName(name).isSame(template))
-          return false;
+        var language = segments[n];
+        var country = n + 1 < segments.length ? segments[n + 1] : "";
+        var variant = n + 2 < segments.length ? segments[n + 2] : "";
 
-        logDuplicateTemplate(WARN, name);
+        if (LANGUAGES.contains(language) &&
+            (country.isEmpty() || COUNTRIES.contains(country) || country.matches("\\d{3}")))
+        {
+          return new BundleFileName(String.join("_", Arrays.asList(segments).subList(0, n)),
+              Locale.of(language, country, variant));
+        }
       }
 
-      return true;
-    });
-  }
-
-
-  private @NotNull String logDuplicateMessage(@NotNull LogLevel level, @NotNull String code)
-  {
-    var msg = "Duplicate message code '" + code + "' in class " + currentClassName.get();
-
-    getLogger().log(level, msg);
-
-    return msg;
-  }
-
-
-  private @NotNull String logDuplicateTemplate(@NotNull LogLevel level, @NotNull String name)
-  {
-    var msg = "Duplicate template name '" + name + "' in class " + currentClassName.get();
-
-    getLogger().log(level, msg);
-
-    return msg;
-  }
-
-
-  @Contract(pure = true)
-  private @NotNull String getClassName(@NotNull Path classPath)
-  {
-    try {
-      return new ClassReader(newInputStream(classPath)).getClassName().replace('/', '.');
-    } catch(IOException ex) {
-      throw new GradleException("Failed to read class name from " + classPath, ex);
+      return new BundleFileName(name, Locale.ROOT);
     }
   }
 }
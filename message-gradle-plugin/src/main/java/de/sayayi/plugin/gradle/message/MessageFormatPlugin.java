@@ -20,6 +20,7 @@ import org.gradle.api.Project;
 import org.gradle.api.plugins.JavaBasePlugin;
 import org.gradle.api.plugins.JavaPluginExtension;
 import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskProvider;
 import org.jetbrains.annotations.NotNull;
 
 import static de.sayayi.plugin.gradle.message.DuplicateMsgStrategy.IGNORE_AND_WARN;
@@ -29,7 +30,8 @@ import static org.gradle.api.tasks.SourceSet.MAIN_SOURCE_SET_NAME;
 /**
  * Gradle plugin that provides the {@code messageFormat} extension and registers the
  * {@link MessageFormatPackTask messageFormatPack} task for scanning and packing message format definitions found in
- * compiled classes.
+ * compiled classes. The {@link MessageFormatJavaSourceTask messageFormatJavaSource} task generates a Java message
+ * catalog from the message pack.
  * <p>
  * The plugin automatically applies the {@link JavaBasePlugin} if not already present and configures the
  * {@link MessageFormatExtension} with sensible defaults. The {@code main} source set is used as the default source for
@@ -40,6 +42,7 @@ import static org.gradle.api.tasks.SourceSet.MAIN_SOURCE_SET_NAME;
  *
  * @see MessageFormatExtension
  * @see MessageFormatPackTask
+ * @see MessageFormatJavaSourceTask
  */
 @SuppressWarnings("unused")
 public class MessageFormatPlugin implements Plugin<@NotNull Project>
@@ -50,7 +53,8 @@ public class MessageFormatPlugin implements Plugin<@NotNull Project>
 
   /**
    * Applies the plugin to the given {@code project} by registering the {@link MessageFormatExtension messageFormat}
-   * extension and the {@link MessageFormatPackTask messageFormatPack} task.
+   * extension, the {@link MessageFormatPackTask messageFormatPack} task and the
+   * {@link MessageFormatJavaSourceTask messageFormatJavaSource} task.
    *
    * @param project  the Gradle project to apply this plugin to, never {@code null}
    */
@@ -70,6 +74,8 @@ public class MessageFormatPlugin implements Plugin<@NotNull Project>
     messageFormatExtension.getCompress().convention(false);
     messageFormatExtension.getDuplicateMsgStrategy().convention(IGNORE_AND_WARN);
     messageFormatExtension.getValidateReferencedTemplates().convention(true);
+    messageFormatExtension.getCatalogPackageName().convention("");
+    messageFormatExtension.getCatalogClassName().convention("MessageCatalog");
 
     final var mainJavaSourceSet = extensions
         .getByType(JavaPluginExtension.class)
@@ -79,7 +85,9 @@ public class MessageFormatPlugin implements Plugin<@NotNull Project>
     // sources = {.build/classes/java/main/}**/*.class
     messageFormatExtension.sourceSet(mainJavaSourceSet);
 
-    registerPackTask(project, messageFormatExtension, mainJavaSourceSet);
+    final var packTask = registerPackTask(project, messageFormatExtension, mainJavaSourceSet);
+
+    registerJavaSourceTask(project, messageFormatExtension, packTask);
   }
 
 
@@ -90,20 +98,24 @@ public class MessageFormatPlugin implements Plugin<@NotNull Project>
    * @param project        the Gradle project, never {@code null}
    * @param extension      the message format extension providing the configuration, never {@code null}
    * @param mainSourceSet  the main source set whose output the task depends on, never {@code null}
+   *
+   * @return  pack task provider, never {@code null}
    */
-  private void registerPackTask(@NotNull Project project,
-                                @NotNull MessageFormatExtension extension,
-                                @NotNull SourceSet mainSourceSet)
+  private @NotNull TaskProvider<MessageFormatPackTask> registerPackTask(@NotNull Project project,
+                                                                        @NotNull MessageFormatExtension extension,
+                                                                        @NotNull SourceSet mainSourceSet)
   {
     final var tasks = project.getTasks();
     final var layout = project.getLayout();
 
-    tasks.register("messageFormatPack", MessageFormatPackTask.class, packTask -> {
+    return tasks.register("messageFormatPack", MessageFormatPackTask.class, packTask -> {
       packTask.setGroup("build");
       packTask.setDescription("Scans and packs message format definitions.");
 
       // sources
       packTask.getSources().from(extension.getSources());
+      packTask.getMessageProperties().from(extension.getMessageProperties());
+      packTask.getTemplateProperties().from(extension.getTemplateProperties());
 
       // pack file
       packTask.getDestinationDir().convention(layout.getBuildDirectory().dir(packTask.getName()));
@@ -120,4 +132,35 @@ public class MessageFormatPlugin implements Plugin<@NotNull Project>
       packTask.dependsOn(mainSourceSet.getOutput());
     });
   }
+
+
+  /**
+   * Registers the {@code messageFormatJavaSource} task and wires it to the extension properties and the message pack
+   * produced by the {@code messageFormatPack} task.
+   *
+   * @param project    the Gradle project, never {@code null}
+   * @param extension  the message format extension providing the configuration, never {@code null}
+   * @param packTask   the pack task providing the message pack, never {@code null}
+   *
+   * @since 0.24.0
+   */
+  private void registerJavaSourceTask(@NotNull Project project,
+                                      @NotNull MessageFormatExtension extension,
+                                      @NotNull TaskProvider<MessageFormatPackTask> packTask)
+  {
+    final var layout = project.getLayout();
+
+    project.getTasks().register("messageFormatJavaSource", MessageFormatJavaSourceTask.class, javaSourceTask -> {
+      javaSourceTask.setGroup("build");
+      javaSourceTask.setDescription("Generates a Java message catalog from the message pack.");
+
+      javaSourceTask.getPackFile().convention(packTask.map(MessageFormatPackTask::getPackFile));
+      javaSourceTask.getPackageName().convention(extension.getCatalogPackageName());
+      javaSourceTask.getClassName().convention(extension.getCatalogClassName());
+      javaSourceTask.getDestinationDir().convention(
+          layout.getBuildDirectory().dir("generated/sources/" + javaSourceTask.getName()));
+
+      javaSourceTask.dependsOn(packTask);
+    });
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.plugin.gradle.message;
+
+import de.sayayi.lib.message.Message;
+import de.sayayi.lib.message.MessageSupport.ConfigurableMessageSupport;
+import org.gradle.api.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+
+import static de.sayayi.lib.message.util.MessageUtil.exportMessages;
+import static java.nio.file.Files.*;
+
+
+/**
+ * Pre-parsed messages and templates from a single origin (e.g. a class or a resource bundle), stored in the fragment
+ * directory of {@link MessageFormatPackTask}.
+ * <p>
+ * A fragment file contains a description of its origin, followed by a message pack containing all messages and
+ * templates of that origin.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+final class MessageFragment
+{
+  private MessageFragment() {}
+
+
+  /**
+   * Writes all messages and templates of {@code messageSupport} to the given fragment file. If the message support
+   * contains no messages and templates, the fragment file is deleted instead.
+   *
+   * @param fragmentPath    fragment file, not {@code null}
+   * @param origin          origin description, e.g. {@code class org.example.Example}, not {@code null}
+   * @param messageSupport  message support containing the messages and templates to write, not {@code null}
+   *
+   * @throws IOException  if an I/O error occurs
+   */
+  static void write(@NotNull Path fragmentPath, @NotNull String origin,
+                    @NotNull ConfigurableMessageSupport messageSupport) throws IOException
+  {
+    final var messageAccessor = messageSupport.getMessageAccessor();
+    final var messages = messageAccessor
+        .getMessageCodes()
+        .stream()
+        .map(messageAccessor::getMessageByCode)
+        .toList();
+    final var templates = new LinkedHashMap<String,Message>();
+
+    for(var templateName: messageAccessor.getTemplateNames())
+      templates.put(templateName, messageAccessor.getTemplateByName(templateName));
+
+    if (messages.isEmpty() && templates.isEmpty())
+      deleteIfExists(fragmentPath);
+    else
+    {
+      createDirectories(fragmentPath.getParent());
+
+      try(var fragmentStream = new DataOutputStream(newOutputStream(fragmentPath))) {
+        fragmentStream.writeUTF(origin);
+        exportMessages(fragmentStream, false, messages, templates);
+      }
+    }
+  }
+
+
+  /**
+   * Reads the messages and templates from the given fragment file into {@code messageSupport}. Duplicates are
+   * handled according to {@code duplicateMsgStrategy} and reported with the origin of the fragment.
+   *
+   * @param fragmentPath          fragment file, not {@code null}
+   * @param messageSupport        message support to add the messages and templates to, not {@code null}
+   * @param duplicateMsgStrategy  duplicate message strategy, not {@code null}
+   * @param logger                logger for reporting duplicates, not {@code null}
+   *
+   * @throws IOException  if an I/O error occurs
+   */
+  static void read(@NotNull Path fragmentPath, @NotNull ConfigurableMessageSupport messageSupport,
+                   @NotNull DuplicateMsgStrategy duplicateMsgStrategy, @NotNull Logger logger) throws IOException
+  {
+    try(var fragmentStream = new DataInputStream(newInputStream(fragmentPath))) {
+      DuplicateMsgFilter.configure(messageSupport, duplicateMsgStrategy, logger, fragmentStream.readUTF());
+      messageSupport.importMessages(fragmentStream);
+    }
+  }
+}
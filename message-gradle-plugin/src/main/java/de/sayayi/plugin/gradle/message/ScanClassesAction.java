@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Jeroen Gremmen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.sayayi.plugin.gradle.message;
+
+import de.sayayi.lib.message.MessageSupportFactory;
+import de.sayayi.lib.message.annotation.adopter.AnnotationAdopter;
+import de.sayayi.lib.message.formatter.FormatterService;
+import de.sayayi.lib.message.formatter.GenericFormatterService;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.objectweb.asm.ClassReader;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static java.nio.file.Files.newInputStream;
+
+
+/**
+ * Work action scanning a batch of class files for message and template annotations. The messages and templates
+ * found in each class are stored as a fragment which is assembled by {@link MessageFormatPackTask}.
+ * <p>
+ * Each class is scanned with its own message support, so batches can be processed concurrently. Duplicates within
+ * a class are resolved using the configured duplicate strategy.
+ *
+ * @author Jeroen Gremmen
+ * @since 0.24.0
+ */
+abstract class ScanClassesAction implements WorkAction<ScanClassesAction.Parameters>
+{
+  private static final Logger LOGGER = Logging.getLogger(ScanClassesAction.class);
+
+
+  /**
+   * Work action constructor, invoked by the worker API.
+   */
+  @Inject
+  public ScanClassesAction() {
+  }
+
+
+  @Override
+  public void execute()
+  {
+    final var parameters = getParameters();
+    final var classFiles = parameters.getClassFiles().get();
+    final var fragmentFiles = parameters.getFragmentFiles().get();
+    final var duplicateMsgStrategy = parameters.getDuplicateMsgStrategy().get();
+    final var formatterService = new GenericFormatterService();
+
+    for(int n = 0, size = classFiles.size(); n < size; n++)
+    {
+      scanClass(classFiles.get(n).toPath(), fragmentFiles.get(n).toPath(), duplicateMsgStrategy,
+          formatterService);
+    }
+  }
+
+
+  /**
+   * Scans a single class and stores the messages and templates found as a fragment. If the class contains no
+   * messages and templates, no fragment is stored.
+   *
+   * @param classPath             class file to scan, not {@code null}
+   * @param fragmentPath          fragment file, not {@code null}
+   * @param duplicateMsgStrategy  duplicate message strategy, not {@code null}
+   * @param formatterService      formatter service, not {@code null}
+   */
+  private static void scanClass(@NotNull Path classPath, @NotNull Path fragmentPath,
+                                @NotNull DuplicateMsgStrategy duplicateMsgStrategy,
+                                @NotNull FormatterService formatterService)
+  {
+    final var className = getClassName(classPath);
+
+    if (LOGGER.isTraceEnabled())
+      LOGGER.trace("Scanning class {}, path {}", className, classPath);
+    else
+      LOGGER.debug("Scanning class {}", className);
+
+    final var classMessageSupport = MessageSupportFactory.create(formatterService);
+    final var origin = "class " + className;
+
+    DuplicateMsgFilter.configure(classMessageSupport, duplicateMsgStrategy, LOGGER, origin);
+    new AnnotationAdopter(classMessageSupport).adopt(classPath);
+
+    try {
+      MessageFragment.write(fragmentPath, origin, classMessageSupport);
+    } catch(IOException ex) {
+      throw new GradleException("Failed to write message fragment for class " + className, ex);
+    }
+  }
+
+
+  @Contract(pure = true)
+  private static @NotNull String getClassName(@NotNull Path classPath)
+  {
+    try(var classInputStream = newInputStream(classPath)) {
+      return new ClassReader(classInputStream).getClassName().replace('/', '.');
+    } catch(IOException ex) {
+      throw new GradleException("Failed to read class name from " + classPath, ex);
+    }
+  }
+
+
+
+
+  /**
+   * Parameters for scanning a batch of class files.
+   */
+  interface Parameters extends WorkParameters
+  {
+    /**
+     * Returns the class files to scan.
+     *
+     * @return  class files property, never {@code null}
+     */
+    ListProperty<File> getClassFiles();
+
+
+    /**
+     * Returns the fragment files, one for each class file in {@link #getClassFiles()} at the same index.
+     *
+     * @return  fragment files property, never {@code null}
+     */
+    ListProperty<File> getFragmentFiles();
+
+
+    /**
+     * Returns the strategy for handling duplicates within a single class.
+     *
+     * @return  duplicate message strategy property, never {@code null}
+     */
+    Property<DuplicateMsgStrategy> getDuplicateMsgStrategy();
+  }
+}
@@ -15,6 +15,7 @@
  */
 package de.sayayi.plugin.gradle.message;
 
+import de.sayayi.lib.message.Message;
 import de.sayayi.lib.message.MessageSupport.MessageAccessor;
 import de.sayayi.lib.message.MessageSupportFactory;
 import de.sayayi.lib.message.formatter.GenericFormatterService;
@@ -33,6 +34,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -41,6 +43,8 @@ import static java.nio.file.Files.*;
 import static java.util.Objects.requireNonNull;
 import static org.gradle.testkit.runner.TaskOutcome.FAILED;
 import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -208,6 +212,217 @@ final class PluginTest
   }
 
 
+  @Test
+  @DisplayName("Pack task with incremental changes")
+  void testIncremental() throws IOException
+  {
+    copy(getResource("test-source-1.java"),
+        new File(testPackageDir, "Source1.java").toPath());
+
+    val runner = GradleRunner.create()
+        .withProjectDir(testProjectDir)
+        .withArguments("messageFormatPack")
+        .withPluginClasspath()
+        .withDebug(true)
+        .forwardOutput();
+
+    assertEquals(SUCCESS, requireNonNull(runner.build().task(":messageFormatPack")).getOutcome());
+    assertEquals(Set.of("MSG1", "MSG2", "MSG3", "MSG-INNER1"), readMessagePack(packFile).getMessageCodes());
+
+    // add class
+    val source3 = new File(testPackageDir, "Source3.java").toPath();
+    write(source3, List.of(
+        "package test;",
+        "@de.sayayi.lib.message.annotation.MessageDef(code = \"MSG4\", text = \"Hello 4\")",
+        "public class Source3 {}"
+    ));
+
+    assertEquals(SUCCESS, requireNonNull(runner.build().task(":messageFormatPack")).getOutcome());
+    assertEquals(Set.of("MSG1", "MSG2", "MSG3", "MSG4", "MSG-INNER1"), readMessagePack(packFile).getMessageCodes());
+
+    // remove class
+    delete(source3);
+
+    assertEquals(SUCCESS, requireNonNull(runner.build().task(":messageFormatPack")).getOutcome());
+    assertEquals(Set.of("MSG1", "MSG2", "MSG3", "MSG-INNER1"), readMessagePack(packFile).getMessageCodes());
+  }
+
+
+  @Test
+  @DisplayName("Pack task with same class in several source sets")
+  void testSameClassInSourceSets() throws IOException
+  {
+    writeBuildGradle(List.of(
+        "messageFormat {",
+        "  sourceSet sourceSets.main",
+        "  sourceSet sourceSets.test",
+        "}"
+    ));
+
+    val testSourceDir = createDirectories(new File(testProjectDir, "src/test/java/test").toPath());
+    val mainSource = new File(testPackageDir, "Source3.java").toPath();
+    val testSource = testSourceDir.resolve("Source3.java");
+
+    write(mainSource, List.of(
+        "package test;",
+        "@de.sayayi.lib.message.annotation.MessageDef(code = \"MSG4\", text = \"Hello 4\")",
+        "public class Source3 {}"
+    ));
+    write(testSource, List.of(
+        "package test;",
+        "@de.sayayi.lib.message.annotation.MessageDef(code = \"MSG5\", text = \"Hello 5\")",
+        "public class Source3 {}"
+    ));
+
+    val runner = GradleRunner.create()
+        .withProjectDir(testProjectDir)
+        .withArguments("messageFormatPack")
+        .withPluginClasspath()
+        .withDebug(true)
+        .forwardOutput();
+
+    assertEquals(SUCCESS, requireNonNull(runner.build().task(":messageFormatPack")).getOutcome());
+    assertEquals(Set.of("MSG4", "MSG5"), readMessagePack(packFile).getMessageCodes());
+
+    // remove class from test source set only
+    delete(testSource);
+
+    assertEquals(SUCCESS, requireNonNull(runner.build().task(":messageFormatPack")).getOutcome());
+    assertEquals(Set.of("MSG4"), readMessagePack(packFile).getMessageCodes());
+  }
+
+
+  @Test
+  @DisplayName("Pack task with parallel workers")
+  void testParallelWorkers() throws IOException
+  {
+    writeBuildGradle(List.of("messageFormat.duplicateMsgStrategy = 'override'"));
+
+    copy(getResource("test-source-1.java"),
+        new File(testPackageDir, "Source1.java").toPath());
+    copy(getResource("test-source-2.java"),
+        new File(testPackageDir, "Source2.java").toPath());
+
+    for(int n = 0; n < 200; n++)
+    {
+      write(new File(testPackageDir, "Generated" + n + ".java").toPath(), List.of(
+          "package test;",
+          "@de.sayayi.lib.message.annotation.MessageDef(code = \"GEN-" + n + "\", text = \"Generated " + n + "\")",
+          "@de.sayayi.lib.message.annotation.MessageDef(code = \"MSG1\", text = \"Override " + n + "\")",
+          "public class Generated" + n + " {}"
+      ));
+    }
+
+    val serialResult = GradleRunner.create()
+        .withProjectDir(testProjectDir)
+        .withArguments("messageFormatPack", "--max-workers=1")
+        .withPluginClasspath()
+        .withDebug(true)
+        .forwardOutput()
+        .build();
+
+    assertEquals(SUCCESS, requireNonNull(serialResult.task(":messageFormatPack")).getOutcome());
+    val serialPack = readAllBytes(packFile.toPath());
+
+    val parallelResult = GradleRunner.create()
+        .withProjectDir(testProjectDir)
+        .withArguments("messageFormatPack", "--rerun-tasks", "--max-workers=4")
+        .withPluginClasspath()
+        .withDebug(true)
+        .forwardOutput()
+        .build();
+
+    assertEquals(SUCCESS, requireNonNull(parallelResult.task(":messageFormatPack")).getOutcome());
+    assertArrayEquals(serialPack, readAllBytes(packFile.toPath()));
+    assertEquals(204, readMessagePack(packFile).getMessageCodes().size());
+  }
+
+
+  @Test
+  @DisplayName("Pack task with properties files")
+  void testPropertiesFiles() throws IOException
+  {
+    writeBuildGradle(List.of(
+        "messageFormat {",
+        "  messageProperties.from('src/main/i18n')",
+        "  templateProperties.from('src/main/templates')",
+        "}"
+    ));
+
+    copy(getResource("test-source-1.java"),
+        new File(testPackageDir, "Source1.java").toPath());
+
+    val i18nDir = new File(testProjectDir, "src/main/i18n").toPath();
+    val templatesDir = new File(testProjectDir, "src/main/templates").toPath();
+
+    createDirectories(i18nDir);
+    createDirectories(templatesDir);
+
+    write(i18nDir.resolve("messages.properties"), List.of("PROP1=Hello %[greeting]", "PROP2=Goodbye"));
+    write(i18nDir.resolve("messages_de.properties"), List.of("PROP1=Hallo %[greeting]"));
+    write(templatesDir.resolve("templates.properties"), List.of("greeting=%{name}"));
+
+    val runner = GradleRunner.create()
+        .withProjectDir(testProjectDir)
+        .withArguments("messageFormatPack")
+        .withPluginClasspath()
+        .withDebug(true)
+        .forwardOutput();
+
+    assertEquals(SUCCESS, requireNonNull(runner.build().task(":messageFormatPack")).getOutcome());
+
+    val pack = readMessagePack(packFile);
+    assertEquals(Set.of("MSG1", "MSG2", "MSG3", "MSG-INNER1", "PROP1", "PROP2"), pack.getMessageCodes());
+    assertTrue(pack.getTemplateNames().contains("greeting"));
+    assertEquals(Set.of(Locale.ROOT, Locale.GERMAN),
+        ((Message.LocaleAware)requireNonNull(pack.getMessageByCode("PROP1"))).getLocales());
+
+    // invalid message format
+    write(i18nDir.resolve("messages_de.properties"), List.of("PROP1=Hallo %{"));
+
+    assertEquals(FAILED, requireNonNull(runner.buildAndFail().task(":messageFormatPack")).getOutcome());
+  }
+
+
+  @Test
+  @DisplayName("Java source task generating a message catalog")
+  void testJavaSource() throws IOException
+  {
+    writeBuildGradle(List.of(
+        "messageFormat {",
+        "  catalogPackageName = 'test.catalog'",
+        "  catalogClassName = 'Messages'",
+        "}"
+    ));
+
+    copy(getResource("test-source-1.java"),
+        new File(testPackageDir, "Source1.java").toPath());
+
+    val runner = GradleRunner.create()
+        .withProjectDir(testProjectDir)
+        .withArguments("messageFormatJavaSource")
+        .withPluginClasspath()
+        .withDebug(true)
+        .forwardOutput();
+
+    val result = runner.build();
+
+    assertEquals(SUCCESS, requireNonNull(result.task(":messageFormatPack")).getOutcome());
+    assertEquals(SUCCESS, requireNonNull(result.task(":messageFormatJavaSource")).getOutcome());
+
+    val sourceFile = new File(testProjectDir,
+        "build/generated/sources/messageFormatJavaSource/test/catalog/Messages.java").toPath();
+    assertTrue(isRegularFile(sourceFile));
+
+    val source = readString(sourceFile);
+    assertTrue(source.contains("package test.catalog;"));
+    assertTrue(source.contains("public final class Messages"));
+    assertTrue(source.contains("\"MSG1\""));
+
+    assertEquals(UP_TO_DATE, requireNonNull(runner.build().task(":messageFormatJavaSource")).getOutcome());
+  }
+
+
   @Test
   @DisplayName("Jar task with messageFormatPack dependency")
   void testJar() throws IOException